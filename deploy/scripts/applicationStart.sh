@@ -7,6 +7,10 @@ APP_DIR=/opt/batch-kafka
 ENV_FILE="${APP_DIR}/.env.prod"
 STATE_FILE="${APP_DIR}/.deploy-state"
 
+# 배치 파일 공유 볼륨 (참여 이력 아카이브, 당첨자 명단 - 모든 노드가 같은 볼륨(EFS 등)을 이 경로에 마운트)
+# 컨테이너 파일시스템은 재배포 시 사라지므로 원본을 대체하는 파일은 반드시 여기에 기록
+SHARED_DATA_DIR="${SHARED_DATA_DIR:-/mnt/batch-kafka-shared}"
+
 # Blue/Green 컨테이너 설정
 BLUE_CONTAINER="batch-kafka-app-blue"
 GREEN_CONTAINER="batch-kafka-app-green"
@@ -71,6 +75,12 @@ graceful_stop() {
   fi
 }
 
+# 공유 볼륨 확인 (마운트되지 않았으면 호스트 로컬 디렉토리가 되어 다른 노드와 공유되지 않음)
+if ! mountpoint -q "${SHARED_DATA_DIR}"; then
+  echo "[applicationStart] WARN: ${SHARED_DATA_DIR} 가 마운트되어 있지 않습니다 (batch.archive.enabled 를 켜지 마세요)" >&2
+fi
+mkdir -p "${SHARED_DATA_DIR}"
+
 # 컨테이너 시작 함수
 start_container() {
   local container_name=$1
@@ -87,6 +97,7 @@ start_container() {
     -e SPRING_PROFILES_ACTIVE=prod,p5 \
     -e JAVA_TOOL_OPTIONS="-Xms2g -Xmx5g -XX:MaxMetaspaceSize=256m -XX:MaxDirectMemorySize=256m -XX:+UseG1GC -XX:MaxGCPauseMillis=200 -XX:+ParallelRefProcEnabled -Duser.timezone=Asia/Seoul -Dfile.encoding=UTF-8" \
     -p "${port}:8080" \
+    -v "${SHARED_DATA_DIR}:/data/shared" \
     --memory=6g \
     --memory-swap=6g \
     --restart unless-stopped \
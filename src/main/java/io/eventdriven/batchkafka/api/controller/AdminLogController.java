@@ -1,10 +1,13 @@
 package io.eventdriven.batchkafka.api.controller;
 
 import io.eventdriven.batchkafka.api.common.ApiResponse;
+import io.eventdriven.batchkafka.application.service.LiveDashboardPublisher;
 import io.eventdriven.batchkafka.application.service.ProcessingLogService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -17,6 +20,7 @@ import java.util.List;
 public class AdminLogController {
 
     private final ProcessingLogService processingLogService;
+    private final LiveDashboardPublisher liveDashboardPublisher;
 
     /**
      * 최근 처리 로그 조회
@@ -30,6 +34,17 @@ public class AdminLogController {
         return ResponseEntity.ok(ApiResponse.success(logs));
     }
 
+    /**
+     * 처리 로그 스트림 (SSE - 폴링 대체)
+     * GET /api/admin/logs/stream
+     *
+     * 구독 시 최근 로그 전송 후, 신규 로그만 주기적으로 전송
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamLogs() {
+        return liveDashboardPublisher.subscribeLogs();
+    }
+
     /**
      * 모든 로그 조회
      * GET /api/admin/logs/all
@@ -3,6 +3,8 @@ package io.eventdriven.batchkafka.api.controller;
 import io.eventdriven.batchkafka.api.common.ApiResponse;
 import io.eventdriven.batchkafka.api.exception.business.BatchAlreadyExecutedException;
 import io.eventdriven.batchkafka.api.exception.business.InvalidDateRangeException;
+import io.eventdriven.batchkafka.application.service.BatchHistoryQueryService;
+import io.eventdriven.batchkafka.batch.FairnessAuditJobConfig;
 import io.eventdriven.batchkafka.config.BatchProperties;
 import io.eventdriven.batchkafka.domain.repository.CampaignStatsRepository;
 import lombok.RequiredArgsConstructor;
@@ -12,7 +14,9 @@ import org.springframework.batch.core.job.parameters.JobParameters;
 import org.springframework.batch.core.job.parameters.JobParametersBuilder;
 import org.springframework.batch.core.job.parameters.InvalidJobParametersException;
 import org.springframework.batch.core.launch.*;
+import org.springframework.batch.core.step.StepExecution;
 import org.springframework.batch.core.repository.explore.JobExplorer;
+import org.springframework.batch.infrastructure.item.ExecutionContext;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
@@ -21,8 +25,8 @@ import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
 import java.util.*;
-import java.util.stream.Collectors;
 
 /**
  * Spring Batch 관리 API
@@ -38,13 +42,21 @@ public class BatchController {
     @Qualifier("asyncJobLauncher")
     private final JobLauncher asyncJobLauncher;
     private final Job aggregateParticipationJob;
+    private final Job fairnessAuditJob;
+    private final Job participationArchiveJob;
+    private final Job kafkaAggregateParticipationJob;
+    private final Job aggregationBackfillJob;
+    private final Job winnerListJob;
+    private final Job incrementalAggregationJob;
     private final JobExplorer jobExplorer;
     private final CampaignStatsRepository campaignStatsRepository;
+    private final BatchHistoryQueryService batchHistoryQueryService;
     private final BatchProperties batchProperties;
 
     /**
      * 참여 이력 집계 배치 실행
      * POST /api/admin/batch/aggregate?date=2025-12-26
+     * - 증분 집계 사용 중(고수위 초기화됨)에는 오늘 날짜를 덮어쓸 수 없음 (병합 스텝 실패 - 오늘은 증분 소관)
      */
     @PostMapping("/aggregate")
     public ResponseEntity<ApiResponse<?>> aggregate(
@@ -110,6 +122,314 @@ public class BatchController {
         }
     }
 
+    /**
+     * 선착순 공정성 감사 배치 실행
+     * POST /api/admin/batch/fairness-audit?campaignId=1
+     */
+    @PostMapping("/fairness-audit")
+    public ResponseEntity<ApiResponse<?>> fairnessAudit(@RequestParam Long campaignId) {
+        try {
+            JobParameters params = new JobParametersBuilder()
+                    .addLong("campaignId", campaignId)
+                    .addLong("ts", System.currentTimeMillis()) // ensure uniqueness
+                    .toJobParameters();
+
+            JobExecution exec = asyncJobLauncher.run(fairnessAuditJob, params);
+
+            log.info("✅ 공정성 감사 배치 실행 시작 - jobExecutionId: {}, campaignId: {}",
+                    exec.getId(), campaignId);
+
+            Map<String, Object> data = new HashMap<>();
+            data.put("jobExecutionId", exec.getId());
+            data.put("jobInstanceId", exec.getJobInstance().getInstanceId());
+            data.put("status", exec.getStatus().toString());
+            data.put("campaignId", campaignId);
+
+            return ResponseEntity.ok(
+                    ApiResponse.success(
+                            "공정성 감사가 시작되었습니다. /api/admin/batch/status/" + exec.getId() + "에서 결과를 확인하세요.",
+                            data
+                    )
+            );
+
+        } catch (Exception e) {
+            log.error("🚨 공정성 감사 배치 실행 실패 - campaignId: {}", campaignId, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.fail("공정성 감사 실행 중 오류가 발생했습니다: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * 종료 캠페인 참여 이력 아카이브 배치 실행
+     * POST /api/admin/batch/archive?campaignId=1 (campaignId 생략 시 대상 캠페인 전체)
+     */
+    @PostMapping("/archive")
+    public ResponseEntity<ApiResponse<?>> archive(@RequestParam(required = false) Long campaignId) {
+        try {
+            JobParametersBuilder builder = new JobParametersBuilder()
+                    .addLong("ts", System.currentTimeMillis()); // ensure uniqueness
+            if (campaignId != null) {
+                builder.addLong("campaignId", campaignId);
+            }
+
+            JobExecution exec = asyncJobLauncher.run(participationArchiveJob, builder.toJobParameters());
+
+            log.info("✅ 아카이브 배치 실행 시작 - jobExecutionId: {}, campaignId: {}",
+                    exec.getId(), campaignId);
+
+            Map<String, Object> data = new HashMap<>();
+            data.put("jobExecutionId", exec.getId());
+            data.put("jobInstanceId", exec.getJobInstance().getInstanceId());
+            data.put("status", exec.getStatus().toString());
+            data.put("campaignId", campaignId);
+
+            return ResponseEntity.ok(
+                    ApiResponse.success(
+                            "아카이브가 시작되었습니다. /api/admin/batch/status/" + exec.getId() + "에서 결과를 확인하세요.",
+                            data
+                    )
+            );
+
+        } catch (Exception e) {
+            log.error("🚨 아카이브 배치 실행 실패 - campaignId: {}", campaignId, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.fail("아카이브 실행 중 오류가 발생했습니다: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * 캠페인 당첨자 명단 생성 배치 실행 (도착 순서 순위 csv + userId 인덱스 + SHA-256)
+     * POST /api/admin/batch/winners?campaignId=1
+     * - 결과: GET /api/admin/stats/winners/{campaignId}
+     */
+    @PostMapping("/winners")
+    public ResponseEntity<ApiResponse<?>> winners(@RequestParam Long campaignId) {
+        try {
+            JobParameters params = new JobParametersBuilder()
+                    .addLong("campaignId", campaignId)
+                    .addLong("ts", System.currentTimeMillis()) // ensure uniqueness
+                    .toJobParameters();
+
+            JobExecution exec = asyncJobLauncher.run(winnerListJob, params);
+
+            log.info("✅ 당첨자 명단 배치 실행 시작 - jobExecutionId: {}, campaignId: {}",
+                    exec.getId(), campaignId);
+
+            Map<String, Object> data = new HashMap<>();
+            data.put("jobExecutionId", exec.getId());
+            data.put("jobInstanceId", exec.getJobInstance().getInstanceId());
+            data.put("status", exec.getStatus().toString());
+            data.put("campaignId", campaignId);
+
+            return ResponseEntity.ok(
+                    ApiResponse.success(
+                            "당첨자 명단 생성이 시작되었습니다. /api/admin/batch/status/" + exec.getId() + "에서 진행 상황을 확인하세요.",
+                            data
+                    )
+            );
+
+        } catch (Exception e) {
+            log.error("🚨 당첨자 명단 배치 실행 실패 - campaignId: {}", campaignId, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.fail("당첨자 명단 생성 중 오류가 발생했습니다: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * 증분 집계 고수위 초기화 (최초 1회)
+     * POST /api/admin/batch/incremental/initialize?date=2025-12-26 (date 생략 시 오늘)
+     * - 현재 MAX(id)를 고수위로 잡고 date 이후 campaign_stats를 다시 계산해 덮어씀
+     * - 이미 초기화된 경우 잡이 실패로 끝남 (고수위/통계 변경 없음)
+     */
+    @PostMapping("/incremental/initialize")
+    public ResponseEntity<ApiResponse<?>> initializeIncremental(
+            @RequestParam(value = "date", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date
+    ) {
+        LocalDate fromDate = date != null ? date : LocalDate.now();
+        try {
+            JobParameters params = new JobParametersBuilder()
+                    .addString("initializeFrom", fromDate.toString())
+                    .addLong("ts", System.currentTimeMillis()) // ensure uniqueness
+                    .toJobParameters();
+
+            JobExecution exec = asyncJobLauncher.run(incrementalAggregationJob, params);
+
+            log.info("✅ 증분 집계 고수위 초기화 시작 - jobExecutionId: {}, date: {}", exec.getId(), fromDate);
+
+            Map<String, Object> data = new HashMap<>();
+            data.put("jobExecutionId", exec.getId());
+            data.put("jobInstanceId", exec.getJobInstance().getInstanceId());
+            data.put("status", exec.getStatus().toString());
+            data.put("date", fromDate.toString());
+
+            return ResponseEntity.ok(
+                    ApiResponse.success(
+                            "증분 집계 초기화가 시작되었습니다. /api/admin/batch/status/" + exec.getId() + "에서 결과를 확인하세요.",
+                            data
+                    )
+            );
+
+        } catch (Exception e) {
+            log.error("🚨 증분 집계 초기화 실행 실패 - date: {}", fromDate, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.fail("증분 집계 초기화 중 오류가 발생했습니다: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * Kafka 결과 토픽 기반 재집계 배치 실행 (MySQL 원본 스캔 없음)
+     * POST /api/admin/batch/aggregate-kafka?startDate=2025-12-20&endDate=2025-12-26 (endDate 생략 시 하루)
+     * - 이미 집계된 날짜도 다시 계산해 덮어씀 (분 롤업과 (캠페인, 날짜) 합계가 모두 일치할 때만, 다르면 잡 실패)
+     */
+    @PostMapping("/aggregate-kafka")
+    public ResponseEntity<ApiResponse<?>> aggregateFromKafka(
+            @RequestParam("startDate") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(value = "endDate", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate
+    ) {
+        LocalDate lastDate = endDate != null ? endDate : startDate;
+        try {
+            if (lastDate.isBefore(startDate)) {
+                throw new InvalidDateRangeException("종료일은 시작일보다 빠를 수 없습니다.");
+            }
+            if (lastDate.isAfter(LocalDate.now())) {
+                throw new InvalidDateRangeException("미래 날짜는 집계할 수 없습니다. (입력: " + lastDate + ")");
+            }
+
+            JobParameters params = new JobParametersBuilder()
+                    .addString("start", startDate.atStartOfDay().toString())
+                    .addString("end", lastDate.plusDays(1).atStartOfDay().toString())
+                    .addLong("ts", System.currentTimeMillis()) // ensure uniqueness
+                    .toJobParameters();
+
+            JobExecution exec = asyncJobLauncher.run(kafkaAggregateParticipationJob, params);
+
+            log.info("✅ Kafka 재집계 배치 실행 시작 - jobExecutionId: {}, {} ~ {}",
+                    exec.getId(), startDate, lastDate);
+
+            Map<String, Object> data = new HashMap<>();
+            data.put("jobExecutionId", exec.getId());
+            data.put("jobInstanceId", exec.getJobInstance().getInstanceId());
+            data.put("status", exec.getStatus().toString());
+            data.put("startDate", startDate.toString());
+            data.put("endDate", lastDate.toString());
+
+            return ResponseEntity.ok(
+                    ApiResponse.success(
+                            "Kafka 재집계가 시작되었습니다. /api/admin/batch/status/" + exec.getId() + "에서 결과를 확인하세요.",
+                            data
+                    )
+            );
+
+        } catch (InvalidDateRangeException e) {
+            throw e;
+
+        } catch (Exception e) {
+            log.error("🚨 Kafka 재집계 배치 실행 실패 - {} ~ {}", startDate, lastDate, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.fail("Kafka 재집계 실행 중 오류가 발생했습니다: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * 기간 집계 백필 실행 (일 집계가 완료되지 않은 날짜만 병렬 집계, 어제는 항상 포함)
+     * POST /api/admin/batch/backfill?startDate=2025-11-01&endDate=2025-11-30&force=false
+     * - 동시 집계 날짜 수: batch.backfill.parallelism
+     * - force=true: 일 집계가 완료된 날짜도 재집계
+     */
+    @PostMapping("/backfill")
+    public ResponseEntity<ApiResponse<?>> backfill(
+            @RequestParam("startDate") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam("endDate") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(defaultValue = "false") boolean force
+    ) {
+        validateBackfillRange(startDate, endDate);
+        try {
+            JobParameters params = new JobParametersBuilder()
+                    .addString("startDate", startDate.toString())
+                    .addString("endDate", endDate.toString())
+                    .addString("force", String.valueOf(force))
+                    .addLong("ts", System.currentTimeMillis()) // ensure uniqueness
+                    .toJobParameters();
+
+            JobExecution exec = asyncJobLauncher.run(aggregationBackfillJob, params);
+
+            log.info("✅ 집계 백필 실행 시작 - jobExecutionId: {}, {} ~ {}, force: {}",
+                    exec.getId(), startDate, endDate, force);
+
+            Map<String, Object> data = new HashMap<>();
+            data.put("jobExecutionId", exec.getId());
+            data.put("jobInstanceId", exec.getJobInstance().getInstanceId());
+            data.put("status", exec.getStatus().toString());
+            data.put("startDate", startDate.toString());
+            data.put("endDate", endDate.toString());
+            data.put("force", force);
+            data.put("parallelism", batchProperties.getBackfill().getParallelism());
+
+            return ResponseEntity.ok(
+                    ApiResponse.success(
+                            "백필이 시작되었습니다. /api/admin/batch/backfill/" + exec.getId() + "에서 진행 상황을 확인하세요.",
+                            data
+                    )
+            );
+
+        } catch (Exception e) {
+            log.error("🚨 집계 백필 실행 실패 - {} ~ {}", startDate, endDate, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.fail("백필 실행 중 오류가 발생했습니다: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * 백필 진행 상황 조회 (날짜별 워커 스텝 상태)
+     * GET /api/admin/batch/backfill/{jobExecutionId}
+     */
+    @GetMapping("/backfill/{jobExecutionId}")
+    public ResponseEntity<ApiResponse<?>> getBackfillProgress(@PathVariable Long jobExecutionId) {
+        JobExecution execution = jobExplorer.getJobExecution(jobExecutionId);
+        if (execution == null || !"aggregationBackfill".equals(execution.getJobInstance().getJobName())) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(ApiResponse.fail("백필 실행 정보를 찾을 수 없습니다."));
+        }
+
+        String workerPrefix = "backfillDate:date-";
+        List<Map<String, Object>> dates = new ArrayList<>();
+        Map<String, Integer> statusCounts = new TreeMap<>();
+        for (StepExecution step : execution.getStepExecutions()) {
+            if (!step.getStepName().startsWith(workerPrefix)) {
+                continue;
+            }
+            String status = step.getStatus().toString();
+            statusCounts.merge(status, 1, Integer::sum);
+
+            Map<String, Object> item = new HashMap<>();
+            item.put("date", step.getStepName().substring(workerPrefix.length()));
+            item.put("status", status);
+            item.put("exitStatus", step.getExitStatus().getExitCode());
+            item.put("startTime", step.getStartTime());
+            item.put("endTime", step.getEndTime());
+            dates.add(item);
+        }
+        dates.sort(Comparator.comparing(item -> (String) item.get("date")));
+
+        int total = dates.size();
+        int completed = statusCounts.getOrDefault("COMPLETED", 0);
+
+        Map<String, Object> data = new HashMap<>();
+        data.put("jobExecutionId", execution.getId());
+        data.put("status", execution.getStatus().toString());
+        data.put("startDate", execution.getJobParameters().getString("startDate"));
+        data.put("endDate", execution.getJobParameters().getString("endDate"));
+        data.put("totalDates", total);
+        data.put("completedDates", completed);
+        data.put("statusCounts", statusCounts);
+        data.put("progressPercent", total > 0 ? Math.round(completed * 1000.0 / total) / 10.0 : 0.0);
+        data.put("dates", dates);
+        data.put("startTime", execution.getStartTime());
+        data.put("endTime", execution.getEndTime());
+
+        return ResponseEntity.ok(ApiResponse.success(data));
+    }
+
     /**
      * 배치 실행 상태 조회
      * GET /api/admin/batch/status/{jobExecutionId}
@@ -149,6 +469,20 @@ public class BatchController {
                 data.put("updatedRows", updatedCount);
             }
 
+            // 공정성 감사 결과 (Job ExecutionContext에 저장된 요약 지표만, 종료 코드 FAIR / UNFAIR_{n})
+            if (fairnessAuditJob.getName().equals(execution.getJobInstance().getJobName())) {
+                ExecutionContext context = execution.getExecutionContext();
+                Map<String, Object> fairness = new HashMap<>();
+                for (String key : FairnessAuditJobConfig.SUMMARY_KEYS) {
+                    if (context.containsKey(key)) {
+                        fairness.put(key, context.get(key));
+                    }
+                }
+                if (!fairness.isEmpty()) {
+                    data.put("fairness", fairness);
+                }
+            }
+
             return ResponseEntity.ok(ApiResponse.success(data));
 
         } catch (Exception e) {
@@ -159,58 +493,20 @@ public class BatchController {
     }
 
     /**
-     * 배치 실행 이력 조회 (최근 20개)
-     * GET /api/admin/batch/history?jobName=aggregateParticipation&size=20
+     * 배치 실행 이력 조회 (잡 인스턴스별 최신 실행, 최신순 키셋 페이징)
+     * GET /api/admin/batch/history?jobName=aggregateParticipation&size=20&beforeInstanceId=123
+     * - 다음 페이지: 응답의 nextBeforeInstanceId를 beforeInstanceId로 전달
      */
     @GetMapping("/history")
     public ResponseEntity<ApiResponse<?>> getHistory(
             @RequestParam(defaultValue = "aggregateParticipation") String jobName,
-            @RequestParam(defaultValue = "20") int size
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) Long beforeInstanceId
     ) {
         try {
-            List<JobInstance> jobInstances = jobExplorer.getJobInstances(jobName, 0, size);
-
-            List<Map<String, Object>> history = jobInstances.stream()
-                    .map(instance -> {
-                        List<JobExecution> executions = jobExplorer.getJobExecutions(instance);
-                        JobExecution latestExecution = executions.isEmpty() ? null : executions.get(0);
-
-                        Map<String, Object> item = new HashMap<>();
-                        item.put("jobInstanceId", instance.getInstanceId());
-                        item.put("jobName", instance.getJobName());
-
-                        if (latestExecution != null) {
-                            item.put("jobExecutionId", latestExecution.getId());
-                            item.put("status", latestExecution.getStatus().toString());
-                            item.put("exitStatus", latestExecution.getExitStatus().getExitCode());
-                            item.put("startTime", latestExecution.getStartTime());
-                            item.put("endTime", latestExecution.getEndTime());
-
-                            // date 파라미터 추출
-                            try {
-                                String date = latestExecution.getJobParameters().getString("date");
-                                item.put("targetDate", date);
-                            } catch (Exception e) {
-                                // ignore
-                            }
-
-                            // 업데이트된 행 수 추출
-                            String exitCode = latestExecution.getExitStatus().getExitCode();
-                            if (exitCode != null && exitCode.startsWith("UPDATED_")) {
-                                item.put("updatedRows", exitCode.substring("UPDATED_".length()));
-                            }
-                        }
-
-                        return item;
-                    })
-                    .collect(Collectors.toList());
-
-            Map<String, Object> data = new HashMap<>();
-            data.put("jobName", jobName);
-            data.put("totalCount", history.size());
-            data.put("history", history);
-
-            return ResponseEntity.ok(ApiResponse.success(data));
+            int limit = Math.max(1, Math.min(size, 200));
+            return ResponseEntity.ok(ApiResponse.success(
+                    batchHistoryQueryService.history(jobName, beforeInstanceId, limit)));
 
         } catch (Exception e) {
             log.error("🚨 배치 이력 조회 실패 - jobName: {}", jobName, e);
@@ -219,6 +515,50 @@ public class BatchController {
         }
     }
 
+    /**
+     * 배치 실행 추이 조회 (최근 실행 소요 시간/처리량, 회귀 여부, 제한 시간 여유)
+     * GET /api/admin/batch/trends?jobName=aggregateParticipation&size=30&timeoutMs=60000
+     * - timeoutMs 생략 시 batch.aggregation.timeout-ms
+     */
+    @GetMapping("/trends")
+    public ResponseEntity<ApiResponse<?>> getTrends(
+            @RequestParam(defaultValue = "aggregateParticipation") String jobName,
+            @RequestParam(defaultValue = "30") int size,
+            @RequestParam(required = false) Long timeoutMs
+    ) {
+        try {
+            long timeout = timeoutMs != null ? timeoutMs : batchProperties.getAggregation().getTimeoutMs();
+            int limit = Math.max(1, Math.min(size, 500));
+            return ResponseEntity.ok(ApiResponse.success(batchHistoryQueryService.trends(jobName, limit, timeout)));
+
+        } catch (Exception e) {
+            log.error("🚨 배치 실행 추이 조회 실패 - jobName: {}", jobName, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.fail("배치 실행 추이 조회 중 오류가 발생했습니다."));
+        }
+    }
+
+    /**
+     * 백필 구간 검증 (전일까지, 최대 batch.backfill.max-days일)
+     */
+    private void validateBackfillRange(LocalDate startDate, LocalDate endDate) {
+        if (startDate.isAfter(endDate)) {
+            throw new InvalidDateRangeException("시작 날짜는 종료 날짜보다 이전이어야 합니다.");
+        }
+        if (!endDate.isBefore(LocalDate.now())) {
+            throw new InvalidDateRangeException("백필은 전일까지만 가능합니다. (종료일: " + endDate + ")");
+        }
+        int maxPastYears = batchProperties.getAggregation().getMaxPastYears();
+        if (startDate.isBefore(LocalDate.now().minusYears(maxPastYears))) {
+            throw new InvalidDateRangeException(
+                    String.format("%d년 이상 과거 날짜는 집계할 수 없습니다. (입력: %s)", maxPastYears, startDate));
+        }
+        int maxDays = batchProperties.getBackfill().getMaxDays();
+        if (ChronoUnit.DAYS.between(startDate, endDate) + 1 > maxDays) {
+            throw new InvalidDateRangeException("백필은 한 번에 최대 " + maxDays + "일까지 가능합니다.");
+        }
+    }
+
     /**
      * 날짜 유효성 검증 및 중복 실행 방지
      */
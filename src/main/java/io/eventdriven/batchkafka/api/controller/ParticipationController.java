@@ -3,21 +3,29 @@ package io.eventdriven.batchkafka.api.controller;
 import io.eventdriven.batchkafka.api.common.ApiResponse;
 import io.eventdriven.batchkafka.api.dto.request.ParticipationRequest;
 import io.eventdriven.batchkafka.api.exception.business.CampaignNotFoundException;
+import io.eventdriven.batchkafka.api.exception.business.InvalidAdmissionTokenException;
+import io.eventdriven.batchkafka.application.service.CampaignLiveStatusService;
+import io.eventdriven.batchkafka.application.service.LiveDashboardPublisher;
 import io.eventdriven.batchkafka.application.service.ParticipationService;
-import io.eventdriven.batchkafka.application.service.RedisStockService;
+import io.eventdriven.batchkafka.application.service.TrafficSeriesService;
+import io.eventdriven.batchkafka.application.service.WaitingRoomService;
+import io.eventdriven.batchkafka.config.WaitingRoomProperties;
 import io.eventdriven.batchkafka.domain.entity.Campaign;
-import io.eventdriven.batchkafka.domain.entity.ParticipationHistory;
+import io.eventdriven.batchkafka.domain.repository.CampaignLiveCounterRepository;
+import io.eventdriven.batchkafka.domain.repository.CampaignMinuteStatsRepository;
 import io.eventdriven.batchkafka.domain.repository.CampaignRepository;
 import io.eventdriven.batchkafka.domain.repository.ParticipationHistoryRepository;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.util.HashMap;
-import java.util.List;
+import java.time.temporal.ChronoUnit;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api/campaigns")
@@ -27,18 +35,53 @@ public class ParticipationController {
     private final ParticipationService participationService;
     private final CampaignRepository campaignRepository;
     private final ParticipationHistoryRepository participationHistoryRepository;
-    private final RedisStockService redisStockService;
+    private final WaitingRoomService waitingRoomService;
+    private final WaitingRoomProperties waitingRoomProperties;
+    private final CampaignLiveStatusService campaignLiveStatusService;
+    private final CampaignLiveCounterRepository campaignLiveCounterRepository;
+    private final CampaignMinuteStatsRepository campaignMinuteStatsRepository;
+    private final LiveDashboardPublisher liveDashboardPublisher;
+    private final TrafficSeriesService trafficSeriesService;
 
     /**
      * 선착순 참여 요청 (Kafka 방식 - 비동기)
      * POST /api/campaigns/{campaignId}/participation
+     *
+     * 대기열 활성화 시 X-Admission-Token 헤더에 유효한 입장 토큰이 있어야 함
      */
     @PostMapping("/{campaignId}/participation")
     public ResponseEntity<ApiResponse<Void>> participate(
             @PathVariable Long campaignId,
-            @RequestBody @Valid ParticipationRequest request
+            @RequestBody @Valid ParticipationRequest request,
+            @RequestHeader(value = "X-Admission-Token", required = false) String admissionToken
     ) {
-        participationService.participate(campaignId, request.getUserId());
+        trafficSeriesService.recordRequested(campaignId, request.getUserId());
+
+        boolean tokenConsumed = false;
+        if (waitingRoomProperties.isEnabled()) {
+            if (!waitingRoomService.consumeToken(campaignId, request.getUserId(), admissionToken)) {
+                throw new InvalidAdmissionTokenException(campaignId, request.getUserId());
+            }
+            tokenConsumed = true;
+        }
+
+        // 발행 실패(동기 예외 또는 브로커 전송 실패) 시 토큰을 되돌려 재시도 가능하게 함
+        CompletableFuture<?> published;
+        try {
+            published = participationService.participate(campaignId, request.getUserId());
+        } catch (RuntimeException e) {
+            if (tokenConsumed) {
+                waitingRoomService.restoreToken(campaignId, request.getUserId(), admissionToken);
+            }
+            throw e;
+        }
+        if (tokenConsumed) {
+            published.whenComplete((result, ex) -> {
+                if (ex != null) {
+                    waitingRoomService.restoreToken(campaignId, request.getUserId(), admissionToken);
+                }
+            });
+        }
         return ResponseEntity.ok(
                 ApiResponse.success("참여 요청이 접수되었습니다.")
         );
@@ -74,6 +117,12 @@ public class ParticipationController {
                 );
         participationHistoryRepository.save(history);
 
+        // 누적 카운터/분 단위 롤업도 같은 트랜잭션에서 반영 (Kafka 경로와 동일한 통계 기준)
+        boolean success = status == io.eventdriven.batchkafka.domain.entity.ParticipationStatus.SUCCESS;
+        campaignLiveCounterRepository.addCounts(campaignId, success ? 1 : 0, success ? 0 : 1);
+        campaignMinuteStatsRepository.addCount(campaignId,
+                history.getCreatedAt().truncatedTo(ChronoUnit.MINUTES), status.name(), 1);
+
         Map<String, Object> data = Map.of(
                 "status", status.toString(),
                 "method", "SYNC"
@@ -87,82 +136,25 @@ public class ParticipationController {
     /**
      * 캠페인 실시간 현황 조회
      * GET /api/campaigns/{id}/status
+     *
+     * - 누적 성공/실패: campaign_live_counters PK 1건 조회 (노드/재시작과 무관)
+     * - 재고: Redis (없으면 총 재고 - 성공 건수)
+     * - 처리 성능: 이 노드 메모리의 최근 5초 초 단위 버킷 + 누적 지연 히스토그램
      */
     @GetMapping("/{id}/status")
     public ResponseEntity<ApiResponse<?>> getCampaignStatus(@PathVariable Long id) {
-        Campaign campaign = campaignRepository.findById(id)
-                .orElseThrow(() -> new CampaignNotFoundException(id));
-
-        // 실시간 집계 (participation_history에서)
-        Long successCount = participationHistoryRepository.countSuccessByCampaignId(id);
-        Long failCount = participationHistoryRepository.countFailByCampaignId(id);
-
-        // null 체크 (데이터가 없을 경우 대비)
-        successCount = successCount != null ? successCount : 0L;
-        failCount = failCount != null ? failCount : 0L;
-        Long totalCount = successCount + failCount;
-
-        // Redis에서 실시간 재고 조회 (없으면 MySQL fallback)
-        Long currentStock = redisStockService.getStock(id);
-        if (currentStock == null) {
-            currentStock = campaign.getCurrentStock();
-        }
-
-        Map<String, Object> data = new HashMap<>();
-        data.put("campaignId", campaign.getId());
-        data.put("campaignName", campaign.getName());
-        data.put("totalStock", campaign.getTotalStock());
-        data.put("currentStock", currentStock);
-        data.put("successCount", successCount);
-        data.put("failCount", failCount);
-        data.put("totalParticipation", totalCount);
-
-        // 재고 사용률 계산
-        double usageRate = campaign.getTotalStock() > 0
-            ? (campaign.getTotalStock() - currentStock) * 100.0 / campaign.getTotalStock()
-            : 0.0;
-        data.put("stockUsageRate", String.format("%.2f%%", usageRate));
-
-        // ===== 실제 처리 성능 지표 추가 (최근 5초) =====
-        java.time.LocalDateTime since = java.time.LocalDateTime.now().minusSeconds(5);
-        List<ParticipationHistory> recentRecords = participationHistoryRepository
-                .findByCampaignIdAndCreatedAtAfterOrderByCreatedAtAsc(id, since);
-
-        if (!recentRecords.isEmpty()) {
-            // 1. 실제 처리 TPS (메시지 처리 속도)
-            java.time.LocalDateTime firstProcessed = recentRecords.get(0).getCreatedAt();
-            java.time.LocalDateTime lastProcessed = recentRecords.get(recentRecords.size() - 1).getCreatedAt();
-            long durationSeconds = java.time.Duration.between(firstProcessed, lastProcessed).getSeconds();
-            double actualTps = durationSeconds > 0 ? (double) recentRecords.size() / durationSeconds : 0;
-
-            // 2. 평균 처리 지연시간 (Kafka → DB)
-            double avgLatencyMs = recentRecords.stream()
-                    .filter(r -> r.getKafkaTimestamp() != null)
-                    .mapToLong(r -> {
-                        java.time.LocalDateTime kafkaTime = java.time.Instant.ofEpochMilli(r.getKafkaTimestamp())
-                                .atZone(java.time.ZoneId.of("Asia/Seoul"))
-                                .toLocalDateTime();
-                        return java.time.Duration.between(kafkaTime, r.getCreatedAt()).toMillis();
-                    })
-                    .average()
-                    .orElse(0.0);
-
-            Map<String, Object> processingMetrics = new HashMap<>();
-            processingMetrics.put("actualTps", Math.round(actualTps * 100.0) / 100.0);
-            processingMetrics.put("avgLatencyMs", Math.round(avgLatencyMs * 100.0) / 100.0);
-            processingMetrics.put("recentProcessed", recentRecords.size());
-
-            data.put("processingMetrics", processingMetrics);
-        } else {
-            // 최근 데이터 없음
-            Map<String, Object> processingMetrics = new HashMap<>();
-            processingMetrics.put("actualTps", 0.0);
-            processingMetrics.put("avgLatencyMs", 0.0);
-            processingMetrics.put("recentProcessed", 0);
-
-            data.put("processingMetrics", processingMetrics);
-        }
+        return ResponseEntity.ok(ApiResponse.success(campaignLiveStatusService.snapshot(id)));
+    }
 
-        return ResponseEntity.ok(ApiResponse.success(data));
+    /**
+     * 캠페인 실시간 현황 스트림 (SSE - 폴링 대체)
+     * GET /api/campaigns/{id}/status/stream
+     *
+     * 서버가 주기적으로 1회 샘플링한 현황 프레임을 모든 구독자에게 동일하게 전송
+     */
+    @GetMapping(value = "/{id}/status/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamCampaignStatus(@PathVariable Long id) {
+        campaignLiveStatusService.getCampaignInfo(id); // 존재하지 않는 캠페인은 404
+        return liveDashboardPublisher.subscribeCampaign(id);
     }
 }
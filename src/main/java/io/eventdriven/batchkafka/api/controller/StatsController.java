@@ -1,24 +1,42 @@
 package io.eventdriven.batchkafka.api.controller;
 
 import io.eventdriven.batchkafka.api.common.ApiResponse;
-import io.eventdriven.batchkafka.domain.entity.CampaignStats;
-import io.eventdriven.batchkafka.domain.entity.ParticipationHistory;
-import io.eventdriven.batchkafka.domain.repository.CampaignStatsRepository;
-import io.eventdriven.batchkafka.domain.repository.ParticipationHistoryRepository;
+import io.eventdriven.batchkafka.api.dto.response.FairnessReport;
+import io.eventdriven.batchkafka.api.dto.response.OrderAnalysisReport;
+import io.eventdriven.batchkafka.api.exception.business.CampaignNotFoundException;
+import io.eventdriven.batchkafka.api.exception.business.InvalidDateRangeException;
+import io.eventdriven.batchkafka.application.analysis.ArrivalOrderColumns;
+import io.eventdriven.batchkafka.application.analysis.FairnessAuditService;
+import io.eventdriven.batchkafka.application.analysis.OnlineOrderTracker;
+import io.eventdriven.batchkafka.application.analysis.OrderAnalysisEngine;
+import io.eventdriven.batchkafka.application.analysis.ParticipationArchiveStore;
+import io.eventdriven.batchkafka.application.analysis.ParticipationHistoryColumnReader;
+import io.eventdriven.batchkafka.application.analysis.WinnerListStore;
+import io.eventdriven.batchkafka.application.service.CampaignAggregationService;
+import io.eventdriven.batchkafka.application.service.CampaignRollupService;
+import io.eventdriven.batchkafka.application.service.CampaignStatsQueryService;
+import io.eventdriven.batchkafka.application.service.ParticipationExportService;
+import io.eventdriven.batchkafka.application.service.TrafficSeriesService;
+import io.eventdriven.batchkafka.domain.repository.CampaignLiveCounterRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.OptionalLong;
 
 /**
  * 캠페인 통계 조회 API
@@ -30,13 +48,26 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class StatsController {
 
-    private final CampaignStatsRepository statsRepository;
-    private final ParticipationHistoryRepository participationHistoryRepository;
+    private final CampaignStatsQueryService statsQueryService;
+    private final CampaignLiveCounterRepository campaignLiveCounterRepository;
     private final JdbcTemplate jdbcTemplate;
+    private final FairnessAuditService fairnessAuditService;
+    private final ParticipationHistoryColumnReader columnReader;
+    private final OrderAnalysisEngine orderAnalysisEngine;
+    private final OnlineOrderTracker onlineOrderTracker;
+    private final CampaignRollupService rollupService;
+    private final TrafficSeriesService trafficSeriesService;
+    private final ParticipationExportService exportService;
+    private final ParticipationArchiveStore archiveStore;
+    private final WinnerListStore winnerListStore;
+    private final CampaignAggregationService aggregationService;
 
     /**
-     * 원본 데이터 직접 집계 (배치 없이 - 느린 API, 성능 비교용)
+     * 배치 없이 당일/임의 날짜 집계 (분 단위 롤업 합산)
      * GET /api/admin/stats/raw?date=2025-12-26
+     *
+     * 원본 participation_history 전체 JOIN/GROUP BY 대신
+     * Consumer가 갱신하는 campaign_minute_stats (캠페인당 최대 1,440 × 2행) 합산
      */
     @GetMapping("/raw")
     public ResponseEntity<ApiResponse<?>> getRawStats(
@@ -45,36 +76,10 @@ public class StatsController {
         try {
             long startTime = System.currentTimeMillis();
 
-            // 배치 없이 원본 테이블에서 직접 집계 (느림!)
-            String sql = """
-                SELECT
-                    c.id as campaign_id,
-                    c.name as campaign_name,
-                    COALESCE(SUM(CASE WHEN p.status = 'SUCCESS' THEN 1 ELSE 0 END), 0) as success_count,
-                    COALESCE(SUM(CASE WHEN p.status = 'FAIL' THEN 1 ELSE 0 END), 0) as fail_count,
-                    COALESCE(COUNT(p.id), 0) as total_count
-                FROM campaign c
-                LEFT JOIN participation_history p ON c.id = p.campaign_id AND DATE(p.created_at) = ?
-                GROUP BY c.id, c.name
-                HAVING total_count > 0
-            """;
-
-            List<Map<String, Object>> campaigns = jdbcTemplate.query(sql,
-                (rs, rowNum) -> {
-                    Map<String, Object> item = new HashMap<>();
-                    item.put("campaignId", rs.getLong("campaign_id"));
-                    item.put("campaignName", rs.getString("campaign_name"));
-                    item.put("successCount", rs.getLong("success_count"));
-                    item.put("failCount", rs.getLong("fail_count"));
-                    item.put("totalCount", rs.getLong("total_count"));
-                    long success = rs.getLong("success_count");
-                    long total = rs.getLong("total_count");
-                    item.put("successRate", total > 0 ?
-                        String.format("%.2f%%", (success * 100.0 / total)) : "0.00%");
-                    return item;
-                },
-                java.sql.Date.valueOf(date)
-            );
+            LocalDateTime start = date.atStartOfDay();
+            LocalDateTime end = date.plusDays(1).atStartOfDay();
+            CampaignRollupService.Source source = rollupService.sourceFor(start, end);
+            List<Map<String, Object>> campaigns = rollupService.sumByCampaign(start, end, source);
 
             long endTime = System.currentTimeMillis();
             long duration = endTime - startTime;
@@ -88,7 +93,7 @@ public class StatsController {
 
             Map<String, Object> data = new HashMap<>();
             data.put("date", date.toString());
-            data.put("method", "RAW_QUERY");
+            data.put("method", source.name()); // 롤업 행이 없는 날짜는 PARTICIPATION_HISTORY
             data.put("queryTimeMs", duration);  // 쿼리 실행 시간
             data.put("summary", Map.of(
                     "totalCampaigns", campaigns.size(),
@@ -100,7 +105,7 @@ public class StatsController {
             ));
             data.put("campaigns", campaigns);
 
-            log.info("📊 원본 집계 완료 - date: {}, queryTime: {}ms", date, duration);
+            log.info("📊 롤업 집계 완료 - date: {}, queryTime: {}ms", date, duration);
 
             return ResponseEntity.ok(ApiResponse.success(data));
 
@@ -111,9 +116,227 @@ public class StatsController {
         }
     }
 
+    /**
+     * 캠페인 구간별 시계열 (분 단위 롤업 합산)
+     * GET /api/admin/stats/rollup/{campaignId}?start=2025-12-26T00:00:00&end=2025-12-27T00:00:00&grain=HOUR
+     *
+     * grain: MINUTE / HOUR / DAY (기본 HOUR)
+     */
+    @GetMapping("/rollup/{campaignId}")
+    public ResponseEntity<ApiResponse<?>> getRollupSeries(
+            @PathVariable Long campaignId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end,
+            @RequestParam(defaultValue = "HOUR") CampaignRollupService.Grain grain
+    ) {
+        if (!start.isBefore(end)) {
+            throw new InvalidDateRangeException("시작 시각은 종료 시각보다 이전이어야 합니다.");
+        }
+
+        long startTime = System.currentTimeMillis();
+        CampaignRollupService.Source source = rollupService.sourceFor(start, end);
+        List<Map<String, Object>> series = rollupService.series(campaignId, start, end, grain, source);
+
+        long totalSuccess = series.stream()
+                .mapToLong(b -> ((Number) b.get("successCount")).longValue()).sum();
+        long totalFail = series.stream()
+                .mapToLong(b -> ((Number) b.get("failCount")).longValue()).sum();
+
+        Map<String, Object> data = new HashMap<>();
+        data.put("campaignId", campaignId);
+        data.put("start", start.toString());
+        data.put("end", end.toString());
+        data.put("grain", grain);
+        data.put("source", source.name());
+        data.put("totalSuccess", totalSuccess);
+        data.put("totalFail", totalFail);
+        data.put("series", series);
+        data.put("queryTimeMs", System.currentTimeMillis() - startTime);
+
+        return ResponseEntity.ok(ApiResponse.success(data));
+    }
+
+    /**
+     * 캠페인 초 단위 트래픽 시계열 (Redis - MySQL 조회 없음)
+     * GET /api/admin/stats/traffic/{campaignId}?start=2025-12-26T14:00:00&end=2025-12-26T14:10:00
+     *
+     * 초별 requested / accepted / succeeded / failed + 고유 사용자 수 (HyperLogLog)
+     * 최대 1시간, 키 TTL이 지난 구간은 빈 결과
+     */
+    @GetMapping("/traffic/{campaignId}")
+    public ResponseEntity<ApiResponse<?>> getTrafficSeries(
+            @PathVariable Long campaignId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end
+    ) {
+        ZoneId zone = ZoneId.systemDefault();
+        long from = start.atZone(zone).toEpochSecond();
+        long to = end.atZone(zone).toEpochSecond();
+
+        if (from >= to) {
+            throw new InvalidDateRangeException("시작 시각은 종료 시각보다 이전이어야 합니다.");
+        }
+        if (to - from > TrafficSeriesService.MAX_RANGE_SECONDS) {
+            throw new InvalidDateRangeException(
+                    String.format("조회 구간은 최대 %d초입니다.", TrafficSeriesService.MAX_RANGE_SECONDS));
+        }
+
+        long startTime = System.currentTimeMillis();
+        Map<String, Object> data = trafficSeriesService.range(campaignId, from, to);
+        data.put("queryTimeMs", System.currentTimeMillis() - startTime);
+
+        return ResponseEntity.ok(ApiResponse.success(data));
+    }
+
+    /**
+     * 캠페인 참여 이력 스트리밍 내보내기 (CSV / NDJSON, 선택적 gzip)
+     * GET /api/admin/stats/export/{campaignId}?start=2025-12-26T00:00:00&end=2025-12-27T00:00:00&format=csv&gzip=true
+     *
+     * (created_at, id) 키셋 페이지 단위로 응답에 바로 기록 → 건수와 무관하게 메모리 일정, 긴 트랜잭션 없음
+     * 비동기 응답 제한 시간은 spring.mvc.async.request-timeout (기본 30초로는 대량 내보내기가 끊김)
+     */
+    @GetMapping("/export/{campaignId}")
+    public ResponseEntity<StreamingResponseBody> exportParticipationHistory(
+            @PathVariable Long campaignId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end,
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(defaultValue = "false") boolean gzip
+    ) {
+        if (!start.isBefore(end)) {
+            throw new InvalidDateRangeException("시작 시각은 종료 시각보다 이전이어야 합니다.");
+        }
+        ParticipationExportService.Format exportFormat = ParticipationExportService.Format.from(format);
+        exportService.requireCampaign(campaignId);
+
+        String filename = String.format("participation_%d_%s_%s.%s%s",
+                campaignId,
+                start.toLocalDate(),
+                end.toLocalDate(),
+                exportFormat.extension(),
+                gzip ? ".gz" : "");
+
+        StreamingResponseBody body = out ->
+                exportService.export(campaignId, start, end, exportFormat, gzip, out);
+
+        return ResponseEntity.ok()
+                .contentType(gzip
+                        ? MediaType.parseMediaType("application/gzip")
+                        : MediaType.parseMediaType(exportFormat.contentType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+                .body(body);
+    }
+
+    /**
+     * 아카이브된 종료 캠페인 통계 (컬럼 압축 파일 직접 스캔)
+     * GET /api/admin/stats/archive/{campaignId}
+     *
+     * 순서 분석/공정성 감사 API는 아카이브된 캠페인이면 자동으로 파일에서 읽음
+     */
+    @GetMapping("/archive/{campaignId}")
+    public ResponseEntity<ApiResponse<?>> getArchiveStats(@PathVariable Long campaignId) {
+        return archiveStore.find(campaignId)
+                .<ResponseEntity<ApiResponse<?>>>map(archive ->
+                        ResponseEntity.ok(ApiResponse.success(archiveStore.summarize(archive))))
+                .orElseGet(() -> ResponseEntity.ok(ApiResponse.success(
+                        "아카이브되지 않은 캠페인입니다.", Map.of("campaignId", campaignId, "archived", false))));
+    }
+
+    /**
+     * 당첨자 명단 파일 정보 (공유 저장소 기준 파일 이름, 크기, SHA-256, 이 노드에서 읽을 수 있는지)
+     * GET /api/admin/stats/winners/{campaignId}
+     */
+    @GetMapping("/winners/{campaignId}")
+    public ResponseEntity<ApiResponse<?>> getWinnerList(@PathVariable Long campaignId) {
+        return winnerListStore.find(campaignId)
+                .<ResponseEntity<ApiResponse<?>>>map(winnerList -> {
+                    Map<String, Object> data = new HashMap<>();
+                    data.put("campaignId", winnerList.getCampaignId());
+                    data.put("generated", true);
+                    data.put("winnerCount", winnerList.getWinnerCount());
+                    data.put("csvPath", winnerList.getCsvPath());
+                    data.put("csvBytes", winnerList.getCsvBytes());
+                    data.put("csvSha256", winnerList.getCsvSha256());
+                    data.put("indexPath", winnerList.getIndexPath());
+                    data.put("indexBytes", winnerList.getIndexBytes());
+                    data.put("indexSha256", winnerList.getIndexSha256());
+                    data.put("generatedAt", winnerList.getGeneratedAt());
+                    data.put("available", winnerListStore.isAvailable(winnerList));
+                    return ResponseEntity.ok(ApiResponse.success(data));
+                })
+                .orElseGet(() -> ResponseEntity.ok(ApiResponse.success(
+                        "당첨자 명단이 생성되지 않은 캠페인입니다.", Map.of("campaignId", campaignId, "generated", false))));
+    }
+
+    /**
+     * 사용자 당첨 순위 조회 (userId 인덱스 파일 이진 탐색)
+     * GET /api/admin/stats/winners/{campaignId}/users/{userId}
+     */
+    @GetMapping("/winners/{campaignId}/users/{userId}")
+    public ResponseEntity<ApiResponse<?>> getWinnerRank(@PathVariable Long campaignId, @PathVariable Long userId) {
+        return winnerListStore.find(campaignId)
+                .<ResponseEntity<ApiResponse<?>>>map(winnerList -> {
+                    OptionalLong rank = winnerListStore.findRank(winnerList, userId);
+                    Map<String, Object> data = new HashMap<>();
+                    data.put("campaignId", campaignId);
+                    data.put("userId", userId);
+                    data.put("winner", rank.isPresent());
+                    data.put("rank", rank.isPresent() ? rank.getAsLong() : null);
+                    data.put("winnerCount", winnerList.getWinnerCount());
+                    return ResponseEntity.ok(ApiResponse.success(data));
+                })
+                .orElseGet(() -> ResponseEntity.ok(ApiResponse.success(
+                        "당첨자 명단이 생성되지 않은 캠페인입니다.", Map.of("campaignId", campaignId, "generated", false))));
+    }
+
+    /**
+     * 분 단위 롤업 재구성 (롤업 도입 이전 날짜/불일치 복구용)
+     * POST /api/admin/stats/rollup/rebuild?date=2025-12-26
+     *
+     * 해당 날짜의 participation_history를 다시 GROUP BY 하므로 트래픽이 없을 때 실행
+     */
+    @PostMapping("/rollup/rebuild")
+    public ResponseEntity<ApiResponse<?>> rebuildRollup(
+            @RequestParam("date") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date
+    ) {
+        long startTime = System.currentTimeMillis();
+        int rows = rollupService.rebuild(date.atStartOfDay(), date.plusDays(1).atStartOfDay());
+        long duration = System.currentTimeMillis() - startTime;
+
+        return ResponseEntity.ok(ApiResponse.success("분 단위 롤업이 재구성되었습니다.",
+                Map.of("date", date.toString(), "rollupRows", rows, "queryTimeMs", duration)));
+    }
+
+    /**
+     * 주 단위 통계 재구성 (주 롤업 도입 이전 기간/불일치 복구용)
+     * POST /api/admin/stats/rollup/weeks/rebuild?startDate=2025-01-01&endDate=2025-12-31
+     *
+     * 일 통계(campaign_stats)만 합산하므로 원본 스캔 없음
+     */
+    @PostMapping("/rollup/weeks/rebuild")
+    public ResponseEntity<ApiResponse<?>> rebuildWeekRollup(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate
+    ) {
+        if (startDate.isAfter(endDate)) {
+            throw new InvalidDateRangeException("시작 날짜는 종료 날짜보다 이전이어야 합니다.");
+        }
+
+        long startTime = System.currentTimeMillis();
+        int rows = aggregationService.rollupWeeks(startDate, endDate);
+        statsQueryService.evictAll();
+        long duration = System.currentTimeMillis() - startTime;
+
+        return ResponseEntity.ok(ApiResponse.success("주 단위 통계가 재구성되었습니다.",
+                Map.of("startDate", startDate.toString(), "endDate", endDate.toString(),
+                        "weekRows", rows, "queryTimeMs", duration)));
+    }
+
     /**
      * 특정 날짜의 전체 캠페인 통계 조회 (배치 집계 후 - 빠른 API)
      * GET /api/admin/stats/daily?date=2025-12-26
+     *
+     * 집계 배치가 끝나기 전까지는 캐시에서 응답 (합계 포함)
      */
     @GetMapping("/daily")
     public ResponseEntity<ApiResponse<?>> getDailyStats(
@@ -122,7 +345,7 @@ public class StatsController {
         try {
             long startTime = System.currentTimeMillis();
 
-            List<CampaignStats> stats = statsRepository.findByStatsDate(date);
+            CampaignStatsQueryService.DailyStatsView stats = statsQueryService.getDailyStats(date);
 
             long endTime = System.currentTimeMillis();
             long duration = endTime - startTime;
@@ -138,39 +361,12 @@ public class StatsController {
                 );
             }
 
-            // 통계 데이터를 DTO로 변환
-            List<Map<String, Object>> campaigns = stats.stream()
-                    .map(stat -> {
-                        Map<String, Object> item = new HashMap<>();
-                        item.put("campaignId", stat.getCampaign().getId());
-                        item.put("campaignName", stat.getCampaign().getName());
-                        item.put("successCount", stat.getSuccessCount());
-                        item.put("failCount", stat.getFailCount());
-                        item.put("totalCount", stat.getSuccessCount() + stat.getFailCount());
-                        item.put("successRate", calculateSuccessRate(stat));
-                        item.put("statsDate", stat.getStatsDate());
-                        return item;
-                    })
-                    .collect(Collectors.toList());
-
-            // 전체 집계
-            long totalSuccess = stats.stream().mapToLong(CampaignStats::getSuccessCount).sum();
-            long totalFail = stats.stream().mapToLong(CampaignStats::getFailCount).sum();
-            long totalCount = totalSuccess + totalFail;
-
             Map<String, Object> data = new HashMap<>();
             data.put("date", date.toString());
             data.put("method", "BATCH_AGGREGATED");
-            data.put("queryTimeMs", duration);  // 쿼리 실행 시간
-            data.put("summary", Map.of(
-                    "totalCampaigns", stats.size(),
-                    "totalSuccess", totalSuccess,
-                    "totalFail", totalFail,
-                    "totalParticipation", totalCount,
-                    "overallSuccessRate", totalCount > 0 ?
-                            String.format("%.2f%%", (totalSuccess * 100.0 / totalCount)) : "0.00%"
-            ));
-            data.put("campaigns", campaigns);
+            data.put("queryTimeMs", duration);  // 쿼리 실행 시간 (캐시 적중 시 0에 가까움)
+            data.put("summary", stats.summary());
+            data.put("campaigns", stats.campaigns());
 
             log.info("📊 배치 집계 조회 완료 - date: {}, queryTime: {}ms", date, duration);
 
@@ -184,14 +380,18 @@ public class StatsController {
     }
 
     /**
-     * 특정 캠페인의 일자별 통계 조회
-     * GET /api/admin/stats/campaign/{campaignId}?startDate=2025-12-01&endDate=2025-12-31
+     * 특정 캠페인의 기간별 통계 조회
+     * GET /api/admin/stats/campaign/{campaignId}?startDate=2025-12-01&endDate=2025-12-31&grain=AUTO
+     *
+     * grain: AUTO(기본 - 온전한 주는 주 행, 양 끝은 일 행) / WEEK / DAY / HOUR
+     * 캠페인+기간+단위로 캐싱, 기간에 포함된 날짜가 재집계되면 무효화
      */
     @GetMapping("/campaign/{campaignId}")
     public ResponseEntity<ApiResponse<?>> getCampaignStats(
             @PathVariable Long campaignId,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
-            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(defaultValue = "AUTO") CampaignStatsQueryService.StatsGrain grain
     ) {
         try {
             // 기본값: 최근 7일
@@ -208,50 +408,30 @@ public class StatsController {
                         .body(ApiResponse.fail("시작 날짜는 종료 날짜보다 이전이어야 합니다."));
             }
 
-            List<CampaignStats> stats = statsRepository.findByCampaignIdAndStatsDateBetween(
-                    campaignId, startDate, endDate);
+            CampaignStatsQueryService.CampaignStatsView stats =
+                    statsQueryService.getCampaignStats(campaignId, startDate, endDate, grain);
 
             if (stats.isEmpty()) {
                 Map<String, Object> emptyData = Map.of(
                         "campaignId", campaignId,
                         "startDate", startDate.toString(),
                         "endDate", endDate.toString(),
-                        "dailyStats", List.of()
+                        "grain", grain,
+                        "stats", List.of()
                 );
                 return ResponseEntity.ok(
                         ApiResponse.success("해당 기간의 통계 데이터가 없습니다.", emptyData)
                 );
             }
 
-            // 일자별 통계
-            List<Map<String, Object>> dailyStats = stats.stream()
-                    .<Map<String, Object>>map(stat -> Map.of(
-                            "date", stat.getStatsDate().toString(),
-                            "successCount", stat.getSuccessCount(),
-                            "failCount", stat.getFailCount(),
-                            "totalCount", stat.getSuccessCount() + stat.getFailCount(),
-                            "successRate", calculateSuccessRate(stat)
-                    ))
-                    .collect(Collectors.toList());
-
-            // 기간 집계
-            long totalSuccess = stats.stream().mapToLong(CampaignStats::getSuccessCount).sum();
-            long totalFail = stats.stream().mapToLong(CampaignStats::getFailCount).sum();
-            long totalCount = totalSuccess + totalFail;
-
             Map<String, Object> data = new HashMap<>();
             data.put("campaignId", campaignId);
-            data.put("campaignName", stats.get(0).getCampaign().getName());
+            data.put("campaignName", stats.campaignName());
             data.put("startDate", startDate.toString());
             data.put("endDate", endDate.toString());
-            data.put("summary", Map.of(
-                    "totalSuccess", totalSuccess,
-                    "totalFail", totalFail,
-                    "totalParticipation", totalCount,
-                    "averageSuccessRate", totalCount > 0 ?
-                            String.format("%.2f%%", (totalSuccess * 100.0 / totalCount)) : "0.00%"
-            ));
-            data.put("dailyStats", dailyStats);
+            data.put("grain", stats.grain());
+            data.put("summary", stats.summary());
+            data.put("stats", stats.stats());
 
             return ResponseEntity.ok(ApiResponse.success(data));
 
@@ -262,21 +442,11 @@ public class StatsController {
         }
     }
 
-    /**
-     * 성공률 계산
-     */
-    private String calculateSuccessRate(CampaignStats stat) {
-        long total = stat.getSuccessCount() + stat.getFailCount();
-        if (total == 0) {
-            return "0.00%";
-        }
-        double rate = (stat.getSuccessCount() * 100.0) / total;
-        return String.format("%.2f%%", rate);
-    }
-
     /**
      * 순서 위반 케이스만 추출 (검증용)
      * GET /api/admin/stats/order-violations/{campaignId}?limit=100
+     *
+     * 엔티티 대신 필요한 컬럼만 스트리밍으로 읽어 primitive 배열에서 비교 (힙 사용량 일정)
      */
     @GetMapping("/order-violations/{campaignId}")
     public ResponseEntity<ApiResponse<?>> getOrderViolations(
@@ -285,95 +455,61 @@ public class StatsController {
         try {
             long startTime = System.currentTimeMillis();
 
-            // 1. 모든 레코드 조회
-            List<ParticipationHistory> allRecords = participationHistoryRepository
-                    .findByCampaignIdOrderByKafkaTimestampAsc(campaignId);
+            // 1. 도착 순서(Kafka 타임스탬프 → 파티션 → 오프셋)로 스트리밍 조회 - 정렬은 DB에서 수행
+            ArrivalOrderColumns columns = columnReader.readArrivalOrder(campaignId);
 
-            if (allRecords.isEmpty()) {
+            if (columns.isEmpty()) {
                 return ResponseEntity.ok(ApiResponse.success("데이터 없음", Map.of()));
             }
 
-            // 2. Kafka timestamp 순서로 정렬 (전역 도착 순서)
-            // 파티션 번호+오프셋이 아닌 타임스탬프로 정렬해야 진정한 전역 순서
-            List<ParticipationHistory> arrivalOrder = allRecords.stream()
-                    .filter(r -> r.getProcessingSequence() != null
-                              && r.getKafkaPartition() != null
-                              && r.getKafkaOffset() != null
-                              && r.getKafkaTimestamp() != null)
-                    .sorted(java.util.Comparator.comparing(ParticipationHistory::getKafkaTimestamp)
-                            .thenComparing(ParticipationHistory::getKafkaPartition)
-                            .thenComparing(ParticipationHistory::getKafkaOffset))
-                    .collect(Collectors.toList());
-
-        log.info("### DEBUG: Top 5 arrivalOrder in getOrderViolations ###");
-        for(int i=0; i < Math.min(5, arrivalOrder.size()); i++) {
-            ParticipationHistory r = arrivalOrder.get(i);
-            log.info("Item " + i + ": P=" + r.getKafkaPartition() + ", O=" + r.getKafkaOffset() + ", Seq=" + r.getProcessingSequence());
-        }
-        log.info("### END DEBUG ###");
-
-            // 3. 순서 위반 케이스 추출
+            // 2. 순서 위반 케이스 추출
             // - 같은 파티션끼리는 offset 순서가 진짜 순서 → 전역 비교에서 제외
             // - 정확히 같은 타임스탬프는 순서 판정 불가 → 비교에서 제외
             List<Map<String, Object>> violations = new java.util.ArrayList<>();
             int sameTimestampSkipped = 0;
             int samePartitionSkipped = 0;
+            int totalRecords = 0;
 
             // 전체 구간 스캔: 위반은 최대 limit개까지만 수집
-            for (int i = 0; i < (arrivalOrder.size() - 1); i++) {
-                if (violations.size() >= limit) break;
-
-                ParticipationHistory current = arrivalOrder.get(i);
-                ParticipationHistory next = arrivalOrder.get(i + 1);
-
-                // 같은 파티션끼리는 전역 비교 제외 (파티션 내에서는 offset 순서가 진짜)
-                if (current.getKafkaPartition().equals(next.getKafkaPartition())) {
-                    samePartitionSkipped++;
+            int current = -1;
+            for (int next = 0; next < columns.size(); next++) {
+                if (columns.sequence(next) == ArrivalOrderColumns.NO_SEQUENCE) {
                     continue;
                 }
+                totalRecords++;
 
-                // 정확히 같은 타임스탬프는 순서 판정 불가 → 건너뜀
-                if (current.getKafkaTimestamp().equals(next.getKafkaTimestamp())) {
-                    sameTimestampSkipped++;
+                if (current < 0 || violations.size() >= limit) {
+                    current = next;
                     continue;
                 }
 
-                long timeDiff = Math.abs(next.getKafkaTimestamp() - current.getKafkaTimestamp());
-                if (current.getProcessingSequence() > next.getProcessingSequence()) {
+                if (columns.partition(current) == columns.partition(next)) {
+                    samePartitionSkipped++;
+                } else if (columns.timestamp(current) == columns.timestamp(next)) {
+                    sameTimestampSkipped++;
+                } else if (columns.sequence(current) > columns.sequence(next)) {
+                    long timeDiff = Math.abs(columns.timestamp(next) - columns.timestamp(current));
                     Map<String, Object> violation = new HashMap<>();
-                    violation.put("index", i);
+                    violation.put("index", totalRecords - 2);
                     violation.put("timeDiffMs", timeDiff);
-                    violation.put("current", Map.of(
-                            "userId", current.getUserId(),
-                            "timestamp", current.getKafkaTimestamp(),
-                            "partition", current.getKafkaPartition(),
-                            "offset", current.getKafkaOffset(),
-                            "processingSeq", current.getProcessingSequence(),
-                            "status", current.getStatus().toString()
-                    ));
-                    violation.put("next", Map.of(
-                            "userId", next.getUserId(),
-                            "timestamp", next.getKafkaTimestamp(),
-                            "partition", next.getKafkaPartition(),
-                            "offset", next.getKafkaOffset(),
-                            "processingSeq", next.getProcessingSequence(),
-                            "status", next.getStatus().toString()
-                    ));
+                    violation.put("current", toRecordMap(columns, current));
+                    violation.put("next", toRecordMap(columns, next));
                     violation.put("explanation", String.format(
                             "ts %d → %d (diff=%dms): P%d:%d(seq=%d)가 P%d:%d(seq=%d)보다 늦게 처리됨",
-                            current.getKafkaTimestamp(), next.getKafkaTimestamp(), timeDiff,
-                            current.getKafkaPartition(), current.getKafkaOffset(), current.getProcessingSequence(),
-                            next.getKafkaPartition(), next.getKafkaOffset(), next.getProcessingSequence()
+                            columns.timestamp(current), columns.timestamp(next), timeDiff,
+                            columns.partition(current), columns.offset(current), columns.sequence(current),
+                            columns.partition(next), columns.offset(next), columns.sequence(next)
                     ));
                     violations.add(violation);
                 }
+                current = next;
             }
 
             long endTime = System.currentTimeMillis();
 
             Map<String, Object> data = new HashMap<>();
             data.put("campaignId", campaignId);
-            data.put("totalRecords", arrivalOrder.size());
+            data.put("totalRecords", totalRecords);
             data.put("violationsFound", violations.size());
             data.put("samePartitionSkipped", samePartitionSkipped);
             data.put("sameTimestampSkipped", sameTimestampSkipped);
@@ -389,6 +525,17 @@ public class StatsController {
         }
     }
 
+    private Map<String, Object> toRecordMap(ArrivalOrderColumns columns, int i) {
+        return Map.of(
+                "userId", columns.userId(i),
+                "timestamp", columns.timestamp(i),
+                "partition", columns.partition(i),
+                "offset", columns.offset(i),
+                "processingSeq", columns.sequence(i),
+                "status", columns.isSuccess(i) ? "SUCCESS" : "FAIL"
+        );
+    }
+
     /**
      * 순서 분석 API - Kafka 타임스탬프 순서 vs 실제 처리 순서 비교
      * GET /api/admin/stats/order-analysis/{campaignId}
@@ -407,10 +554,11 @@ public class StatsController {
      * - 모든 파티션 통틀어서 1, 2, 3, 4, ... 순차 증가
      *
      * === 측정 방법 ===
-     * 1. 모든 레코드를 Kafka 타임스탬프 순서로 정렬 (전역 도착 순서)
+     * 1. 필요한 컬럼만 DB에서 도착 순서로 스트리밍 (엔티티/영속성 컨텍스트 없음)
      * 2. 인접한 레코드 쌍 비교:
      *    - 타임스탬프 순서상 앞선 메시지가 처리 순서상 뒤면 → 순서 불일치
      * 3. 순서 정확도 = (일치 쌍 / 전체 쌍) × 100%
+     * 4. 정밀 지표(exactMetrics): 전체 쌍 역전 수, Kendall tau, 최대 변위
      *
      * === 결과 해석 ===
      * 순서 정확도가 높을수록 "먼저 도착한 요청이 먼저 처리됨"
@@ -425,11 +573,10 @@ public class StatsController {
         try {
             long startTime = System.currentTimeMillis();
 
-            // 1. Kafka 메타데이터가 있는 모든 참여 이력 조회
-            List<ParticipationHistory> allRecords = participationHistoryRepository
-                    .findByCampaignIdOrderByKafkaTimestampAsc(campaignId);
+            // 1. Kafka 메타데이터가 있는 참여 이력을 도착 순서로 스트리밍 조회
+            ArrivalOrderColumns columns = columnReader.readArrivalOrder(campaignId);
 
-            if (allRecords.isEmpty()) {
+            if (columns.isEmpty()) {
                 Map<String, Object> emptyData = Map.of(
                         "campaignId", campaignId,
                         "message", "Kafka 메타데이터가 없는 참여 이력입니다. 최근 테스트 데이터를 확인하세요."
@@ -437,52 +584,29 @@ public class StatsController {
                 return ResponseEntity.ok(ApiResponse.success("데이터 없음", emptyData));
             }
 
-            // 2. 파티션별로 데이터 그룹화 (파티션별 순서 분석용)
-            Map<Integer, List<ParticipationHistory>> partitionGroups = allRecords.stream()
-                    .filter(r -> r.getKafkaPartition() != null && r.getKafkaOffset() != null)
-                    .collect(Collectors.groupingBy(ParticipationHistory::getKafkaPartition));
+            // 2. 파티션별 인덱스 그룹화 (계수 정렬 - 파티션 내부는 오프셋 순)
+            int[][] partitionIndexes = groupByPartitionInOffsetOrder(columns);
 
             // 3-1. 파티션별 순서 불일치 계산 (참고용)
             Map<Integer, Integer> partitionMismatches = new HashMap<>();
-            for (Map.Entry<Integer, List<ParticipationHistory>> entry : partitionGroups.entrySet()) {
-                Integer partition = entry.getKey();
-                List<ParticipationHistory> partitionRecords = entry.getValue();
-                partitionRecords.sort(java.util.Comparator.comparing(ParticipationHistory::getKafkaOffset));
+            Map<Integer, Long> partitionDistribution = new HashMap<>();
+            for (int partition = 0; partition < partitionIndexes.length; partition++) {
+                int[] indexes = partitionIndexes[partition];
+                if (indexes.length == 0) {
+                    continue;
+                }
 
                 int partitionMismatch = 0;
-                for (int i = 0; i < partitionRecords.size() - 1; i++) {
-                    ParticipationHistory current = partitionRecords.get(i);
-                    ParticipationHistory next = partitionRecords.get(i + 1);
-
-                    boolean orderMismatch;
-                    if (current.getProcessingStartedAtNanos() != null && next.getProcessingStartedAtNanos() != null) {
-                        orderMismatch = current.getProcessingStartedAtNanos() > next.getProcessingStartedAtNanos();
-                    } else {
-                        orderMismatch = current.getCreatedAt().isAfter(next.getCreatedAt());
-                    }
-
-                    if (orderMismatch) {
+                for (int k = 0; k < indexes.length - 1; k++) {
+                    if (isProcessedAfter(columns, indexes[k], indexes[k + 1])) {
                         partitionMismatch++;
                     }
                 }
                 partitionMismatches.put(partition, partitionMismatch);
+                partitionDistribution.put(partition, (long) indexes.length);
             }
 
             // 3-2. 전역 순서 불일치 계산 (Kafka 타임스탬프 순서 vs 처리 순서)
-
-            // 전역 도착 순서 = Kafka 타임스탬프 기준
-            // (파티션+오프셋은 파티션 내 순서일 뿐, 전역 순서가 아님)
-            List<ParticipationHistory> arrivalOrder = allRecords.stream()
-                    .filter(r -> r.getProcessingSequence() != null
-                              && r.getKafkaPartition() != null
-                              && r.getKafkaOffset() != null
-                              && r.getKafkaTimestamp() != null)
-                    .sorted(java.util.Comparator.comparing(ParticipationHistory::getKafkaTimestamp)
-                            .thenComparing(ParticipationHistory::getKafkaPartition)
-                            .thenComparing(ParticipationHistory::getKafkaOffset))
-                    .collect(Collectors.toList());
-
-            // 메인 지표: 전체 도착 순서 기준
             // - 같은 파티션끼리는 offset 순서가 진짜 순서 → 전역 비교에서 제외
             // - 정확히 같은 타임스탬프는 순서 판정 불가 → 비교에서 제외
             int totalOrderMismatches = 0;
@@ -490,27 +614,25 @@ public class StatsController {
             int sameTimestampSkipped = 0;  // 동일 타임스탬프로 건너뛴 수
             int samePartitionSkipped = 0;  // 같은 파티션으로 건너뛴 수
 
-            for (int i = 0; i < arrivalOrder.size() - 1; i++) {
-                ParticipationHistory current = arrivalOrder.get(i);
-                ParticipationHistory next = arrivalOrder.get(i + 1);
-
-                // 같은 파티션끼리는 전역 비교 제외 (파티션 내에서는 offset 순서가 진짜)
-                if (current.getKafkaPartition().equals(next.getKafkaPartition())) {
-                    samePartitionSkipped++;
+            int current = -1;
+            for (int next = 0; next < columns.size(); next++) {
+                if (columns.sequence(next) == ArrivalOrderColumns.NO_SEQUENCE) {
                     continue;
                 }
-
-                // 정확히 같은 타임스탬프는 순서 판정 불가 → 건너뜀
-                if (current.getKafkaTimestamp().equals(next.getKafkaTimestamp())) {
-                    sameTimestampSkipped++;
-                    continue;
-                }
-
-                comparableCount++;
-                // 도착 순서상 앞선 메시지가 나중에 처리되었으면 순서 위반
-                if (current.getProcessingSequence() > next.getProcessingSequence()) {
-                    totalOrderMismatches++;
+                if (current >= 0) {
+                    if (columns.partition(current) == columns.partition(next)) {
+                        samePartitionSkipped++;
+                    } else if (columns.timestamp(current) == columns.timestamp(next)) {
+                        sameTimestampSkipped++;
+                    } else {
+                        comparableCount++;
+                        // 도착 순서상 앞선 메시지가 나중에 처리되었으면 순서 위반
+                        if (columns.sequence(current) > columns.sequence(next)) {
+                            totalOrderMismatches++;
+                        }
+                    }
                 }
+                current = next;
             }
 
             int totalComparisons = comparableCount;
@@ -519,53 +641,31 @@ public class StatsController {
                     ? 100.0 * (totalComparisons - totalOrderMismatches) / totalComparisons
                     : 100.0;
 
-            // 4. 파티션별 메시지 분포
-            Map<Integer, Long> partitionDistribution = partitionGroups.entrySet().stream()
-                    .collect(Collectors.toMap(
-                            Map.Entry::getKey,
-                            e -> (long) e.getValue().size()
-                    ));
+            // 4. 정밀 지표 (전체 쌍 기준, O(n log n))
+            OrderAnalysisReport exact = orderAnalysisEngine.analyze(campaignId, columns);
 
             // 5. 샘플 데이터 (각 파티션에서 처음 10개씩, 순서 위반 케이스 포함)
             List<Map<String, Object>> samples = new java.util.ArrayList<>();
-            for (Map.Entry<Integer, List<ParticipationHistory>> entry : partitionGroups.entrySet()) {
-                Integer partition = entry.getKey();
-                List<ParticipationHistory> partitionRecords = entry.getValue();
+            for (int partition = 0; partition < partitionIndexes.length; partition++) {
+                int[] indexes = partitionIndexes[partition];
 
-                // offset 순서로 정렬
-                partitionRecords.sort(java.util.Comparator.comparing(ParticipationHistory::getKafkaOffset));
-
-                // 각 파티션에서 처음 10개만
-                for (int i = 0; i < Math.min(10, partitionRecords.size()); i++) {
-                    ParticipationHistory r = partitionRecords.get(i);
+                for (int k = 0; k < Math.min(10, indexes.length); k++) {
+                    int i = indexes[k];
                     Map<String, Object> sample = new HashMap<>();
-                    sample.put("partition", r.getKafkaPartition());
-                    sample.put("offset", r.getKafkaOffset());
-                    sample.put("userId", r.getUserId());
-                    sample.put("status", r.getStatus().toString());
-                    sample.put("processingSequence", r.getProcessingSequence()); // 처리 순서 번호
-                    sample.put("kafkaTimestamp", r.getKafkaTimestamp() != null
-                            ? Instant.ofEpochMilli(r.getKafkaTimestamp())
-                                    .atZone(ZoneId.of("Asia/Seoul"))
-                                    .toLocalDateTime()
-                                    .toString()
-                            : null);
-                    sample.put("processedAt", r.getCreatedAt().toString());
+                    sample.put("partition", columns.partition(i));
+                    sample.put("offset", columns.offset(i));
+                    sample.put("userId", columns.userId(i));
+                    sample.put("status", columns.isSuccess(i) ? "SUCCESS" : "FAIL");
+                    sample.put("processingSequence", columns.sequence(i) != ArrivalOrderColumns.NO_SEQUENCE
+                            ? columns.sequence(i) : null); // 처리 순서 번호
+                    sample.put("kafkaTimestamp", Instant.ofEpochMilli(columns.timestamp(i))
+                            .atZone(ZoneId.of("Asia/Seoul"))
+                            .toLocalDateTime()
+                            .toString());
 
                     // 다음 레코드와 비교하여 순서 위반 여부 표시
-                    if (i < partitionRecords.size() - 1) {
-                        ParticipationHistory next = partitionRecords.get(i + 1);
-                        // processingSequence가 있으면 그걸로 비교, 없으면 createdAt으로 비교
-                        boolean orderViolation = false;
-                        if (r.getProcessingSequence() != null && next.getProcessingSequence() != null) {
-                            orderViolation = r.getProcessingSequence() > next.getProcessingSequence();
-                        } else {
-                            orderViolation = r.getCreatedAt().isAfter(next.getCreatedAt());
-                        }
-                        sample.put("orderViolation", orderViolation);
-                    } else {
-                        sample.put("orderViolation", false);
-                    }
+                    sample.put("orderViolation",
+                            k < indexes.length - 1 && isProcessedAfter(columns, i, indexes[k + 1]));
 
                     samples.add(sample);
                 }
@@ -581,15 +681,24 @@ public class StatsController {
 
             // 메인 지표
             Map<String, Object> summary = new HashMap<>();
-            summary.put("totalRecords", allRecords.size());
+            summary.put("totalRecords", columns.size());
             summary.put("orderMismatches", totalOrderMismatches);
             summary.put("orderAccuracy", String.format("%.2f%%", orderAccuracy));
-            summary.put("partitionCount", partitionGroups.size());
+            summary.put("partitionCount", partitionDistribution.size());
             summary.put("totalComparisons", totalComparisons);
             summary.put("samePartitionSkipped", samePartitionSkipped);
             summary.put("sameTimestampSkipped", sameTimestampSkipped);
             data.put("summary", summary);
 
+            Map<String, Object> exactMetrics = new HashMap<>();
+            exactMetrics.put("inversions", exact.getInversions());
+            exactMetrics.put("totalPairs", exact.getTotalPairs());
+            exactMetrics.put("kendallTau", exact.getKendallTau());
+            exactMetrics.put("orderAccuracy", exact.getOrderAccuracy());
+            exactMetrics.put("maxDisplacement", exact.getMaxDisplacement());
+            exactMetrics.put("meanDisplacement", exact.getMeanDisplacement());
+            data.put("exactMetrics", exactMetrics);
+
             data.put("partitionDistribution", partitionDistribution);
             data.put("partitionMismatches", partitionMismatches);
             data.put("samples", samples);
@@ -606,8 +715,9 @@ public class StatsController {
                             : "모든 쌍 비교 완료");
             data.put("interpretation", interpretation);
 
-            log.info("📊 순서 분석 완료 - campaignId: {}, totalRecords: {}, partitions: {}, orderAccuracy: {:.2f}%, queryTime: {}ms",
-                    campaignId, allRecords.size(), partitionGroups.size(), orderAccuracy, duration);
+            log.info("📊 순서 분석 완료 - campaignId: {}, totalRecords: {}, partitions: {}, orderAccuracy: {}%, queryTime: {}ms",
+                    campaignId, columns.size(), partitionDistribution.size(),
+                    String.format("%.2f", orderAccuracy), duration);
 
             return ResponseEntity.ok(ApiResponse.success(data));
 
@@ -617,4 +727,199 @@ public class StatsController {
                     .body(ApiResponse.fail("순서 분석 중 오류가 발생했습니다."));
         }
     }
+
+    /**
+     * 파티션별 인덱스 배열 (계수 정렬, 파티션 내부는 오프셋 오름차순)
+     * 도착 순서 버퍼는 타임스탬프 기준이므로, 타임스탬프가 역전된 경우에만 오프셋으로 재정렬
+     */
+    private int[][] groupByPartitionInOffsetOrder(ArrivalOrderColumns columns) {
+        int slots = columns.partitionSlots();
+        int[] counts = new int[slots];
+        for (int i = 0; i < columns.size(); i++) {
+            counts[columns.partition(i)]++;
+        }
+
+        int[][] groups = new int[slots][];
+        for (int p = 0; p < slots; p++) {
+            groups[p] = new int[counts[p]];
+        }
+        int[] fill = new int[slots];
+        for (int i = 0; i < columns.size(); i++) {
+            int p = columns.partition(i);
+            groups[p][fill[p]++] = i;
+        }
+
+        for (int p = 0; p < slots; p++) {
+            int[] indexes = groups[p];
+            boolean sorted = true;
+            for (int k = 0; k < indexes.length - 1 && sorted; k++) {
+                sorted = columns.offset(indexes[k]) <= columns.offset(indexes[k + 1]);
+            }
+            if (!sorted) {
+                groups[p] = java.util.stream.IntStream.of(indexes).boxed()
+                        .sorted(java.util.Comparator.comparingLong(columns::offset))
+                        .mapToInt(Integer::intValue)
+                        .toArray();
+            }
+        }
+        return groups;
+    }
+
+    /**
+     * a가 b보다 늦게 처리되었는지 (processingSequence 기준, 없으면 비교 불가 → false)
+     */
+    private boolean isProcessedAfter(ArrivalOrderColumns columns, int a, int b) {
+        long seqA = columns.sequence(a);
+        long seqB = columns.sequence(b);
+        if (seqA == ArrivalOrderColumns.NO_SEQUENCE || seqB == ArrivalOrderColumns.NO_SEQUENCE) {
+            return false;
+        }
+        return seqA > seqB;
+    }
+
+    /**
+     * 선착순 공정성 감사 - 이상적 당첨자(도착 순서) vs 실제 SUCCESS 비교
+     * GET /api/admin/stats/fairness/{campaignId}?pairLimit=100
+     *
+     * 인접 쌍 위반 수(order-violations)와 달리
+     * "먼저 도착했는데 탈락한 사용자 / 늦게 도착했는데 당첨된 사용자"를 직접 산출
+     */
+    @GetMapping("/fairness/{campaignId}")
+    public ResponseEntity<ApiResponse<?>> getFairnessReport(
+            @PathVariable Long campaignId,
+            @RequestParam(defaultValue = "100") int pairLimit) {
+        try {
+            FairnessReport report = fairnessAuditService.audit(campaignId, pairLimit);
+            return ResponseEntity.ok(ApiResponse.success(report));
+
+        } catch (CampaignNotFoundException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("🚨 공정성 감사 실패 - campaignId: {}", campaignId, e);
+            return ResponseEntity.internalServerError()
+                    .body(ApiResponse.fail("공정성 감사 중 오류가 발생했습니다."));
+        }
+    }
+
+    /**
+     * 처리 순서 정밀 지표 - 전체 쌍 기준 역전 수 / Kendall tau / 변위 분포
+     * GET /api/admin/stats/order-metrics/{campaignId}
+     *
+     * order-analysis(인접 쌍 비교)와 달리 모든 쌍을 비교하므로
+     * 한 파티션이 크게 밀린 경우도 밀린 만큼 그대로 반영됨
+     * → 파티션 수별 실험 결과 비교 시 기준 지표로 사용
+     */
+    @GetMapping("/order-metrics/{campaignId}")
+    public ResponseEntity<ApiResponse<?>> getOrderMetrics(@PathVariable Long campaignId) {
+        try {
+            long startTime = System.currentTimeMillis();
+
+            ArrivalOrderColumns columns = columnReader.readArrivalOrder(campaignId);
+            if (columns.isEmpty()) {
+                return ResponseEntity.ok(ApiResponse.success("데이터 없음", Map.of("campaignId", campaignId)));
+            }
+
+            OrderAnalysisReport report = orderAnalysisEngine.analyze(campaignId, columns);
+
+            log.info("📊 순서 정밀 분석 완료 - campaignId: {}, records: {}, inversions: {}, tau: {}, 총 {}ms",
+                    campaignId, report.getTotalRecords(), report.getInversions(),
+                    String.format("%.4f", report.getKendallTau()), System.currentTimeMillis() - startTime);
+
+            return ResponseEntity.ok(ApiResponse.success(report));
+
+        } catch (Exception e) {
+            log.error("🚨 순서 정밀 분석 실패 - campaignId: {}", campaignId, e);
+            return ResponseEntity.internalServerError()
+                    .body(ApiResponse.fail("순서 정밀 분석 중 오류가 발생했습니다."));
+        }
+    }
+
+    /**
+     * 캠페인별 누적 참여 카운터 조회 (participation_history 스캔 없음)
+     * GET /api/admin/stats/live
+     *
+     * Consumer가 배치마다 갱신하는 campaign_live_counters (캠페인당 1행)
+     */
+    @GetMapping("/live")
+    @Transactional(readOnly = true)
+    public ResponseEntity<ApiResponse<?>> getLiveCounters() {
+        try {
+            long startTime = System.currentTimeMillis();
+
+            String sql = """
+                SELECT c.id AS campaign_id, c.name AS campaign_name,
+                       lc.success_count, lc.fail_count, lc.updated_at
+                FROM campaign_live_counters lc
+                JOIN campaign c ON c.id = lc.campaign_id
+                ORDER BY c.id
+                """;
+
+            List<Map<String, Object>> campaigns = jdbcTemplate.query(sql, (rs, rowNum) -> {
+                long success = rs.getLong("success_count");
+                long fail = rs.getLong("fail_count");
+                long total = success + fail;
+
+                Map<String, Object> item = new HashMap<>();
+                item.put("campaignId", rs.getLong("campaign_id"));
+                item.put("campaignName", rs.getString("campaign_name"));
+                item.put("successCount", success);
+                item.put("failCount", fail);
+                item.put("totalCount", total);
+                item.put("successRate", total > 0 ? String.format("%.2f%%", success * 100.0 / total) : "0.00%");
+                item.put("updatedAt", rs.getTimestamp("updated_at").toLocalDateTime().toString());
+                return item;
+            });
+
+            Map<String, Object> data = new HashMap<>();
+            data.put("method", "LIVE_COUNTER");
+            data.put("queryTimeMs", System.currentTimeMillis() - startTime);
+            data.put("campaigns", campaigns);
+
+            return ResponseEntity.ok(ApiResponse.success(data));
+
+        } catch (Exception e) {
+            log.error("🚨 실시간 카운터 조회 실패", e);
+            return ResponseEntity.internalServerError()
+                    .body(ApiResponse.fail("실시간 카운터 조회 중 오류가 발생했습니다."));
+        }
+    }
+
+    /**
+     * 누적 참여 카운터 재계산 (최초 도입/불일치 복구용)
+     * POST /api/admin/stats/live/rebuild
+     *
+     * participation_history 전체를 GROUP BY 하므로 트래픽이 없을 때 실행
+     */
+    @PostMapping("/live/rebuild")
+    public ResponseEntity<ApiResponse<?>> rebuildLiveCounters() {
+        long startTime = System.currentTimeMillis();
+        int updated = campaignLiveCounterRepository.rebuildFromHistory();
+        long duration = System.currentTimeMillis() - startTime;
+
+        log.info("🔄 실시간 카운터 재계산 완료 - {} 행, {}ms", updated, duration);
+        return ResponseEntity.ok(ApiResponse.success("실시간 카운터가 재계산되었습니다.",
+                Map.of("affectedRows", updated, "queryTimeMs", duration)));
+    }
+
+    /**
+     * 실시간 순서 지표 (Consumer 슬라이딩 윈도우)
+     * GET /api/admin/stats/order-live
+     *
+     * DB 조회 없이 Consumer 메모리의 최근 N건 윈도우 지표를 반환
+     * (Micrometer: consumer.order.window.accuracy / inversions / max-displacement)
+     */
+    @GetMapping("/order-live")
+    public ResponseEntity<ApiResponse<?>> getLiveOrderMetrics() {
+        return ResponseEntity.ok(ApiResponse.success(onlineOrderTracker.snapshot()));
+    }
+
+    /**
+     * 실시간 순서 지표 초기화 (파티션 변경 실험 전환 시)
+     * DELETE /api/admin/stats/order-live
+     */
+    @DeleteMapping("/order-live")
+    public ResponseEntity<ApiResponse<?>> resetLiveOrderMetrics() {
+        onlineOrderTracker.reset();
+        return ResponseEntity.ok(ApiResponse.success("실시간 순서 지표가 초기화되었습니다."));
+    }
 }
@@ -0,0 +1,82 @@
+package io.eventdriven.batchkafka.api.controller;
+
+import io.eventdriven.batchkafka.api.common.ApiResponse;
+import io.eventdriven.batchkafka.api.dto.request.ParticipationRequest;
+import io.eventdriven.batchkafka.application.service.WaitingRoomService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 가상 대기열 API
+ * - 대기열 진입 후 순번을 받고, 입장 토큰이 발급될 때까지 폴링
+ * - 발급된 토큰을 X-Admission-Token 헤더에 담아 참여 API 호출
+ */
+@RestController
+@RequestMapping("/api/campaigns/{campaignId}/waiting-room")
+@RequiredArgsConstructor
+public class WaitingRoomController {
+
+    private final WaitingRoomService waitingRoomService;
+
+    /**
+     * 대기열 진입
+     * POST /api/campaigns/{campaignId}/waiting-room
+     */
+    @PostMapping
+    public ResponseEntity<ApiResponse<?>> enter(
+            @PathVariable Long campaignId,
+            @RequestBody @Valid ParticipationRequest request
+    ) {
+        long position = waitingRoomService.enter(campaignId, request.getUserId());
+
+        Map<String, Object> data = new HashMap<>();
+        data.put("campaignId", campaignId);
+        data.put("userId", request.getUserId());
+        data.put("position", position);
+        data.put("queueSize", waitingRoomService.getQueueSize(campaignId));
+
+        String message = position == 0
+                ? "이미 입장 토큰이 발급되었습니다."
+                : "대기열에 등록되었습니다.";
+        return ResponseEntity.ok(ApiResponse.success(message, data));
+    }
+
+    /**
+     * 대기 상태 조회 (순번 또는 입장 토큰)
+     * GET /api/campaigns/{campaignId}/waiting-room?userId=1
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponse<?>> getStatus(
+            @PathVariable Long campaignId,
+            @RequestParam Long userId
+    ) {
+        Map<String, Object> data = new HashMap<>();
+        data.put("campaignId", campaignId);
+        data.put("userId", userId);
+        data.put("queueSize", waitingRoomService.getQueueSize(campaignId));
+
+        String token = waitingRoomService.getToken(campaignId, userId);
+        if (token != null) {
+            data.put("status", "ADMITTED");
+            data.put("admissionToken", token);
+            return ResponseEntity.ok(ApiResponse.success(data));
+        }
+
+        Long position = waitingRoomService.getPosition(campaignId, userId);
+        if (position != null) {
+            data.put("status", "WAITING");
+            data.put("position", position);
+            return ResponseEntity.ok(ApiResponse.success(data));
+        }
+
+        data.put("status", "NOT_IN_QUEUE");
+        return ResponseEntity.ok(
+                ApiResponse.success("대기열에 없습니다. 토큰이 만료되었다면 다시 진입해주세요.", data)
+        );
+    }
+}
@@ -0,0 +1,64 @@
+package io.eventdriven.batchkafka.api.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 선착순 공정성 감사 리포트
+ * - 이상적 당첨자(도착 순서 상위 totalStock명) vs 실제 SUCCESS 비교
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FairnessReport {
+
+    private Long campaignId;
+    private long totalStock;            // 캠페인 총 재고 (= 이상적 당첨자 수)
+    private long totalRecords;          // 분석 대상 레코드 수 (Kafka 메타데이터 보유)
+    private long idealWinners;          // 도착 순서 기준 당첨자 수
+    private long actualWinners;         // 실제 SUCCESS 수
+    private long correctWinners;        // 이상적 당첨자 중 실제 SUCCESS
+    private long wronglyDenied;         // 먼저 도착했지만 FAIL
+    private long lateWinners;           // 늦게 도착했지만 SUCCESS
+    private long unfairPairs;           // (먼저 도착한 탈락자, 늦게 도착한 당첨자) 쌍 수
+    private String fairnessRate;        // correctWinners / idealWinners
+    private Long cutoffTimestamp;       // 이상적 마감 시점 (totalStock번째 도착 Kafka 타임스탬프)
+    private List<UnfairPair> samplePairs;           // 불공정 쌍 샘플 (도착 순서대로 매칭)
+    private List<PartitionAttribution> partitions;  // 파티션별 원인 분석
+    private long queryTimeMs;
+
+    /**
+     * 불공정 쌍: denied가 winner보다 먼저 도착했지만 winner만 당첨
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class UnfairPair {
+        private long deniedUserId;
+        private long deniedArrivalRank;
+        private int deniedPartition;
+        private long deniedOffset;
+        private long winnerUserId;
+        private long winnerArrivalRank;
+        private int winnerPartition;
+        private long winnerOffset;
+        private long arrivedEarlierByMs;
+    }
+
+    /**
+     * 파티션별 불공정 기여도
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class PartitionAttribution {
+        private int partition;
+        private long records;
+        private long successCount;
+        private long wronglyDenied;
+        private long lateWinners;
+    }
+}
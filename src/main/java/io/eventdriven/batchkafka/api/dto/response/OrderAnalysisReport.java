@@ -0,0 +1,44 @@
+package io.eventdriven.batchkafka.api.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 처리 순서 정밀 분석 리포트
+ * - 도착 순서 vs processingSequence 전체 쌍 기준 (인접 쌍 아님)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderAnalysisReport {
+
+    private Long campaignId;
+    private long totalRecords;          // processingSequence 보유 레코드 수
+    private long totalPairs;            // n(n-1)/2
+    private long inversions;            // 도착은 앞섰는데 나중에 처리된 쌍 수 (정확값)
+    private long sequenceTiePairs;      // processingSequence가 같은 쌍 (Consumer 재시작 등)
+    private double kendallTau;          // Kendall tau-b (1.0 = 완전 일치, -1.0 = 완전 역순)
+    private String orderAccuracy;       // (1 - inversions / totalPairs) × 100
+    private long maxDisplacement;       // |처리 순위 - 도착 순위| 최대값
+    private double meanDisplacement;    // |처리 순위 - 도착 순위| 평균
+    private Map<String, Long> displacementHistogram; // 0, 1, 2-9, 10-99, ... 구간별 건수
+    private List<PartitionOrder> partitions;
+    private long queryTimeMs;
+
+    /**
+     * 파티션 내부 순서 (오프셋 순서 vs 처리 순서)
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class PartitionOrder {
+        private int partition;
+        private long records;
+        private long inversions;
+    }
+}
@@ -0,0 +1,21 @@
+package io.eventdriven.batchkafka.api.exception.business;
+
+import io.eventdriven.batchkafka.api.exception.common.BusinessException;
+import io.eventdriven.batchkafka.api.exception.common.ErrorCode;
+
+/**
+ * 대기열 입장 토큰이 없거나 유효하지 않을 때 발생하는 예외
+ * HTTP 403 Forbidden
+ */
+public class InvalidAdmissionTokenException extends BusinessException {
+
+    public InvalidAdmissionTokenException(Long campaignId, Long userId) {
+        super(ErrorCode.INVALID_ADMISSION_TOKEN,
+              String.format("유효하지 않거나 만료된 입장 토큰입니다. 대기열에 다시 진입해주세요. (캠페인: %d, 사용자: %d)",
+                      campaignId, userId));
+    }
+
+    public InvalidAdmissionTokenException() {
+        super(ErrorCode.INVALID_ADMISSION_TOKEN);
+    }
+}
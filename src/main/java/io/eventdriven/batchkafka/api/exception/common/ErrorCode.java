@@ -22,6 +22,9 @@ public enum ErrorCode {
     DUPLICATE_PARTICIPATION(HttpStatus.CONFLICT, "PARTICIPATION_001", "이미 참여한 캠페인입니다."),
     INVALID_USER(HttpStatus.BAD_REQUEST, "PARTICIPATION_002", "유효하지 않은 사용자입니다."),
 
+    // 대기열 관련
+    INVALID_ADMISSION_TOKEN(HttpStatus.FORBIDDEN, "WAITING_001", "유효하지 않거나 만료된 입장 토큰입니다."),
+
     // 배치 관련
     BATCH_ALREADY_EXECUTED(HttpStatus.CONFLICT, "BATCH_001", "해당 날짜는 이미 집계되었습니다."),
     INVALID_DATE_RANGE(HttpStatus.BAD_REQUEST, "BATCH_002", "유효하지 않은 날짜 범위입니다."),
@@ -0,0 +1,113 @@
+package io.eventdriven.batchkafka.application.analysis;
+
+import java.util.Arrays;
+
+/**
+ * 도착 순서로 정렬된 참여 이력 컬럼 버퍼
+ * - 엔티티 대신 primitive 배열에 컬럼별로 저장 (행당 약 37바이트)
+ * - 인덱스 i = 도착 순번 (Kafka 타임스탬프 → 파티션 → 오프셋 순)
+ */
+public class ArrivalOrderColumns {
+
+    public static final byte STATUS_FAIL = 0;
+    public static final byte STATUS_SUCCESS = 1;
+
+    /**
+     * processing_sequence가 없는 레코드 표시값
+     */
+    public static final long NO_SEQUENCE = -1L;
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private int size = 0;
+    private int maxPartition = -1;
+
+    private long[] userIds;
+    private int[] partitions;
+    private long[] offsets;
+    private long[] timestamps;
+    private long[] sequences;
+    private byte[] statuses;
+
+    public ArrivalOrderColumns() {
+        this(INITIAL_CAPACITY);
+    }
+
+    public ArrivalOrderColumns(int initialCapacity) {
+        int capacity = Math.max(initialCapacity, 16);
+        userIds = new long[capacity];
+        partitions = new int[capacity];
+        offsets = new long[capacity];
+        timestamps = new long[capacity];
+        sequences = new long[capacity];
+        statuses = new byte[capacity];
+    }
+
+    /**
+     * 행 추가 (도착 순서대로 호출되어야 함)
+     */
+    public void add(long userId, int partition, long offset, long timestamp, long sequence, byte status) {
+        if (size == userIds.length) {
+            grow();
+        }
+        userIds[size] = userId;
+        partitions[size] = partition;
+        offsets[size] = offset;
+        timestamps[size] = timestamp;
+        sequences[size] = sequence;
+        statuses[size] = status;
+        if (partition > maxPartition) {
+            maxPartition = partition;
+        }
+        size++;
+    }
+
+    private void grow() {
+        int newCapacity = userIds.length + (userIds.length >> 1);
+        userIds = Arrays.copyOf(userIds, newCapacity);
+        partitions = Arrays.copyOf(partitions, newCapacity);
+        offsets = Arrays.copyOf(offsets, newCapacity);
+        timestamps = Arrays.copyOf(timestamps, newCapacity);
+        sequences = Arrays.copyOf(sequences, newCapacity);
+        statuses = Arrays.copyOf(statuses, newCapacity);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * 파티션 번호 기준 배열 크기 (최대 파티션 번호 + 1)
+     */
+    public int partitionSlots() {
+        return maxPartition + 1;
+    }
+
+    public long userId(int i) {
+        return userIds[i];
+    }
+
+    public int partition(int i) {
+        return partitions[i];
+    }
+
+    public long offset(int i) {
+        return offsets[i];
+    }
+
+    public long timestamp(int i) {
+        return timestamps[i];
+    }
+
+    public long sequence(int i) {
+        return sequences[i];
+    }
+
+    public boolean isSuccess(int i) {
+        return statuses[i] == STATUS_SUCCESS;
+    }
+}
@@ -0,0 +1,151 @@
+package io.eventdriven.batchkafka.application.analysis;
+
+import io.eventdriven.batchkafka.api.dto.response.FairnessReport;
+import io.eventdriven.batchkafka.api.exception.business.CampaignNotFoundException;
+import io.eventdriven.batchkafka.domain.entity.Campaign;
+import io.eventdriven.batchkafka.domain.repository.CampaignRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 선착순 공정성 감사 서비스
+ *
+ * === 질문 ===
+ * "재고가 소진되기 전에 도착했는데 FAIL 받은 사람은 누구이고,
+ *  늦게 도착했는데 당첨된 사람은 누구인가?"
+ *
+ * === 방법 ===
+ * 1. 캠페인 이력을 도착 순서(Kafka 타임스탬프 → 파티션 → 오프셋)로 스트리밍 적재
+ * 2. 이상적 당첨자 = 도착 순서 상위 totalStock명
+ * 3. 실제 SUCCESS 집합과 비교 → 부당 탈락 / 늦은 당첨
+ * 4. 파티션별로 원인 귀속 (어느 파티션의 지연/선행이 불공정을 만들었는지)
+ *
+ * 모든 계산은 primitive 배열 단일 패스 (O(n))
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FairnessAuditService {
+
+    private final ParticipationHistoryColumnReader columnReader;
+    private final CampaignRepository campaignRepository;
+
+    /**
+     * 공정성 감사 실행
+     *
+     * @param campaignId 캠페인 ID
+     * @param pairLimit 반환할 불공정 쌍 샘플 최대 개수
+     */
+    @Transactional(readOnly = true)
+    public FairnessReport audit(Long campaignId, int pairLimit) {
+        long startTime = System.currentTimeMillis();
+
+        Campaign campaign = campaignRepository.findById(campaignId)
+                .orElseThrow(() -> new CampaignNotFoundException(campaignId));
+        long totalStock = campaign.getTotalStock();
+
+        ArrivalOrderColumns columns = columnReader.readArrivalOrder(campaignId);
+        int n = columns.size();
+        int slots = columns.partitionSlots();
+
+        long[] partitionRecords = new long[slots];
+        long[] partitionSuccess = new long[slots];
+        long[] partitionDenied = new long[slots];
+        long[] partitionLate = new long[slots];
+
+        int sampleLimit = Math.max(0, pairLimit);
+        int[] deniedSamples = new int[sampleLimit];
+        int[] lateSamples = new int[sampleLimit];
+        int deniedSampled = 0;
+        int lateSampled = 0;
+
+        long actualWinners = 0;
+        long correctWinners = 0;
+        long wronglyDenied = 0;
+        long lateWinners = 0;
+
+        for (int i = 0; i < n; i++) {
+            int partition = columns.partition(i);
+            boolean ideal = i < totalStock;
+            boolean success = columns.isSuccess(i);
+
+            partitionRecords[partition]++;
+            if (success) {
+                actualWinners++;
+                partitionSuccess[partition]++;
+            }
+
+            if (ideal && success) {
+                correctWinners++;
+            } else if (ideal) {
+                wronglyDenied++;
+                partitionDenied[partition]++;
+                if (deniedSampled < sampleLimit) {
+                    deniedSamples[deniedSampled++] = i;
+                }
+            } else if (success) {
+                lateWinners++;
+                partitionLate[partition]++;
+                if (lateSampled < sampleLimit) {
+                    lateSamples[lateSampled++] = i;
+                }
+            }
+        }
+
+        long idealWinners = Math.min(n, totalStock);
+
+        // 부당 탈락자는 모두 이상적 당첨 구간, 늦은 당첨자는 모두 그 이후 → 모든 조합이 불공정 쌍
+        long unfairPairs = wronglyDenied * lateWinners;
+
+        // 샘플: k번째 부당 탈락자 ↔ k번째 늦은 당첨자 (자리를 빼앗은 관계로 매칭)
+        int pairCount = Math.min(deniedSampled, lateSampled);
+        List<FairnessReport.UnfairPair> samplePairs = new ArrayList<>(pairCount);
+        for (int k = 0; k < pairCount; k++) {
+            int d = deniedSamples[k];
+            int w = lateSamples[k];
+            samplePairs.add(new FairnessReport.UnfairPair(
+                    columns.userId(d), d + 1L, columns.partition(d), columns.offset(d),
+                    columns.userId(w), w + 1L, columns.partition(w), columns.offset(w),
+                    columns.timestamp(w) - columns.timestamp(d)
+            ));
+        }
+
+        List<FairnessReport.PartitionAttribution> partitions = new ArrayList<>();
+        for (int p = 0; p < slots; p++) {
+            if (partitionRecords[p] == 0) {
+                continue;
+            }
+            partitions.add(new FairnessReport.PartitionAttribution(
+                    p, partitionRecords[p], partitionSuccess[p], partitionDenied[p], partitionLate[p]));
+        }
+
+        Long cutoffTimestamp = idealWinners > 0 ? columns.timestamp((int) idealWinners - 1) : null;
+        double fairnessRate = idealWinners > 0 ? 100.0 * correctWinners / idealWinners : 100.0;
+        long duration = System.currentTimeMillis() - startTime;
+
+        log.info("⚖️ 공정성 감사 완료 - campaignId: {}, records: {}, 부당 탈락: {}, 늦은 당첨: {}, 공정률: {}%, {}ms",
+                campaignId, n, wronglyDenied, lateWinners, String.format("%.2f", fairnessRate), duration);
+
+        return FairnessReport.builder()
+                .campaignId(campaignId)
+                .totalStock(totalStock)
+                .totalRecords(n)
+                .idealWinners(idealWinners)
+                .actualWinners(actualWinners)
+                .correctWinners(correctWinners)
+                .wronglyDenied(wronglyDenied)
+                .lateWinners(lateWinners)
+                .unfairPairs(unfairPairs)
+                .fairnessRate(String.format("%.2f%%", fairnessRate))
+                .cutoffTimestamp(cutoffTimestamp)
+                .samplePairs(samplePairs)
+                .partitions(partitions)
+                .queryTimeMs(duration)
+                .build();
+    }
+}
@@ -0,0 +1,45 @@
+package io.eventdriven.batchkafka.application.analysis;
+
+import java.util.Arrays;
+
+/**
+ * Fenwick Tree (Binary Indexed Tree)
+ * - 구간 [0, i] 누적 합을 O(log n)에 조회/갱신
+ * - 스트리밍 역전 쌍 계산용 (나보다 늦게 도착한 레코드 수)
+ */
+class FenwickTree {
+
+    private final long[] tree;
+
+    FenwickTree(int size) {
+        this.tree = new long[size + 1];
+    }
+
+    int size() {
+        return tree.length - 1;
+    }
+
+    /**
+     * index 위치에 delta 더하기
+     */
+    void add(int index, long delta) {
+        for (int i = index + 1; i < tree.length; i += i & (-i)) {
+            tree[i] += delta;
+        }
+    }
+
+    /**
+     * [0, index] 구간 합 (index < 0 이면 0)
+     */
+    long prefixSum(int index) {
+        long sum = 0;
+        for (int i = Math.min(index, size() - 1) + 1; i > 0; i -= i & (-i)) {
+            sum += tree[i];
+        }
+        return sum;
+    }
+
+    void clear() {
+        Arrays.fill(tree, 0L);
+    }
+}
@@ -0,0 +1,239 @@
+package io.eventdriven.batchkafka.application.analysis;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Consumer 실시간 순서 정확도 추적기
+ *
+ * Consumer가 레코드를 처리하는 순서대로 Kafka 타임스탬프(도착 시각)를 넣으면
+ * 최근 N건 슬라이딩 윈도우 안에서 순서 지표를 즉시 계산
+ * → 실험 중 파티션 수를 바꾸면서 순서 저하를 실시간 관찰 (사후 O(n) 조회 불필요)
+ *
+ * === 방법 ===
+ * - 윈도우 레코드의 도착 시각을 1ms 버킷 Fenwick Tree에 적재
+ * - 새 레코드 처리 시 "윈도우 안에서 나보다 늦게 도착했는데 먼저 처리된 레코드 수" = 이 레코드의 역전 수(변위)
+ * - 윈도우를 벗어난 레코드는 Fenwick Tree에서 제거 (레코드당 O(log SPAN))
+ * - 제거 시 "남은 레코드 중 나보다 먼저 도착했는데 나중에 처리된 레코드 수"도 함께 빼서
+ *   windowInversions / windowComparisons는 항상 현재 윈도우 안의 쌍만 정확히 집계
+ *
+ * === 레코드별 변위 ===
+ * - maxDisplacement / meanDisplacement / outOfOrderRecords는 "처리 시점" 변위
+ *   (그 레코드가 처리될 때 윈도우에 있던 레코드 기준, 이후 제거돼도 갱신하지 않음)
+ *
+ * === 동기화 ===
+ * - Consumer concurrency = 파티션 수라 여러 리스너 스레드가 하나의 윈도우를 공유 → 레코드 단위 synchronized 필요
+ * - 임계 구역은 Fenwick 갱신/조회 O(log SPAN) = 16단계 정도로, 레코드당 DB 처리 비용에 비해 무시 가능
+ * - 배치 단위로 묶으면 스레드 간 처리 순서가 배치 단위로 뭉개져 역전을 측정할 수 없음
+ *
+ * === 근사 ===
+ * - 도착 시각 범위가 SPAN(약 65초)을 넘으면 기준점을 옮기고 윈도우로 재구성
+ * - 기준점보다 이른 레코드는 가장 이른 버킷으로 취급 (그 레코드끼리는 동률 = 역전 아님)
+ */
+@Component
+public class OnlineOrderTracker {
+
+    /**
+     * Fenwick Tree 버킷 수 (1 버킷 = 1ms → 약 65초 범위)
+     */
+    private static final int SPAN = 1 << 16;
+
+    private final int windowSize;
+
+    private final FenwickTree fenwick = new FenwickTree(SPAN);
+
+    // 윈도우 링 버퍼 (처리 순서)
+    private final long[] windowTimestamps;
+    private final int[] windowBuckets;
+    private final long[] windowInversionsPerRecord;
+    private final long[] windowComparisonsPerRecord;
+    private int head = 0;
+    private int count = 0;
+
+    private long baseTimestamp = Long.MIN_VALUE;
+    private long windowInversions = 0;
+    private long windowComparisons = 0;
+    private long windowDisplacementSum = 0;
+    private long windowOutOfOrder = 0;
+
+    private long totalProcessed = 0;
+    private long totalInversions = 0;
+
+    private final Counter inversionCounter;
+
+    public OnlineOrderTracker(
+            @Value("${consumer.order-tracking.window-size:10000}") int windowSize,
+            MeterRegistry meterRegistry
+    ) {
+        this.windowSize = windowSize;
+        this.windowTimestamps = new long[windowSize];
+        this.windowBuckets = new int[windowSize];
+        this.windowInversionsPerRecord = new long[windowSize];
+        this.windowComparisonsPerRecord = new long[windowSize];
+
+        this.inversionCounter = Counter.builder("consumer.order.inversions")
+                .description("윈도우 기준 누적 순서 역전 수")
+                .register(meterRegistry);
+        Gauge.builder("consumer.order.window.accuracy", this, OnlineOrderTracker::windowAccuracy)
+                .description("최근 윈도우 순서 정확도 (0~1)")
+                .register(meterRegistry);
+        Gauge.builder("consumer.order.window.inversions", this, OnlineOrderTracker::windowInversions)
+                .description("최근 윈도우 역전 쌍 수")
+                .register(meterRegistry);
+        Gauge.builder("consumer.order.window.max-displacement", this, OnlineOrderTracker::maxDisplacement)
+                .description("최근 윈도우 최대 변위")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 레코드 처리 기록 (Consumer가 처리하는 순서대로 호출)
+     *
+     * @param kafkaTimestamp 레코드의 Kafka 타임스탬프 (도착 시각)
+     */
+    public synchronized void record(long kafkaTimestamp) {
+        if (baseTimestamp == Long.MIN_VALUE) {
+            baseTimestamp = kafkaTimestamp - SPAN / 2;
+        }
+        if (kafkaTimestamp - baseTimestamp >= SPAN) {
+            rebase(kafkaTimestamp);
+        }
+
+        // 윈도우가 가득 차면 가장 먼저 처리된 레코드 제거
+        if (count == windowSize) {
+            evictOldest();
+        }
+
+        int bucket = toBucket(kafkaTimestamp);
+
+        // 윈도우 안에서 나보다 늦게 도착했는데 먼저 처리된 레코드 수
+        long inversions = count - fenwick.prefixSum(bucket);
+
+        int slot = (head + count) % windowSize;
+        windowTimestamps[slot] = kafkaTimestamp;
+        windowBuckets[slot] = bucket;
+        windowInversionsPerRecord[slot] = inversions;
+        windowComparisonsPerRecord[slot] = count;
+        count++;
+
+        fenwick.add(bucket, 1);
+        windowInversions += inversions;
+        windowComparisons += windowComparisonsPerRecord[slot];
+        windowDisplacementSum += inversions;
+        if (inversions > 0) {
+            windowOutOfOrder++;
+        }
+
+        totalProcessed++;
+        totalInversions += inversions;
+        if (inversions > 0) {
+            inversionCounter.increment(inversions);
+        }
+    }
+
+    /**
+     * 가장 먼저 처리된 레코드 제거
+     * 이 레코드와 이전 레코드의 쌍은 이전 레코드 제거 시 이미 빠졌으므로,
+     * 남은 레코드와의 쌍(비교 count - 1개, 역전 = 나보다 이른 버킷 수)만 빼면 됨
+     */
+    private void evictOldest() {
+        int bucket = windowBuckets[head];
+        fenwick.add(bucket, -1);
+        windowInversions -= fenwick.prefixSum(bucket - 1);
+        windowComparisons -= count - 1;
+        windowDisplacementSum -= windowInversionsPerRecord[head];
+        if (windowInversionsPerRecord[head] > 0) {
+            windowOutOfOrder--;
+        }
+        head = (head + 1) % windowSize;
+        count--;
+    }
+
+    /**
+     * 도착 시각 범위를 벗어나면 기준점을 옮기고 윈도우 레코드로 Fenwick Tree 재구성
+     * 윈도우 역전 쌍 수도 새 버킷 기준으로 다시 계산 (이후 제거 시 차감과 기준을 맞춤)
+     */
+    private void rebase(long latestTimestamp) {
+        baseTimestamp = latestTimestamp - SPAN / 2;
+        fenwick.clear();
+        windowInversions = 0;
+        for (int i = 0; i < count; i++) {
+            int slot = (head + i) % windowSize;
+            windowBuckets[slot] = toBucket(windowTimestamps[slot]);
+            windowInversions += i - fenwick.prefixSum(windowBuckets[slot]);
+            fenwick.add(windowBuckets[slot], 1);
+        }
+    }
+
+    private int toBucket(long timestamp) {
+        long offset = timestamp - baseTimestamp;
+        if (offset < 0) {
+            return 0;
+        }
+        return (int) Math.min(offset, SPAN - 1);
+    }
+
+    /**
+     * 현재 지표 스냅샷
+     */
+    public synchronized Map<String, Object> snapshot() {
+        Map<String, Object> data = new HashMap<>();
+        data.put("windowSize", windowSize);
+        data.put("windowRecords", count);
+        data.put("windowInversions", windowInversions);
+        data.put("windowComparisons", windowComparisons);
+        data.put("windowOutOfOrderRecords", windowOutOfOrder);
+        data.put("windowAccuracy", String.format("%.4f%%", windowAccuracy() * 100));
+        data.put("maxDisplacement", maxDisplacement());
+        data.put("meanDisplacement", count > 0 ? (double) windowDisplacementSum / count : 0.0);
+        data.put("totalProcessed", totalProcessed);
+        data.put("totalInversions", totalInversions);
+        return data;
+    }
+
+    /**
+     * 윈도우 순서 정확도 = 1 - 역전 쌍 / 비교 쌍
+     */
+    public synchronized double windowAccuracy() {
+        return windowComparisons > 0 ? 1.0 - (double) windowInversions / windowComparisons : 1.0;
+    }
+
+    /**
+     * 윈도우 역전 쌍 수
+     */
+    public synchronized long windowInversions() {
+        return windowInversions;
+    }
+
+    /**
+     * 윈도우 레코드의 처리 시점 최대 변위 (O(windowSize) - 조회 시에만 계산)
+     */
+    public synchronized long maxDisplacement() {
+        long max = 0;
+        for (int i = 0; i < count; i++) {
+            max = Math.max(max, windowInversionsPerRecord[(head + i) % windowSize]);
+        }
+        return max;
+    }
+
+    /**
+     * 실험 전환 시 초기화
+     */
+    public synchronized void reset() {
+        fenwick.clear();
+        head = 0;
+        count = 0;
+        baseTimestamp = Long.MIN_VALUE;
+        windowInversions = 0;
+        windowComparisons = 0;
+        windowDisplacementSum = 0;
+        windowOutOfOrder = 0;
+        totalProcessed = 0;
+        totalInversions = 0;
+    }
+}
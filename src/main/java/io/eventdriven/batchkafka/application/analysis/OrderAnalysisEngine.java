@@ -0,0 +1,269 @@
+package io.eventdriven.batchkafka.application.analysis;
+
+import io.eventdriven.batchkafka.api.dto.response.OrderAnalysisReport;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 처리 순서 정밀 분석 엔진
+ *
+ * === 기존 방식의 한계 ===
+ * 인접 쌍만 비교 + 같은 파티션/같은 타임스탬프 쌍 제외
+ * → 한 파티션이 수천 건 밀려도 경계 쌍 몇 개만 위반으로 잡힘
+ *
+ * === 측정 지표 ===
+ * - 역전 쌍 수(inversions): 도착 순서 i < j 인데 처리 순서 seq[i] > seq[j] 인 모든 쌍 (병합 정렬, O(n log n))
+ * - Kendall tau-b: 두 순서의 순위 상관계수 (processingSequence 동률 보정)
+ * - 변위(displacement): |처리 순위 - 도착 순위| 최대/평균/구간별 분포
+ * - 파티션 내부 역전: 오프셋 순서 vs 처리 순서 (파티션 순서 보장 검증)
+ *   도착 순서는 Kafka 타임스탬프 기준이라 CreateTime(프로듀서 시각)이면 같은 파티션 안에서도
+ *   오프셋 순서와 다를 수 있음 → 파티션 내부 역전은 도착 순서가 아닌 오프셋으로 다시 정렬해서 계산
+ *
+ * 모든 연산은 long[]/int[] 위에서 수행 (수백만 건도 수 초 이내)
+ */
+@Component
+public class OrderAnalysisEngine {
+
+    /**
+     * 변위 히스토그램 구간 (10의 거듭제곱 경계)
+     */
+    private static final String[] HISTOGRAM_LABELS = {
+            "0", "1", "2-9", "10-99", "100-999", "1000-9999", "10000+"
+    };
+
+    /**
+     * 도착 순서 컬럼 버퍼에서 순서 지표 계산
+     */
+    public OrderAnalysisReport analyze(Long campaignId, ArrivalOrderColumns columns) {
+        long startTime = System.currentTimeMillis();
+
+        // 1. processingSequence가 있는 레코드만 도착 순서대로 추출
+        int n = 0;
+        long[] sequences = new long[columns.size()];
+        int[] partitions = new int[columns.size()];
+        long[] offsets = new long[columns.size()];
+        for (int i = 0; i < columns.size(); i++) {
+            if (columns.sequence(i) != ArrivalOrderColumns.NO_SEQUENCE) {
+                sequences[n] = columns.sequence(i);
+                partitions[n] = columns.partition(i);
+                offsets[n] = columns.offset(i);
+                n++;
+            }
+        }
+        sequences = Arrays.copyOf(sequences, n);
+        partitions = Arrays.copyOf(partitions, n);
+        offsets = Arrays.copyOf(offsets, n);
+
+        long totalPairs = (long) n * (n - 1) / 2;
+
+        // 2. 처리 순위 계산용 정렬본 (동률 쌍 수도 함께 계산)
+        long[] sortedSequences = sequences.clone();
+        Arrays.sort(sortedSequences);
+        long tiePairs = countTiePairs(sortedSequences);
+
+        // 3. 전체 역전 쌍 수 (병합 정렬)
+        long inversions = countInversions(sequences.clone());
+
+        // 4. Kendall tau-b (도착 순서는 전순서이므로 도착 측 동률 없음)
+        long concordant = totalPairs - inversions - tiePairs;
+        double denominator = Math.sqrt((double) totalPairs * (totalPairs - tiePairs));
+        double kendallTau = denominator > 0 ? (concordant - inversions) / denominator : 1.0;
+
+        // 5. 변위 (처리 순위 - 도착 순위)
+        long[] histogram = new long[HISTOGRAM_LABELS.length];
+        long maxDisplacement = 0;
+        long displacementSum = 0;
+        for (int i = 0; i < n; i++) {
+            int processingRank = lowerBound(sortedSequences, sequences[i]);
+            long displacement = Math.abs((long) processingRank - i);
+            maxDisplacement = Math.max(maxDisplacement, displacement);
+            displacementSum += displacement;
+            histogram[histogramBucket(displacement)]++;
+        }
+
+        Map<String, Long> displacementHistogram = new LinkedHashMap<>();
+        for (int b = 0; b < HISTOGRAM_LABELS.length; b++) {
+            displacementHistogram.put(HISTOGRAM_LABELS[b], histogram[b]);
+        }
+
+        // 6. 파티션 내부 역전 (오프셋 순서 기준, CreateTime이면 도착 순서와 다를 수 있음)
+        List<OrderAnalysisReport.PartitionOrder> partitionOrders = analyzePartitions(sequences, partitions, offsets);
+
+        double orderAccuracy = totalPairs > 0 ? 100.0 * (totalPairs - inversions) / totalPairs : 100.0;
+
+        return OrderAnalysisReport.builder()
+                .campaignId(campaignId)
+                .totalRecords(n)
+                .totalPairs(totalPairs)
+                .inversions(inversions)
+                .sequenceTiePairs(tiePairs)
+                .kendallTau(kendallTau)
+                .orderAccuracy(String.format("%.4f%%", orderAccuracy))
+                .maxDisplacement(maxDisplacement)
+                .meanDisplacement(n > 0 ? (double) displacementSum / n : 0.0)
+                .displacementHistogram(displacementHistogram)
+                .partitions(partitionOrders)
+                .queryTimeMs(System.currentTimeMillis() - startTime)
+                .build();
+    }
+
+    /**
+     * 파티션별 역전 쌍 수 (오프셋 순서 vs 처리 순서)
+     */
+    private List<OrderAnalysisReport.PartitionOrder> analyzePartitions(long[] sequences, int[] partitions, long[] offsets) {
+        int slots = 0;
+        for (int partition : partitions) {
+            slots = Math.max(slots, partition + 1);
+        }
+
+        int[] counts = new int[slots];
+        for (int partition : partitions) {
+            counts[partition]++;
+        }
+
+        long[][] perPartition = new long[slots][];
+        long[][] partitionOffsets = new long[slots][];
+        for (int p = 0; p < slots; p++) {
+            perPartition[p] = new long[counts[p]];
+            partitionOffsets[p] = new long[counts[p]];
+        }
+        int[] fill = new int[slots];
+        for (int i = 0; i < sequences.length; i++) {
+            int p = partitions[i];
+            partitionOffsets[p][fill[p]] = offsets[i];
+            perPartition[p][fill[p]++] = sequences[i];
+        }
+        for (int p = 0; p < slots; p++) {
+            perPartition[p] = orderByOffset(perPartition[p], partitionOffsets[p]);
+        }
+
+        List<OrderAnalysisReport.PartitionOrder> result = new ArrayList<>();
+        for (int p = 0; p < slots; p++) {
+            if (counts[p] == 0) {
+                continue;
+            }
+            result.add(new OrderAnalysisReport.PartitionOrder(p, counts[p], countInversions(perPartition[p])));
+        }
+        return result;
+    }
+
+    /**
+     * 역전 쌍 수 계산 (병합 정렬, O(n log n))
+     * i < j 이고 values[i] > values[j] 인 쌍의 수 (동률은 역전 아님)
+     * 주의: 입력 배열은 정렬됨
+     */
+    public static long countInversions(long[] values) {
+        if (values.length < 2) {
+            return 0L;
+        }
+        long[] buffer = new long[values.length];
+        long inversions = 0;
+
+        // 상향식 병합 정렬 (재귀 없이 수백만 건 처리)
+        for (int width = 1; width < values.length; width <<= 1) {
+            for (int left = 0; left < values.length - width; left += width << 1) {
+                int mid = left + width;
+                int right = Math.min(left + (width << 1), values.length);
+                inversions += merge(values, buffer, left, mid, right);
+            }
+        }
+        return inversions;
+    }
+
+    /**
+     * 처리 순번을 오프셋 순서로 재배치 (파티션 내 오프셋은 유일)
+     * 이미 오프셋 순이면 그대로 반환
+     */
+    static long[] orderByOffset(long[] sequences, long[] offsets) {
+        boolean sorted = true;
+        for (int i = 1; i < offsets.length && sorted; i++) {
+            sorted = offsets[i - 1] < offsets[i];
+        }
+        if (sorted) {
+            return sequences;
+        }
+
+        long[] sortedOffsets = offsets.clone();
+        Arrays.sort(sortedOffsets);
+        long[] ordered = new long[sequences.length];
+        for (int i = 0; i < sequences.length; i++) {
+            ordered[Arrays.binarySearch(sortedOffsets, offsets[i])] = sequences[i];
+        }
+        return ordered;
+    }
+
+    private static long merge(long[] values, long[] buffer, int left, int mid, int right) {
+        System.arraycopy(values, left, buffer, left, right - left);
+
+        long inversions = 0;
+        int i = left;
+        int j = mid;
+        int k = left;
+        while (i < mid && j < right) {
+            if (buffer[i] <= buffer[j]) {
+                values[k++] = buffer[i++];
+            } else {
+                // 왼쪽에 남은 (mid - i)개 모두 buffer[j]보다 큼
+                inversions += mid - i;
+                values[k++] = buffer[j++];
+            }
+        }
+        while (i < mid) {
+            values[k++] = buffer[i++];
+        }
+        while (j < right) {
+            values[k++] = buffer[j++];
+        }
+        return inversions;
+    }
+
+    /**
+     * 정렬된 배열에서 같은 값 쌍의 수
+     */
+    private static long countTiePairs(long[] sorted) {
+        long ties = 0;
+        int run = 1;
+        for (int i = 1; i <= sorted.length; i++) {
+            if (i < sorted.length && sorted[i] == sorted[i - 1]) {
+                run++;
+            } else {
+                ties += (long) run * (run - 1) / 2;
+                run = 1;
+            }
+        }
+        return ties;
+    }
+
+    /**
+     * 정렬된 배열에서 key 이상인 첫 위치
+     */
+    private static int lowerBound(long[] sorted, long key) {
+        int low = 0;
+        int high = sorted.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorted[mid] < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static int histogramBucket(long displacement) {
+        if (displacement == 0) {
+            return 0;
+        }
+        if (displacement == 1) {
+            return 1;
+        }
+        int digits = (int) Math.log10(displacement) + 1; // 2-9 → 1자리, 10-99 → 2자리
+        return Math.min(digits + 1, HISTOGRAM_LABELS.length - 1);
+    }
+}
@@ -0,0 +1,383 @@
+package io.eventdriven.batchkafka.application.analysis;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 참여 이력 컬럼 압축 아카이브 포맷 (종료 캠페인 1개 = 파일 1개)
+ *
+ * === 행 순서 ===
+ * Kafka 메타데이터가 있는 행을 도착 순서(타임스탬프 → 파티션 → 오프셋)로 먼저,
+ * 메타데이터가 없는 행(동기 참여)을 id 순으로 뒤에 배치
+ *
+ * === 레이아웃 ===
+ * 헤더: magic, version, campaignId, rowCount, kafkaRowCount, successCount, 파티션 사전
+ * 컬럼: [길이 + 바이트] × 7
+ * - status      : 1비트/행
+ * - partition   : 사전 코드 비트 패킹 (파티션 수에 맞는 최소 비트, Kafka 행만)
+ * - offset      : 같은 파티션 직전 오프셋 대비 델타 (zigzag varint, 대부분 1바이트)
+ * - timestamp   : 직전 행 대비 델타 (zigzag varint, Kafka 행만)
+ * - userId      : 직전 행 대비 델타 (zigzag varint)
+ * - sequence    : 직전 행 대비 델타 (zigzag varint, 없으면 NO_SEQUENCE)
+ * - createdAt   : epoch ms, 직전 행 대비 델타 (zigzag varint)
+ */
+public final class ParticipationArchiveCodec {
+
+    static final int MAGIC = 0x50484331; // "PHC1"
+    static final int VERSION = 1;
+
+    private ParticipationArchiveCodec() {
+    }
+
+    /**
+     * 아카이브 헤더 요약
+     */
+    public record Header(long campaignId, int rowCount, int kafkaRowCount, long successCount) {
+
+        public long failCount() {
+            return rowCount - successCount;
+        }
+    }
+
+    /**
+     * 행 콜백 (스캔용)
+     */
+    @FunctionalInterface
+    public interface RowVisitor {
+        void visit(long userId, boolean success, long createdAtMillis);
+    }
+
+    // ===================== 쓰기 =====================
+
+    /**
+     * 아카이브 인코더 - Kafka 행을 모두 추가한 뒤 메타데이터 없는 행을 추가해야 함
+     */
+    public static class Writer {
+
+        private final long campaignId;
+
+        private final BitWriter statusBits = new BitWriter();
+        private final VarintWriter offsets = new VarintWriter();
+        private final VarintWriter timestamps = new VarintWriter();
+        private final VarintWriter userIds = new VarintWriter();
+        private final VarintWriter sequences = new VarintWriter();
+        private final VarintWriter createdAts = new VarintWriter();
+
+        // 파티션 사전 (등장 순서) - 코드는 인코딩 끝에 비트 폭이 정해지므로 임시로 int 배열에 보관
+        private final Map<Integer, Integer> dictionary = new HashMap<>();
+        private int[] dictionaryValues = new int[8];
+        private int[] codes = new int[1024];
+        private long[] lastOffsetByCode = new long[8];
+
+        private int rowCount = 0;
+        private int kafkaRowCount = 0;
+        private long successCount = 0;
+        private boolean kafkaSectionClosed = false;
+
+        private long lastTimestamp = 0;
+        private long lastUserId = 0;
+        private long lastSequence = 0;
+        private long lastCreatedAt = 0;
+
+        public Writer(long campaignId) {
+            this.campaignId = campaignId;
+        }
+
+        public void addKafkaRow(long userId, int partition, long offset, long timestamp,
+                                long sequence, boolean success, long createdAtMillis) {
+            if (kafkaSectionClosed) {
+                throw new IllegalStateException("Kafka 메타데이터 행은 메타데이터 없는 행보다 먼저 추가해야 합니다.");
+            }
+            int code = dictionary.computeIfAbsent(partition, this::newCode);
+            if (kafkaRowCount == codes.length) {
+                codes = Arrays.copyOf(codes, codes.length * 2);
+            }
+            codes[kafkaRowCount++] = code;
+
+            offsets.writeZigzag(offset - lastOffsetByCode[code]);
+            lastOffsetByCode[code] = offset;
+            timestamps.writeZigzag(timestamp - lastTimestamp);
+            lastTimestamp = timestamp;
+
+            addCommon(userId, sequence, success, createdAtMillis);
+        }
+
+        public void addPlainRow(long userId, long sequence, boolean success, long createdAtMillis) {
+            kafkaSectionClosed = true;
+            addCommon(userId, sequence, success, createdAtMillis);
+        }
+
+        private int newCode(int partition) {
+            int code = dictionary.size();
+            if (code == dictionaryValues.length) {
+                dictionaryValues = Arrays.copyOf(dictionaryValues, code * 2);
+                lastOffsetByCode = Arrays.copyOf(lastOffsetByCode, code * 2);
+            }
+            dictionaryValues[code] = partition;
+            return code;
+        }
+
+        private void addCommon(long userId, long sequence, boolean success, long createdAtMillis) {
+            statusBits.write(success ? 1 : 0, 1);
+            if (success) {
+                successCount++;
+            }
+            userIds.writeZigzag(userId - lastUserId);
+            lastUserId = userId;
+            sequences.writeZigzag(sequence - lastSequence);
+            lastSequence = sequence;
+            createdAts.writeZigzag(createdAtMillis - lastCreatedAt);
+            lastCreatedAt = createdAtMillis;
+            rowCount++;
+        }
+
+        public Header header() {
+            return new Header(campaignId, rowCount, kafkaRowCount, successCount);
+        }
+
+        public void writeTo(OutputStream out) throws IOException {
+            int dictionarySize = dictionary.size();
+            int width = bitWidth(dictionarySize);
+            BitWriter partitionBits = new BitWriter();
+            for (int i = 0; i < kafkaRowCount; i++) {
+                partitionBits.write(codes[i], width);
+            }
+
+            DataOutputStream data = new DataOutputStream(out);
+            data.writeInt(MAGIC);
+            data.writeInt(VERSION);
+            data.writeLong(campaignId);
+            data.writeInt(rowCount);
+            data.writeInt(kafkaRowCount);
+            data.writeLong(successCount);
+            data.writeInt(dictionarySize);
+            for (int code = 0; code < dictionarySize; code++) {
+                data.writeInt(dictionaryValues[code]);
+            }
+
+            writeColumn(data, statusBits.toByteArray());
+            writeColumn(data, partitionBits.toByteArray());
+            writeColumn(data, offsets.toByteArray());
+            writeColumn(data, timestamps.toByteArray());
+            writeColumn(data, userIds.toByteArray());
+            writeColumn(data, sequences.toByteArray());
+            writeColumn(data, createdAts.toByteArray());
+            data.flush();
+        }
+
+        private void writeColumn(DataOutputStream data, byte[] column) throws IOException {
+            data.writeInt(column.length);
+            data.write(column);
+        }
+    }
+
+    // ===================== 읽기 =====================
+
+    /**
+     * 헤더만 읽기
+     */
+    public static Header readHeader(ByteBuffer buffer) {
+        ByteBuffer in = buffer.duplicate();
+        checkMagic(in);
+        return new Header(in.getLong(), in.getInt(), in.getInt(), in.getLong());
+    }
+
+    /**
+     * Kafka 메타데이터가 있는 행을 도착 순서 컬럼 버퍼로 복원 (순서 분석/공정성 감사용)
+     */
+    public static ArrivalOrderColumns readArrivalOrder(ByteBuffer buffer) {
+        Columns columns = Columns.open(buffer);
+        ArrivalOrderColumns result = new ArrivalOrderColumns(columns.header.kafkaRowCount());
+
+        long[] lastOffsetByCode = new long[columns.dictionary.length];
+        long timestamp = 0;
+        long userId = 0;
+        long sequence = 0;
+        for (int i = 0; i < columns.header.kafkaRowCount(); i++) {
+            int code = (int) columns.partitions.read(columns.partitionWidth);
+            long offset = lastOffsetByCode[code] + columns.offsets.readZigzag();
+            lastOffsetByCode[code] = offset;
+            timestamp += columns.timestamps.readZigzag();
+            userId += columns.userIds.readZigzag();
+            sequence += columns.sequences.readZigzag();
+            columns.createdAts.readZigzag(); // 순서 분석에는 사용하지 않음
+            boolean success = columns.statuses.read(1) == 1;
+
+            result.add(userId, columns.dictionary[code], offset, timestamp, sequence,
+                    success ? ArrivalOrderColumns.STATUS_SUCCESS : ArrivalOrderColumns.STATUS_FAIL);
+        }
+        return result;
+    }
+
+    /**
+     * 전체 행 순회 (통계용 - userId / 성공 여부 / 처리 시각만 복원)
+     */
+    public static void scan(ByteBuffer buffer, RowVisitor visitor) {
+        Columns columns = Columns.open(buffer);
+        long userId = 0;
+        long createdAt = 0;
+        for (int i = 0; i < columns.header.rowCount(); i++) {
+            userId += columns.userIds.readZigzag();
+            createdAt += columns.createdAts.readZigzag();
+            visitor.visit(userId, columns.statuses.read(1) == 1, createdAt);
+        }
+    }
+
+    private static void checkMagic(ByteBuffer in) {
+        if (in.getInt() != MAGIC) {
+            throw new IllegalStateException("참여 이력 아카이브 파일이 아닙니다.");
+        }
+        int version = in.getInt();
+        if (version != VERSION) {
+            throw new IllegalStateException("지원하지 않는 아카이브 버전입니다: " + version);
+        }
+    }
+
+    /**
+     * 컬럼별 독립 커서 (매핑된 버퍼를 복사하지 않고 slice로 공유)
+     */
+    private static final class Columns {
+        Header header;
+        int[] dictionary;
+        int partitionWidth;
+        BitReader statuses;
+        BitReader partitions;
+        VarintReader offsets;
+        VarintReader timestamps;
+        VarintReader userIds;
+        VarintReader sequences;
+        VarintReader createdAts;
+
+        static Columns open(ByteBuffer buffer) {
+            ByteBuffer in = buffer.duplicate();
+            checkMagic(in);
+
+            Columns columns = new Columns();
+            columns.header = new Header(in.getLong(), in.getInt(), in.getInt(), in.getLong());
+            columns.dictionary = new int[in.getInt()];
+            for (int code = 0; code < columns.dictionary.length; code++) {
+                columns.dictionary[code] = in.getInt();
+            }
+            columns.partitionWidth = bitWidth(columns.dictionary.length);
+
+            columns.statuses = new BitReader(nextColumn(in));
+            columns.partitions = new BitReader(nextColumn(in));
+            columns.offsets = new VarintReader(nextColumn(in));
+            columns.timestamps = new VarintReader(nextColumn(in));
+            columns.userIds = new VarintReader(nextColumn(in));
+            columns.sequences = new VarintReader(nextColumn(in));
+            columns.createdAts = new VarintReader(nextColumn(in));
+            return columns;
+        }
+
+        private static ByteBuffer nextColumn(ByteBuffer in) {
+            int length = in.getInt();
+            ByteBuffer column = in.slice(in.position(), length);
+            in.position(in.position() + length);
+            return column;
+        }
+    }
+
+    // ===================== 비트/varint 인코딩 =====================
+
+    static int bitWidth(int dictionarySize) {
+        return dictionarySize <= 1 ? 0 : 32 - Integer.numberOfLeadingZeros(dictionarySize - 1);
+    }
+
+    private static final class VarintWriter extends ByteArrayOutputStream {
+
+        VarintWriter() {
+            super(4096);
+        }
+
+        void writeZigzag(long value) {
+            long v = (value << 1) ^ (value >> 63);
+            while ((v & ~0x7FL) != 0) {
+                write((int) ((v & 0x7F) | 0x80));
+                v >>>= 7;
+            }
+            write((int) v);
+        }
+    }
+
+    private static final class VarintReader {
+        private final ByteBuffer in;
+
+        VarintReader(ByteBuffer in) {
+            this.in = in;
+        }
+
+        long readZigzag() {
+            long v = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = in.get();
+                v |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            return (v >>> 1) ^ -(v & 1);
+        }
+    }
+
+    /**
+     * LSB 우선 비트 패킹
+     */
+    private static final class BitWriter {
+        private final ByteArrayOutputStream out = new ByteArrayOutputStream(1024);
+        private long buffer = 0;
+        private int bits = 0;
+
+        void write(long value, int width) {
+            if (width == 0) {
+                return;
+            }
+            buffer |= (value & ((1L << width) - 1)) << bits;
+            bits += width;
+            while (bits >= 8) {
+                out.write((int) (buffer & 0xFF));
+                buffer >>>= 8;
+                bits -= 8;
+            }
+        }
+
+        byte[] toByteArray() {
+            if (bits > 0) {
+                out.write((int) (buffer & 0xFF));
+                buffer = 0;
+                bits = 0;
+            }
+            return out.toByteArray();
+        }
+    }
+
+    private static final class BitReader {
+        private final ByteBuffer in;
+        private long buffer = 0;
+        private int bits = 0;
+
+        BitReader(ByteBuffer in) {
+            this.in = in;
+        }
+
+        long read(int width) {
+            if (width == 0) {
+                return 0;
+            }
+            while (bits < width) {
+                buffer |= (long) (in.get() & 0xFF) << bits;
+                bits += 8;
+            }
+            long value = buffer & ((1L << width) - 1);
+            buffer >>>= width;
+            bits -= width;
+            return value;
+        }
+    }
+}
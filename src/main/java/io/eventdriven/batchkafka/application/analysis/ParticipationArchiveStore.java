@@ -0,0 +1,184 @@
+package io.eventdriven.batchkafka.application.analysis;
+
+import io.eventdriven.batchkafka.config.BatchProperties;
+import io.eventdriven.batchkafka.domain.entity.ParticipationArchive;
+import io.eventdriven.batchkafka.domain.repository.ParticipationArchiveRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * 참여 이력 아카이브 파일 저장소
+ * - 파일: {batch.archive.directory}/campaign-{id}.phc (ParticipationArchiveCodec 포맷)
+ * - 읽기는 메모리 매핑(READ_ONLY) 후 컬럼별로 순차 디코딩 (힙 복사 없음)
+ *
+ * 아카이브 파일이 원본 이력을 대체하므로 디렉토리는 모든 노드가 같이 보는 영구 공유 볼륨이어야 함
+ * (운영: 호스트에 마운트한 공유 볼륨을 컨테이너에 연결 - deploy/scripts/applicationStart.sh)
+ * - 메타데이터에는 디렉토리 기준 파일 이름만 저장 → 노드마다 마운트 경로가 달라도 같은 파일을 가리킴
+ */
+@Slf4j
+@Component
+public class ParticipationArchiveStore {
+
+    private final ParticipationArchiveRepository archiveRepository;
+    private final Path directory;
+
+    public ParticipationArchiveStore(ParticipationArchiveRepository archiveRepository,
+                                     BatchProperties batchProperties) {
+        this.archiveRepository = archiveRepository;
+        this.directory = Path.of(batchProperties.getArchive().getDirectory());
+    }
+
+    public Optional<ParticipationArchive> find(Long campaignId) {
+        return archiveRepository.findById(campaignId);
+    }
+
+    /**
+     * 아카이브 파일 기록 (임시 파일 → fsync → 원자적 이동) 후 헤더 재검증
+     *
+     * @return 기록된 아카이브 파일 경로
+     */
+    public Path write(ParticipationArchiveCodec.Writer writer) throws IOException {
+        ParticipationArchiveCodec.Header expected = writer.header();
+        Files.createDirectories(directory);
+
+        Path target = pathOf(expected.campaignId());
+        Path temp = directory.resolve(target.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel), 64 * 1024);
+            writer.writeTo(out);
+            out.flush();
+            // 원본 삭제 전에 저장소까지 내려가 있어야 함 (공유 볼륨 쓰기 지연 포함)
+            channel.force(true);
+        }
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        ParticipationArchiveCodec.Header written = ParticipationArchiveCodec.readHeader(map(target));
+        if (!written.equals(expected)) {
+            throw new IllegalStateException("아카이브 검증 실패 - 기대: " + expected + ", 실제: " + written);
+        }
+        return target;
+    }
+
+    /**
+     * 저장된 아카이브를 다시 읽어 메타데이터와 대조 (원본 행 삭제 전 확인)
+     * - 파일 크기, 헤더, 전체 행 디코딩 결과(행 수/성공 수)가 모두 일치해야 함
+     *
+     * @throws IllegalStateException 파일이 없거나(다른 노드 로컬 경로 등) 내용이 메타데이터와 다를 때
+     */
+    public void verifyStored(ParticipationArchive archive) {
+        Path path = resolve(archive);
+        ByteBuffer buffer = map(path);
+        if (buffer.capacity() != archive.getFileBytes()) {
+            throw new IllegalStateException(String.format("아카이브 파일 크기 불일치 - campaignId: %d, 메타데이터: %d bytes, 파일: %d bytes",
+                    archive.getCampaignId(), archive.getFileBytes(), buffer.capacity()));
+        }
+
+        ParticipationArchiveCodec.Header header = ParticipationArchiveCodec.readHeader(buffer);
+        long[] counts = new long[2];
+        ParticipationArchiveCodec.scan(buffer, (userId, success, createdAtMillis) -> {
+            counts[0]++;
+            if (success) {
+                counts[1]++;
+            }
+        });
+
+        if (header.campaignId() != archive.getCampaignId()
+                || header.rowCount() != archive.getRowCount() || counts[0] != archive.getRowCount()
+                || header.successCount() != archive.getSuccessCount() || counts[1] != archive.getSuccessCount()) {
+            throw new IllegalStateException(String.format(
+                    "아카이브 읽기 검증 실패 - campaignId: %d, 메타데이터(행 %d, 성공 %d), 헤더(행 %d, 성공 %d), 디코딩(행 %d, 성공 %d)",
+                    archive.getCampaignId(), archive.getRowCount(), archive.getSuccessCount(),
+                    header.rowCount(), header.successCount(), counts[0], counts[1]));
+        }
+    }
+
+    /**
+     * 아카이브에서 도착 순서 컬럼 버퍼 복원 (순서 분석/공정성 감사)
+     */
+    public ArrivalOrderColumns readArrivalOrder(ParticipationArchive archive) {
+        long startTime = System.currentTimeMillis();
+        ArrivalOrderColumns columns = ParticipationArchiveCodec.readArrivalOrder(map(resolve(archive)));
+        log.debug("📦 아카이브 스캔 - campaignId: {}, 행: {}, 소요: {}ms",
+                archive.getCampaignId(), columns.size(), System.currentTimeMillis() - startTime);
+        return columns;
+    }
+
+    /**
+     * 아카이브 통계 (전체 + 일자별 성공/실패 건수)
+     */
+    public Map<String, Object> summarize(ParticipationArchive archive) {
+        long startTime = System.currentTimeMillis();
+        ZoneId zone = ZoneId.systemDefault();
+
+        TreeMap<LocalDate, long[]> daily = new TreeMap<>();
+        ParticipationArchiveCodec.scan(map(resolve(archive)), (userId, success, createdAtMillis) -> {
+            LocalDate date = LocalDate.ofInstant(Instant.ofEpochMilli(createdAtMillis), zone);
+            daily.computeIfAbsent(date, d -> new long[2])[success ? 0 : 1]++;
+        });
+
+        List<Map<String, Object>> dailyStats = new ArrayList<>(daily.size());
+        daily.forEach((date, counts) -> dailyStats.add(Map.of(
+                "date", date.toString(),
+                "successCount", counts[0],
+                "failCount", counts[1],
+                "totalCount", counts[0] + counts[1]
+        )));
+
+        Map<String, Object> data = new HashMap<>();
+        data.put("campaignId", archive.getCampaignId());
+        data.put("archived", true);
+        data.put("rowCount", archive.getRowCount());
+        data.put("successCount", archive.getSuccessCount());
+        data.put("failCount", archive.getFailCount());
+        data.put("fileBytes", archive.getFileBytes());
+        data.put("bytesPerRow", archive.getRowCount() > 0
+                ? Math.round(archive.getFileBytes() * 100.0 / archive.getRowCount()) / 100.0
+                : 0.0);
+        data.put("archivedAt", archive.getArchivedAt());
+        data.put("dailyStats", dailyStats);
+        data.put("scanTimeMs", System.currentTimeMillis() - startTime);
+        return data;
+    }
+
+    Path pathOf(long campaignId) {
+        return directory.resolve("campaign-" + campaignId + ".phc");
+    }
+
+    /**
+     * 메타데이터 파일 경로 → 이 노드의 실제 경로 (이전 버전이 저장한 절대 경로는 그대로 사용)
+     */
+    private Path resolve(ParticipationArchive archive) {
+        return directory.resolve(archive.getFilePath());
+    }
+
+    private ByteBuffer map(Path path) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            // 매핑은 채널을 닫아도 유지됨
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        } catch (IOException e) {
+            throw new UncheckedIOException("아카이브 파일을 열 수 없습니다: " + path, e);
+        }
+    }
+}
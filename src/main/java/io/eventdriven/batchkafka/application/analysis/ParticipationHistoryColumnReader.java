@@ -0,0 +1,77 @@
+package io.eventdriven.batchkafka.application.analysis;
+
+import io.eventdriven.batchkafka.domain.entity.ParticipationArchive;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.util.Optional;
+
+/**
+ * 참여 이력 스트리밍 리더 (분석 전용)
+ * - JPA 엔티티/영속성 컨텍스트 없이 필요한 컬럼만 조회
+ * - MySQL 스트리밍 결과셋(fetchSize = Integer.MIN_VALUE)으로 한 행씩 읽어 primitive 배열에 적재
+ * - 정렬은 DB에서 수행 (도착 순서: kafka_timestamp → kafka_partition → kafka_offset)
+ * - 아카이브된 종료 캠페인은 DB 대신 컬럼 압축 파일에서 복원 (같은 순서로 저장됨)
+ */
+@Component
+public class ParticipationHistoryColumnReader {
+
+    private static final String ARRIVAL_ORDER_SQL = """
+            SELECT user_id, kafka_partition, kafka_offset, kafka_timestamp, processing_sequence, status
+            FROM participation_history
+            WHERE campaign_id = ?
+              AND kafka_timestamp IS NOT NULL
+              AND kafka_partition IS NOT NULL
+              AND kafka_offset IS NOT NULL
+            ORDER BY kafka_timestamp ASC, kafka_partition ASC, kafka_offset ASC
+            """;
+
+    private final JdbcTemplate streamingJdbcTemplate;
+    private final ParticipationArchiveStore archiveStore;
+
+    public ParticipationHistoryColumnReader(DataSource dataSource, ParticipationArchiveStore archiveStore) {
+        this.archiveStore = archiveStore;
+        this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        // MySQL Connector/J: forward-only + read-only + MIN_VALUE → 행 단위 스트리밍
+        this.streamingJdbcTemplate.setFetchSize(Integer.MIN_VALUE);
+    }
+
+    /**
+     * 캠페인 참여 이력을 도착 순서대로 컬럼 버퍼에 적재
+     *
+     * @param campaignId 캠페인 ID
+     * @return 도착 순서 컬럼 버퍼 (Kafka 메타데이터가 없는 행은 제외)
+     */
+    @Transactional(readOnly = true)
+    public ArrivalOrderColumns readArrivalOrder(Long campaignId) {
+        Optional<ParticipationArchive> archive = archiveStore.find(campaignId);
+        if (archive.isPresent()) {
+            return archiveStore.readArrivalOrder(archive.get());
+        }
+
+        ArrivalOrderColumns columns = new ArrivalOrderColumns();
+
+        streamingJdbcTemplate.query(ARRIVAL_ORDER_SQL, rs -> {
+            long sequence = rs.getLong("processing_sequence");
+            if (rs.wasNull()) {
+                sequence = ArrivalOrderColumns.NO_SEQUENCE;
+            }
+            byte status = "SUCCESS".equals(rs.getString("status"))
+                    ? ArrivalOrderColumns.STATUS_SUCCESS
+                    : ArrivalOrderColumns.STATUS_FAIL;
+
+            columns.add(
+                    rs.getLong("user_id"),
+                    rs.getInt("kafka_partition"),
+                    rs.getLong("kafka_offset"),
+                    rs.getLong("kafka_timestamp"),
+                    sequence,
+                    status
+            );
+        }, campaignId);
+
+        return columns;
+    }
+}
@@ -0,0 +1,186 @@
+package io.eventdriven.batchkafka.application.analysis;
+
+import io.eventdriven.batchkafka.config.BatchProperties;
+import io.eventdriven.batchkafka.domain.entity.WinnerList;
+import io.eventdriven.batchkafka.domain.repository.WinnerListRepository;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.OptionalLong;
+
+/**
+ * 당첨자 명단 파일 저장소
+ * - 파일: {batch.winners.directory}/campaign-{id}-winners.csv, campaign-{id}-winners.idx
+ * - 기록은 임시 파일 → fsync → 원자적 이동, 기록하면서 SHA-256 계산
+ * - 디렉토리는 모든 노드가 같이 보는 영구 공유 볼륨 (운영: deploy/scripts/applicationStart.sh가 마운트)
+ *   → 재배포 후에도, 요청을 받은 노드가 어디든 같은 파일을 읽음
+ * - 메타데이터에는 디렉토리 기준 파일 이름만 저장 (노드별 마운트 경로와 무관)
+ * - 외부 정렬 스필 파일은 공유 볼륨이 아닌 로컬 작업 디렉토리(batch.winners.work-directory)에 기록
+ *
+ * === 인덱스 포맷 (.idx) ===
+ * 헤더: magic(int) "WIX1", version(int), campaignId(long), count(long)
+ * 항목: [userId(long), rank(long)] × count, userId 오름차순 (고정 16바이트 → 이진 탐색)
+ */
+@Component
+public class WinnerListStore {
+
+    public static final int INDEX_MAGIC = 0x57495831; // "WIX1"
+    public static final int INDEX_VERSION = 1;
+    public static final int INDEX_HEADER_BYTES = 4 + 4 + 8 + 8;
+    public static final int INDEX_ENTRY_BYTES = 8 + 8;
+
+    private static final int BUFFER_BYTES = 64 * 1024;
+
+    private final WinnerListRepository winnerListRepository;
+    private final Path directory;
+    private final Path workRoot;
+
+    /**
+     * 기록된 파일 정보 (path: 디렉토리 기준 파일 이름)
+     */
+    public record StoredFile(String path, long bytes, String sha256) {
+    }
+
+    @FunctionalInterface
+    public interface FileBody {
+        void writeTo(DataOutputStream out) throws IOException;
+    }
+
+    public WinnerListStore(WinnerListRepository winnerListRepository, BatchProperties batchProperties) {
+        this.winnerListRepository = winnerListRepository;
+        this.directory = Path.of(batchProperties.getWinners().getDirectory());
+        this.workRoot = Path.of(batchProperties.getWinners().getWorkDirectory());
+    }
+
+    public Optional<WinnerList> find(Long campaignId) {
+        return winnerListRepository.findById(campaignId);
+    }
+
+    /**
+     * 스필 파일용 작업 디렉토리 (노드 로컬 - 잡이 끝나면 삭제)
+     */
+    public Path workDirectory(long campaignId, long jobExecutionId) {
+        return workRoot.resolve("tmp-" + campaignId + "-" + jobExecutionId);
+    }
+
+    /**
+     * 이 노드에서 명단 파일 2개를 모두 읽을 수 있는지 (크기까지 메타데이터와 일치)
+     */
+    public boolean isAvailable(WinnerList winnerList) {
+        return sizeMatches(directory.resolve(winnerList.getCsvPath()), winnerList.getCsvBytes())
+                && sizeMatches(directory.resolve(winnerList.getIndexPath()), winnerList.getIndexBytes());
+    }
+
+    /**
+     * 기록한 파일을 저장소에서 다시 읽어 크기/SHA-256 확인 (메타데이터 저장 전)
+     *
+     * @throws IllegalStateException 기록한 내용과 다를 때
+     */
+    public void verifyStored(StoredFile file) throws IOException {
+        Path path = directory.resolve(file.path());
+        MessageDigest digest = sha256();
+        long bytes;
+        try (InputStream in = new DigestInputStream(Files.newInputStream(path), digest)) {
+            bytes = in.transferTo(OutputStream.nullOutputStream());
+        }
+        String sha256 = HexFormat.of().formatHex(digest.digest());
+        if (bytes != file.bytes() || !sha256.equals(file.sha256())) {
+            throw new IllegalStateException(String.format("당첨자 명단 파일 읽기 검증 실패 - %s, 기록(%d bytes, %s) ≠ 저장소(%d bytes, %s)",
+                    path, file.bytes(), file.sha256(), bytes, sha256));
+        }
+    }
+
+    public StoredFile writeCsv(long campaignId, FileBody body) throws IOException {
+        return write(directory.resolve("campaign-" + campaignId + "-winners.csv"), body);
+    }
+
+    public StoredFile writeIndex(long campaignId, FileBody body) throws IOException {
+        return write(directory.resolve("campaign-" + campaignId + "-winners.idx"), body);
+    }
+
+    /**
+     * userId의 당첨 순위 (인덱스 파일 이진 탐색, 1부터)
+     */
+    public OptionalLong findRank(WinnerList winnerList, long userId) {
+        ByteBuffer index = map(directory.resolve(winnerList.getIndexPath()));
+        if (index.getInt(0) != INDEX_MAGIC || index.getInt(4) != INDEX_VERSION) {
+            throw new IllegalStateException("당첨자 인덱스 포맷이 올바르지 않습니다: " + winnerList.getIndexPath());
+        }
+        long low = 0;
+        long high = index.getLong(16) - 1;
+        while (low <= high) {
+            long mid = (low + high) >>> 1;
+            int position = Math.toIntExact(INDEX_HEADER_BYTES + mid * INDEX_ENTRY_BYTES);
+            long midUserId = index.getLong(position);
+            if (midUserId < userId) {
+                low = mid + 1;
+            } else if (midUserId > userId) {
+                high = mid - 1;
+            } else {
+                return OptionalLong.of(index.getLong(position + 8));
+            }
+        }
+        return OptionalLong.empty();
+    }
+
+    private StoredFile write(Path target, FileBody body) throws IOException {
+        Files.createDirectories(directory);
+        Path temp = directory.resolve(target.getFileName() + ".tmp");
+
+        MessageDigest digest = sha256();
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                    new DigestOutputStream(Channels.newOutputStream(channel), digest), BUFFER_BYTES));
+            body.writeTo(out);
+            out.flush();
+            channel.force(true);
+        }
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return new StoredFile(target.getFileName().toString(), Files.size(target),
+                HexFormat.of().formatHex(digest.digest()));
+    }
+
+    private static boolean sizeMatches(Path path, long bytes) {
+        try {
+            return Files.size(path) == bytes;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private ByteBuffer map(Path path) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            // 매핑은 채널을 닫아도 유지됨
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        } catch (IOException e) {
+            throw new UncheckedIOException("당첨자 인덱스 파일을 열 수 없습니다: " + path, e);
+        }
+    }
+}
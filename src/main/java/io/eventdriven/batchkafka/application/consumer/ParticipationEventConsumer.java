@@ -3,24 +3,39 @@ package io.eventdriven.batchkafka.application.consumer;
 import tools.jackson.core.JacksonException;
 import tools.jackson.databind.json.JsonMapper;
 import io.eventdriven.batchkafka.api.exception.business.CampaignNotFoundException;
+import io.eventdriven.batchkafka.application.analysis.OnlineOrderTracker;
 import io.eventdriven.batchkafka.application.event.ParticipationEvent;
+import io.eventdriven.batchkafka.application.event.ParticipationResultEvent;
+import io.eventdriven.batchkafka.application.service.CampaignLiveStatusService;
+import io.eventdriven.batchkafka.application.service.ConsumerThroughputMonitor;
 import io.eventdriven.batchkafka.application.service.ProcessingLogService;
 import io.eventdriven.batchkafka.application.service.RedisStockService;
+import io.eventdriven.batchkafka.application.service.TrafficSeriesService;
+import io.eventdriven.batchkafka.config.KafkaConfig;
 import io.eventdriven.batchkafka.domain.entity.Campaign;
 import io.eventdriven.batchkafka.domain.entity.ParticipationHistory;
 import io.eventdriven.batchkafka.domain.entity.ParticipationStatus;
+import io.eventdriven.batchkafka.domain.repository.CampaignLiveCounterRepository;
+import io.eventdriven.batchkafka.domain.repository.CampaignMinuteStatsRepository;
 import io.eventdriven.batchkafka.domain.repository.CampaignRepository;
 import io.eventdriven.batchkafka.domain.repository.ParticipationHistoryRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -40,10 +55,20 @@ public class ParticipationEventConsumer {
     private final KafkaTemplate<String, String> kafkaTemplate;
     private final ProcessingLogService processingLogService;
     private final RedisStockService redisStockService;
+    private final ConsumerThroughputMonitor consumerThroughputMonitor;
+    private final OnlineOrderTracker onlineOrderTracker;
+    private final CampaignLiveStatusService campaignLiveStatusService;
+    private final CampaignLiveCounterRepository campaignLiveCounterRepository;
+    private final CampaignMinuteStatsRepository campaignMinuteStatsRepository;
+    private final TrafficSeriesService trafficSeriesService;
 
     private static final String DLQ_TOPIC = "campaign-participation-topic.dlq";
     private static final int LOG_INTERVAL = 10000; // 10000건마다 로그 (10만 트래픽 최적화)
 
+    // 처리 결과 토픽 발행 여부 (Kafka 기반 재집계 원본)
+    @Value("${consumer.result-events.enabled:true}")
+    private boolean resultEventsEnabled;
+
     // 처리 건수 카운터 (메모리 기반, 재시작 시 초기화)
     private long processedCount = 0;
     private long successCount = 0;
@@ -58,14 +83,26 @@ public class ParticipationEventConsumer {
             containerFactory = "kafkaListenerContainerFactory"
     )
     @Transactional
-    public void consumeParticipationEvent(List<ConsumerRecord<String, String>> records, Acknowledgment acknowledgment) {
+    public void consumeParticipationEvent(List<ConsumerRecord<String, String>> records, Acknowledgment acknowledgment,
+                                          Consumer<?, ?> consumer) {
         log.info("📨 Kafka 배치 수신. 사이즈: {}건", records.size());
 
         try {
+            CampaignLiveStatusService.Batch liveStatus = campaignLiveStatusService.newBatch();
+            List<ParticipationResultEvent> results = new ArrayList<>(records.size());
             for (ConsumerRecord<String, String> record : records) {
-                processRecord(record);
+                processRecord(record, liveStatus, results);
             }
+            // 캠페인별 누적 카운터: 배치당 캠페인 1회 UPSERT (이력 INSERT와 같은 트랜잭션, 행 잠금은 커밋 직전에만)
+            liveStatus.forEachCounts(campaignLiveCounterRepository::addCounts);
+            // 분 단위 롤업: 캠페인 × 분 × 상태당 1회 UPSERT (일/시간 통계가 원본 스캔 없이 합산)
+            liveStatus.forEachMinuteCounts((campaignId, minute, status, count) ->
+                    campaignMinuteStatsRepository.addCount(campaignId, minute, status.name(), count));
+            publishLiveStatusAfterCommit(liveStatus);
+            publishResultsAfterCommit(results);
             acknowledgment.acknowledge();
+            consumerThroughputMonitor.record(records.size());
+            consumerThroughputMonitor.recordLag(currentLag(records, consumer)); // 대기열 입장 속도 산정용
             log.info("✅ 배치 처리 완료 및 커밋. 사이즈: {}건", records.size());
 
         } catch (Exception e) {
@@ -76,10 +113,24 @@ public class ParticipationEventConsumer {
         }
     }
 
+    /**
+     * 배치에 포함된 파티션별 lag (Consumer가 마지막 fetch에서 받은 로그 끝 오프셋 기준, 브로커 호출 없음)
+     */
+    private Map<Integer, Long> currentLag(List<ConsumerRecord<String, String>> records, Consumer<?, ?> consumer) {
+        Map<Integer, Long> lagByPartition = new HashMap<>();
+        for (ConsumerRecord<String, String> record : records) {
+            lagByPartition.computeIfAbsent(record.partition(), partition -> consumer
+                    .currentLag(new TopicPartition(record.topic(), partition))
+                    .orElse(0L));
+        }
+        return lagByPartition;
+    }
+
     /**
      * 단일 레코드 처리
      */
-    private void processRecord(ConsumerRecord<String, String> record) {
+    private void processRecord(ConsumerRecord<String, String> record, CampaignLiveStatusService.Batch liveStatus,
+                               List<ParticipationResultEvent> results) {
         String message = record.value();
         try {
             // 1. JSON 파싱
@@ -93,12 +144,20 @@ public class ParticipationEventConsumer {
             // 3. 처리 순서 번호 부여 (순서 보장 증명용 - Consumer가 처리하는 순서)
             long sequence = processingSequence.incrementAndGet();
             event.setProcessingSequence(sequence);
+            onlineOrderTracker.record(record.timestamp()); // 실시간 순서 지표 (슬라이딩 윈도우)
 
             // 4. 비즈니스 로직 실행
-            ParticipationStatus status = processParticipation(event);
+            ParticipationHistory history = processParticipation(event);
+            ParticipationStatus status = history.getStatus();
 
             // 4. 카운터 업데이트 및 로깅
             updateCountersAndLog(event, status);
+            long processedAt = System.currentTimeMillis();
+            liveStatus.add(event.getCampaignId(), status, processedAt - record.timestamp(), history.getCreatedAt());
+            // 결과 이벤트 시각은 created_at 그대로 → Kafka 재집계의 날짜 구분이 분 롤업(campaign_minute_stats)과 일치
+            long createdAtMillis = history.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+            results.add(new ParticipationResultEvent(event.getCampaignId(), event.getUserId(), status.name(),
+                    createdAtMillis, record.partition(), record.offset()));
 
         } catch (IllegalArgumentException | CampaignNotFoundException e) {
             // JSON 파싱 오류 또는 캠페인 없음 등 복구 불가능한 단일 메시지 오류
@@ -111,6 +170,53 @@ public class ParticipationEventConsumer {
         // DataAccessException 등 다른 RuntimeException은 @Transactional에 의해 자동으로 롤백 처리됨
     }
     
+    /**
+     * 실시간 현황 반영 (트랜잭션 커밋 이후에만 - 롤백된 배치는 집계하지 않음)
+     */
+    private void publishLiveStatusAfterCommit(CampaignLiveStatusService.Batch liveStatus) {
+        if (liveStatus.isEmpty()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                campaignLiveStatusService.apply(liveStatus);
+                liveStatus.forEachCounts(trafficSeriesService::recordProcessed);
+            }
+        });
+    }
+
+    /**
+     * 처리 결과 토픽 발행 (트랜잭션 커밋 이후에만 - 롤백된 배치는 발행하지 않음)
+     * - 비동기 전송 (프로듀서 배치/linger로 묶여 전송), 실패는 로그만 남김
+     * - 결과 토픽 기반 재집계는 보조 경로이며 최종 기준은 participation_history
+     *   (발행 유실이 있으면 재집계가 분 롤업과 대조 단계에서 실패하고 campaign_stats를 덮어쓰지 않음)
+     */
+    private void publishResultsAfterCommit(List<ParticipationResultEvent> results) {
+        if (!resultEventsEnabled || results.isEmpty()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                for (ParticipationResultEvent result : results) {
+                    try {
+                        String payload = jsonMapper.writeValueAsString(result);
+                        kafkaTemplate.send(KafkaConfig.RESULT_TOPIC_NAME, String.valueOf(result.campaignId()), payload)
+                                .whenComplete((sendResult, ex) -> {
+                                    if (ex != null) {
+                                        log.warn("⚠️ 처리 결과 발행 실패 - campaignId: {}, userId: {}",
+                                                result.campaignId(), result.userId(), ex);
+                                    }
+                                });
+                    } catch (JacksonException e) {
+                        log.warn("⚠️ 처리 결과 직렬화 실패 - campaignId: {}", result.campaignId(), e);
+                    }
+                }
+            }
+        });
+    }
+
     /**
      * 메시지 파싱
      */
@@ -124,8 +230,10 @@ public class ParticipationEventConsumer {
 
     /**
      * 참여 처리 비즈니스 로직
+     *
+     * @return 저장된 참여 이력 (created_at = 분 롤업 버킷 기준)
      */
-    private ParticipationStatus processParticipation(ParticipationEvent event) {
+    private ParticipationHistory processParticipation(ParticipationEvent event) {
         // 1. Redis 원자적 재고 차감 (반환값: 0 이상=성공, -1=실패)
         Long remainingStock = redisStockService.decreaseStock(event.getCampaignId());
 
@@ -150,7 +258,7 @@ public class ParticipationEventConsumer {
         );
         participationHistoryRepository.save(history);
 
-        return status;
+        return history;
     }
     
     /**
@@ -0,0 +1,17 @@
+package io.eventdriven.batchkafka.application.event;
+
+/**
+ * 참여 처리 결과 이벤트 (campaign-participation-result-topic)
+ * - Consumer가 참여 이력 커밋 후 발행 (요청 토픽에는 성공/실패 결과가 없음)
+ * - Kafka 기반 재집계(kafkaAggregateParticipation)의 원본
+ *
+ * 요청 레코드가 재처리되면(커밋 후 ack 전 리밸런스 등) 같은 요청의 결과가 두 번 발행될 수 있으므로
+ * 원본 요청 레코드 위치(sourcePartition, sourceOffset)를 함께 실어 재집계 시 중복 제거 키로 사용
+ *
+ * @param processedAt 처리 시각 (epoch ms, participation_history.created_at 값 - 분 롤업 버킷과 같은 기준)
+ * @param sourcePartition 원본 요청 레코드 파티션 (campaign-participation-topic)
+ * @param sourceOffset 원본 요청 레코드 오프셋
+ */
+public record ParticipationResultEvent(Long campaignId, Long userId, String status, long processedAt,
+                                       Integer sourcePartition, Long sourceOffset) {
+}
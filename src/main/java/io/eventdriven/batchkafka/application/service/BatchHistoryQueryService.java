@@ -0,0 +1,316 @@
+package io.eventdriven.batchkafka.application.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 배치 실행 이력 조회 서비스 (BATCH_* 메타데이터 테이블 직접 조회)
+ *
+ * === 이력 (history) ===
+ * JobExplorer로 인스턴스 목록 → 인스턴스마다 실행 목록을 조회하면 N+1 쿼리 (새로고침마다 반복)
+ * - 인스턴스 + 최신 실행 + 파라미터를 JOIN 쿼리 1번으로 조회
+ * - JOB_INSTANCE_ID 내림차순 키셋 페이징 (beforeInstanceId, OFFSET 없음)
+ * - 페이지 단위 캐싱, 잡 시작/종료 시 BatchExecutionListener가 해당 잡 이름 캐시 무효화
+ *   (조회 중 무효화가 일어나면 그 조회 결과는 캐시에 넣지 않음 - 무효화 세대 비교)
+ *   (다른 인스턴스에서 실행된 잡은 무효화 신호가 없으므로 CACHE_TTL_MILLIS 후 만료)
+ *
+ * === 실행 추이 (trends) ===
+ * 최근 종료된 실행들의 소요 시간/처리 행 수/처리량을 한 번의 JOIN 쿼리로 조회하고
+ * 최근 실행이 이전 실행들의 중앙값보다 크게 느려졌는지(회귀), 제한 시간까지 여유가 얼마인지 계산
+ *
+ * 모든 조회는 읽기 전용 트랜잭션 → 복제본 라우팅 활성화 시 복제본에서 실행
+ */
+@Service
+@RequiredArgsConstructor
+public class BatchHistoryQueryService {
+
+    /**
+     * 회귀 판정 배수 (최근 실행 소요 시간 > 이전 실행 중앙값 × 배수)
+     */
+    private static final double REGRESSION_FACTOR = 1.5;
+
+    /**
+     * 회귀 판정에 필요한 최소 이전 실행 수
+     */
+    private static final int MIN_BASELINE_RUNS = 5;
+
+    /**
+     * 제한 시간 경고 비율 (최근 실행이 제한 시간의 80% 이상 사용)
+     */
+    private static final double TIMEOUT_WARNING_RATIO = 0.8;
+
+    // 행 수: 콜론 없는 스텝만 합산 (파티션 매니저 스텝이 워커 "step:partition" 합계를 이미 담고 있음)
+    // 가장 느린 스텝: 파티션 워커 중 최댓값 (파티션 없는 잡은 전체 스텝 중 최댓값)
+    private static final String TRENDS_SQL = """
+            SELECT e.JOB_EXECUTION_ID, e.STATUS, e.EXIT_CODE, e.START_TIME, e.END_TIME,
+                   TIMESTAMPDIFF(MICROSECOND, e.START_TIME, e.END_TIME) DIV 1000 AS duration_ms,
+                   COALESCE(SUM(CASE WHEN s.STEP_NAME NOT LIKE '%:%' THEN s.READ_COUNT END), 0) AS read_count,
+                   COALESCE(SUM(CASE WHEN s.STEP_NAME NOT LIKE '%:%' THEN s.WRITE_COUNT END), 0) AS write_count,
+                   COALESCE(
+                       MAX(CASE WHEN s.STEP_NAME LIKE '%:%'
+                                THEN TIMESTAMPDIFF(MICROSECOND, s.START_TIME, s.END_TIME) DIV 1000 END),
+                       MAX(TIMESTAMPDIFF(MICROSECOND, s.START_TIME, s.END_TIME) DIV 1000)
+                   ) AS slowest_step_ms
+            FROM BATCH_JOB_EXECUTION e
+            JOIN BATCH_JOB_INSTANCE i ON i.JOB_INSTANCE_ID = e.JOB_INSTANCE_ID
+            LEFT JOIN BATCH_STEP_EXECUTION s ON s.JOB_EXECUTION_ID = e.JOB_EXECUTION_ID
+            WHERE i.JOB_NAME = :jobName
+              AND e.START_TIME IS NOT NULL
+              AND e.END_TIME IS NOT NULL
+            GROUP BY e.JOB_EXECUTION_ID, e.STATUS, e.EXIT_CODE, e.START_TIME, e.END_TIME
+            ORDER BY e.JOB_EXECUTION_ID DESC
+            LIMIT :size
+            """;
+
+    /**
+     * 이력 캐시 항목 유효 시간 (다른 앱 인스턴스의 실행 반영 상한)
+     */
+    private static final long CACHE_TTL_MILLIS = 60_000;
+
+    /**
+     * 이력 캐시 항목 상한 (초과 시 전체 비움)
+     */
+    private static final int MAX_ENTRIES = 1_000;
+
+    // 인스턴스 페이지 → 인스턴스별 최신 실행 → 실행 파라미터 (인스턴스당 파라미터 수만큼 행)
+    private static final String HISTORY_SQL = """
+            SELECT i.JOB_INSTANCE_ID, i.JOB_NAME,
+                   e.JOB_EXECUTION_ID, e.STATUS, e.EXIT_CODE, e.START_TIME, e.END_TIME,
+                   p.PARAMETER_NAME, p.PARAMETER_VALUE
+            FROM (
+                SELECT JOB_INSTANCE_ID, JOB_NAME
+                FROM BATCH_JOB_INSTANCE
+                WHERE JOB_NAME = :jobName
+                  AND JOB_INSTANCE_ID < :beforeInstanceId
+                ORDER BY JOB_INSTANCE_ID DESC
+                LIMIT :size
+            ) i
+            LEFT JOIN BATCH_JOB_EXECUTION e
+                   ON e.JOB_EXECUTION_ID = (SELECT MAX(x.JOB_EXECUTION_ID)
+                                            FROM BATCH_JOB_EXECUTION x
+                                            WHERE x.JOB_INSTANCE_ID = i.JOB_INSTANCE_ID)
+            LEFT JOIN BATCH_JOB_EXECUTION_PARAMS p
+                   ON p.JOB_EXECUTION_ID = e.JOB_EXECUTION_ID
+                  AND p.PARAMETER_NAME <> 'ts'
+            ORDER BY i.JOB_INSTANCE_ID DESC
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    private final Map<HistoryKey, CachedPage> historyCache = new ConcurrentHashMap<>();
+
+    /**
+     * 무효화 세대 - 조회 시작 후 무효화가 있었으면 조회 결과를 캐시에 넣지 않음
+     */
+    private final AtomicLong generation = new AtomicLong();
+
+    private record HistoryKey(String jobName, long beforeInstanceId, int size) {
+    }
+
+    private record CachedPage(Map<String, Object> data, long cachedAt) {
+
+        boolean isExpired() {
+            return System.currentTimeMillis() - cachedAt > CACHE_TTL_MILLIS;
+        }
+    }
+
+    /**
+     * 잡 인스턴스별 최신 실행 이력 (최신 인스턴스부터, 키셋 페이징)
+     *
+     * @param jobName          잡 이름
+     * @param beforeInstanceId 이 인스턴스 ID보다 오래된 것만 조회 (null: 첫 페이지)
+     * @param size             페이지 크기
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Object> history(String jobName, Long beforeInstanceId, int size) {
+        HistoryKey key = new HistoryKey(jobName, beforeInstanceId != null ? beforeInstanceId : Long.MAX_VALUE, size);
+        CachedPage cached = historyCache.get(key);
+        if (cached != null && !cached.isExpired()) {
+            return cached.data();
+        }
+
+        long loadedGeneration = generation.get();
+        Map<String, Object> data = loadHistory(key);
+        putIfCurrent(key, data, loadedGeneration);
+        return data;
+    }
+
+    /**
+     * 잡 실행 시작/종료 시 해당 잡 이력 캐시 무효화
+     */
+    public void evictHistory(String jobName) {
+        generation.incrementAndGet();
+        historyCache.keySet().removeIf(key -> key.jobName().equals(jobName));
+    }
+
+    /**
+     * 조회 중 무효화가 없었을 때만 캐시에 저장
+     * - 저장 직후 다시 확인해 저장과 무효화가 겹친 경우 방금 넣은 항목 제거
+     */
+    private void putIfCurrent(HistoryKey key, Map<String, Object> data, long loadedGeneration) {
+        if (generation.get() != loadedGeneration) {
+            return;
+        }
+        if (historyCache.size() >= MAX_ENTRIES) {
+            historyCache.clear();
+        }
+        CachedPage entry = new CachedPage(data, System.currentTimeMillis());
+        historyCache.put(key, entry);
+        if (generation.get() != loadedGeneration) {
+            historyCache.remove(key, entry);
+        }
+    }
+
+    private Map<String, Object> loadHistory(HistoryKey key) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("jobName", key.jobName())
+                .addValue("beforeInstanceId", key.beforeInstanceId())
+                .addValue("size", key.size());
+
+        // 인스턴스당 파라미터 수만큼 행이 나오므로 인스턴스 ID로 묶음 (정렬 순서 유지)
+        Map<Long, Map<String, Object>> items = new LinkedHashMap<>();
+        jdbcTemplate.query(HISTORY_SQL, params, rs -> {
+            long instanceId = rs.getLong("JOB_INSTANCE_ID");
+            Map<String, Object> item = items.get(instanceId);
+            if (item == null) {
+                item = new HashMap<>();
+                item.put("jobInstanceId", instanceId);
+                item.put("jobName", rs.getString("JOB_NAME"));
+                item.put("parameters", new HashMap<String, String>());
+
+                long executionId = rs.getLong("JOB_EXECUTION_ID");
+                if (!rs.wasNull()) {
+                    String exitCode = rs.getString("EXIT_CODE");
+                    item.put("jobExecutionId", executionId);
+                    item.put("status", rs.getString("STATUS"));
+                    item.put("exitStatus", exitCode);
+                    item.put("startTime", toLocalDateTime(rs.getTimestamp("START_TIME")));
+                    item.put("endTime", toLocalDateTime(rs.getTimestamp("END_TIME")));
+                    if (exitCode != null && exitCode.startsWith("UPDATED_")) {
+                        item.put("updatedRows", exitCode.substring("UPDATED_".length()));
+                    }
+                }
+                items.put(instanceId, item);
+            }
+
+            String parameterName = rs.getString("PARAMETER_NAME");
+            if (parameterName != null) {
+                @SuppressWarnings("unchecked")
+                Map<String, String> parameters = (Map<String, String>) item.get("parameters");
+                parameters.put(parameterName, rs.getString("PARAMETER_VALUE"));
+                if ("date".equals(parameterName)) {
+                    item.put("targetDate", rs.getString("PARAMETER_VALUE"));
+                }
+            }
+        });
+
+        List<Map<String, Object>> history = new ArrayList<>(items.values());
+
+        Map<String, Object> data = new HashMap<>();
+        data.put("jobName", key.jobName());
+        data.put("totalCount", history.size());
+        data.put("history", history);
+        // 페이지가 가득 찼으면 다음 페이지 커서 (마지막 인스턴스 ID)
+        data.put("nextBeforeInstanceId", history.size() == key.size()
+                ? history.get(history.size() - 1).get("jobInstanceId")
+                : null);
+        return data;
+    }
+
+    /**
+     * 최근 실행 추이 (최신 실행부터)
+     *
+     * @param jobName   잡 이름
+     * @param size      조회할 최근 실행 수
+     * @param timeoutMs 실행 제한 시간 (여유 계산 기준)
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Object> trends(String jobName, int size, long timeoutMs) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("jobName", jobName)
+                .addValue("size", size);
+
+        List<Map<String, Object>> runs = jdbcTemplate.query(TRENDS_SQL, params, (rs, rowNum) -> {
+            long durationMs = rs.getLong("duration_ms");
+            long rows = Math.max(rs.getLong("read_count"), rs.getLong("write_count"));
+
+            Map<String, Object> run = new HashMap<>();
+            run.put("jobExecutionId", rs.getLong("JOB_EXECUTION_ID"));
+            run.put("status", rs.getString("STATUS"));
+            run.put("exitStatus", rs.getString("EXIT_CODE"));
+            run.put("startTime", rs.getTimestamp("START_TIME").toLocalDateTime());
+            run.put("durationMs", durationMs);
+            run.put("rows", rows);
+            run.put("rowsPerSec", round(rows * 1000.0 / Math.max(1, durationMs)));
+            run.put("slowestStepMs", rs.getLong("slowest_step_ms"));
+            return run;
+        });
+
+        Map<String, Object> data = new HashMap<>();
+        data.put("jobName", jobName);
+        data.put("timeoutMs", timeoutMs);
+        data.put("runCount", runs.size());
+        data.put("runs", runs);
+        if (runs.isEmpty()) {
+            return data;
+        }
+
+        long[] durations = runs.stream().mapToLong(run -> (long) run.get("durationMs")).toArray();
+        long latest = durations[0];
+        data.put("latestDurationMs", latest);
+        data.put("medianDurationMs", median(durations, 0));
+        data.put("avgDurationMs", Math.round(Arrays.stream(durations).average().orElse(0)));
+        data.put("maxDurationMs", Arrays.stream(durations).max().orElse(0));
+        data.put("medianRowsPerSec", round(medianOf(runs.stream()
+                .mapToDouble(run -> (double) run.get("rowsPerSec")).toArray())));
+
+        // 회귀: 최근 실행 vs 그 이전 실행들의 중앙값
+        boolean enoughBaseline = durations.length - 1 >= MIN_BASELINE_RUNS;
+        long baseline = enoughBaseline ? median(durations, 1) : 0;
+        data.put("baselineDurationMs", enoughBaseline ? baseline : null);
+        data.put("regression", enoughBaseline && latest > baseline * REGRESSION_FACTOR);
+
+        data.put("timeoutHeadroomMs", timeoutMs - latest);
+        data.put("nearTimeout", latest >= timeoutMs * TIMEOUT_WARNING_RATIO);
+        return data;
+    }
+
+    /**
+     * values[from..] 중앙값
+     */
+    private static long median(long[] values, int from) {
+        long[] sorted = Arrays.copyOfRange(values, from, values.length);
+        Arrays.sort(sorted);
+        int mid = sorted.length / 2;
+        return sorted.length % 2 == 1 ? sorted[mid] : (sorted[mid - 1] + sorted[mid]) / 2;
+    }
+
+    private static double medianOf(double[] values) {
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        int mid = sorted.length / 2;
+        return sorted.length % 2 == 1 ? sorted[mid] : (sorted[mid - 1] + sorted[mid]) / 2;
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 10) / 10.0;
+    }
+}
@@ -4,15 +4,24 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.stereotype.Service;
 
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.DayOfWeek;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Comparator;
+import java.util.List;
 
 /**
  * 캠페인 집계 서비스
- * - GROUP BY를 활용한 단일 쿼리로 모든 캠페인 일괄 집계 (N+1 문제 해결)
+ * - 구간을 시간 조각으로 나눠 조각별 GROUP BY (병렬, 조각마다 짧은 트랜잭션)
+ * - 조각 중간 결과(campaign_stats_slice)를 병합해 campaign_stats 반영
+ * - 원본(participation_history) 대신 분 단위 롤업(campaign_minute_stats) 합산
+ * - 일 통계를 주 단위(campaign_stats_week)로 롤업 (시간 → 일 → 주 계층)
  * - 멱등성 보장: ON DUPLICATE KEY UPDATE 사용
  */
 @Slf4j
@@ -21,29 +30,76 @@ import java.time.LocalDateTime;
 public class CampaignAggregationService {
 
     private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final CampaignRollupService rollupService;
+    private final IncrementalAggregationService incrementalAggregationService;
 
     /**
-     * 모든 캠페인 일괄 집계 (단일 쿼리)
-     * - GROUP BY로 모든 캠페인 통계를 한 번에 계산
-     * - N+1 문제 해결: 캠페인 1000개여도 쿼리 1번
+     * 캠페인 일 통계 1행 (외부 소스에서 계산된 최종값)
+     */
+    public record DailyStats(long campaignId, LocalDate statsDate, long successCount, long failCount) {
+    }
+
+    /**
+     * 시간 조각 1개 집계 → campaign_stats_slice (병렬 워커 스텝에서 호출)
+     * - GROUP BY로 조각 내 모든 캠페인 통계를 한 번에 계산 (캠페인 1000개여도 쿼리 1번)
+     * - 조각 구간의 이전 중간 결과를 지우고 다시 기록 (멱등, 재시작 안전)
+     * - 조각에 롤업 행이 없으면 participation_history에서 직접 집계 (롤업 도입 이전 기간도 0건으로 덮지 않음)
+     *
+     * @param sliceStart 조각 시작 시간 (포함)
+     * @param sliceEnd 조각 종료 시간 (미포함)
+     * @return 기록된 캠페인 수
+     */
+    @Transactional(timeout = 30)
+    public int aggregateSlice(LocalDateTime sliceStart, LocalDateTime sliceEnd) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("start", sliceStart)
+                .addValue("end", sliceEnd);
+
+        jdbcTemplate.update("""
+                DELETE FROM campaign_stats_slice
+                WHERE slice_start >= :start
+                  AND slice_start < :end
+                """, params);
+
+        CampaignRollupService.Source source = rollupService.sourceFor(sliceStart, sliceEnd);
+        int inserted = jdbcTemplate.update("""
+                INSERT INTO campaign_stats_slice (campaign_id, slice_start, success_count, fail_count)
+                SELECT m.campaign_id,
+                       :start,
+                       SUM(CASE WHEN m.status = 'SUCCESS' THEN %3$s ELSE 0 END),
+                       SUM(CASE WHEN m.status = 'FAIL' THEN %3$s ELSE 0 END)
+                FROM %1$s
+                WHERE %2$s >= :start
+                  AND %2$s < :end
+                GROUP BY m.campaign_id
+                """.formatted(source.table, source.timeColumn, source.countExpression), params);
+
+        log.debug("  ✓ 조각 집계 - {} ~ {}, {} 개 캠페인 ({})", sliceStart, sliceEnd, inserted, source);
+        return inserted;
+    }
+
+    /**
+     * 조각 중간 결과 병합 → campaign_stats (모든 조각 완료 후 1회)
+     * - 통계 날짜는 구간 시작일 기준
      * - 멱등성 보장: ON DUPLICATE KEY UPDATE 사용
+     * - 덮어쓰기 전에 증분 집계에 해당 날짜 확정 표시 (같은 트랜잭션 - 증분이 같은 행을 다시 더하지 않음)
      *
      * @param start 집계 시작 시간
      * @param end 집계 종료 시간
      * @return 업데이트된 행 수
      */
-    @Transactional(timeout = 60)
-    public int aggregateAllCampaigns(LocalDateTime start, LocalDateTime end) {
+    @Transactional(timeout = 30)
+    public int mergeSlices(LocalDateTime start, LocalDateTime end) {
         String sql = """
                 INSERT INTO campaign_stats (campaign_id, success_count, fail_count, stats_date)
-                SELECT p.campaign_id,
-                       SUM(CASE WHEN p.status = 'SUCCESS' THEN 1 ELSE 0 END) AS success_count,
-                       SUM(CASE WHEN p.status = 'FAIL' THEN 1 ELSE 0 END)    AS fail_count,
-                       DATE(:start)                                          AS stats_date
-                FROM participation_history p
-                WHERE p.created_at >= :start
-                  AND p.created_at < :end
-                GROUP BY p.campaign_id
+                SELECT s.campaign_id,
+                       SUM(s.success_count) AS success_count,
+                       SUM(s.fail_count)    AS fail_count,
+                       DATE(:start)         AS stats_date
+                FROM campaign_stats_slice s
+                WHERE s.slice_start >= :start
+                  AND s.slice_start < :end
+                GROUP BY s.campaign_id
                 ON DUPLICATE KEY UPDATE
                   success_count = VALUES(success_count),
                   fail_count    = VALUES(fail_count)
@@ -53,10 +109,113 @@ public class CampaignAggregationService {
                 .addValue("start", start)
                 .addValue("end", end);
 
+        incrementalAggregationService.markFinalized(start.toLocalDate());
         int updated = jdbcTemplate.update(sql, params);
 
-        log.info("✓ 전체 캠페인 일괄 집계 완료 - {} 행 업데이트", updated);
+        log.info("✓ 조각 병합 완료 - {} 행 업데이트", updated);
 
         return updated;
     }
+
+    /**
+     * 외부 소스(Kafka 결과 토픽)에서 계산한 일 통계로 campaign_stats 덮어쓰기
+     * - 하루 전체를 다시 센 값이므로 누적이 아닌 교체 (멱등)
+     * - 덮어쓰기 전에 증분 집계에 해당 날짜들 확정 표시 (mergeSlices와 동일)
+     *
+     * @return 반영된 행 수
+     */
+    @Transactional(timeout = 30)
+    public int replaceDailyStats(List<DailyStats> rows) {
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        rows.stream()
+                .map(DailyStats::statsDate)
+                .max(Comparator.naturalOrder())
+                .ifPresent(incrementalAggregationService::markFinalized);
+        SqlParameterSource[] batch = rows.stream()
+                .map(row -> new MapSqlParameterSource()
+                        .addValue("campaignId", row.campaignId())
+                        .addValue("statsDate", row.statsDate())
+                        .addValue("success", row.successCount())
+                        .addValue("fail", row.failCount()))
+                .toArray(SqlParameterSource[]::new);
+
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO campaign_stats (campaign_id, success_count, fail_count, stats_date)
+                VALUES (:campaignId, :success, :fail, :statsDate)
+                ON DUPLICATE KEY UPDATE
+                  success_count = VALUES(success_count),
+                  fail_count    = VALUES(fail_count)
+                """, batch);
+
+        log.info("✓ 일 통계 교체 완료 - {} 행", rows.size());
+        return rows.size();
+    }
+
+    /**
+     * DB 원천(분 롤업, 없으면 participation_history)의 하루 캠페인별 합계 - Kafka 재집계 결과 대조용
+     * - 분 롤업은 참여 이력과 같은 트랜잭션으로 갱신되므로 커밋된 이력과 일치
+     * - 복제 지연으로 인한 오탐을 피하려고 readOnly가 아닌 트랜잭션으로 Primary에서 조회
+     */
+    @Transactional(timeout = 30)
+    public List<DailyStats> dailyStatsFromSource(LocalDate date) {
+        LocalDateTime start = date.atStartOfDay();
+        LocalDateTime end = start.plusDays(1);
+        CampaignRollupService.Source source = rollupService.sourceFor(start, end);
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("start", start)
+                .addValue("end", end);
+        return jdbcTemplate.query("""
+                SELECT m.campaign_id,
+                       SUM(CASE WHEN m.status = 'SUCCESS' THEN %3$s ELSE 0 END) AS success_count,
+                       SUM(CASE WHEN m.status = 'FAIL' THEN %3$s ELSE 0 END)    AS fail_count
+                FROM %1$s
+                WHERE %2$s >= :start
+                  AND %2$s < :end
+                GROUP BY m.campaign_id
+                """.formatted(source.table, source.timeColumn, source.countExpression), params,
+                (rs, rowNum) -> new DailyStats(rs.getLong("campaign_id"), date,
+                        rs.getLong("success_count"), rs.getLong("fail_count")));
+    }
+
+    /**
+     * 일 통계 → 주 통계 롤업 (campaign_stats → campaign_stats_week)
+     * - [from, to]를 포함하는 주(월~일) 전체를 일 통계에서 다시 합산 (캠페인당 주 7행 이하)
+     * - 주 구간 롤업을 지우고 다시 기록 (멱등)
+     *
+     * @return 기록된 주 통계 행 수
+     */
+    @Transactional(timeout = 30)
+    public int rollupWeeks(LocalDate from, LocalDate to) {
+        LocalDate firstWeek = from.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        LocalDate lastWeek = to.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("firstWeek", firstWeek)
+                .addValue("lastWeek", lastWeek)
+                .addValue("end", lastWeek.plusWeeks(1));
+
+        jdbcTemplate.update("""
+                DELETE FROM campaign_stats_week
+                WHERE week_start >= :firstWeek
+                  AND week_start <= :lastWeek
+                """, params);
+
+        int inserted = jdbcTemplate.update("""
+                INSERT INTO campaign_stats_week (campaign_id, week_start, success_count, fail_count)
+                SELECT s.campaign_id,
+                       DATE_SUB(s.stats_date, INTERVAL WEEKDAY(s.stats_date) DAY) AS week_start,
+                       SUM(s.success_count),
+                       SUM(s.fail_count)
+                FROM campaign_stats s
+                WHERE s.stats_date >= :firstWeek
+                  AND s.stats_date < :end
+                GROUP BY s.campaign_id, week_start
+                """, params);
+
+        log.info("✓ 주 통계 롤업 완료 - {} ~ {} 주, {} 행", firstWeek, lastWeek, inserted);
+        return inserted;
+    }
 }
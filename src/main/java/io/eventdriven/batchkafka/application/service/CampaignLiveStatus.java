@@ -0,0 +1,133 @@
+package io.eventdriven.batchkafka.application.service;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 캠페인 1개의 실시간 처리 성능 (노드 메모리)
+ *
+ * - 처리량/지연: 초 단위 링 버퍼 (최근 WINDOW_SECONDS초)
+ * - 지연 분포: 고정 구간 히스토그램 (누적, 백분위 근사용)
+ *
+ * 갱신은 Consumer 배치 커밋 후 캠페인당 1회 → 링 버퍼는 객체 락으로 보호해도 경합 없음
+ * 누적 성공/실패는 노드/재시작과 무관하도록 campaign_live_counters 테이블이 담당
+ */
+public class CampaignLiveStatus {
+
+    /**
+     * 링 버퍼 크기 (초)
+     */
+    static final int WINDOW_SECONDS = 60;
+
+    /**
+     * 지연 히스토그램 상한 경계 (ms) - 마지막 구간은 그 이상 전부
+     */
+    static final long[] LATENCY_BOUNDS_MS = {5, 10, 25, 50, 100, 250, 500, 1000, 2500, 5000, 10000, 30000};
+
+    // 초 단위 링 버퍼 (slot = epochSecond % WINDOW_SECONDS)
+    private final long[] bucketSecond = new long[WINDOW_SECONDS];
+    private final long[] bucketProcessed = new long[WINDOW_SECONDS];
+    private final long[] bucketLatencySum = new long[WINDOW_SECONDS];
+
+    private final long[] latencyHistogram = new long[LATENCY_BOUNDS_MS.length + 1];
+
+    /**
+     * Consumer 배치 1회분 반영
+     *
+     * @param epochSecond 처리 시각 (초)
+     * @param success 성공 건수
+     * @param fail 실패 건수
+     * @param latencySumMs 지연 합계 (Kafka 타임스탬프 → 처리 시각)
+     * @param latencyCounts 지연 구간별 건수 (LATENCY_BOUNDS_MS 기준)
+     */
+    synchronized void apply(long epochSecond, long success, long fail, long latencySumMs, long[] latencyCounts) {
+        int slot = (int) (epochSecond % WINDOW_SECONDS);
+        if (bucketSecond[slot] != epochSecond) {
+            bucketSecond[slot] = epochSecond;
+            bucketProcessed[slot] = 0;
+            bucketLatencySum[slot] = 0;
+        }
+        bucketProcessed[slot] += success + fail;
+        bucketLatencySum[slot] += latencySumMs;
+
+        for (int b = 0; b < latencyHistogram.length; b++) {
+            latencyHistogram[b] += latencyCounts[b];
+        }
+    }
+
+    /**
+     * 최근 seconds초 처리 지표 (현재 진행 중인 초 포함)
+     * - actualTps: 완료된 직전 seconds초 기준 평균 처리량
+     * - avgLatencyMs: 해당 구간 평균 지연
+     */
+    public synchronized Map<String, Object> recentMetrics(long nowEpochSecond, int seconds) {
+        int window = Math.min(seconds, WINDOW_SECONDS - 1);
+
+        long recentProcessed = 0;
+        long recentLatencySum = 0;
+        long completedProcessed = 0;
+        for (int i = 0; i <= window; i++) {
+            long second = nowEpochSecond - i;
+            int slot = (int) (second % WINDOW_SECONDS);
+            if (bucketSecond[slot] != second) {
+                continue;
+            }
+            if (i < window) {
+                recentProcessed += bucketProcessed[slot];
+                recentLatencySum += bucketLatencySum[slot];
+            }
+            if (i > 0) {
+                completedProcessed += bucketProcessed[slot];
+            }
+        }
+
+        double actualTps = window > 0 ? (double) completedProcessed / window : 0.0;
+        double avgLatencyMs = recentProcessed > 0 ? (double) recentLatencySum / recentProcessed : 0.0;
+
+        Map<String, Object> metrics = new HashMap<>();
+        metrics.put("actualTps", Math.round(actualTps * 100.0) / 100.0);
+        metrics.put("avgLatencyMs", Math.round(avgLatencyMs * 100.0) / 100.0);
+        metrics.put("recentProcessed", recentProcessed);
+        return metrics;
+    }
+
+    /**
+     * 누적 지연 백분위 근사 (구간 상한값 반환, 마지막 구간은 "30000ms+")
+     */
+    public synchronized Map<String, Object> latencyPercentiles() {
+        long total = 0;
+        for (long count : latencyHistogram) {
+            total += count;
+        }
+
+        Map<String, Object> percentiles = new HashMap<>();
+        percentiles.put("p50", percentileBound(total, 0.50));
+        percentiles.put("p95", percentileBound(total, 0.95));
+        percentiles.put("p99", percentileBound(total, 0.99));
+        return percentiles;
+    }
+
+    private String percentileBound(long total, double quantile) {
+        if (total == 0) {
+            return "0ms";
+        }
+        long rank = (long) Math.ceil(total * quantile);
+        long cumulative = 0;
+        for (int b = 0; b < LATENCY_BOUNDS_MS.length; b++) {
+            cumulative += latencyHistogram[b];
+            if (cumulative >= rank) {
+                return "≤" + LATENCY_BOUNDS_MS[b] + "ms";
+            }
+        }
+        return LATENCY_BOUNDS_MS[LATENCY_BOUNDS_MS.length - 1] + "ms+";
+    }
+
+    static int latencyBucket(long latencyMs) {
+        for (int b = 0; b < LATENCY_BOUNDS_MS.length; b++) {
+            if (latencyMs <= LATENCY_BOUNDS_MS[b]) {
+                return b;
+            }
+        }
+        return LATENCY_BOUNDS_MS.length;
+    }
+}
@@ -0,0 +1,210 @@
+package io.eventdriven.batchkafka.application.service;
+
+import io.eventdriven.batchkafka.api.exception.business.CampaignNotFoundException;
+import io.eventdriven.batchkafka.domain.entity.Campaign;
+import io.eventdriven.batchkafka.domain.entity.CampaignLiveCounter;
+import io.eventdriven.batchkafka.domain.entity.ParticipationStatus;
+import io.eventdriven.batchkafka.domain.repository.CampaignLiveCounterRepository;
+import io.eventdriven.batchkafka.domain.repository.CampaignRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 캠페인 실시간 현황 서비스 (메모리 기반)
+ *
+ * === 배경 ===
+ * 대시보드가 /status를 계속 폴링할 때마다 participation_history COUNT + 최근 5초 엔티티 조회
+ * → 부하 테스트 중 Consumer INSERT와 경합
+ *
+ * === 방식 ===
+ * - Consumer가 배치 커밋 직후 캠페인별 처리 결과를 반영 (롤백된 배치는 반영 안 됨)
+ * - 처리 성능 조회는 메모리 링 버퍼만 읽음 (SQL 없음), 누적 건수는 카운터 테이블 PK 1건
+ * - 캠페인 이름/총 재고는 최초 1회만 DB에서 읽고 캐싱 (변하지 않는 값)
+ *
+ * 주의: 프로세스 메모리 기준이므로 재시작 이후 이 노드가 처리한 분만 집계됨
+ * → 노드/재시작과 무관한 누적 성공/실패는 campaign_live_counters 테이블 기준
+ */
+@Service
+@RequiredArgsConstructor
+public class CampaignLiveStatusService {
+
+    private static final CampaignLiveStatus EMPTY = new CampaignLiveStatus();
+
+    private final CampaignRepository campaignRepository;
+    private final CampaignLiveCounterRepository campaignLiveCounterRepository;
+    private final RedisStockService redisStockService;
+
+    private final Map<Long, CampaignLiveStatus> statuses = new ConcurrentHashMap<>();
+    private final Map<Long, CampaignInfo> campaignInfos = new ConcurrentHashMap<>();
+
+    /**
+     * 캠페인 불변 정보 (이름, 총 재고)
+     */
+    public record CampaignInfo(Long id, String name, Long totalStock) {
+    }
+
+    /**
+     * Consumer 배치 1회분 누적기 (Consumer 스레드 전용, 스레드 안전하지 않음)
+     */
+    public static class Batch {
+
+        // 캠페인 ID 오름차순 (카운터 행 잠금 순서 고정 → Consumer 간 데드락 방지)
+        private final Map<Long, long[]> counters = new TreeMap<>();
+        private final Map<Long, long[]> latencyCounts = new HashMap<>();
+        // 캠페인 → 처리 분 → [성공, 실패] (분 단위 롤업용, 키 오름차순)
+        private final Map<Long, TreeMap<LocalDateTime, long[]>> minuteCounts = new TreeMap<>();
+
+        // counters 배열 인덱스
+        private static final int SUCCESS = 0;
+        private static final int FAIL = 1;
+        private static final int LATENCY_SUM = 2;
+
+        /**
+         * @param createdAt 참여 이력의 created_at (분 롤업 버킷 기준 → 원본 재구성 결과와 같은 분에 집계)
+         */
+        public void add(Long campaignId, ParticipationStatus status, long latencyMs, LocalDateTime createdAt) {
+            int statusIndex = status == ParticipationStatus.SUCCESS ? SUCCESS : FAIL;
+            long[] counter = counters.computeIfAbsent(campaignId, id -> new long[3]);
+            counter[statusIndex]++;
+
+            LocalDateTime minute = createdAt.truncatedTo(ChronoUnit.MINUTES);
+            minuteCounts.computeIfAbsent(campaignId, id -> new TreeMap<>())
+                    .computeIfAbsent(minute, m -> new long[2])[statusIndex]++;
+
+            long latency = Math.max(0, latencyMs);
+            counter[LATENCY_SUM] += latency;
+            latencyCounts.computeIfAbsent(campaignId, id -> new long[CampaignLiveStatus.LATENCY_BOUNDS_MS.length + 1])
+                    [CampaignLiveStatus.latencyBucket(latency)]++;
+        }
+
+        public boolean isEmpty() {
+            return counters.isEmpty();
+        }
+
+        /**
+         * 캠페인별 성공/실패 건수 순회 (캠페인 ID 오름차순)
+         */
+        public void forEachCounts(CountsConsumer consumer) {
+            counters.forEach((campaignId, counter) ->
+                    consumer.accept(campaignId, counter[SUCCESS], counter[FAIL]));
+        }
+
+        /**
+         * 캠페인 × 분 × 상태별 건수 순회 (0건 제외, 키 오름차순)
+         */
+        public void forEachMinuteCounts(MinuteCountsConsumer consumer) {
+            minuteCounts.forEach((campaignId, minutes) ->
+                    minutes.forEach((minute, counts) -> {
+                        if (counts[SUCCESS] > 0) {
+                            consumer.accept(campaignId, minute, ParticipationStatus.SUCCESS, counts[SUCCESS]);
+                        }
+                        if (counts[FAIL] > 0) {
+                            consumer.accept(campaignId, minute, ParticipationStatus.FAIL, counts[FAIL]);
+                        }
+                    }));
+        }
+    }
+
+    @FunctionalInterface
+    public interface CountsConsumer {
+        void accept(Long campaignId, long success, long fail);
+    }
+
+    @FunctionalInterface
+    public interface MinuteCountsConsumer {
+        void accept(Long campaignId, LocalDateTime minute, ParticipationStatus status, long count);
+    }
+
+    public Batch newBatch() {
+        return new Batch();
+    }
+
+    /**
+     * 커밋된 배치 결과 반영 (캠페인당 1회 갱신)
+     */
+    public void apply(Batch batch) {
+        long epochSecond = System.currentTimeMillis() / 1000;
+        batch.counters.forEach((campaignId, counter) ->
+                statuses.computeIfAbsent(campaignId, id -> new CampaignLiveStatus())
+                        .apply(epochSecond,
+                                counter[Batch.SUCCESS],
+                                counter[Batch.FAIL],
+                                counter[Batch.LATENCY_SUM],
+                                batch.latencyCounts.get(campaignId)));
+    }
+
+    /**
+     * 캠페인 실시간 현황 (처리 이력이 없으면 빈 현황)
+     */
+    public CampaignLiveStatus getStatus(Long campaignId) {
+        return statuses.getOrDefault(campaignId, EMPTY);
+    }
+
+    /**
+     * 캠페인 실시간 현황 스냅샷 (조회 API / SSE 스트림 공용)
+     * - 누적 성공/실패: campaign_live_counters PK 1건 조회
+     * - 재고: Redis (없으면 총 재고 - 성공 건수)
+     * - 처리 성능: 이 노드 메모리의 최근 5초 초 단위 버킷 + 누적 지연 히스토그램
+     */
+    public Map<String, Object> snapshot(Long campaignId) {
+        CampaignInfo campaign = getCampaignInfo(campaignId);
+        CampaignLiveStatus liveStatus = getStatus(campaignId);
+
+        Optional<CampaignLiveCounter> counter = campaignLiveCounterRepository.findById(campaignId);
+        long successCount = counter.map(CampaignLiveCounter::getSuccessCount).orElse(0L);
+        long failCount = counter.map(CampaignLiveCounter::getFailCount).orElse(0L);
+        long totalCount = successCount + failCount;
+
+        // Redis에서 실시간 재고 조회 (없으면 처리 결과로 추정)
+        Long currentStock = redisStockService.getStock(campaignId);
+        if (currentStock == null) {
+            currentStock = Math.max(0L, campaign.totalStock() - successCount);
+        }
+
+        Map<String, Object> data = new HashMap<>();
+        data.put("campaignId", campaign.id());
+        data.put("campaignName", campaign.name());
+        data.put("totalStock", campaign.totalStock());
+        data.put("currentStock", currentStock);
+        data.put("successCount", successCount);
+        data.put("failCount", failCount);
+        data.put("totalParticipation", totalCount);
+
+        // 재고 사용률 계산
+        double usageRate = campaign.totalStock() > 0
+            ? (campaign.totalStock() - currentStock) * 100.0 / campaign.totalStock()
+            : 0.0;
+        data.put("stockUsageRate", String.format("%.2f%%", usageRate));
+
+        // ===== 실제 처리 성능 지표 (최근 5초) =====
+        Map<String, Object> processingMetrics = liveStatus.recentMetrics(System.currentTimeMillis() / 1000, 5);
+        processingMetrics.put("latencyPercentiles", liveStatus.latencyPercentiles());
+        data.put("processingMetrics", processingMetrics);
+
+        return data;
+    }
+
+    /**
+     * 캠페인 불변 정보 (최초 1회만 DB 조회)
+     */
+    public CampaignInfo getCampaignInfo(Long campaignId) {
+        CampaignInfo cached = campaignInfos.get(campaignId);
+        if (cached != null) {
+            return cached;
+        }
+        Campaign campaign = campaignRepository.findById(campaignId)
+                .orElseThrow(() -> new CampaignNotFoundException(campaignId));
+        CampaignInfo info = new CampaignInfo(
+                campaign.getId(), campaign.getName(), campaign.getTotalStock());
+        campaignInfos.put(campaignId, info);
+        return info;
+    }
+}
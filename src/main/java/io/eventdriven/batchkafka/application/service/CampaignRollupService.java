@@ -0,0 +1,209 @@
+package io.eventdriven.batchkafka.application.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 분 단위 롤업 조회/재구성 서비스
+ * - campaign_minute_stats는 Consumer가 배치마다 증분 갱신
+ * - 일/시간/임의 구간 통계는 롤업 행만 합산 (캠페인당 하루 최대 1,440 × 2행)
+ * - 구간에 롤업 행이 하나도 없는데 원본 행이 있으면 (롤업 도입 이전 / 재구성 전) participation_history에서 직접 집계
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CampaignRollupService {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * 조회 단위 (분 롤업을 묶는 방식, {time} = 소스의 시각 컬럼)
+     */
+    public enum Grain {
+        MINUTE("DATE_FORMAT({time}, '%Y-%m-%d %H:%i:00')"),
+        HOUR("DATE_FORMAT({time}, '%Y-%m-%d %H:00:00')"),
+        DAY("DATE_FORMAT({time}, '%Y-%m-%d 00:00:00')");
+
+        private final String bucketExpression;
+
+        Grain(String bucketExpression) {
+            this.bucketExpression = bucketExpression;
+        }
+
+        String bucketExpression(Source source) {
+            return bucketExpression.replace("{time}", source.timeColumn);
+        }
+    }
+
+    /**
+     * 집계 소스 (별칭 m 공통)
+     */
+    public enum Source {
+        MINUTE_ROLLUP("campaign_minute_stats m", "m.bucket_minute", "m.cnt"),
+        PARTICIPATION_HISTORY("participation_history m", "m.created_at", "1");
+
+        final String table;
+        final String timeColumn;
+        final String countExpression;
+
+        Source(String table, String timeColumn, String countExpression) {
+            this.table = table;
+            this.timeColumn = timeColumn;
+            this.countExpression = countExpression;
+        }
+    }
+
+    /**
+     * 구간 집계 소스 결정
+     * - 롤업 행이 있으면 롤업 (bucket_minute 인덱스 EXISTS)
+     * - 롤업 행이 없고 원본 행이 있으면 원본 (롤업 누락 구간을 0건으로 보고하지 않도록)
+     */
+    @Transactional(readOnly = true)
+    public Source sourceFor(LocalDateTime start, LocalDateTime end) {
+        MapSqlParameterSource params = rangeParams(start, end);
+        if (exists("campaign_minute_stats", "bucket_minute", params)) {
+            return Source.MINUTE_ROLLUP;
+        }
+        if (exists("participation_history", "created_at", params)) {
+            log.warn("⚠️ 롤업 행 없음 - participation_history에서 직접 집계: {} ~ {} (rollup/rebuild 권장)", start, end);
+            return Source.PARTICIPATION_HISTORY;
+        }
+        return Source.MINUTE_ROLLUP;
+    }
+
+    private boolean exists(String table, String timeColumn, MapSqlParameterSource params) {
+        Boolean exists = jdbcTemplate.queryForObject("""
+                SELECT EXISTS (
+                    SELECT 1 FROM %s
+                    WHERE %s >= :start
+                      AND %s < :end
+                )
+                """.formatted(table, timeColumn, timeColumn), params, Boolean.class);
+        return Boolean.TRUE.equals(exists);
+    }
+
+    /**
+     * 구간 내 캠페인별 성공/실패 합계
+     *
+     * @param start 시작 시각 (포함, 분 단위로 취급)
+     * @param end 종료 시각 (미포함)
+     * @param source 집계 소스 (sourceFor로 결정)
+     */
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> sumByCampaign(LocalDateTime start, LocalDateTime end, Source source) {
+        String sql = """
+                SELECT c.id   AS campaign_id,
+                       c.name AS campaign_name,
+                       SUM(CASE WHEN m.status = 'SUCCESS' THEN %3$s ELSE 0 END) AS success_count,
+                       SUM(CASE WHEN m.status = 'FAIL' THEN %3$s ELSE 0 END)    AS fail_count
+                FROM %1$s
+                JOIN campaign c ON c.id = m.campaign_id
+                WHERE %2$s >= :start
+                  AND %2$s < :end
+                GROUP BY c.id, c.name
+                ORDER BY c.id
+                """.formatted(source.table, source.timeColumn, source.countExpression);
+
+        return jdbcTemplate.query(sql, rangeParams(start, end), (rs, rowNum) -> {
+            long success = rs.getLong("success_count");
+            long fail = rs.getLong("fail_count");
+
+            Map<String, Object> item = new HashMap<>();
+            item.put("campaignId", rs.getLong("campaign_id"));
+            item.put("campaignName", rs.getString("campaign_name"));
+            item.put("successCount", success);
+            item.put("failCount", fail);
+            item.put("totalCount", success + fail);
+            item.put("successRate", formatRate(success, success + fail));
+            return item;
+        });
+    }
+
+    /**
+     * 캠페인 1개의 구간별 시계열
+     */
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> series(Long campaignId, LocalDateTime start, LocalDateTime end, Grain grain,
+                                            Source source) {
+        String sql = """
+                SELECT %1$s AS bucket,
+                       SUM(CASE WHEN m.status = 'SUCCESS' THEN %4$s ELSE 0 END) AS success_count,
+                       SUM(CASE WHEN m.status = 'FAIL' THEN %4$s ELSE 0 END)    AS fail_count
+                FROM %2$s
+                WHERE m.campaign_id = :campaignId
+                  AND %3$s >= :start
+                  AND %3$s < :end
+                GROUP BY bucket
+                ORDER BY bucket
+                """.formatted(grain.bucketExpression(source), source.table, source.timeColumn, source.countExpression);
+
+        MapSqlParameterSource params = rangeParams(start, end).addValue("campaignId", campaignId);
+
+        return jdbcTemplate.query(sql, params, (rs, rowNum) -> {
+            long success = rs.getLong("success_count");
+            long fail = rs.getLong("fail_count");
+
+            Map<String, Object> item = new HashMap<>();
+            item.put("bucket", rs.getString("bucket"));
+            item.put("successCount", success);
+            item.put("failCount", fail);
+            item.put("totalCount", success + fail);
+            item.put("successRate", formatRate(success, success + fail));
+            return item;
+        });
+    }
+
+    /**
+     * participation_history 기준 분 단위 롤업 재구성 (도입 이전 데이터/불일치 복구용 - 느림)
+     * - 구간 롤업을 지우고 원본에서 다시 계산 (멱등)
+     * - 아카이브된 캠페인은 원본 행이 없으므로 기존 롤업 유지
+     * - 재구성 중 Consumer가 처리한 건은 누락될 수 있으므로 트래픽이 없을 때 실행
+     *
+     * @return 생성된 롤업 행 수
+     */
+    @Transactional(timeout = 300)
+    public int rebuild(LocalDateTime start, LocalDateTime end) {
+        MapSqlParameterSource params = rangeParams(start, end);
+
+        int deleted = jdbcTemplate.update("""
+                DELETE FROM campaign_minute_stats
+                WHERE bucket_minute >= :start
+                  AND bucket_minute < :end
+                  AND campaign_id NOT IN (SELECT campaign_id FROM participation_archive)
+                """, params);
+
+        int inserted = jdbcTemplate.update("""
+                INSERT INTO campaign_minute_stats (campaign_id, bucket_minute, status, cnt)
+                SELECT p.campaign_id,
+                       DATE_FORMAT(p.created_at, '%Y-%m-%d %H:%i:00') AS bucket_minute,
+                       p.status,
+                       COUNT(*)
+                FROM participation_history p
+                WHERE p.created_at >= :start
+                  AND p.created_at < :end
+                GROUP BY p.campaign_id, bucket_minute, p.status
+                """, params);
+
+        log.info("🔄 분 단위 롤업 재구성 완료 - 기간: {} ~ {}, 삭제: {}행, 생성: {}행", start, end, deleted, inserted);
+        return inserted;
+    }
+
+    private MapSqlParameterSource rangeParams(LocalDateTime start, LocalDateTime end) {
+        return new MapSqlParameterSource()
+                .addValue("start", start)
+                .addValue("end", end);
+    }
+
+    private String formatRate(long success, long total) {
+        return total > 0 ? String.format("%.2f%%", success * 100.0 / total) : "0.00%";
+    }
+}
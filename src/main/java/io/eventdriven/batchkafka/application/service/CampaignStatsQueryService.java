@@ -0,0 +1,321 @@
+package io.eventdriven.batchkafka.application.service;
+
+import io.eventdriven.batchkafka.domain.entity.CampaignStats;
+import io.eventdriven.batchkafka.domain.repository.CampaignStatsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 집계 통계 조회 서비스 (읽기 캐시)
+ *
+ * === 배경 ===
+ * campaign_stats는 집계 배치가 돌 때만 바뀌는데, 대시보드는 매 요청마다 JOIN FETCH 조회
+ *
+ * === 방식 ===
+ * - 날짜별 / 캠페인+기간별 응답을 합계까지 계산된 상태로 캐싱 (read-through)
+ * - 집계 배치 종료 시 BatchExecutionListener가 해당 날짜를 무효화
+ *   (배치는 한 인스턴스에서만 실행되므로 다른 인스턴스 캐시는 CACHE_TTL_MILLIS 후 만료)
+ * - 빈 결과도 캐싱 (배치가 돌기 전까지는 바뀌지 않음)
+ * - 조회 도중 무효화가 일어나면 그 결과는 캐싱하지 않음 (세대 번호 비교 → 무효화 이전 값이 남지 않음)
+ *
+ * === 기간 통계 단위 (grain) ===
+ * 시간(campaign_stats_slice) → 일(campaign_stats) → 주(campaign_stats_week) 계층 중
+ * 기간을 덮는 가장 큰 단위 선택: 기간 안에 온전히 들어가는 주는 주 행, 양 끝 남는 날만 일 행
+ * (1년 조회 시 일 365행 → 주 52행 + 일 최대 12행)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CampaignStatsQueryService {
+
+    /**
+     * 캐시 항목 상한 (기간 조합이 무한히 늘어나는 것 방지 - 초과 시 전체 비움)
+     */
+    private static final int MAX_ENTRIES = 10_000;
+
+    /**
+     * 캐시 유효 시간 (다른 인스턴스에서 돈 배치 결과가 반영되기까지 최대 지연)
+     */
+    private static final long CACHE_TTL_MILLIS = 60_000;
+
+    private final CampaignStatsRepository statsRepository;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    private final Map<LocalDate, Cached<DailyStatsView>> dailyCache = new ConcurrentHashMap<>();
+    private final Map<CampaignRangeKey, Cached<CampaignStatsView>> campaignCache = new ConcurrentHashMap<>();
+
+    // 무효화 세대 번호 (무효화마다 증가)
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * 날짜별 전체 캠페인 통계 (합계 포함)
+     */
+    public record DailyStatsView(List<Map<String, Object>> campaigns, Map<String, Object> summary) {
+
+        public boolean isEmpty() {
+            return campaigns.isEmpty();
+        }
+    }
+
+    /**
+     * 기간 통계 단위
+     * - AUTO: 주 + 양 끝 일 (기간을 덮는 가장 큰 단위)
+     */
+    public enum StatsGrain {
+        AUTO, HOUR, DAY, WEEK
+    }
+
+    /**
+     * 캠페인 기간별 통계 (합계 포함)
+     * - stats: 구간(bucket) 시작 순, 각 행에 grain 표시
+     */
+    public record CampaignStatsView(String campaignName, StatsGrain grain, List<Map<String, Object>> stats,
+                                    Map<String, Object> summary) {
+
+        public boolean isEmpty() {
+            return stats.isEmpty();
+        }
+    }
+
+    private record Cached<V>(V value, long cachedAt) {
+
+        boolean isExpired() {
+            return System.currentTimeMillis() - cachedAt > CACHE_TTL_MILLIS;
+        }
+    }
+
+    private record CampaignRangeKey(Long campaignId, LocalDate startDate, LocalDate endDate, StatsGrain grain) {
+
+        boolean covers(LocalDate date) {
+            return !date.isBefore(startDate) && !date.isAfter(endDate);
+        }
+    }
+
+    /**
+     * 특정 날짜의 전체 캠페인 통계
+     */
+    @Transactional(readOnly = true)
+    public DailyStatsView getDailyStats(LocalDate date) {
+        Cached<DailyStatsView> cached = dailyCache.get(date);
+        if (cached != null && !cached.isExpired()) {
+            return cached.value();
+        }
+
+        long loadedGeneration = generation.get();
+        DailyStatsView view = loadDailyStats(date);
+        putIfCurrent(dailyCache, date, view, loadedGeneration);
+        return view;
+    }
+
+    /**
+     * 특정 캠페인의 기간별 통계
+     *
+     * @param grain AUTO/WEEK: 주 + 양 끝 일, DAY: 일, HOUR: 시간 (집계 배치가 돈 날짜만)
+     */
+    @Transactional(readOnly = true)
+    public CampaignStatsView getCampaignStats(Long campaignId, LocalDate startDate, LocalDate endDate,
+                                              StatsGrain grain) {
+        CampaignRangeKey key = new CampaignRangeKey(campaignId, startDate, endDate, grain);
+        Cached<CampaignStatsView> cached = campaignCache.get(key);
+        if (cached != null && !cached.isExpired()) {
+            return cached.value();
+        }
+
+        long loadedGeneration = generation.get();
+        CampaignStatsView view = loadCampaignStats(campaignId, startDate, endDate, grain);
+        putIfCurrent(campaignCache, key, view, loadedGeneration);
+        return view;
+    }
+
+    /**
+     * 특정 날짜 집계가 바뀌었을 때 무효화 (해당 날짜를 포함하는 기간 캐시 포함)
+     */
+    public void evictDate(LocalDate date) {
+        generation.incrementAndGet();
+        dailyCache.remove(date);
+        campaignCache.keySet().removeIf(key -> key.covers(date));
+        log.info("🧹 통계 캐시 무효화 - date: {}", date);
+    }
+
+    /**
+     * 전체 무효화 (영향 날짜를 알 수 없을 때)
+     */
+    public void evictAll() {
+        generation.incrementAndGet();
+        dailyCache.clear();
+        campaignCache.clear();
+        log.info("🧹 통계 캐시 전체 무효화");
+    }
+
+    private DailyStatsView loadDailyStats(LocalDate date) {
+        List<CampaignStats> stats = statsRepository.findByStatsDate(date);
+
+        List<Map<String, Object>> campaigns = stats.stream()
+                .map(stat -> {
+                    Map<String, Object> item = new HashMap<>();
+                    item.put("campaignId", stat.getCampaign().getId());
+                    item.put("campaignName", stat.getCampaign().getName());
+                    item.put("successCount", stat.getSuccessCount());
+                    item.put("failCount", stat.getFailCount());
+                    item.put("totalCount", stat.getSuccessCount() + stat.getFailCount());
+                    item.put("successRate", calculateSuccessRate(stat.getSuccessCount(), stat.getFailCount()));
+                    item.put("statsDate", stat.getStatsDate());
+                    return Map.copyOf(item);
+                })
+                .toList();
+
+        // 전체 집계
+        long totalSuccess = stats.stream().mapToLong(CampaignStats::getSuccessCount).sum();
+        long totalFail = stats.stream().mapToLong(CampaignStats::getFailCount).sum();
+
+        Map<String, Object> summary = Map.of(
+                "totalCampaigns", stats.size(),
+                "totalSuccess", totalSuccess,
+                "totalFail", totalFail,
+                "totalParticipation", totalSuccess + totalFail,
+                "overallSuccessRate", calculateSuccessRate(totalSuccess, totalFail)
+        );
+
+        return new DailyStatsView(campaigns, summary);
+    }
+
+    private CampaignStatsView loadCampaignStats(Long campaignId, LocalDate startDate, LocalDate endDate,
+                                                StatsGrain grain) {
+        MapSqlParameterSource params = new MapSqlParameterSource("campaignId", campaignId);
+
+        List<Map<String, Object>> stats = switch (grain) {
+            case HOUR -> queryBuckets(StatsGrain.HOUR, """
+                    SELECT DATE_FORMAT(slice_start, '%Y-%m-%dT%H:%i') AS bucket, success_count, fail_count
+                    FROM campaign_stats_slice
+                    WHERE campaign_id = :campaignId
+                      AND slice_start >= :start
+                      AND slice_start < :end
+                    ORDER BY slice_start
+                    """, params.addValue("start", startDate.atStartOfDay())
+                            .addValue("end", endDate.plusDays(1).atStartOfDay()));
+            case DAY -> queryDays(params, startDate, endDate);
+            case AUTO, WEEK -> queryWeeksAndEdgeDays(params, startDate, endDate);
+        };
+
+        // 기간 집계 (구간 행 수십 개 합산)
+        long totalSuccess = stats.stream().mapToLong(row -> (Long) row.get("successCount")).sum();
+        long totalFail = stats.stream().mapToLong(row -> (Long) row.get("failCount")).sum();
+
+        Map<String, Object> summary = Map.of(
+                "totalSuccess", totalSuccess,
+                "totalFail", totalFail,
+                "totalParticipation", totalSuccess + totalFail,
+                "averageSuccessRate", calculateSuccessRate(totalSuccess, totalFail),
+                "rows", stats.size()
+        );
+
+        String campaignName = stats.isEmpty() ? null : jdbcTemplate.queryForList(
+                "SELECT name FROM campaign WHERE id = :campaignId", params, String.class)
+                .stream().findFirst().orElse(null);
+        return new CampaignStatsView(campaignName, grain, stats, summary);
+    }
+
+    /**
+     * 기간 안에 온전히 들어가는 주(월~일)는 주 행, 앞뒤로 남는 날은 일 행
+     */
+    private List<Map<String, Object>> queryWeeksAndEdgeDays(MapSqlParameterSource params,
+                                                            LocalDate startDate, LocalDate endDate) {
+        LocalDate firstWeek = startDate.with(TemporalAdjusters.nextOrSame(DayOfWeek.MONDAY));
+        LocalDate lastWeek = endDate.plusDays(1).with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)).minusWeeks(1);
+        if (lastWeek.isBefore(firstWeek)) {
+            return queryDays(params, startDate, endDate);
+        }
+
+        List<Map<String, Object>> stats = new ArrayList<>();
+        if (startDate.isBefore(firstWeek)) {
+            stats.addAll(queryDays(params, startDate, firstWeek.minusDays(1)));
+        }
+        stats.addAll(queryBuckets(StatsGrain.WEEK, """
+                SELECT DATE_FORMAT(week_start, '%Y-%m-%d') AS bucket, success_count, fail_count
+                FROM campaign_stats_week
+                WHERE campaign_id = :campaignId
+                  AND week_start >= :firstWeek
+                  AND week_start <= :lastWeek
+                ORDER BY week_start
+                """, params.addValue("firstWeek", firstWeek).addValue("lastWeek", lastWeek)));
+        LocalDate afterWeeks = lastWeek.plusWeeks(1);
+        if (!afterWeeks.isAfter(endDate)) {
+            stats.addAll(queryDays(params, afterWeeks, endDate));
+        }
+        stats.sort(Comparator.comparing(row -> (String) row.get("bucket")));
+        return stats;
+    }
+
+    private List<Map<String, Object>> queryDays(MapSqlParameterSource params, LocalDate startDate, LocalDate endDate) {
+        return queryBuckets(StatsGrain.DAY, """
+                SELECT DATE_FORMAT(stats_date, '%Y-%m-%d') AS bucket, success_count, fail_count
+                FROM campaign_stats
+                WHERE campaign_id = :campaignId
+                  AND stats_date >= :dayStart
+                  AND stats_date <= :dayEnd
+                ORDER BY stats_date
+                """, new MapSqlParameterSource(params.getValues())
+                .addValue("dayStart", startDate)
+                .addValue("dayEnd", endDate));
+    }
+
+    private List<Map<String, Object>> queryBuckets(StatsGrain grain, String sql, MapSqlParameterSource params) {
+        return jdbcTemplate.query(sql, params, (rs, rowNum) -> {
+            long success = rs.getLong("success_count");
+            long fail = rs.getLong("fail_count");
+            return Map.of(
+                    "grain", grain.name(),
+                    "bucket", rs.getString("bucket"),
+                    "successCount", success,
+                    "failCount", fail,
+                    "totalCount", success + fail,
+                    "successRate", calculateSuccessRate(success, fail)
+            );
+        });
+    }
+
+    /**
+     * 조회 시작 이후 무효화가 없었을 때만 캐시에 남김
+     * - 넣은 뒤 세대를 다시 확인: 그 사이 무효화됐으면 방금 넣은 항목 제거
+     *   (확인 이후의 무효화는 이미 들어간 항목을 무효화 쪽에서 제거)
+     */
+    private <K, V> void putIfCurrent(Map<K, Cached<V>> cache, K key, V value, long loadedGeneration) {
+        if (generation.get() != loadedGeneration) {
+            return;
+        }
+        if (cache.size() >= MAX_ENTRIES) {
+            cache.clear();
+        }
+        Cached<V> entry = new Cached<>(value, System.currentTimeMillis());
+        cache.put(key, entry);
+        if (generation.get() != loadedGeneration) {
+            cache.remove(key, entry);
+        }
+    }
+
+    /**
+     * 성공률 계산
+     */
+    private String calculateSuccessRate(long success, long fail) {
+        long total = success + fail;
+        if (total == 0) {
+            return "0.00%";
+        }
+        return String.format("%.2f%%", (success * 100.0) / total);
+    }
+}
@@ -0,0 +1,121 @@
+package io.eventdriven.batchkafka.application.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Consumer 처리량 / 지연(lag) 측정기
+ * - Consumer가 배치 커밋 시 처리 건수와 파티션별 lag(로그 끝 오프셋 - 현재 위치)를 기록
+ * - lag은 Redis 해시에 공유 → 어느 인스턴스의 입장 스케줄러든 클러스터 전체 적체량으로 입장 속도 결정
+ */
+@Slf4j
+@Component
+public class ConsumerThroughputMonitor {
+
+    /**
+     * 지수 이동 평균 가중치 (최근 샘플 반영 비율)
+     */
+    private static final double EWMA_ALPHA = 0.3;
+
+    /**
+     * 파티션별 lag 해시 (field: 파티션 번호, value: lag)
+     */
+    private static final String LAG_KEY = "consumer:lag:campaign-participation-topic";
+
+    /**
+     * lag 보고가 끊기면(Consumer 전체 중단) 만료 → 적체량 "알 수 없음"
+     */
+    private static final Duration LAG_TTL = Duration.ofSeconds(30);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final LongAdder processed = new LongAdder();
+
+    private long lastSampleCount = 0;
+    private long lastSampleNanos = System.nanoTime();
+    private double smoothedRate = 0.0;
+
+    public ConsumerThroughputMonitor(RedisTemplate<String, String> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    /**
+     * 처리 완료 건수 기록 (Consumer 스레드에서 호출)
+     */
+    public void record(int count) {
+        processed.add(count);
+    }
+
+    /**
+     * 파티션별 lag 기록 (Consumer 스레드에서 배치당 1회 호출)
+     */
+    public void recordLag(Map<Integer, Long> lagByPartition) {
+        if (lagByPartition.isEmpty()) {
+            return;
+        }
+        try {
+            Map<String, String> values = new HashMap<>();
+            lagByPartition.forEach((partition, lag) -> values.put(String.valueOf(partition), String.valueOf(lag)));
+            redisTemplate.opsForHash().putAll(LAG_KEY, values);
+            redisTemplate.expire(LAG_KEY, LAG_TTL);
+        } catch (Exception e) {
+            // 입장 속도 산정용 데이터이므로 실패해도 처리에는 영향 없음
+            log.warn("⚠️ Consumer lag 기록 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 클러스터 전체 Consumer 적체량 (모든 파티션 lag 합계)
+     *
+     * @return 적체 건수 (보고된 lag이 없으면 empty)
+     */
+    public OptionalLong currentBacklog() {
+        List<Object> values = redisTemplate.opsForHash().values(LAG_KEY);
+        if (values == null || values.isEmpty()) {
+            return OptionalLong.empty();
+        }
+        long backlog = 0;
+        for (Object value : values) {
+            backlog += Long.parseLong(String.valueOf(value));
+        }
+        return OptionalLong.of(backlog);
+    }
+
+    /**
+     * 누적 처리 건수
+     */
+    public long getTotalProcessed() {
+        return processed.sum();
+    }
+
+    /**
+     * 직전 샘플 이후 처리량을 측정하여 평활화된 초당 처리량 반환 (모니터링용)
+     *
+     * @return 초당 처리 건수 (측정값이 없으면 0)
+     */
+    public synchronized double sampleRatePerSecond() {
+        long now = System.nanoTime();
+        long total = processed.sum();
+
+        long elapsedNanos = now - lastSampleNanos;
+        if (elapsedNanos <= 0) {
+            return smoothedRate;
+        }
+
+        double instantRate = (total - lastSampleCount) * 1_000_000_000.0 / elapsedNanos;
+        smoothedRate = smoothedRate == 0.0
+                ? instantRate
+                : EWMA_ALPHA * instantRate + (1 - EWMA_ALPHA) * smoothedRate;
+
+        lastSampleCount = total;
+        lastSampleNanos = now;
+        return smoothedRate;
+    }
+}
@@ -0,0 +1,158 @@
+package io.eventdriven.batchkafka.application.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 실시간 대시보드 SSE 발행기
+ *
+ * === 배경 ===
+ * 대시보드/부하 테스트 화면이 /status, /api/admin/logs를 폴링 → 탭 수만큼 조회 + 응답 생성
+ *
+ * === 방식 ===
+ * - 단일 스케줄러가 N ms마다 캠페인 현황/신규 로그를 1회만 샘플링
+ * - 1회 직렬화한 동일 프레임을 모든 구독자에게 전송 (탭 수와 무관한 조회 비용)
+ * - 구독자가 없으면 샘플링하지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LiveDashboardPublisher {
+
+    /**
+     * 구독 유지 시간 (만료 시 브라우저 EventSource가 자동 재연결)
+     */
+    private static final long EMITTER_TIMEOUT_MS = 30 * 60 * 1000L;
+
+    /**
+     * 신규 로그가 없을 때 연결 확인용 주석 프레임 주기 (틱 수)
+     */
+    private static final int HEARTBEAT_TICKS = 15;
+
+    /**
+     * 로그 구독 시작 시 함께 보내는 최근 로그 수
+     */
+    private static final int INITIAL_LOG_COUNT = 100;
+
+    private final CampaignLiveStatusService campaignLiveStatusService;
+    private final ProcessingLogService processingLogService;
+    private final JsonMapper jsonMapper;
+
+    private final Map<Long, List<SseEmitter>> campaignSubscribers = new ConcurrentHashMap<>();
+    private final List<SseEmitter> logSubscribers = new CopyOnWriteArrayList<>();
+
+    private long lastLogSequence = 0;
+    private int idleTicks = 0;
+
+    /**
+     * 캠페인 현황 구독
+     */
+    public SseEmitter subscribeCampaign(Long campaignId) {
+        List<SseEmitter> subscribers = campaignSubscribers.computeIfAbsent(campaignId, id -> new CopyOnWriteArrayList<>());
+        SseEmitter emitter = register(subscribers);
+
+        // 다음 틱까지 기다리지 않도록 현재 현황 즉시 전송
+        send(subscribers, emitter, "status", serialize(campaignLiveStatusService.snapshot(campaignId)));
+        return emitter;
+    }
+
+    /**
+     * 처리 로그 구독
+     */
+    public SseEmitter subscribeLogs() {
+        SseEmitter emitter = register(logSubscribers);
+
+        List<ProcessingLogService.LogEntry> recent = processingLogService.getRecentLogs(INITIAL_LOG_COUNT).reversed();
+        send(logSubscribers, emitter, "logs", serialize(recent));
+        return emitter;
+    }
+
+    /**
+     * 주기적 샘플링 + 팬아웃
+     */
+    @Scheduled(fixedDelayString = "${dashboard.stream.interval-ms:1000}")
+    public void publish() {
+        campaignSubscribers.forEach((campaignId, subscribers) -> {
+            if (subscribers.isEmpty()) {
+                return; // 구독자 없는 캠페인은 조회하지 않음 (목록은 재구독 경합 방지를 위해 유지)
+            }
+            try {
+                broadcast(subscribers, "status", serialize(campaignLiveStatusService.snapshot(campaignId)));
+            } catch (Exception e) {
+                log.warn("⚠️ 캠페인 현황 발행 실패 - campaignId: {}", campaignId, e);
+            }
+        });
+
+        publishLogs();
+    }
+
+    private void publishLogs() {
+        if (logSubscribers.isEmpty()) {
+            lastLogSequence = processingLogService.getLastSequence();
+            return;
+        }
+
+        List<ProcessingLogService.LogEntry> newLogs = processingLogService.getLogsAfter(lastLogSequence);
+        if (!newLogs.isEmpty()) {
+            lastLogSequence = newLogs.get(newLogs.size() - 1).getSequence();
+            idleTicks = 0;
+            broadcast(logSubscribers, "logs", serialize(newLogs));
+            return;
+        }
+
+        // 끊긴 연결은 전송 실패로만 감지되므로 주기적으로 주석 프레임 전송
+        if (++idleTicks >= HEARTBEAT_TICKS) {
+            idleTicks = 0;
+            for (SseEmitter emitter : logSubscribers) {
+                try {
+                    emitter.send(SseEmitter.event().comment("heartbeat"));
+                } catch (IOException | IllegalStateException e) {
+                    logSubscribers.remove(emitter);
+                }
+            }
+        }
+    }
+
+    private SseEmitter register(List<SseEmitter> subscribers) {
+        SseEmitter emitter = new SseEmitter(EMITTER_TIMEOUT_MS);
+        subscribers.add(emitter);
+        emitter.onCompletion(() -> subscribers.remove(emitter));
+        emitter.onTimeout(() -> subscribers.remove(emitter));
+        emitter.onError(e -> subscribers.remove(emitter));
+        return emitter;
+    }
+
+    /**
+     * 직렬화된 동일 프레임을 모든 구독자에게 전송
+     */
+    private void broadcast(List<SseEmitter> subscribers, String eventName, String frame) {
+        for (SseEmitter emitter : subscribers) {
+            send(subscribers, emitter, eventName, frame);
+        }
+    }
+
+    private void send(List<SseEmitter> subscribers, SseEmitter emitter, String eventName, String frame) {
+        try {
+            emitter.send(SseEmitter.event()
+                    .name(eventName)
+                    .data(frame));
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트 종료 → 구독 해제
+            subscribers.remove(emitter);
+        }
+    }
+
+    private String serialize(Object payload) {
+        return jsonMapper.writeValueAsString(payload);
+    }
+}
@@ -0,0 +1,212 @@
+package io.eventdriven.batchkafka.application.service;
+
+import io.eventdriven.batchkafka.api.exception.business.CampaignNotFoundException;
+import io.eventdriven.batchkafka.domain.repository.CampaignRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 참여 이력 스트리밍 내보내기 (당첨자 명단 / 감사용)
+ *
+ * === 배경 ===
+ * 기존 조회 API는 전체 결과를 List로 적재 → 수백만 건이면 힙 부족
+ *
+ * === 방식 ===
+ * - (created_at, id) 키셋 페이지네이션 → (campaign_id, created_at) 인덱스 순서 그대로 읽음 (정렬/앞부분 재스캔 없음)
+ *   → 페이지마다 짧은 단일 쿼리 (긴 트랜잭션/스냅샷/잠금 없음), OFFSET 스캔 없음
+ * - 페이지마다 짧은 읽기 전용 트랜잭션 → 복제본 라우팅 활성화 시 복제본에서 읽음 (Consumer 쓰기 풀 잠식 없음)
+ * - 페이지 결과는 엔티티/List 없이 행 단위로 응답 스트림에 바로 기록
+ * - 메모리 사용량은 페이지 크기 + 출력 버퍼로 고정 (전체 건수와 무관)
+ */
+@Slf4j
+@Service
+public class ParticipationExportService {
+
+    /**
+     * 키셋 페이지 크기
+     */
+    static final int PAGE_SIZE = 5_000;
+
+    private static final String PAGE_SQL = """
+            SELECT id, user_id, status, kafka_partition, kafka_offset, kafka_timestamp,
+                   processing_sequence, created_at
+            FROM participation_history
+            WHERE campaign_id = ?
+              AND created_at >= ?
+              AND created_at < ?
+              AND (created_at > ? OR (created_at = ? AND id > ?))
+            ORDER BY created_at ASC, id ASC
+            LIMIT ?
+            """;
+
+    private static final String CSV_HEADER =
+            "id,campaign_id,user_id,status,kafka_partition,kafka_offset,kafka_timestamp,processing_sequence,created_at\n";
+
+    private final CampaignRepository campaignRepository;
+    private final JdbcTemplate exportJdbcTemplate;
+    private final TransactionTemplate pageTransaction;
+
+    public ParticipationExportService(CampaignRepository campaignRepository, DataSource dataSource,
+                                      PlatformTransactionManager transactionManager) {
+        this.campaignRepository = campaignRepository;
+        this.exportJdbcTemplate = new JdbcTemplate(dataSource);
+        this.exportJdbcTemplate.setFetchSize(1_000);
+        this.pageTransaction = new TransactionTemplate(transactionManager);
+        this.pageTransaction.setReadOnly(true);
+    }
+
+    /**
+     * 내보내기 형식
+     */
+    public enum Format {
+        CSV("text/csv", "csv"),
+        NDJSON("application/x-ndjson", "ndjson");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String contentType() {
+            return contentType;
+        }
+
+        public String extension() {
+            return extension;
+        }
+
+        public static Format from(String value) {
+            for (Format format : values()) {
+                if (format.name().equalsIgnoreCase(value)) {
+                    return format;
+                }
+            }
+            throw new IllegalArgumentException("지원하지 않는 내보내기 형식입니다: " + value + " (csv, ndjson)");
+        }
+    }
+
+    /**
+     * 스트리밍 시작 전 검증 (응답 헤더 전송 후에는 에러 응답으로 바꿀 수 없음)
+     */
+    public void requireCampaign(Long campaignId) {
+        if (!campaignRepository.existsById(campaignId)) {
+            throw new CampaignNotFoundException(campaignId);
+        }
+    }
+
+    /**
+     * 캠페인 참여 이력을 출력 스트림에 기록 [start, end)
+     *
+     * @return 기록한 행 수
+     */
+    public long export(Long campaignId, LocalDateTime start, LocalDateTime end,
+                       Format format, boolean gzip, OutputStream out) throws IOException {
+        long startTime = System.currentTimeMillis();
+
+        OutputStream target = gzip ? new GZIPOutputStream(out, 64 * 1024) : out;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(target, StandardCharsets.UTF_8), 64 * 1024);
+
+        if (format == Format.CSV) {
+            writer.write(CSV_HEADER);
+        }
+
+        Timestamp from = Timestamp.valueOf(start);
+        Timestamp to = Timestamp.valueOf(end);
+        // 키셋 커서 (created_at, id) > (lastCreatedAt, lastId) - 행 비교를 범위 최적화 가능한 OR 형태로 풀어 씀
+        Timestamp[] lastCreatedAt = {from};
+        long[] lastId = {0L};
+        long total = 0;
+
+        try {
+            while (true) {
+                int[] pageRows = {0};
+                pageTransaction.executeWithoutResult(status -> exportJdbcTemplate.query(PAGE_SQL, rs -> {
+                    lastCreatedAt[0] = rs.getTimestamp("created_at");
+                    lastId[0] = rs.getLong("id");
+                    pageRows[0]++;
+                    writeRow(writer, format, campaignId, rs);
+                }, campaignId, from, to, lastCreatedAt[0], lastCreatedAt[0], lastId[0], PAGE_SIZE));
+
+                total += pageRows[0];
+                writer.flush(); // 페이지 단위로 클라이언트에 전달
+                if (pageRows[0] < PAGE_SIZE) {
+                    break;
+                }
+            }
+        } catch (UncheckedIOException e) {
+            // 클라이언트 연결 종료 등 출력 실패
+            throw e.getCause();
+        }
+
+        writer.flush();
+        if (target instanceof GZIPOutputStream gzipOut) {
+            gzipOut.finish(); // gzip 트레일러 기록 (응답 스트림 자체는 컨테이너가 닫음)
+        }
+
+        log.info("📤 참여 이력 내보내기 완료 - campaignId: {}, 형식: {}, gzip: {}, 건수: {}, 소요: {}ms",
+                campaignId, format, gzip, total, System.currentTimeMillis() - startTime);
+        return total;
+    }
+
+    private void writeRow(Writer writer, Format format, Long campaignId, ResultSet rs) throws SQLException {
+        long id = rs.getLong("id");
+        long userId = rs.getLong("user_id");
+        String status = rs.getString("status");
+        String partition = nullable(rs.getObject("kafka_partition"));
+        String offset = nullable(rs.getObject("kafka_offset"));
+        String timestamp = nullable(rs.getObject("kafka_timestamp"));
+        String sequence = nullable(rs.getObject("processing_sequence"));
+        Timestamp createdAt = rs.getTimestamp("created_at");
+        String createdAtText = createdAt != null ? createdAt.toLocalDateTime().toString() : null;
+
+        try {
+            if (format == Format.CSV) {
+                writer.write(id + "," + campaignId + "," + userId + "," + status + ","
+                        + orEmpty(partition) + "," + orEmpty(offset) + "," + orEmpty(timestamp) + ","
+                        + orEmpty(sequence) + "," + orEmpty(createdAtText) + "\n");
+            } else {
+                // 값이 숫자/enum/ISO 시각뿐이므로 이스케이프 없이 직접 구성
+                writer.write("{\"id\":" + id
+                        + ",\"campaignId\":" + campaignId
+                        + ",\"userId\":" + userId
+                        + ",\"status\":\"" + status + "\""
+                        + ",\"kafkaPartition\":" + partition
+                        + ",\"kafkaOffset\":" + offset
+                        + ",\"kafkaTimestamp\":" + timestamp
+                        + ",\"processingSequence\":" + sequence
+                        + ",\"createdAt\":" + (createdAtText != null ? "\"" + createdAtText + "\"" : "null")
+                        + "}\n");
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private String nullable(Object value) {
+        return value != null ? value.toString() : "null";
+    }
+
+    private String orEmpty(String value) {
+        return value == null || "null".equals(value) ? "" : value;
+    }
+}
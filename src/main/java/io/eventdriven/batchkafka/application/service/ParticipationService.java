@@ -19,6 +19,7 @@ public class ParticipationService {
 
     private final KafkaTemplate<String, String> kafkaTemplate;
     private final JsonMapper jsonMapper;
+    private final TrafficSeriesService trafficSeriesService;
 
     private static final String TOPIC = "campaign-participation-topic";
 
@@ -26,8 +27,10 @@ public class ParticipationService {
      * 선착순 참여 요청 처리 (비동기 + 콜백)
      * - Kafka로 이벤트 발행
      * - 전송 결과를 비동기로 확인하여 실패 시 로깅 및 알림
+     *
+     * @return 전송 결과 콜백까지 끝난 future (실패 시 KafkaPublishException으로 완료)
      */
-    public void participate(Long campaignId, Long userId) {
+    public CompletableFuture<?> participate(Long campaignId, Long userId) {
         ParticipationEvent event = new ParticipationEvent(campaignId, userId);
 
         try {
@@ -44,7 +47,7 @@ public class ParticipationService {
                     kafkaTemplate.send(TOPIC, key, message);
 
             // 3. 전송 결과 콜백 처리
-            future.whenComplete((result, ex) -> {
+            return future.whenComplete((result, ex) -> {
                 if (ex != null) {
                     // 전송 실패
                     handleKafkaPublishFailure(campaignId, userId, message, ex);
@@ -65,6 +68,8 @@ public class ParticipationService {
      * Kafka 전송 성공 처리
      */
     private void handleKafkaPublishSuccess(Long campaignId, Long userId, SendResult<String, String> result) {
+        trafficSeriesService.recordAccepted(campaignId); // 초 단위 트래픽 시계열 (메모리 누적)
+
         log.info("✅ Kafka 전송 성공 - Campaign ID: {}, User ID: {}, Offset: {}, Partition: {}",
                 campaignId,
                 userId,
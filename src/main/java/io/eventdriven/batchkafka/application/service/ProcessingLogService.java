@@ -7,8 +7,10 @@ import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * 실시간 모니터링용 처리 로그 수집 서비스
@@ -21,12 +23,14 @@ public class ProcessingLogService {
     private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS");
 
     private final ConcurrentLinkedDeque<LogEntry> logs = new ConcurrentLinkedDeque<>();
+    private final AtomicLong sequence = new AtomicLong(0); // SSE 증분 전송용 로그 번호
 
     /**
      * 로그 추가
      */
     public void addLog(String level, String message) {
         LogEntry entry = new LogEntry(
+                sequence.incrementAndGet(),
                 LocalDateTime.now().format(FORMATTER),
                 level,
                 message
@@ -72,6 +76,30 @@ public class ProcessingLogService {
                 .toList();
     }
 
+    /**
+     * 지정 번호 이후 로그 조회 (오래된 로그가 먼저, SSE 증분 전송용)
+     */
+    public List<LogEntry> getLogsAfter(long afterSequence) {
+        List<LogEntry> result = new ArrayList<>();
+        Iterator<LogEntry> newestFirst = logs.descendingIterator();
+        while (newestFirst.hasNext()) {
+            LogEntry entry = newestFirst.next();
+            if (entry.getSequence() <= afterSequence) {
+                break;
+            }
+            result.add(entry);
+        }
+        Collections.reverse(result);
+        return result;
+    }
+
+    /**
+     * 마지막 로그 번호
+     */
+    public long getLastSequence() {
+        return sequence.get();
+    }
+
     /**
      * 모든 로그 조회
      */
@@ -90,11 +118,13 @@ public class ProcessingLogService {
 
     @Getter
     public static class LogEntry {
+        private final long sequence;
         private final String timestamp;
         private final String level;
         private final String message;
 
-        public LogEntry(String timestamp, String level, String message) {
+        public LogEntry(long sequence, String timestamp, String level, String message) {
+            this.sequence = sequence;
             this.timestamp = timestamp;
             this.level = level;
             this.message = message;
@@ -0,0 +1,252 @@
+package io.eventdriven.batchkafka.application.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 초 단위 트래픽 시계열 (Redis)
+ *
+ * === 목적 ===
+ * 드롭 중 "초당 유입 vs 처리량", "초당 고유 사용자 수"를 MySQL 스캔 없이 클러스터 전체 기준으로 조회
+ *
+ * === 구조 ===
+ * - traffic:{campaign:ID}:sec:EPOCH        HASH (requested / accepted / succeeded / failed)
+ * - traffic:{campaign:ID}:sec:EPOCH:users  HyperLogLog (고유 userId, 키당 최대 12KB)
+ * - 모든 키 TTL 적용 (자동 만료), 해시 태그로 캠페인별 같은 슬롯 → 구간 PFCOUNT 합집합 가능
+ *
+ * === 기록 방식 ===
+ * 요청 경로에서 Redis를 직접 호출하지 않고 노드 메모리에 초 단위로 누적 후
+ * 주기적으로 파이프라인 1회로 반영 (HINCRBY + PFADD + EXPIRE)
+ * - 진행 중인 초는 1초 유예 후 반영 (늦게 도착한 증분 누락 방지)
+ */
+@Slf4j
+@Service
+public class TrafficSeriesService {
+
+    /**
+     * 한 번에 조회 가능한 최대 버킷 수 (1시간)
+     */
+    public static final int MAX_RANGE_SECONDS = 3600;
+
+    private static final String FIELD_REQUESTED = "requested";
+    private static final String FIELD_ACCEPTED = "accepted";
+    private static final String FIELD_SUCCEEDED = "succeeded";
+    private static final String FIELD_FAILED = "failed";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Duration ttl;
+
+    private final Map<BucketKey, Bucket> pending = new ConcurrentHashMap<>();
+
+    public TrafficSeriesService(
+            RedisTemplate<String, String> redisTemplate,
+            @Value("${traffic-series.ttl-seconds:86400}") long ttlSeconds
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+    }
+
+    private record BucketKey(Long campaignId, long epochSecond) {
+    }
+
+    /**
+     * 노드 메모리 누적 버킷 (초 × 캠페인)
+     */
+    private static class Bucket {
+        final LongAdder requested = new LongAdder();
+        final LongAdder accepted = new LongAdder();
+        final LongAdder succeeded = new LongAdder();
+        final LongAdder failed = new LongAdder();
+        final Set<String> userIds = ConcurrentHashMap.newKeySet();
+    }
+
+    /**
+     * 참여 요청 유입 (대기열/토큰 검증 전)
+     */
+    public void recordRequested(Long campaignId, Long userId) {
+        Bucket bucket = currentBucket(campaignId);
+        bucket.requested.increment();
+        bucket.userIds.add(String.valueOf(userId));
+    }
+
+    /**
+     * Kafka 발행 성공 (접수 완료)
+     */
+    public void recordAccepted(Long campaignId) {
+        currentBucket(campaignId).accepted.increment();
+    }
+
+    /**
+     * Consumer 처리 결과 (배치 커밋 후)
+     */
+    public void recordProcessed(Long campaignId, long succeeded, long failed) {
+        Bucket bucket = currentBucket(campaignId);
+        bucket.succeeded.add(succeeded);
+        bucket.failed.add(failed);
+    }
+
+    private Bucket currentBucket(Long campaignId) {
+        long epochSecond = System.currentTimeMillis() / 1000;
+        return pending.computeIfAbsent(new BucketKey(campaignId, epochSecond), key -> new Bucket());
+    }
+
+    /**
+     * 완료된 초 버킷을 Redis에 반영 (파이프라인 1회)
+     */
+    @Scheduled(fixedDelayString = "${traffic-series.flush-interval-ms:1000}")
+    public void flush() {
+        long flushBefore = System.currentTimeMillis() / 1000 - 1;
+
+        Map<BucketKey, Bucket> ready = new HashMap<>();
+        Iterator<Map.Entry<BucketKey, Bucket>> iterator = pending.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<BucketKey, Bucket> entry = iterator.next();
+            if (entry.getKey().epochSecond() < flushBefore) {
+                ready.put(entry.getKey(), entry.getValue());
+                iterator.remove();
+            }
+        }
+        if (ready.isEmpty()) {
+            return;
+        }
+
+        try {
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public Object execute(RedisOperations operations) throws DataAccessException {
+                    RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                    ready.forEach((key, bucket) -> write(ops, key, bucket));
+                    return null;
+                }
+            });
+        } catch (Exception e) {
+            // 통계용 데이터이므로 실패 시 해당 구간만 유실 (참여 처리에는 영향 없음)
+            log.warn("⚠️ 트래픽 시계열 반영 실패 - {}개 버킷 유실", ready.size(), e);
+        }
+    }
+
+    private void write(RedisOperations<String, String> ops, BucketKey key, Bucket bucket) {
+        String countersKey = countersKey(key.campaignId(), key.epochSecond());
+        incrementIfPositive(ops, countersKey, FIELD_REQUESTED, bucket.requested.sum());
+        incrementIfPositive(ops, countersKey, FIELD_ACCEPTED, bucket.accepted.sum());
+        incrementIfPositive(ops, countersKey, FIELD_SUCCEEDED, bucket.succeeded.sum());
+        incrementIfPositive(ops, countersKey, FIELD_FAILED, bucket.failed.sum());
+        ops.expire(countersKey, ttl);
+
+        if (!bucket.userIds.isEmpty()) {
+            String usersKey = usersKey(key.campaignId(), key.epochSecond());
+            ops.opsForHyperLogLog().add(usersKey, bucket.userIds.toArray(String[]::new));
+            ops.expire(usersKey, ttl);
+        }
+    }
+
+    private void incrementIfPositive(RedisOperations<String, String> ops, String key, String field, long delta) {
+        if (delta > 0) {
+            ops.opsForHash().increment(key, field, delta);
+        }
+    }
+
+    /**
+     * 구간 시계열 조회 [fromEpochSecond, toEpochSecond)
+     * - 초별 카운터 + 고유 사용자 수, 구간 전체 고유 사용자 수 (HLL 합집합)
+     */
+    public Map<String, Object> range(Long campaignId, long fromEpochSecond, long toEpochSecond) {
+        int seconds = (int) (toEpochSecond - fromEpochSecond);
+
+        List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                for (long second = fromEpochSecond; second < toEpochSecond; second++) {
+                    ops.opsForHash().entries(countersKey(campaignId, second));
+                    ops.opsForHyperLogLog().size(usersKey(campaignId, second));
+                }
+                return null;
+            }
+        });
+
+        List<String> usersKeys = new ArrayList<>(seconds);
+        for (long second = fromEpochSecond; second < toEpochSecond; second++) {
+            usersKeys.add(usersKey(campaignId, second));
+        }
+        Long rangeUniqueUsers = usersKeys.isEmpty()
+                ? Long.valueOf(0L)
+                : redisTemplate.opsForHyperLogLog().size(usersKeys.toArray(String[]::new));
+
+        long[] totals = new long[4];
+        List<Map<String, Object>> buckets = new ArrayList<>();
+        for (int i = 0; i < seconds; i++) {
+            Map<?, ?> counters = (Map<?, ?>) results.get(i * 2);
+            long uniqueUsers = ((Number) results.get(i * 2 + 1)).longValue();
+            if (counters.isEmpty() && uniqueUsers == 0) {
+                continue; // 트래픽 없는 초는 생략
+            }
+
+            long requested = field(counters, FIELD_REQUESTED);
+            long accepted = field(counters, FIELD_ACCEPTED);
+            long succeeded = field(counters, FIELD_SUCCEEDED);
+            long failed = field(counters, FIELD_FAILED);
+            totals[0] += requested;
+            totals[1] += accepted;
+            totals[2] += succeeded;
+            totals[3] += failed;
+
+            Map<String, Object> bucket = new HashMap<>();
+            bucket.put("epochSecond", fromEpochSecond + i);
+            bucket.put(FIELD_REQUESTED, requested);
+            bucket.put(FIELD_ACCEPTED, accepted);
+            bucket.put(FIELD_SUCCEEDED, succeeded);
+            bucket.put(FIELD_FAILED, failed);
+            bucket.put("uniqueUsers", uniqueUsers);
+            buckets.add(bucket);
+        }
+
+        Map<String, Object> summary = new HashMap<>();
+        summary.put(FIELD_REQUESTED, totals[0]);
+        summary.put(FIELD_ACCEPTED, totals[1]);
+        summary.put(FIELD_SUCCEEDED, totals[2]);
+        summary.put(FIELD_FAILED, totals[3]);
+        summary.put("processed", totals[2] + totals[3]);
+        summary.put("uniqueUsers", rangeUniqueUsers != null ? rangeUniqueUsers : 0L);
+        summary.put("activeSeconds", buckets.size());
+
+        Map<String, Object> data = new HashMap<>();
+        data.put("campaignId", campaignId);
+        data.put("fromEpochSecond", fromEpochSecond);
+        data.put("toEpochSecond", toEpochSecond);
+        data.put("summary", summary);
+        data.put("buckets", buckets);
+        return data;
+    }
+
+    private long field(Map<?, ?> counters, String field) {
+        Object value = counters.get(field);
+        return value != null ? Long.parseLong(value.toString()) : 0L;
+    }
+
+    private String countersKey(Long campaignId, long epochSecond) {
+        return "traffic:{campaign:" + campaignId + "}:sec:" + epochSecond;
+    }
+
+    private String usersKey(Long campaignId, long epochSecond) {
+        return countersKey(campaignId, epochSecond) + ":users";
+    }
+}
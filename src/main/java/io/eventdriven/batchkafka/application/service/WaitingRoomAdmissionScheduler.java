@@ -0,0 +1,169 @@
+package io.eventdriven.batchkafka.application.service;
+
+import io.eventdriven.batchkafka.application.service.WaitingRoomService.AdmissionLease;
+import io.eventdriven.batchkafka.application.service.WaitingRoomService.AdmissionState;
+import io.eventdriven.batchkafka.config.WaitingRoomProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 대기열 입장 스케줄러
+ * - 주기적으로 Consumer 적체량(lag)을 보고 입장 속도 조절
+ * - 대기 중인 캠페인들에 입장 인원을 균등 분배하여 토큰 발급
+ *
+ * === 입장 속도 제어 ===
+ * Consumer 처리량은 입장시킨 만큼만 나오므로 처리량을 입장 속도로 쓰면 한 번 떨어진 속도가 회복되지 않음
+ * → 적체량 기준 AIMD: 목표 이하면 조금씩 올려 여유 처리량을 탐색, 목표 초과면 비율로 감속
+ * - Kafka 버퍼/지연시간이 버스트 크기에 좌우되지 않고 목표 적체량 근처에 머무름
+ *
+ * === 다중 인스턴스 ===
+ * 인스턴스마다 같은 입장 속도로 입장시키면 실제 입장 속도가 인스턴스 수에 비례해 커짐 (적체량은 클러스터 전체 값)
+ * → Redis 리더 임대(waiting:admission:lease)를 가진 인스턴스 하나만 입장 처리, 주기마다 임대 연장
+ * - 입장 속도/직전 할당량 충족 여부는 Redis(waiting:admission:state)에 공유 → 리더가 바뀌면 이어받아 현재 속도에서 계속 조절
+ * - 보유 인스턴스가 죽으면 임대 만료(admission-lease-ms)까지 입장이 멈춘 뒤 다른 인스턴스가 인계
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WaitingRoomAdmissionScheduler {
+
+    private final WaitingRoomService waitingRoomService;
+    private final ConsumerThroughputMonitor consumerThroughputMonitor;
+    private final WaitingRoomProperties waitingRoomProperties;
+
+    /**
+     * 리더 임대 보유자 식별자
+     */
+    private final String owner = hostName() + ":" + UUID.randomUUID();
+
+    /**
+     * 소수점 이하 입장 인원 누적 (짧은 주기에서도 목표 속도 유지)
+     */
+    private double carryOver = 0.0;
+
+    /**
+     * 현재 입장 속도 (건/초, 0이면 아직 초기화 전) - 리더일 때만 유효, 임대 획득 시 Redis에서 복원
+     */
+    private double currentRate = 0.0;
+
+    /**
+     * 직전 주기에 할당량을 모두 입장시켰는지 (대기 인원이 모자라 덜 입장했으면 속도를 올리지 않음)
+     */
+    private boolean lastQuotaFilled = false;
+
+    @Scheduled(fixedDelayString = "${waiting-room.admission-interval-ms:200}")
+    public void admit() {
+        if (!waitingRoomProperties.isEnabled()) {
+            return;
+        }
+
+        try {
+            AdmissionLease lease = waitingRoomService.tryAcquireAdmissionLease(owner);
+            if (lease == AdmissionLease.NOT_HELD) {
+                carryOver = 0.0;
+                return;
+            }
+            if (lease == AdmissionLease.ACQUIRED) {
+                restoreState();
+            }
+
+            Set<String> campaignIds = waitingRoomService.getActiveCampaignIds();
+            if (campaignIds.isEmpty()) {
+                carryOver = 0.0;
+                if (lastQuotaFilled) {
+                    lastQuotaFilled = false;
+                    saveState();
+                }
+                return;
+            }
+
+            OptionalLong backlog = consumerThroughputMonitor.currentBacklog();
+            double ratePerSecond = resolveAdmissionRate(backlog);
+
+            double quota = ratePerSecond * waitingRoomProperties.getAdmissionIntervalMs() / 1000.0 + carryOver;
+            int perCampaign = (int) (quota / campaignIds.size());
+            carryOver = quota - (double) perCampaign * campaignIds.size();
+
+            if (perCampaign == 0) {
+                saveState();
+                return;
+            }
+
+            int totalAdmitted = 0;
+            for (String campaignId : campaignIds) {
+                totalAdmitted += waitingRoomService.admit(Long.valueOf(campaignId), perCampaign);
+            }
+            lastQuotaFilled = totalAdmitted >= perCampaign * campaignIds.size();
+            saveState();
+
+            if (totalAdmitted > 0) {
+                log.debug("🎟️ 대기열 입장 처리 - 캠페인: {}개, 입장: {}명, 입장 속도: {}건/초, Consumer 적체량: {}",
+                        campaignIds.size(), totalAdmitted, Math.round(ratePerSecond),
+                        backlog.isPresent() ? backlog.getAsLong() + "건" : "보고 없음");
+            }
+
+        } catch (Exception e) {
+            log.error("🚨 대기열 입장 처리 실패", e);
+        }
+    }
+
+    /**
+     * 입장 속도 결정 (건/초)
+     * - 적체량 <= 목표: 주기마다 increaseRatio만큼 증가 (여유 처리량 탐색, 직전 할당량을 다 채운 경우만)
+     * - 적체량 > 목표: 주기마다 decreaseRatio를 곱해 감속
+     * - 적체량을 모르면(lag 보고 없음) 현재 속도 유지, [min, max] 범위로 제한
+     *
+     * @param backlog 이번 주기에 조회한 클러스터 전체 적체량
+     */
+    private double resolveAdmissionRate(OptionalLong backlog) {
+        if (currentRate == 0.0) {
+            currentRate = waitingRoomProperties.getInitialRatePerSecond();
+        }
+
+        if (backlog.isPresent()) {
+            if (backlog.getAsLong() > waitingRoomProperties.getTargetBacklog()) {
+                currentRate *= waitingRoomProperties.getDecreaseRatio();
+            } else if (lastQuotaFilled) {
+                currentRate *= 1 + waitingRoomProperties.getIncreaseRatio();
+            }
+        }
+
+        currentRate = Math.max(waitingRoomProperties.getMinRatePerSecond(),
+                Math.min(waitingRoomProperties.getMaxRatePerSecond(), currentRate));
+        return currentRate;
+    }
+
+    /**
+     * 임대 획득 시 이전 리더가 남긴 입장 속도 복원 (없으면 초기 속도부터)
+     * - 이 인스턴스가 예전에 리더였더라도 그 사이 다른 인스턴스가 조절했을 수 있으므로 로컬 값은 버림
+     */
+    private void restoreState() {
+        Optional<AdmissionState> state = waitingRoomService.getAdmissionState();
+        currentRate = state.map(AdmissionState::ratePerSecond).orElse(0.0);
+        lastQuotaFilled = state.map(AdmissionState::lastQuotaFilled).orElse(false);
+        carryOver = 0.0;
+        log.info("🎟️ 대기열 입장 리더 임대 획득 - {} (입장 속도: {})", owner,
+                currentRate > 0 ? Math.round(currentRate) + "건/초" : "초기값");
+    }
+
+    private void saveState() {
+        waitingRoomService.saveAdmissionState(new AdmissionState(currentRate, lastQuotaFilled));
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "unknown";
+        }
+    }
+}
@@ -0,0 +1,243 @@
+package io.eventdriven.batchkafka.application.service;
+
+import io.eventdriven.batchkafka.config.WaitingRoomProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Redis 기반 가상 대기열 서비스
+ *
+ * 참여 API 앞단에서 유입 속도를 제어
+ * - Sorted Set에 진입 순번(score)으로 등록하여 선착순 대기 순번 제공
+ * - 입장 스케줄러가 Consumer 처리량만큼만 꺼내서 1회용 입장 토큰 발급
+ * - 참여 API는 유효한 토큰을 가진 요청만 Kafka로 발행
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WaitingRoomService {
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final DefaultRedisScript<Long> enterWaitingRoomScript;
+    private final DefaultRedisScript<Long> admitWaitingUsersScript;
+    private final DefaultRedisScript<Long> consumeAdmissionTokenScript;
+    private final DefaultRedisScript<Long> acquireAdmissionLeaseScript;
+    private final WaitingRoomProperties waitingRoomProperties;
+
+    private static final String QUEUE_KEY_PREFIX = "waiting:campaign:";
+    private static final String SEQUENCE_KEY_PREFIX = "waiting:seq:campaign:";
+    private static final String ACTIVE_CAMPAIGNS_KEY = "waiting:active-campaigns";
+    private static final String TOKEN_KEY_PREFIX = "admission:token:campaign:";
+    private static final String ADMISSION_LEASE_KEY = "waiting:admission:lease";
+    private static final String ADMISSION_STATE_KEY = "waiting:admission:state";
+    private static final String STATE_RATE_FIELD = "rate";
+    private static final String STATE_QUOTA_FILLED_FIELD = "quota-filled";
+
+    /**
+     * 입장 스케줄러 리더 임대 결과
+     */
+    public enum AdmissionLease {
+        /** 다른 인스턴스가 보유 중 - 이번 주기 입장 처리 안 함 */
+        NOT_HELD,
+        /** 새로 획득 - 공유 입장 속도를 다시 읽어야 함 (그 사이 다른 인스턴스가 갱신했을 수 있음) */
+        ACQUIRED,
+        /** 보유 중인 임대 연장 */
+        RENEWED
+    }
+
+    /**
+     * 리더가 공유하는 입장 속도 상태 (리더가 바뀌어도 현재 속도에서 이어서 조절)
+     */
+    public record AdmissionState(double ratePerSecond, boolean lastQuotaFilled) {
+    }
+
+    /**
+     * 대기열 진입
+     *
+     * @param campaignId 캠페인 ID
+     * @param userId 사용자 ID
+     * @return 대기 순번 (1부터 시작, 이미 입장 토큰을 받은 경우 0)
+     */
+    public long enter(Long campaignId, Long userId) {
+        List<String> keys = Arrays.asList(
+                getQueueKey(campaignId),
+                getSequenceKey(campaignId),
+                ACTIVE_CAMPAIGNS_KEY,
+                getTokenKey(campaignId, userId)
+        );
+
+        Long rank = redisTemplate.execute(
+                enterWaitingRoomScript,
+                keys,
+                String.valueOf(userId),
+                String.valueOf(campaignId)
+        );
+
+        if (rank == null || rank < 0) {
+            return 0L;
+        }
+        return rank + 1;
+    }
+
+    /**
+     * 대기 순번 조회
+     *
+     * @return 대기 순번 (1부터 시작, 대기열에 없으면 null)
+     */
+    public Long getPosition(Long campaignId, Long userId) {
+        Long rank = redisTemplate.opsForZSet().rank(getQueueKey(campaignId), String.valueOf(userId));
+        return rank != null ? rank + 1 : null;
+    }
+
+    /**
+     * 발급된 입장 토큰 조회 (폴링용)
+     *
+     * @return 입장 토큰 (미발급 또는 만료 시 null)
+     */
+    public String getToken(Long campaignId, Long userId) {
+        return redisTemplate.opsForValue().get(getTokenKey(campaignId, userId));
+    }
+
+    /**
+     * 현재 대기 인원
+     */
+    public long getQueueSize(Long campaignId) {
+        Long size = redisTemplate.opsForZSet().zCard(getQueueKey(campaignId));
+        return size != null ? size : 0L;
+    }
+
+    /**
+     * 대기열 앞에서부터 최대 count명 입장 처리 (토큰 발급)
+     *
+     * @return 실제 입장 처리된 인원
+     */
+    public int admit(Long campaignId, int count) {
+        if (count <= 0) {
+            return 0;
+        }
+
+        List<String> args = new ArrayList<>(count + 3);
+        args.add(String.valueOf(campaignId));
+        args.add(TOKEN_KEY_PREFIX + campaignId + ":user:");
+        args.add(String.valueOf(waitingRoomProperties.getTokenTtlSeconds() * 1000));
+        for (int i = 0; i < count; i++) {
+            args.add(UUID.randomUUID().toString());
+        }
+
+        Long admitted = redisTemplate.execute(
+                admitWaitingUsersScript,
+                Arrays.asList(getQueueKey(campaignId), ACTIVE_CAMPAIGNS_KEY),
+                args.toArray()
+        );
+        return admitted != null ? admitted.intValue() : 0;
+    }
+
+    /**
+     * 입장 토큰 검증 및 소모 (1회용)
+     *
+     * @return 유효한 토큰이면 true
+     */
+    public boolean consumeToken(Long campaignId, Long userId, String token) {
+        if (token == null || token.isBlank()) {
+            return false;
+        }
+        Long result = redisTemplate.execute(
+                consumeAdmissionTokenScript,
+                Collections.singletonList(getTokenKey(campaignId, userId)),
+                token
+        );
+        return result != null && result == 1L;
+    }
+
+    /**
+     * 소모한 입장 토큰 복구 (Kafka 발행 실패 시 재시도 가능하도록)
+     * - 이미 새 토큰이 발급된 경우 덮어쓰지 않음
+     */
+    public void restoreToken(Long campaignId, Long userId, String token) {
+        redisTemplate.opsForValue().setIfAbsent(
+                getTokenKey(campaignId, userId),
+                token,
+                Duration.ofSeconds(waitingRoomProperties.getTokenTtlSeconds())
+        );
+    }
+
+    /**
+     * 대기 인원이 있는 캠페인 목록
+     */
+    public Set<String> getActiveCampaignIds() {
+        Set<String> members = redisTemplate.opsForSet().members(ACTIVE_CAMPAIGNS_KEY);
+        return members != null ? members : Collections.emptySet();
+    }
+
+    /**
+     * 입장 스케줄러 리더 임대 획득/연장
+     * - 임대를 가진 인스턴스 하나만 입장 처리 (인스턴스마다 입장시키면 입장 속도가 인스턴스 수만큼 커짐)
+     * - 보유자가 죽으면 임대 만료 후 다른 인스턴스가 획득
+     *
+     * @param owner 인스턴스 식별자
+     */
+    public AdmissionLease tryAcquireAdmissionLease(String owner) {
+        Long result = redisTemplate.execute(
+                acquireAdmissionLeaseScript,
+                Collections.singletonList(ADMISSION_LEASE_KEY),
+                owner,
+                String.valueOf(waitingRoomProperties.getAdmissionLeaseMs())
+        );
+        if (result == null || result == 0L) {
+            return AdmissionLease.NOT_HELD;
+        }
+        return result == 2L ? AdmissionLease.ACQUIRED : AdmissionLease.RENEWED;
+    }
+
+    /**
+     * 공유 입장 속도 상태 조회
+     *
+     * @return 저장된 상태 (아직 입장 처리한 적이 없으면 empty)
+     */
+    public Optional<AdmissionState> getAdmissionState() {
+        List<Object> values = redisTemplate.opsForHash()
+                .multiGet(ADMISSION_STATE_KEY, List.<Object>of(STATE_RATE_FIELD, STATE_QUOTA_FILLED_FIELD));
+        if (values == null || values.get(0) == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new AdmissionState(
+                Double.parseDouble(String.valueOf(values.get(0))),
+                Boolean.parseBoolean(String.valueOf(values.get(1)))
+        ));
+    }
+
+    /**
+     * 공유 입장 속도 상태 저장 (리더만 호출)
+     */
+    public void saveAdmissionState(AdmissionState state) {
+        redisTemplate.opsForHash().putAll(ADMISSION_STATE_KEY, Map.of(
+                STATE_RATE_FIELD, String.valueOf(state.ratePerSecond()),
+                STATE_QUOTA_FILLED_FIELD, String.valueOf(state.lastQuotaFilled())
+        ));
+    }
+
+    private String getQueueKey(Long campaignId) {
+        return QUEUE_KEY_PREFIX + campaignId;
+    }
+
+    private String getSequenceKey(Long campaignId) {
+        return SEQUENCE_KEY_PREFIX + campaignId;
+    }
+
+    private String getTokenKey(Long campaignId, Long userId) {
+        return TOKEN_KEY_PREFIX + campaignId + ":user:" + userId;
+    }
+}
@@ -2,41 +2,83 @@ package io.eventdriven.batchkafka.batch;
 
 
 import io.eventdriven.batchkafka.application.service.CampaignAggregationService;
+import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.job.Job;
+import org.springframework.batch.core.partition.Partitioner;
 import org.springframework.batch.core.step.Step;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
-import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
 
+import java.util.Map;
+
+/**
+ * 참여 이력 집계 잡 설정
+ *
+ * aggregateSlices (파티션 스텝)
+ *   └ aggregateSlice × N (1시간 조각, 병렬 - 조각마다 짧은 트랜잭션)
+ * mergeSliceStats (조각 합산 → campaign_stats)
+ */
 @Configuration
 public class AggregateParticipationJobConfig {
 
+    /**
+     * 동시에 실행할 조각 수 상한 (TaskExecutorPartitionHandler 그리드 크기)
+     */
+    private static final int GRID_SIZE = 24;
+
+    @Bean
+    @StepScope
+    public Partitioner aggregationSlicePartitioner(@Value("#{jobParameters}") Map<String, Object> jobParameters) {
+        return new AggregationSlicePartitioner(AggregationWindow.from(jobParameters));
+    }
+
     @Bean
-    public Tasklet aggregateByWindowTasklet(CampaignAggregationService campaignAggregationService) {
-        return new AggregateParticipationTasklet(campaignAggregationService);
+    public Step aggregateSliceStep(JobRepository jobRepository,
+                                   PlatformTransactionManager transactionManager,
+                                   CampaignAggregationService campaignAggregationService) {
+        return new StepBuilder("aggregateSlice", jobRepository)
+                .tasklet(new AggregateSliceTasklet(campaignAggregationService), transactionManager)
+                .build();
     }
 
     @Bean
-    public Step aggregateByWindowStep(JobRepository jobRepository,
-                                      PlatformTransactionManager transactionManager,
-                                      Tasklet aggregateByWindowTasklet) {
-        return new StepBuilder("aggregateByWindow", jobRepository)
-                .tasklet(aggregateByWindowTasklet, transactionManager)
+    public Step aggregateSlicesStep(JobRepository jobRepository,
+                                    Partitioner aggregationSlicePartitioner,
+                                    Step aggregateSliceStep,
+                                    @Qualifier("aggregationSliceTaskExecutor") ThreadPoolTaskExecutor aggregationSliceTaskExecutor) {
+        return new StepBuilder("aggregateSlices", jobRepository)
+                .partitioner("aggregateSlice", aggregationSlicePartitioner)
+                .step(aggregateSliceStep)
+                .gridSize(GRID_SIZE)
+                .taskExecutor(aggregationSliceTaskExecutor)
+                .build();
+    }
+
+    @Bean
+    public Step mergeSliceStatsStep(JobRepository jobRepository,
+                                    PlatformTransactionManager transactionManager,
+                                    CampaignAggregationService campaignAggregationService) {
+        return new StepBuilder("mergeSliceStats", jobRepository)
+                .tasklet(new MergeSliceStatsTasklet(campaignAggregationService), transactionManager)
                 .build();
     }
 
     @Bean
     public Job aggregateParticipationJob(JobRepository jobRepository,
-                                         Step aggregateByWindowStep,
+                                         Step aggregateSlicesStep,
+                                         Step mergeSliceStatsStep,
                                          BatchExecutionListener batchExecutionListener) {
         return new JobBuilder("aggregateParticipation", jobRepository)
-                .start(aggregateByWindowStep)
+                .start(aggregateSlicesStep)
+                .next(mergeSliceStatsStep)
                 .listener(batchExecutionListener)
                 .build();
     }
 }
-
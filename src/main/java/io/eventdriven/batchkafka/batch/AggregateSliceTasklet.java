@@ -0,0 +1,48 @@
+package io.eventdriven.batchkafka.batch;
+
+import io.eventdriven.batchkafka.application.service.CampaignAggregationService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.StepContribution;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.infrastructure.item.ExecutionContext;
+import org.springframework.batch.infrastructure.repeat.RepeatStatus;
+import org.springframework.dao.DataAccessException;
+
+import java.time.LocalDateTime;
+
+/**
+ * 집계 워커 Tasklet (시간 조각 1개)
+ * - 파티셔너가 넣어준 sliceStart / sliceEnd 구간만 집계 → campaign_stats_slice
+ * - 조각마다 별도 StepExecution → 실패한 조각만 재시작
+ */
+@Slf4j
+class AggregateSliceTasklet implements Tasklet {
+
+    private final CampaignAggregationService campaignAggregationService;
+
+    AggregateSliceTasklet(CampaignAggregationService campaignAggregationService) {
+        this.campaignAggregationService = campaignAggregationService;
+    }
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
+        ExecutionContext sliceContext = chunkContext.getStepContext().getStepExecution().getExecutionContext();
+        LocalDateTime sliceStart = LocalDateTime.parse(sliceContext.getString(AggregationSlicePartitioner.SLICE_START));
+        LocalDateTime sliceEnd = LocalDateTime.parse(sliceContext.getString(AggregationSlicePartitioner.SLICE_END));
+
+        try {
+            int campaigns = campaignAggregationService.aggregateSlice(sliceStart, sliceEnd);
+            contribution.incrementWriteCount(campaigns);
+            contribution.setExitStatus(new ExitStatus("SLICED_" + campaigns));
+            return RepeatStatus.FINISHED;
+
+        } catch (DataAccessException e) {
+            log.error("❌ 조각 집계 DB 오류 - {} ~ {}", sliceStart, sliceEnd, e);
+            contribution.setExitStatus(ExitStatus.FAILED
+                    .addExitDescription("DB 오류: " + e.getMessage()));
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package io.eventdriven.batchkafka.batch;
+
+import io.eventdriven.batchkafka.config.BatchProperties;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.Job;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.partition.Partitioner;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.Step;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.core.step.job.DefaultJobParametersExtractor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.time.LocalDate;
+
+/**
+ * 집계 백필 잡 설정
+ *
+ * backfillDates (파티션 스텝 - batch.backfill.parallelism개 날짜 동시 실행)
+ *   └ backfillDate × N (날짜별 JobStep → aggregateParticipation 잡)
+ *
+ * JobParameters: startDate, endDate (YYYY-MM-DD, 포함), force (true면 일 집계가 완료된 날짜도 재집계)
+ * 진행 상황은 날짜별 워커 스텝 실행 상태로 조회 (GET /api/admin/batch/backfill/{jobExecutionId})
+ */
+@Configuration
+public class AggregationBackfillJobConfig {
+
+    @Bean
+    @StepScope
+    public Partitioner backfillDatePartitioner(JdbcTemplate jdbcTemplate,
+                                               @Value("#{jobParameters['startDate']}") String startDate,
+                                               @Value("#{jobParameters['endDate']}") String endDate,
+                                               @Value("#{jobParameters['force'] ?: 'false'}") String force,
+                                               @Value("#{stepExecution.jobExecutionId}") Long jobExecutionId) {
+        return new BackfillDatePartitioner(jdbcTemplate, LocalDate.parse(startDate), LocalDate.parse(endDate),
+                Boolean.parseBoolean(force), jobExecutionId);
+    }
+
+    @Bean
+    public Step backfillDateStep(JobRepository jobRepository, Job aggregateParticipationJob) {
+        DefaultJobParametersExtractor parametersExtractor = new DefaultJobParametersExtractor();
+        parametersExtractor.setKeys(new String[]{BackfillDatePartitioner.DATE, BackfillDatePartitioner.BACKFILL_RUN});
+
+        return new StepBuilder("backfillDate", jobRepository)
+                .job(aggregateParticipationJob)
+                .parametersExtractor(parametersExtractor)
+                .build();
+    }
+
+    @Bean
+    public Step backfillDatesStep(JobRepository jobRepository,
+                                  Partitioner backfillDatePartitioner,
+                                  Step backfillDateStep,
+                                  BatchProperties batchProperties,
+                                  @Qualifier("backfillTaskExecutor") ThreadPoolTaskExecutor backfillTaskExecutor) {
+        return new StepBuilder("backfillDates", jobRepository)
+                .partitioner("backfillDate", backfillDatePartitioner)
+                .step(backfillDateStep)
+                .gridSize(batchProperties.getBackfill().getParallelism())
+                .taskExecutor(backfillTaskExecutor)
+                .build();
+    }
+
+    @Bean
+    public Job aggregationBackfillJob(JobRepository jobRepository,
+                                      Step backfillDatesStep,
+                                      BatchExecutionListener batchExecutionListener) {
+        return new JobBuilder("aggregationBackfill", jobRepository)
+                .start(backfillDatesStep)
+                .listener(batchExecutionListener)
+                .build();
+    }
+}
@@ -0,0 +1,35 @@
+package io.eventdriven.batchkafka.batch;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+
+/**
+ * 집계 배치 대상 구간 [start, end)
+ * - JobParameters: (start, end) ISO-8601 일시 또는 (date) YYYY-MM-DD
+ */
+record AggregationWindow(LocalDateTime start, LocalDateTime end) {
+
+    static AggregationWindow from(Map<String, Object> params) {
+        if (params.containsKey("start") && params.containsKey("end")) {
+            try {
+                return new AggregationWindow(
+                        LocalDateTime.parse(String.valueOf(params.get("start"))),
+                        LocalDateTime.parse(String.valueOf(params.get("end"))));
+            } catch (DateTimeParseException e) {
+                throw new IllegalArgumentException("날짜 형식이 올바르지 않습니다. ISO-8601 형식을 사용하세요.", e);
+            }
+        }
+        if (params.containsKey("date")) {
+            try {
+                LocalDate date = LocalDate.parse(String.valueOf(params.get("date")));
+                return new AggregationWindow(date.atStartOfDay(), date.plusDays(1).atStartOfDay());
+            } catch (DateTimeParseException e) {
+                throw new IllegalArgumentException("날짜 형식이 올바르지 않습니다. YYYY-MM-DD 형식을 사용하세요.", e);
+            }
+        }
+        throw new IllegalArgumentException(
+                "JobParameters required: either (start,end) as ISO-8601 datetime or (date) as YYYY-MM-DD");
+    }
+}
@@ -0,0 +1,105 @@
+package io.eventdriven.batchkafka.batch;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.partition.Partitioner;
+import org.springframework.batch.infrastructure.item.ExecutionContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 백필 대상 날짜 분할
+ * - [startDate, endDate] 중 완료된 일 집계가 없는 날짜만 (force=true면 전체)
+ * - 어제는 항상 대상 (하루가 끝난 뒤 첫 최종 집계)
+ * - 날짜마다 워커 스텝 1개 → 일 집계 잡(aggregateParticipation) 실행 (실패한 날짜만 재시작)
+ *
+ * 완료 여부는 campaign_stats 행 존재가 아니라 배치 메타데이터로 판단:
+ * 그 날짜(date 파라미터)의 aggregateParticipation 실행이 날짜가 끝난 뒤 시작해 COMPLETED로 끝났을 때만 완료
+ * (증분/Kafka 집계가 남긴 부분 통계나 실패한 실행의 일부 결과가 있어도 다시 집계)
+ * 메타데이터 정리로 실행 기록이 지워진 날짜는 다시 집계됨 (멱등이라 결과는 같음)
+ */
+@Slf4j
+class BackfillDatePartitioner implements Partitioner {
+
+    static final String DATE = "date";
+    static final String BACKFILL_RUN = "backfillRun";
+
+    private static final String COMPLETED_DATES_SQL = """
+            SELECT p.PARAMETER_VALUE AS stats_date, e.START_TIME AS start_time
+            FROM BATCH_JOB_EXECUTION e
+            JOIN BATCH_JOB_INSTANCE i ON i.JOB_INSTANCE_ID = e.JOB_INSTANCE_ID
+            JOIN BATCH_JOB_EXECUTION_PARAMS p ON p.JOB_EXECUTION_ID = e.JOB_EXECUTION_ID
+            WHERE i.JOB_NAME = 'aggregateParticipation'
+              AND e.STATUS = 'COMPLETED'
+              AND p.PARAMETER_NAME = 'date'
+              AND p.PARAMETER_VALUE BETWEEN ? AND ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+    private final boolean force;
+    private final long backfillRun;
+
+    BackfillDatePartitioner(JdbcTemplate jdbcTemplate, LocalDate startDate, LocalDate endDate,
+                            boolean force, long backfillRun) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.force = force;
+        this.backfillRun = backfillRun;
+    }
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        // 오늘은 아직 끝나지 않았으므로 제외
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        LocalDate lastDate = endDate.isAfter(yesterday) ? yesterday : endDate;
+
+        Set<LocalDate> completed = force ? Set.of() : completedDates(startDate, lastDate);
+
+        Map<String, ExecutionContext> partitions = new LinkedHashMap<>();
+        for (LocalDate date = startDate; !date.isAfter(lastDate); date = date.plusDays(1)) {
+            if (completed.contains(date) && !date.equals(yesterday)) {
+                continue;
+            }
+            ExecutionContext context = new ExecutionContext();
+            context.putString(DATE, date.toString());
+            // 같은 날짜를 다른 백필에서 다시 집계할 수 있도록 잡 인스턴스 구분
+            context.putString(BACKFILL_RUN, String.valueOf(backfillRun));
+            partitions.put("date-" + date, context);
+        }
+
+        log.info("🧩 백필 대상 - {} ~ {}, 전체: {}일, 집계 대상: {}일{}",
+                startDate, lastDate, Math.max(0, ChronoUnit.DAYS.between(startDate, lastDate) + 1),
+                partitions.size(), force ? " (force)" : "");
+        return partitions;
+    }
+
+    /**
+     * 날짜가 끝난 뒤 시작해 COMPLETED로 끝난 일 집계 실행이 있는 날짜
+     */
+    private Set<LocalDate> completedDates(LocalDate from, LocalDate to) {
+        Set<LocalDate> completed = new HashSet<>();
+        jdbcTemplate.query(COMPLETED_DATES_SQL, rs -> {
+            LocalDate date;
+            try {
+                date = LocalDate.parse(rs.getString("stats_date"));
+            } catch (DateTimeParseException e) {
+                return;
+            }
+            Timestamp startTime = rs.getTimestamp("start_time");
+            if (startTime != null && !startTime.toLocalDateTime().isBefore(date.plusDays(1).atStartOfDay())) {
+                completed.add(date);
+            }
+        }, from.toString(), to.toString());
+        return completed;
+    }
+}
@@ -1,29 +1,48 @@
 package io.eventdriven.batchkafka.batch;
 
+import io.eventdriven.batchkafka.application.service.BatchHistoryQueryService;
+import io.eventdriven.batchkafka.application.service.CampaignStatsQueryService;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.BatchStatus;
 import org.springframework.batch.core.job.JobExecution;
+import org.springframework.batch.core.job.parameters.JobParameters;
 import org.springframework.batch.core.listener.JobExecutionListener;
+import org.springframework.batch.infrastructure.item.ExecutionContext;
 import org.springframework.stereotype.Component;
 
 import java.time.Duration;
-import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 
 /**
  * 배치 실행 모니터링 리스너
  * - 배치 시작/종료 로그
- * - 실행 시간 측정
+ * - 실행 시간 측정 (JobExecution 컨텍스트에 저장 → 동시 실행 잡끼리 섞이지 않음)
+ * - 잡/스텝 실행 시간, 처리 행 수, 처리량 지표 기록 (BatchJobMetrics)
  * - 실패 시 알림 (TODO: Slack, Email 등)
+ * - 집계 배치 종료 시 통계 조회 캐시 무효화
+ * - 잡 시작/종료 시 배치 이력 조회 캐시 무효화
  */
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class BatchExecutionListener implements JobExecutionListener {
 
-    private Instant startTime;
+    private static final String AGGREGATE_JOB_NAME = "aggregateParticipation";
+    private static final String INCREMENTAL_JOB_NAME = "incrementalAggregation";
+    private static final String KAFKA_AGGREGATE_JOB_NAME = "kafkaAggregateParticipation";
+
+    static final String START_MILLIS = "startMillis";
+
+    private final CampaignStatsQueryService statsQueryService;
+    private final BatchJobMetrics batchJobMetrics;
+    private final BatchHistoryQueryService batchHistoryQueryService;
 
     @Override
     public void beforeJob(JobExecution jobExecution) {
-        startTime = Instant.now();
+        jobExecution.getExecutionContext().putLong(START_MILLIS, System.currentTimeMillis());
         String jobName = jobExecution.getJobInstance().getJobName();
         Long jobExecutionId = jobExecution.getId();
 
@@ -34,12 +53,23 @@ public class BatchExecutionListener implements JobExecutionListener {
         log.info("   Start Time: {}", jobExecution.getStartTime());
         log.info("   Parameters: {}", jobExecution.getJobParameters());
         log.info(" ========================================");
+
+        batchHistoryQueryService.evictHistory(jobName);
     }
 
     @Override
     public void afterJob(JobExecution jobExecution) {
-        Instant endTime = Instant.now();
-        Duration duration = Duration.between(startTime, endTime);
+        ExecutionContext context = jobExecution.getExecutionContext();
+        long startMillis = context.getLong(START_MILLIS, System.currentTimeMillis());
+        Duration duration = Duration.ofMillis(System.currentTimeMillis() - startMillis);
+        // 파티션 매니저 스텝은 워커 합계를 담으므로 스텝 중 최댓값을 잡 처리 행 수로 사용
+        long rows = jobExecution.getStepExecutions().stream()
+                .mapToLong(BatchJobMetrics::rowsOf)
+                .max()
+                .orElse(0);
+        // 실행 이력 API는 BATCH_JOB_EXECUTION 시작/종료 시각과 스텝 WRITE_COUNT로 계산 (afterJob의 컨텍스트 변경은 저장되지 않음)
+        double rowsPerSec = BatchJobMetrics.rowsPerSecond(rows, duration);
+        batchJobMetrics.record(jobExecution, duration);
 
         String jobName = jobExecution.getJobInstance().getJobName();
         Long jobExecutionId = jobExecution.getId();
@@ -55,6 +85,7 @@ public class BatchExecutionListener implements JobExecutionListener {
         log.info("   Exit Code: {}", exitCode);
         log.info("   Exit Description: {}", exitDescription);
         log.info("   Duration: {} 초 ({} ms)", duration.getSeconds(), duration.toMillis());
+        log.info("   Rows: {} ({} rows/sec)", rows, String.format("%.1f", rowsPerSec));
         log.info("   End Time: {}", jobExecution.getEndTime());
         log.info(" ========================================");
 
@@ -67,6 +98,48 @@ public class BatchExecutionListener implements JobExecutionListener {
         if (status == BatchStatus.COMPLETED) {
             log.info(" 배치 성공 - {} ({}초 소요)", jobName, duration.getSeconds());
         }
+
+        batchHistoryQueryService.evictHistory(jobName);
+
+        // 집계 결과가 바뀌었을 수 있으므로 성공/실패와 무관하게 무효화
+        if (AGGREGATE_JOB_NAME.equals(jobName)) {
+            evictAggregatedDate(jobExecution.getJobParameters());
+        } else if (INCREMENTAL_JOB_NAME.equals(jobName) || KAFKA_AGGREGATE_JOB_NAME.equals(jobName)) {
+            evictIncrementedDates(jobExecution.getExecutionContext().getString(
+                    IncrementalAggregationTasklet.AFFECTED_DATES, ""));
+        }
+    }
+
+    /**
+     * 증분/Kafka 집계가 반영된 날짜만 캐시 무효화 (반영 없으면 유지)
+     */
+    private void evictIncrementedDates(String affectedDates) {
+        if (affectedDates.isBlank()) {
+            return;
+        }
+        for (String date : affectedDates.split(",")) {
+            statsQueryService.evictDate(LocalDate.parse(date));
+        }
+    }
+
+    /**
+     * 집계 대상 날짜(stats_date) 캐시 무효화
+     * - date 파라미터 또는 start 파라미터의 날짜 (집계 쿼리의 DATE(:start)와 동일)
+     */
+    private void evictAggregatedDate(JobParameters params) {
+        try {
+            String date = params.getString("date");
+            String start = params.getString("start");
+            if (date != null) {
+                statsQueryService.evictDate(LocalDate.parse(date));
+            } else if (start != null) {
+                statsQueryService.evictDate(LocalDateTime.parse(start).toLocalDate());
+            } else {
+                statsQueryService.evictAll();
+            }
+        } catch (DateTimeParseException e) {
+            statsQueryService.evictAll();
+        }
     }
 
     /**
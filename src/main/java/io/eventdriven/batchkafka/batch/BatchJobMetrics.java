@@ -0,0 +1,117 @@
+package io.eventdriven.batchkafka.batch;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.batch.core.job.JobExecution;
+import org.springframework.batch.core.step.StepExecution;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 배치 잡/스텝 Micrometer 지표
+ *
+ * - batch.job.duration (Timer): job, status
+ * - batch.step.duration (Timer): job, step, status
+ * - batch.step.rows.read / batch.step.rows.written (Counter): job, step
+ * - batch.step.throughput (DistributionSummary, rows/sec): job, step
+ *
+ * 파티션 워커 스텝("aggregateSlice:slice-003")은 파티션 이름을 떼고 같은 step 태그로 기록 (태그 수 고정)
+ * 파티션 매니저 스텝은 워커 합계를 다시 담고 있으므로 행 수/처리량은 기록하지 않음
+ */
+@Component
+class BatchJobMetrics {
+
+    private final MeterRegistry meterRegistry;
+
+    BatchJobMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    void record(JobExecution jobExecution, Duration jobDuration) {
+        String jobName = jobExecution.getJobInstance().getJobName();
+
+        Timer.builder("batch.job.duration")
+                .description("배치 잡 실행 시간")
+                .tag("job", jobName)
+                .tag("status", jobExecution.getStatus().toString())
+                .register(meterRegistry)
+                .record(jobDuration);
+
+        for (StepExecution step : jobExecution.getStepExecutions()) {
+            recordStep(jobName, step);
+        }
+    }
+
+    private void recordStep(String jobName, StepExecution step) {
+        LocalDateTime start = step.getStartTime();
+        LocalDateTime end = step.getEndTime() != null ? step.getEndTime() : LocalDateTime.now();
+        if (start == null) {
+            return;
+        }
+        Duration duration = Duration.between(start, end);
+        String stepName = stepTag(step.getStepName());
+
+        Timer.builder("batch.step.duration")
+                .description("배치 스텝 실행 시간")
+                .tag("job", jobName)
+                .tag("step", stepName)
+                .tag("status", step.getStatus().toString())
+                .register(meterRegistry)
+                .record(duration);
+
+        if (isPartitionManager(step)) {
+            return;
+        }
+
+        Counter.builder("batch.step.rows.read")
+                .description("배치 스텝 읽은 행 수")
+                .tag("job", jobName)
+                .tag("step", stepName)
+                .register(meterRegistry)
+                .increment(step.getReadCount());
+        Counter.builder("batch.step.rows.written")
+                .description("배치 스텝 기록한 행 수")
+                .tag("job", jobName)
+                .tag("step", stepName)
+                .register(meterRegistry)
+                .increment(step.getWriteCount());
+
+        long rows = rowsOf(step);
+        if (rows > 0) {
+            DistributionSummary.builder("batch.step.throughput")
+                    .description("배치 스텝 처리량")
+                    .baseUnit("rows/sec")
+                    .tag("job", jobName)
+                    .tag("step", stepName)
+                    .register(meterRegistry)
+                    .record(rowsPerSecond(rows, duration));
+        }
+    }
+
+    /**
+     * 스텝 처리 행 수 (읽기 없이 SQL로 바로 기록하는 Tasklet은 기록 행 수)
+     */
+    static long rowsOf(StepExecution step) {
+        return Math.max(step.getReadCount(), step.getWriteCount());
+    }
+
+    static double rowsPerSecond(long rows, Duration duration) {
+        return rows * 1000.0 / Math.max(1, duration.toMillis());
+    }
+
+    private static String stepTag(String stepName) {
+        int separator = stepName.indexOf(':');
+        return separator > 0 ? stepName.substring(0, separator) : stepName;
+    }
+
+    /**
+     * 파티션 매니저 스텝 여부 (워커 실행 정보가 담긴 ExecutionContext 키로 판별)
+     */
+    private static boolean isPartitionManager(StepExecution step) {
+        return step.getExecutionContext().containsKey("SimpleStepExecutionSplitter.GRID_SIZE");
+    }
+}
@@ -1,5 +1,6 @@
 package io.eventdriven.batchkafka.batch;
 
+import io.eventdriven.batchkafka.config.BatchProperties;
 import org.springframework.batch.core.job.Job;
 import org.springframework.batch.core.step.Step;
 import org.springframework.batch.core.job.builder.JobBuilder;
@@ -8,20 +9,23 @@ import org.springframework.batch.core.step.builder.StepBuilder;
 import org.springframework.batch.core.step.tasklet.Tasklet;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.transaction.PlatformTransactionManager;
 
 /**
  * 배치 메타데이터 정리 잡 설정
- * - 90일 이상 오래된 Spring Batch 메타데이터 자동 삭제
+ * - 보관 기간(batch.metadata.retention-days)이 지난 Spring Batch 메타데이터 자동 삭제
+ * - 키셋 페이지 단위 짧은 트랜잭션으로 삭제 (이력이 쌓여도 잠금 시간 일정)
  * - 스케줄러를 통해 주기적으로 실행 (예: 매주 일요일)
  */
 @Configuration
 public class BatchMetadataCleanupJobConfig {
 
     @Bean
-    public Tasklet batchMetadataCleanupTasklet(JdbcTemplate jdbcTemplate) {
-        return new BatchMetadataCleanupTasklet(jdbcTemplate);
+    public Tasklet batchMetadataCleanupTasklet(NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+                                               BatchProperties batchProperties,
+                                               PlatformTransactionManager transactionManager) {
+        return new BatchMetadataCleanupTasklet(namedParameterJdbcTemplate, batchProperties, transactionManager);
     }
 
     @Bean
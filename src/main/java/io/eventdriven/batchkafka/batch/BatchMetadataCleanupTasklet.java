@@ -1,105 +1,117 @@
 package io.eventdriven.batchkafka.batch;
 
-import lombok.RequiredArgsConstructor;
+import io.eventdriven.batchkafka.config.BatchProperties;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.ExitStatus;
 import org.springframework.batch.core.step.StepContribution;
 import org.springframework.batch.core.scope.context.ChunkContext;
 import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.infrastructure.item.ExecutionContext;
 import org.springframework.batch.infrastructure.repeat.RepeatStatus;
 import org.springframework.dao.DataAccessException;
-import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * Spring Batch 메타데이터 정리 Tasklet
- * - 오래된 배치 실행 이력 삭제
- * - BATCH_JOB_EXECUTION, BATCH_STEP_EXECUTION 등 정리
+ * - 보관 기간(batch.metadata.retention-days)이 지난 배치 실행 이력 삭제
+ *
+ * === 방식 ===
+ * - 만료된 JOB_EXECUTION_ID를 키셋 페이지(page-size개)로 조회
+ * - 페이지마다 별도 짧은 트랜잭션에서 자식 → 부모 순으로 id 목록 DELETE
+ *   (STEP_EXECUTION_CONTEXT → STEP_EXECUTION → JOB_EXECUTION_PARAMS → JOB_EXECUTION_CONTEXT
+ *    → JOB_EXECUTION → 실행이 남지 않은 JOB_INSTANCE)
+ * - 이력 양과 무관하게 트랜잭션 크기/잠금 시간이 페이지 크기로 제한됨
+ * - 커밋된 페이지는 유지되므로 중간 실패 후 재실행하면 남은 부분만 이어서 삭제
  */
 @Slf4j
-@RequiredArgsConstructor
 class BatchMetadataCleanupTasklet implements Tasklet {
 
-    private final JdbcTemplate jdbcTemplate;
+    private static final String EXPIRED_PAGE_SQL = """
+            SELECT JOB_EXECUTION_ID
+            FROM BATCH_JOB_EXECUTION
+            WHERE CREATE_TIME < :cutoff
+              AND JOB_EXECUTION_ID > :lastId
+            ORDER BY JOB_EXECUTION_ID
+            LIMIT :pageSize
+            """;
 
-    /**
-     * 보관 기간 (일)
-     * - 90일 이상 오래된 메타데이터 삭제
-     */
-    private static final int RETENTION_DAYS = 90;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final BatchProperties batchProperties;
+    private final TransactionTemplate pageTransaction;
+
+    private record PageResult(int stepContexts, int stepExecutions, int params,
+                              int jobContexts, int jobExecutions, int jobInstances) {
+
+        int total() {
+            return stepContexts + stepExecutions + params + jobContexts + jobExecutions + jobInstances;
+        }
+    }
+
+    BatchMetadataCleanupTasklet(NamedParameterJdbcTemplate jdbcTemplate,
+                                BatchProperties batchProperties,
+                                PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchProperties = batchProperties;
+        this.pageTransaction = new TransactionTemplate(transactionManager);
+        this.pageTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.pageTransaction.setTimeout(30);
+    }
 
     @Override
     public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
+        BatchProperties.Metadata config = batchProperties.getMetadata();
         try {
-            LocalDateTime cutoffDate = LocalDateTime.now().minusDays(RETENTION_DAYS);
-            log.info("🗑️ 배치 메타데이터 정리 시작 - 기준일: {} ({} 일 이전)",
-                    cutoffDate, RETENTION_DAYS);
-
-            int totalDeleted = 0;
-
-            // 1. BATCH_JOB_EXECUTION_PARAMS 삭제
-            String deleteParams = """
-                    DELETE FROM BATCH_JOB_EXECUTION_PARAMS
-                    WHERE JOB_EXECUTION_ID IN (
-                        SELECT JOB_EXECUTION_ID FROM BATCH_JOB_EXECUTION
-                        WHERE CREATE_TIME < ?
-                    )
-                    """;
-            int deletedParams = jdbcTemplate.update(deleteParams, cutoffDate);
-            log.debug("  ✓ BATCH_JOB_EXECUTION_PARAMS: {} 건 삭제", deletedParams);
-            totalDeleted += deletedParams;
-
-            // 2. BATCH_STEP_EXECUTION_CONTEXT 삭제
-            String deleteStepContext = """
-                    DELETE FROM BATCH_STEP_EXECUTION_CONTEXT
-                    WHERE STEP_EXECUTION_ID IN (
-                        SELECT STEP_EXECUTION_ID FROM BATCH_STEP_EXECUTION
-                        WHERE JOB_EXECUTION_ID IN (
-                            SELECT JOB_EXECUTION_ID FROM BATCH_JOB_EXECUTION
-                            WHERE CREATE_TIME < ?
-                        )
-                    )
-                    """;
-            int deletedStepContext = jdbcTemplate.update(deleteStepContext, cutoffDate);
-            log.debug("  ✓ BATCH_STEP_EXECUTION_CONTEXT: {} 건 삭제", deletedStepContext);
-            totalDeleted += deletedStepContext;
-
-            // 3. BATCH_STEP_EXECUTION 삭제
-            String deleteStepExecution = """
-                    DELETE FROM BATCH_STEP_EXECUTION
-                    WHERE JOB_EXECUTION_ID IN (
-                        SELECT JOB_EXECUTION_ID FROM BATCH_JOB_EXECUTION
-                        WHERE CREATE_TIME < ?
-                    )
-                    """;
-            int deletedStepExecution = jdbcTemplate.update(deleteStepExecution, cutoffDate);
-            log.debug("  ✓ BATCH_STEP_EXECUTION: {} 건 삭제", deletedStepExecution);
-            totalDeleted += deletedStepExecution;
-
-            // 4. BATCH_JOB_EXECUTION_CONTEXT 삭제
-            String deleteJobContext = """
-                    DELETE FROM BATCH_JOB_EXECUTION_CONTEXT
-                    WHERE JOB_EXECUTION_ID IN (
-                        SELECT JOB_EXECUTION_ID FROM BATCH_JOB_EXECUTION
-                        WHERE CREATE_TIME < ?
-                    )
-                    """;
-            int deletedJobContext = jdbcTemplate.update(deleteJobContext, cutoffDate);
-            log.debug("  ✓ BATCH_JOB_EXECUTION_CONTEXT: {} 건 삭제", deletedJobContext);
-            totalDeleted += deletedJobContext;
-
-            // 5. BATCH_JOB_EXECUTION 삭제
-            String deleteJobExecution = """
-                    DELETE FROM BATCH_JOB_EXECUTION
-                    WHERE CREATE_TIME < ?
-                    """;
-            int deletedJobExecution = jdbcTemplate.update(deleteJobExecution, cutoffDate);
-            log.debug("  ✓ BATCH_JOB_EXECUTION: {} 건 삭제", deletedJobExecution);
-            totalDeleted += deletedJobExecution;
-
-            log.info(" 배치 메타데이터 정리 완료 - 총 {} 건 삭제", totalDeleted);
-
+            LocalDateTime cutoffDate = LocalDateTime.now().minusDays(config.getRetentionDays());
+            log.info("🗑️ 배치 메타데이터 정리 시작 - 기준일: {} ({} 일 이전), 페이지: {}건",
+                    cutoffDate, config.getRetentionDays(), config.getPageSize());
+
+            long startTime = System.currentTimeMillis();
+            long lastId = 0;
+            int pages = 0;
+            long jobExecutions = 0;
+            long totalDeleted = 0;
+
+            while (true) {
+                List<Long> jobExecutionIds = jdbcTemplate.queryForList(EXPIRED_PAGE_SQL, new MapSqlParameterSource()
+                        .addValue("cutoff", Timestamp.valueOf(cutoffDate))
+                        .addValue("lastId", lastId)
+                        .addValue("pageSize", config.getPageSize()), Long.class);
+                if (jobExecutionIds.isEmpty()) {
+                    break;
+                }
+
+                PageResult result = pageTransaction.execute(status -> deletePage(jobExecutionIds));
+                lastId = jobExecutionIds.getLast();
+                pages++;
+                jobExecutions += result.jobExecutions();
+                totalDeleted += result.total();
+
+                log.info("  … 정리 진행 - 페이지: {}, JOB_EXECUTION: {}건 (누적 {}건), 전체 누적: {}건, 마지막 id: {}",
+                        pages, result.jobExecutions(), jobExecutions, totalDeleted, lastId);
+
+                if (jobExecutionIds.size() < config.getPageSize()) {
+                    break;
+                }
+            }
+
+            ExecutionContext jobContext = chunkContext.getStepContext().getStepExecution()
+                    .getJobExecution().getExecutionContext();
+            jobContext.putInt("pages", pages);
+            jobContext.putLong("deletedJobExecutions", jobExecutions);
+            jobContext.putLong("deletedRows", totalDeleted);
+
+            log.info("✅ 배치 메타데이터 정리 완료 - JOB_EXECUTION: {}건, 총 {} 건 삭제, 페이지: {}, 소요: {}ms",
+                    jobExecutions, totalDeleted, pages, System.currentTimeMillis() - startTime);
+
+            contribution.incrementWriteCount(totalDeleted);
             contribution.setExitStatus(new ExitStatus("DELETED_" + totalDeleted));
             return RepeatStatus.FINISHED;
 
@@ -116,4 +128,47 @@ class BatchMetadataCleanupTasklet implements Tasklet {
             throw new RuntimeException("메타데이터 정리 중 오류 발생", e);
         }
     }
+
+    /**
+     * JOB_EXECUTION_ID 한 페이지와 그 자식 행 삭제 (호출자가 페이지 트랜잭션으로 감쌈)
+     */
+    private PageResult deletePage(List<Long> jobExecutionIds) {
+        MapSqlParameterSource jobParams = new MapSqlParameterSource("ids", jobExecutionIds);
+
+        List<Long> jobInstanceIds = jdbcTemplate.queryForList(
+                "SELECT DISTINCT JOB_INSTANCE_ID FROM BATCH_JOB_EXECUTION WHERE JOB_EXECUTION_ID IN (:ids)",
+                jobParams, Long.class);
+        List<Long> stepExecutionIds = jdbcTemplate.queryForList(
+                "SELECT STEP_EXECUTION_ID FROM BATCH_STEP_EXECUTION WHERE JOB_EXECUTION_ID IN (:ids)",
+                jobParams, Long.class);
+
+        int stepContexts = 0;
+        int stepExecutions = 0;
+        if (!stepExecutionIds.isEmpty()) {
+            MapSqlParameterSource stepParams = new MapSqlParameterSource("ids", stepExecutionIds);
+            stepContexts = jdbcTemplate.update(
+                    "DELETE FROM BATCH_STEP_EXECUTION_CONTEXT WHERE STEP_EXECUTION_ID IN (:ids)", stepParams);
+            stepExecutions = jdbcTemplate.update(
+                    "DELETE FROM BATCH_STEP_EXECUTION WHERE STEP_EXECUTION_ID IN (:ids)", stepParams);
+        }
+
+        int params = jdbcTemplate.update(
+                "DELETE FROM BATCH_JOB_EXECUTION_PARAMS WHERE JOB_EXECUTION_ID IN (:ids)", jobParams);
+        int jobContexts = jdbcTemplate.update(
+                "DELETE FROM BATCH_JOB_EXECUTION_CONTEXT WHERE JOB_EXECUTION_ID IN (:ids)", jobParams);
+        int jobExecutions = jdbcTemplate.update(
+                "DELETE FROM BATCH_JOB_EXECUTION WHERE JOB_EXECUTION_ID IN (:ids)", jobParams);
+
+        // 실행이 하나도 남지 않은 인스턴스만 삭제 (재시작 가능한 인스턴스는 유지)
+        int jobInstances = jobInstanceIds.isEmpty() ? 0 : jdbcTemplate.update("""
+                DELETE FROM BATCH_JOB_INSTANCE
+                WHERE JOB_INSTANCE_ID IN (:ids)
+                  AND NOT EXISTS (
+                      SELECT 1 FROM BATCH_JOB_EXECUTION e
+                      WHERE e.JOB_INSTANCE_ID = BATCH_JOB_INSTANCE.JOB_INSTANCE_ID
+                  )
+                """, new MapSqlParameterSource("ids", jobInstanceIds));
+
+        return new PageResult(stepContexts, stepExecutions, params, jobContexts, jobExecutions, jobInstances);
+    }
 }
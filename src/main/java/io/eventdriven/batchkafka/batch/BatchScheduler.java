@@ -1,5 +1,7 @@
 package io.eventdriven.batchkafka.batch;
 
+import io.eventdriven.batchkafka.application.service.IncrementalAggregationService;
+import io.eventdriven.batchkafka.config.BatchProperties;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.job.Job;
@@ -19,8 +21,13 @@ import java.time.LocalDate;
 
 /**
  * 배치 작업 스케줄러
- * - 매일 자동으로 전일 집계 실행
+ * - 매일 자동으로 전일 집계 실행 (최근 N일 중 누락된 날짜도 함께 보충)
  * - 매주 메타데이터 정리 실행
+ * - 매일 참여 이력 파티션 관리 실행
+ * - (활성화 시) 매일 종료 캠페인 참여 이력 아카이브 실행
+ * - (활성화 시) 주기적으로 증분 집계 실행
+ *
+ * 여러 앱 인스턴스에서 실행돼도 각 배치는 분산 잠금(BatchSchedulerLock)을 획득한 인스턴스 1개에서만 실행
  */
 @Slf4j
 @Component
@@ -28,30 +35,50 @@ import java.time.LocalDate;
 @SuppressWarnings("removal")
 public class BatchScheduler {
 
+    private static final String DAILY_AGGREGATION_LOCK = "dailyAggregation";
+    private static final String METADATA_CLEANUP_LOCK = "metadataCleanup";
+    private static final String PARTITION_MAINTENANCE_LOCK = "partitionMaintenance";
+    private static final String ARCHIVE_LOCK = "participationArchive";
+    private static final String INCREMENTAL_AGGREGATION_LOCK = "incrementalAggregation";
+
     @Qualifier("asyncJobLauncher")
     private final JobLauncher asyncJobLauncher;
 
-    private final Job aggregateParticipationJob;
+    private final Job aggregationBackfillJob;
     private final Job batchMetadataCleanupJob;
+    private final Job participationHistoryPartitionJob;
+    private final Job participationArchiveJob;
+    private final Job incrementalAggregationJob;
+    private final IncrementalAggregationService incrementalAggregationService;
+    private final BatchProperties batchProperties;
+    private final BatchSchedulerLock schedulerLock;
 
     /**
      * 매일 새벽 2시에 전일 데이터 집계
-     * - 전일(어제) 참여 이력을 campaign_stats에 집계
+     * - 최근 batch.backfill.lookback-days일 중 일 집계가 완료되지 않은 날짜를 백필 잡으로 집계 (배치 메타데이터 기준)
+     * - 전일(어제)은 항상 대상, 서버 중단/실패로 빠진 날짜는 다음 실행에서 자동 보충
      */
     @Scheduled(cron = "0 0 2 * * *")
     public void scheduleDailyAggregation() {
+        if (!schedulerLock.tryAcquire(DAILY_AGGREGATION_LOCK)) {
+            log.info(" 다른 인스턴스가 실행 중이므로 일일 집계 배치를 건너뜁니다.");
+            return;
+        }
         try {
             LocalDate yesterday = LocalDate.now().minusDays(1);
+            LocalDate from = yesterday.minusDays(Math.max(0, batchProperties.getBackfill().getLookbackDays() - 1));
 
             JobParameters params = new JobParametersBuilder()
-                    .addString("date", yesterday.toString())
+                    .addString("startDate", from.toString())
+                    .addString("endDate", yesterday.toString())
                     .addLong("ts", System.currentTimeMillis())
                     .toJobParameters();
 
-            JobExecution execution = asyncJobLauncher.run(aggregateParticipationJob, params);
+            JobExecution execution = asyncJobLauncher.run(aggregationBackfillJob, params);
+            schedulerLock.holdWhileRunning(DAILY_AGGREGATION_LOCK, execution);
 
-            log.info(" 일일 집계 배치 실행 완료 - jobExecutionId: {}, date: {}",
-                    execution.getId(), yesterday);
+            log.info(" 일일 집계 배치 실행 완료 - jobExecutionId: {}, 확인 구간: {} ~ {}",
+                    execution.getId(), from, yesterday);
 
         } catch (JobExecutionAlreadyRunningException e) {
             log.warn(" 일일 집계 배치가 이미 실행 중입니다.", e);
@@ -68,6 +95,8 @@ public class BatchScheduler {
         } catch (Exception e) {
             log.error(" 일일 집계 배치 실행 중 예상치 못한 오류 발생", e);
             // TODO: 알림 전송 (Slack, Email 등)
+        } finally {
+            schedulerLock.releaseIfIdle(DAILY_AGGREGATION_LOCK);
         }
     }
 
@@ -77,12 +106,17 @@ public class BatchScheduler {
      */
     @Scheduled(cron = "0 0 3 * * SUN")
     public void scheduleMetadataCleanup() {
+        if (!schedulerLock.tryAcquire(METADATA_CLEANUP_LOCK)) {
+            log.info(" 다른 인스턴스가 실행 중이므로 메타데이터 정리 배치를 건너뜁니다.");
+            return;
+        }
         try {
             JobParameters params = new JobParametersBuilder()
                     .addLong("ts", System.currentTimeMillis())
                     .toJobParameters();
 
             JobExecution execution = asyncJobLauncher.run(batchMetadataCleanupJob, params);
+            schedulerLock.holdWhileRunning(METADATA_CLEANUP_LOCK, execution);
 
             log.info(" 메타데이터 정리 배치 실행 완료 - jobExecutionId: {}",
                     execution.getId());
@@ -102,6 +136,129 @@ public class BatchScheduler {
         } catch (Exception e) {
             log.error(" 메타데이터 정리 배치 실행 중 예상치 못한 오류 발생", e);
             // TODO: 알림 전송 (Slack, Email 등)
+        } finally {
+            schedulerLock.releaseIfIdle(METADATA_CLEANUP_LOCK);
+        }
+    }
+
+    /**
+     * 매일 새벽 1시에 참여 이력 파티션 관리 (집계 배치 전)
+     * - 미래 일 파티션 선생성, 보관 기간이 지난 파티션 삭제
+     */
+    @Scheduled(cron = "0 0 1 * * *")
+    public void schedulePartitionMaintenance() {
+        if (!schedulerLock.tryAcquire(PARTITION_MAINTENANCE_LOCK)) {
+            log.info(" 다른 인스턴스가 실행 중이므로 파티션 관리 배치를 건너뜁니다.");
+            return;
+        }
+        try {
+            JobParameters params = new JobParametersBuilder()
+                    .addLong("ts", System.currentTimeMillis())
+                    .toJobParameters();
+
+            JobExecution execution = asyncJobLauncher.run(participationHistoryPartitionJob, params);
+            schedulerLock.holdWhileRunning(PARTITION_MAINTENANCE_LOCK, execution);
+
+            log.info(" 파티션 관리 배치 실행 완료 - jobExecutionId: {}",
+                    execution.getId());
+
+        } catch (JobExecutionAlreadyRunningException e) {
+            log.warn(" 파티션 관리 배치가 이미 실행 중입니다.", e);
+
+        } catch (JobRestartException e) {
+            log.error(" 파티션 관리 배치 재시작 실패", e);
+
+        } catch (JobInstanceAlreadyCompleteException e) {
+            log.warn(" 파티션 관리가 이미 완료되었습니다.", e);
+
+        } catch (InvalidJobParametersException e) {
+            log.error(" 잘못된 배치 파라미터", e);
+
+        } catch (Exception e) {
+            log.error(" 파티션 관리 배치 실행 중 예상치 못한 오류 발생", e);
+        } finally {
+            schedulerLock.releaseIfIdle(PARTITION_MAINTENANCE_LOCK);
+        }
+    }
+
+    /**
+     * 매일 새벽 4시에 종료 캠페인 참여 이력 아카이브 (집계 배치 이후, batch.archive.enabled=true일 때만)
+     * - 컬럼 압축 파일 기록 후 participation_history 원본 청크 삭제
+     */
+    @Scheduled(cron = "0 0 4 * * *")
+    public void scheduleArchive() {
+        if (!batchProperties.getArchive().isEnabled()) {
+            return;
+        }
+        if (!schedulerLock.tryAcquire(ARCHIVE_LOCK)) {
+            log.info(" 다른 인스턴스가 실행 중이므로 아카이브 배치를 건너뜁니다.");
+            return;
+        }
+        try {
+            JobParameters params = new JobParametersBuilder()
+                    .addLong("ts", System.currentTimeMillis())
+                    .toJobParameters();
+
+            JobExecution execution = asyncJobLauncher.run(participationArchiveJob, params);
+            schedulerLock.holdWhileRunning(ARCHIVE_LOCK, execution);
+
+            log.info(" 아카이브 배치 실행 완료 - jobExecutionId: {}",
+                    execution.getId());
+
+        } catch (JobExecutionAlreadyRunningException e) {
+            log.warn(" 아카이브 배치가 이미 실행 중입니다.", e);
+
+        } catch (JobRestartException e) {
+            log.error(" 아카이브 배치 재시작 실패", e);
+
+        } catch (JobInstanceAlreadyCompleteException e) {
+            log.warn(" 아카이브가 이미 완료되었습니다.", e);
+
+        } catch (InvalidJobParametersException e) {
+            log.error(" 잘못된 배치 파라미터", e);
+
+        } catch (Exception e) {
+            log.error(" 아카이브 배치 실행 중 예상치 못한 오류 발생", e);
+        } finally {
+            schedulerLock.releaseIfIdle(ARCHIVE_LOCK);
+        }
+    }
+
+    /**
+     * 증분 집계 (batch.incremental.enabled=true일 때만)
+     * - 고수위 이후 새 참여 이력만 campaign_stats에 반영
+     * - 고수위가 초기화되지 않았으면 실행하지 않음 (POST /api/admin/batch/incremental/initialize로 명시적 초기화)
+     */
+    @Scheduled(fixedDelayString = "${batch.incremental.interval-ms:60000}")
+    public void scheduleIncrementalAggregation() {
+        if (!batchProperties.getIncremental().isEnabled()) {
+            return;
+        }
+        if (!incrementalAggregationService.isInitialized()) {
+            log.warn(" 증분 집계 고수위가 초기화되지 않아 건너뜁니다. POST /api/admin/batch/incremental/initialize 로 초기화하세요.");
+            return;
+        }
+        if (!schedulerLock.tryAcquire(INCREMENTAL_AGGREGATION_LOCK)) {
+            log.debug(" 다른 인스턴스가 실행 중이므로 증분 집계 배치를 건너뜁니다.");
+            return;
+        }
+        try {
+            JobParameters params = new JobParametersBuilder()
+                    .addLong("ts", System.currentTimeMillis())
+                    .toJobParameters();
+
+            JobExecution execution = asyncJobLauncher.run(incrementalAggregationJob, params);
+            schedulerLock.holdWhileRunning(INCREMENTAL_AGGREGATION_LOCK, execution);
+
+            log.debug(" 증분 집계 배치 실행 - jobExecutionId: {}", execution.getId());
+
+        } catch (JobExecutionAlreadyRunningException e) {
+            log.warn(" 증분 집계 배치가 이미 실행 중입니다.", e);
+
+        } catch (Exception e) {
+            log.error(" 증분 집계 배치 실행 중 예상치 못한 오류 발생", e);
+        } finally {
+            schedulerLock.releaseIfIdle(INCREMENTAL_AGGREGATION_LOCK);
         }
     }
 }
@@ -0,0 +1,184 @@
+package io.eventdriven.batchkafka.batch;
+
+import io.eventdriven.batchkafka.config.BatchProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.job.JobExecution;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 스케줄 배치 분산 잠금 (MySQL scheduler_lock 임대 테이블)
+ *
+ * === 배경 ===
+ * 앱 인스턴스마다 BatchScheduler가 같은 시각에 실행 → 스케일 아웃 시 같은 배치가 N번 동시 실행
+ *
+ * === 방식 ===
+ * - 획득: 행이 없으면 INSERT, 있으면 임대가 만료된 경우에만 UPDATE로 가져옴 (조건부 단일 문장 → 원자적)
+ * - 배치는 비동기로 실행되므로 잠금은 스케줄 메서드가 아니라 잡 실행이 끝날 때까지 유지
+ *   (갱신 주기마다 실행 중인 잡의 임대 연장, 끝난 잡은 해제)
+ * - 보유 인스턴스가 죽으면 연장이 멈추고 임대 만료 후 다른 인스턴스가 획득
+ * - 해제 시 획득 후 최소 보유 시간까지는 유지 → 인스턴스 간 cron 발화 시각 차이로 짧은 잡이 다시 실행되는 것 방지
+ * - 활성화 상태에서 scheduler_lock 테이블이 없으면 기동 실패 (V050__scheduler_lock.sql)
+ *   → 획득 실패로 모든 스케줄 배치가 조용히 건너뛰어지는 상태를 배포 시점에 드러냄
+ */
+@Slf4j
+@Component
+class BatchSchedulerLock implements SmartInitializingSingleton {
+
+    private static final String TABLE_EXISTS_SQL = """
+            SELECT COUNT(*)
+            FROM information_schema.TABLES
+            WHERE TABLE_SCHEMA = DATABASE()
+              AND TABLE_NAME = 'scheduler_lock'
+            """;
+
+    private static final String INSERT_SQL = """
+            INSERT IGNORE INTO scheduler_lock (lock_name, owner, locked_at, locked_until)
+            VALUES (?, ?, NOW(3), NOW(3) + INTERVAL ? MICROSECOND)
+            """;
+
+    private static final String TAKE_OVER_SQL = """
+            UPDATE scheduler_lock
+            SET owner = ?, locked_at = NOW(3), locked_until = NOW(3) + INTERVAL ? MICROSECOND
+            WHERE lock_name = ?
+              AND locked_until <= NOW(3)
+            """;
+
+    private static final String RENEW_SQL = """
+            UPDATE scheduler_lock
+            SET locked_until = NOW(3) + INTERVAL ? MICROSECOND
+            WHERE lock_name = ?
+              AND owner = ?
+            """;
+
+    private static final String RELEASE_SQL = """
+            UPDATE scheduler_lock
+            SET locked_until = GREATEST(NOW(3), locked_at + INTERVAL ? MICROSECOND)
+            WHERE lock_name = ?
+              AND owner = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BatchProperties batchProperties;
+    private final String owner;
+
+    /**
+     * 이 인스턴스가 보유 중인 잠금 → 잠금으로 보호 중인 잡 실행 (실행 전이면 null)
+     */
+    private final Map<String, Held> held = new ConcurrentHashMap<>();
+
+    private record Held(JobExecution execution) {
+    }
+
+    BatchSchedulerLock(JdbcTemplate jdbcTemplate, BatchProperties batchProperties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchProperties = batchProperties;
+        this.owner = hostName() + ":" + UUID.randomUUID();
+    }
+
+    /**
+     * 기동 시 잠금 테이블 확인 (스키마 초기화/ddl-auto가 끝난 뒤 실행)
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!batchProperties.getSchedulerLock().isEnabled()) {
+            return;
+        }
+        Integer count = jdbcTemplate.queryForObject(TABLE_EXISTS_SQL, Integer.class);
+        if (count == null || count == 0) {
+            throw new IllegalStateException("scheduler_lock 테이블이 없습니다. db/schema/V050__scheduler_lock.sql을 적용하거나 "
+                    + "batch.scheduler-lock.enabled=false로 설정하세요.");
+        }
+    }
+
+    /**
+     * 잠금 획득 시도 (비활성화 시 항상 성공)
+     *
+     * @return 획득 여부 - false면 다른 인스턴스가 실행 중(또는 DB 오류)이므로 건너뜀
+     */
+    boolean tryAcquire(String lockName) {
+        if (!batchProperties.getSchedulerLock().isEnabled()) {
+            return true;
+        }
+        long leaseMicros = batchProperties.getSchedulerLock().getLeaseMs() * 1000;
+        boolean acquired;
+        try {
+            acquired = jdbcTemplate.update(INSERT_SQL, lockName, owner, leaseMicros) == 1
+                    || jdbcTemplate.update(TAKE_OVER_SQL, owner, leaseMicros, lockName) == 1;
+        } catch (Exception e) {
+            // 잠금 상태를 알 수 없으면 실행하지 않음 (중복 실행보다 다음 스케줄로 미루는 쪽이 안전)
+            // 경합이 아닌 오류로 배치가 빠지는 것이므로 ERROR
+            log.error(" 스케줄 잠금 획득 오류로 배치를 건너뜁니다 - {}", lockName, e);
+            return false;
+        }
+        if (acquired) {
+            held.put(lockName, new Held(null));
+            log.debug(" 스케줄 잠금 획득 - {} ({})", lockName, owner);
+        }
+        return acquired;
+    }
+
+    /**
+     * 잡 실행이 끝날 때까지 잠금 유지 (갱신 주기마다 연장)
+     */
+    void holdWhileRunning(String lockName, JobExecution execution) {
+        if (held.containsKey(lockName)) {
+            held.put(lockName, new Held(execution));
+        }
+    }
+
+    /**
+     * 잡을 실행하지 못한 경우(실행 실패/건너뜀) 잠금 해제
+     */
+    void releaseIfIdle(String lockName) {
+        Held current = held.get(lockName);
+        if (current != null && (current.execution() == null || !current.execution().isRunning())) {
+            release(lockName);
+        }
+    }
+
+    /**
+     * 보유 잠금 연장/해제
+     * - 실행 중인 잡: 임대 연장 (연장 실패 = 임대가 만료되어 다른 인스턴스가 가져감)
+     * - 끝난 잡: 해제
+     */
+    @Scheduled(fixedDelayString = "${batch.scheduler-lock.renew-interval-ms:30000}")
+    void renewHeldLocks() {
+        long leaseMicros = batchProperties.getSchedulerLock().getLeaseMs() * 1000;
+        held.forEach((lockName, current) -> {
+            try {
+                if (current.execution() != null && !current.execution().isRunning()) {
+                    release(lockName);
+                } else if (jdbcTemplate.update(RENEW_SQL, leaseMicros, lockName, owner) == 0) {
+                    held.remove(lockName);
+                    log.error(" 스케줄 잠금 임대 상실 - {} (임대 만료 후 다른 인스턴스가 획득했을 수 있음)", lockName);
+                }
+            } catch (Exception e) {
+                log.warn(" 스케줄 잠금 연장 실패 - {}: {}", lockName, e.getMessage());
+            }
+        });
+    }
+
+    private void release(String lockName) {
+        held.remove(lockName);
+        long minHoldMicros = batchProperties.getSchedulerLock().getMinHoldMs() * 1000;
+        jdbcTemplate.update(RELEASE_SQL, minHoldMicros, lockName, owner);
+        log.debug(" 스케줄 잠금 해제 - {}", lockName);
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "unknown";
+        }
+    }
+}
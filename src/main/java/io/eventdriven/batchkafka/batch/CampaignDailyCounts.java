@@ -0,0 +1,107 @@
+package io.eventdriven.batchkafka.batch;
+
+import java.time.LocalDate;
+
+/**
+ * (캠페인, 날짜) → 성공/실패 건수 원시 타입 해시 맵
+ * - 키: campaignId << 22 | epochDay (박싱/엔트리 객체 없음, 레코드 수백만 건도 GC 부담 없음)
+ * - 개방 주소법 + 선형 탐사, 적재율 0.5 초과 시 2배 확장
+ */
+class CampaignDailyCounts {
+
+    private static final int DAY_BITS = 22;
+    private static final long DAY_MASK = (1L << DAY_BITS) - 1;
+    private static final long MAX_CAMPAIGN_ID = (1L << (Long.SIZE - 1 - DAY_BITS)) - 1;
+    private static final long EMPTY = 0L;
+
+    private long[] keys;
+    private long[] success;
+    private long[] fail;
+    private int size;
+
+    @FunctionalInterface
+    interface Visitor {
+        void visit(long campaignId, LocalDate date, long successCount, long failCount);
+    }
+
+    CampaignDailyCounts() {
+        this(1024);
+    }
+
+    CampaignDailyCounts(int initialCapacity) {
+        int capacity = Integer.highestOneBit(Math.max(16, initialCapacity - 1)) << 1;
+        this.keys = new long[capacity];
+        this.success = new long[capacity];
+        this.fail = new long[capacity];
+    }
+
+    int size() {
+        return size;
+    }
+
+    void add(long campaignId, LocalDate date, boolean isSuccess) {
+        long epochDay = date.toEpochDay();
+        if (campaignId <= 0 || campaignId > MAX_CAMPAIGN_ID || epochDay < 0 || epochDay > DAY_MASK) {
+            throw new IllegalArgumentException("집계 키 범위 초과 - campaignId: " + campaignId + ", date: " + date);
+        }
+        long key = (campaignId << DAY_BITS) | epochDay;
+
+        int slot = slotOf(key, keys);
+        if (keys[slot] == EMPTY) {
+            keys[slot] = key;
+            size++;
+        }
+        if (isSuccess) {
+            success[slot]++;
+        } else {
+            fail[slot]++;
+        }
+        if (size * 2 > keys.length) {
+            resize();
+        }
+    }
+
+    void forEach(Visitor visitor) {
+        for (int i = 0; i < keys.length; i++) {
+            long key = keys[i];
+            if (key != EMPTY) {
+                visitor.visit(key >>> DAY_BITS, LocalDate.ofEpochDay(key & DAY_MASK), success[i], fail[i]);
+            }
+        }
+    }
+
+    private static int slotOf(long key, long[] table) {
+        int mask = table.length - 1;
+        int slot = (int) mix(key) & mask;
+        while (table[slot] != EMPTY && table[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void resize() {
+        long[] oldKeys = keys;
+        long[] oldSuccess = success;
+        long[] oldFail = fail;
+        keys = new long[oldKeys.length << 1];
+        success = new long[keys.length];
+        fail = new long[keys.length];
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                int slot = slotOf(oldKeys[i], keys);
+                keys[slot] = oldKeys[i];
+                success[slot] = oldSuccess[i];
+                fail[slot] = oldFail[i];
+            }
+        }
+    }
+
+    /**
+     * 64비트 해시 혼합 (SplitMix64 finalizer) - 연속된 키가 인접 슬롯에 몰리지 않도록
+     */
+    private static long mix(long key) {
+        key = (key ^ (key >>> 33)) * 0xff51afd7ed558ccdL;
+        key = (key ^ (key >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return key ^ (key >>> 33);
+    }
+}
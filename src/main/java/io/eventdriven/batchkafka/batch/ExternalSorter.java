@@ -0,0 +1,168 @@
+package io.eventdriven.batchkafka.batch;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * 디스크 스필 기반 외부 정렬
+ *
+ * - 메모리 버퍼가 runSize개 차면 정렬 후 스필 파일(run)로 기록하고 비움
+ * - 조회 시 run들을 우선순위 큐로 k-way 병합 (run마다 읽기 버퍼 1개만 유지)
+ * - 힙 사용량은 runSize + run 수 × 버퍼 크기로 고정 (전체 건수와 무관)
+ *
+ * 스필 파일은 close() 시 삭제
+ */
+final class ExternalSorter<T> implements Closeable {
+
+    private static final int BUFFER_BYTES = 64 * 1024;
+
+    /**
+     * 스필 파일 레코드 직렬화
+     */
+    interface Codec<T> {
+
+        void write(DataOutputStream out, T value) throws IOException;
+
+        T read(DataInputStream in) throws IOException;
+    }
+
+    @FunctionalInterface
+    interface Visitor<T> {
+        void visit(T value) throws IOException;
+    }
+
+    private record Run(Path file, long count) {
+    }
+
+    private final Path spillDirectory;
+    private final String prefix;
+    private final int runSize;
+    private final Comparator<T> comparator;
+    private final Codec<T> codec;
+
+    private final List<T> buffer = new ArrayList<>();
+    private final List<Run> runs = new ArrayList<>();
+    private long size;
+
+    ExternalSorter(Path spillDirectory, String prefix, int runSize, Comparator<T> comparator, Codec<T> codec) {
+        this.spillDirectory = spillDirectory;
+        this.prefix = prefix;
+        this.runSize = Math.max(1, runSize);
+        this.comparator = comparator;
+        this.codec = codec;
+    }
+
+    void add(T value) throws IOException {
+        buffer.add(value);
+        size++;
+        if (buffer.size() >= runSize) {
+            spill();
+        }
+    }
+
+    long size() {
+        return size;
+    }
+
+    int runCount() {
+        return runs.size();
+    }
+
+    /**
+     * 정렬 순서로 방문 (스필이 없었으면 메모리에서 바로 정렬)
+     */
+    void forEachSorted(Visitor<T> visitor) throws IOException {
+        if (runs.isEmpty()) {
+            buffer.sort(comparator);
+            for (T value : buffer) {
+                visitor.visit(value);
+            }
+            return;
+        }
+        if (!buffer.isEmpty()) {
+            spill();
+        }
+        merge(visitor);
+    }
+
+    private void spill() throws IOException {
+        buffer.sort(comparator);
+        Files.createDirectories(spillDirectory);
+        Path file = Files.createTempFile(spillDirectory, prefix, ".run");
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(file), BUFFER_BYTES))) {
+            for (T value : buffer) {
+                codec.write(out, value);
+            }
+        }
+        runs.add(new Run(file, buffer.size()));
+        buffer.clear();
+    }
+
+    private void merge(Visitor<T> visitor) throws IOException {
+        List<RunCursor> cursors = new ArrayList<>(runs.size());
+        try {
+            PriorityQueue<RunCursor> queue = new PriorityQueue<>(runs.size(),
+                    (left, right) -> comparator.compare(left.head, right.head));
+            for (Run run : runs) {
+                RunCursor cursor = new RunCursor(run);
+                cursors.add(cursor);
+                if (cursor.advance()) {
+                    queue.add(cursor);
+                }
+            }
+            while (!queue.isEmpty()) {
+                RunCursor cursor = queue.poll();
+                visitor.visit(cursor.head);
+                if (cursor.advance()) {
+                    queue.add(cursor);
+                }
+            }
+        } finally {
+            for (RunCursor cursor : cursors) {
+                cursor.in.close();
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        buffer.clear();
+        for (Run run : runs) {
+            Files.deleteIfExists(run.file());
+        }
+        runs.clear();
+    }
+
+    private final class RunCursor {
+
+        private final DataInputStream in;
+        private long remaining;
+        private T head;
+
+        RunCursor(Run run) throws IOException {
+            this.in = new DataInputStream(new BufferedInputStream(Files.newInputStream(run.file()), BUFFER_BYTES));
+            this.remaining = run.count();
+        }
+
+        boolean advance() throws IOException {
+            if (remaining == 0) {
+                head = null;
+                return false;
+            }
+            head = codec.read(in);
+            remaining--;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package io.eventdriven.batchkafka.batch;
+
+import io.eventdriven.batchkafka.application.analysis.FairnessAuditService;
+import org.springframework.batch.core.job.Job;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.Step;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+/**
+ * 선착순 공정성 감사 잡 설정
+ * - 캠페인 종료 후 "먼저 왔는데 탈락 / 늦게 왔는데 당첨" 사례 집계
+ */
+@Configuration
+public class FairnessAuditJobConfig {
+
+    /**
+     * 공정성 감사 요약 지표 키 (Job ExecutionContext) - 배치 상태 API는 이 키만 응답
+     */
+    public static final List<String> SUMMARY_KEYS = List.of(
+            "campaignId", "totalRecords", "idealWinners", "actualWinners",
+            "wronglyDenied", "lateWinners", "unfairPairs", "fairnessRate");
+
+    @Bean
+    public Tasklet fairnessAuditTasklet(FairnessAuditService fairnessAuditService) {
+        return new FairnessAuditTasklet(fairnessAuditService);
+    }
+
+    @Bean
+    public Step fairnessAuditStep(JobRepository jobRepository,
+                                  PlatformTransactionManager transactionManager,
+                                  Tasklet fairnessAuditTasklet) {
+        return new StepBuilder("fairnessAudit", jobRepository)
+                .tasklet(fairnessAuditTasklet, transactionManager)
+                .build();
+    }
+
+    @Bean
+    public Job fairnessAuditJob(JobRepository jobRepository,
+                                Step fairnessAuditStep,
+                                BatchExecutionListener batchExecutionListener) {
+        return new JobBuilder("fairnessAudit", jobRepository)
+                .start(fairnessAuditStep)
+                .listener(batchExecutionListener)
+                .build();
+    }
+}
@@ -0,0 +1,81 @@
+package io.eventdriven.batchkafka.batch;
+
+import io.eventdriven.batchkafka.api.dto.response.FairnessReport;
+import io.eventdriven.batchkafka.application.analysis.FairnessAuditService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.StepContribution;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.infrastructure.item.ExecutionContext;
+import org.springframework.batch.infrastructure.repeat.RepeatStatus;
+import org.springframework.dao.DataAccessException;
+
+import java.util.Map;
+
+/**
+ * 선착순 공정성 감사 Tasklet
+ * - 캠페인 이력을 도착 순서로 스트리밍하여 이상적 당첨자 vs 실제 SUCCESS 비교
+ * - 요약 지표는 Job ExecutionContext에 저장 (배치 상태 API에서 조회, 키 목록은 FairnessAuditJobConfig.SUMMARY_KEYS)
+ * - 종료 코드: 부당 탈락이 없으면 FAIR, 있으면 UNFAIR_{부당 탈락 건수}
+ */
+@Slf4j
+class FairnessAuditTasklet implements Tasklet {
+
+    private static final int SAMPLE_PAIR_LIMIT = 0; // 배치에서는 요약만 저장 (샘플은 API로 조회)
+
+    private final FairnessAuditService fairnessAuditService;
+
+    FairnessAuditTasklet(FairnessAuditService fairnessAuditService) {
+        this.fairnessAuditService = fairnessAuditService;
+    }
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
+        Map<String, Object> params = chunkContext.getStepContext().getJobParameters();
+
+        if (!params.containsKey("campaignId")) {
+            log.error("❌ 필수 파라미터 누락 - params: {}", params);
+            contribution.setExitStatus(ExitStatus.FAILED
+                    .addExitDescription("필수 파라미터 누락: campaignId"));
+            throw new IllegalArgumentException("JobParameters required: campaignId");
+        }
+
+        Long campaignId = Long.valueOf(String.valueOf(params.get("campaignId")));
+
+        try {
+            log.info("⚖️ 공정성 감사 시작 - campaignId: {}", campaignId);
+
+            FairnessReport report = fairnessAuditService.audit(campaignId, SAMPLE_PAIR_LIMIT);
+
+            ExecutionContext jobContext = chunkContext.getStepContext().getStepExecution()
+                    .getJobExecution().getExecutionContext();
+            jobContext.putLong("campaignId", campaignId);
+            jobContext.putLong("totalRecords", report.getTotalRecords());
+            jobContext.putLong("idealWinners", report.getIdealWinners());
+            jobContext.putLong("actualWinners", report.getActualWinners());
+            jobContext.putLong("wronglyDenied", report.getWronglyDenied());
+            jobContext.putLong("lateWinners", report.getLateWinners());
+            jobContext.putLong("unfairPairs", report.getUnfairPairs());
+            jobContext.putString("fairnessRate", report.getFairnessRate());
+
+            String exitCode = report.getWronglyDenied() == 0 ? "FAIR" : "UNFAIR_" + report.getWronglyDenied();
+            contribution.setExitStatus(new ExitStatus(exitCode)
+                    .addExitDescription(String.format("부당 탈락 %d건, 늦은 당첨 %d건, 공정률 %s",
+                            report.getWronglyDenied(), report.getLateWinners(), report.getFairnessRate())));
+            return RepeatStatus.FINISHED;
+
+        } catch (DataAccessException e) {
+            log.error("❌ DB 접근 오류 발생 - 공정성 감사 실패", e);
+            contribution.setExitStatus(ExitStatus.FAILED
+                    .addExitDescription("DB 오류: " + e.getMessage()));
+            throw e;
+
+        } catch (Exception e) {
+            log.error("❌ 예상치 못한 오류 발생 - 공정성 감사 실패", e);
+            contribution.setExitStatus(ExitStatus.FAILED
+                    .addExitDescription("예상치 못한 오류: " + e.getMessage()));
+            throw new RuntimeException("공정성 감사 중 예상치 못한 오류가 발생했습니다.", e);
+        }
+    }
+}
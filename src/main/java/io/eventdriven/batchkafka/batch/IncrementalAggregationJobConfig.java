@@ -0,0 +1,49 @@
+package io.eventdriven.batchkafka.batch;
+
+import io.eventdriven.batchkafka.application.service.CampaignAggregationService;
+import io.eventdriven.batchkafka.application.service.IncrementalAggregationService;
+import io.eventdriven.batchkafka.config.BatchProperties;
+import org.springframework.batch.core.job.Job;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.Step;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 증분 집계 잡 설정
+ * - 라이브 중 주기적으로 새 참여 이력만 campaign_stats에 반영 (비용 ∝ 새 데이터)
+ */
+@Configuration
+public class IncrementalAggregationJobConfig {
+
+    @Bean
+    public Tasklet incrementalAggregationTasklet(IncrementalAggregationService incrementalAggregationService,
+                                                 CampaignAggregationService campaignAggregationService,
+                                                 BatchProperties batchProperties) {
+        return new IncrementalAggregationTasklet(
+                incrementalAggregationService, campaignAggregationService, batchProperties);
+    }
+
+    @Bean
+    public Step incrementalAggregationStep(JobRepository jobRepository,
+                                           PlatformTransactionManager transactionManager,
+                                           Tasklet incrementalAggregationTasklet) {
+        return new StepBuilder("incrementalAggregation", jobRepository)
+                .tasklet(incrementalAggregationTasklet, transactionManager)
+                .build();
+    }
+
+    @Bean
+    public Job incrementalAggregationJob(JobRepository jobRepository,
+                                         Step incrementalAggregationStep,
+                                         BatchExecutionListener batchExecutionListener) {
+        return new JobBuilder("incrementalAggregation", jobRepository)
+                .start(incrementalAggregationStep)
+                .listener(batchExecutionListener)
+                .build();
+    }
+}
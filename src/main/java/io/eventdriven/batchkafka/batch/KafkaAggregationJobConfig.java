@@ -0,0 +1,51 @@
+package io.eventdriven.batchkafka.batch;
+
+import io.eventdriven.batchkafka.application.service.CampaignAggregationService;
+import io.eventdriven.batchkafka.config.BatchProperties;
+import org.springframework.batch.core.job.Job;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.Step;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.transaction.PlatformTransactionManager;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Kafka 결과 토픽 기반 집계 잡 설정
+ * - 재집계/백필을 MySQL 원본 스캔 없이 Kafka 순차 읽기로 수행
+ * - JobParameters: (date) 또는 (start, end) - 하루 단위 구간
+ */
+@Configuration
+public class KafkaAggregationJobConfig {
+
+    @Bean
+    public Tasklet kafkaAggregationTasklet(ConsumerFactory<String, String> consumerFactory,
+                                           JsonMapper jsonMapper,
+                                           CampaignAggregationService campaignAggregationService,
+                                           BatchProperties batchProperties) {
+        return new KafkaAggregationTasklet(consumerFactory, jsonMapper, campaignAggregationService, batchProperties);
+    }
+
+    @Bean
+    public Step kafkaAggregationStep(JobRepository jobRepository,
+                                     PlatformTransactionManager transactionManager,
+                                     Tasklet kafkaAggregationTasklet) {
+        return new StepBuilder("kafkaAggregateParticipation", jobRepository)
+                .tasklet(kafkaAggregationTasklet, transactionManager)
+                .build();
+    }
+
+    @Bean
+    public Job kafkaAggregateParticipationJob(JobRepository jobRepository,
+                                              Step kafkaAggregationStep,
+                                              BatchExecutionListener batchExecutionListener) {
+        return new JobBuilder("kafkaAggregateParticipation", jobRepository)
+                .start(kafkaAggregationStep)
+                .listener(batchExecutionListener)
+                .build();
+    }
+}
@@ -0,0 +1,305 @@
+package io.eventdriven.batchkafka.batch;
+
+import io.eventdriven.batchkafka.application.event.ParticipationResultEvent;
+import io.eventdriven.batchkafka.application.service.CampaignAggregationService;
+import io.eventdriven.batchkafka.config.BatchProperties;
+import io.eventdriven.batchkafka.config.KafkaConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndTimestamp;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.StepContribution;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.infrastructure.item.ExecutionContext;
+import org.springframework.batch.infrastructure.repeat.RepeatStatus;
+import org.springframework.kafka.core.ConsumerFactory;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * Kafka 결과 토픽 기반 집계 Tasklet (MySQL 원본 스캔 없음)
+ *
+ * 1. 결과 토픽 파티션별 읽기 구간 확정
+ *    - 시작: offsetsForTimes(start - 여유), 끝: min(offsetsForTimes(end + 여유), 실행 시점 endOffsets)
+ *    - 보존 기간 만료로 파티션 데이터가 구간 시작 이후부터만 남아 있으면 Step 실패
+ *      (불완전한 토픽으로 campaign_stats를 덮어쓰지 않음)
+ * 2. 구간을 순차 poll → processedAt이 [start, end)인 결과만 (캠페인, 날짜)별 원시 타입 맵에 카운트
+ *    - 같은 요청 레코드(sourcePartition, sourceOffset)의 결과는 처음 것만 집계 (재처리로 인한 중복 발행 제거)
+ * 3. (캠페인, 날짜)별 합계를 분 롤업(campaign_minute_stats)과 대조 → 하나라도 다르면 Step 실패
+ *    (결과 발행은 커밋 후 비동기라 유실 가능 - 토픽만으로 정확한 DB 기준 통계를 덮어쓰지 않음)
+ * 4. 날짜 단위 최종값으로 campaign_stats 교체 (멱등) → 해당 주 롤업 갱신
+ *
+ * 컨슈머 그룹 오프셋은 커밋하지 않음 (assign + seek, 실시간 Consumer와 무관)
+ * 구간은 하루 단위여야 함 (일부 시간만 세면 하루 통계를 덮어쓸 수 없음)
+ */
+@Slf4j
+class KafkaAggregationTasklet implements Tasklet {
+
+    private static final String CONSUMER_GROUP_ID = "campaign-stats-kafka-aggregation";
+
+    private final ConsumerFactory<String, String> consumerFactory;
+    private final JsonMapper jsonMapper;
+    private final CampaignAggregationService aggregationService;
+    private final BatchProperties batchProperties;
+
+    KafkaAggregationTasklet(ConsumerFactory<String, String> consumerFactory,
+                            JsonMapper jsonMapper,
+                            CampaignAggregationService aggregationService,
+                            BatchProperties batchProperties) {
+        this.consumerFactory = consumerFactory;
+        this.jsonMapper = jsonMapper;
+        this.aggregationService = aggregationService;
+        this.batchProperties = batchProperties;
+    }
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
+        AggregationWindow window = AggregationWindow.from(chunkContext.getStepContext().getJobParameters());
+        if (!window.start().toLocalTime().equals(LocalTime.MIDNIGHT)
+                || !window.end().toLocalTime().equals(LocalTime.MIDNIGHT)
+                || !window.end().isAfter(window.start())) {
+            throw new IllegalArgumentException("Kafka 집계 구간은 하루 단위(00:00 ~ 00:00)여야 합니다: "
+                    + window.start() + " ~ " + window.end());
+        }
+
+        BatchProperties.KafkaAggregation config = batchProperties.getKafkaAggregation();
+        ZoneId zone = ZoneId.systemDefault();
+        long startMillis = toEpochMillis(window.start(), zone);
+        long endMillis = toEpochMillis(window.end(), zone);
+        long marginMillis = config.getTimestampMarginSeconds() * 1000L;
+
+        log.info("📥 Kafka 결과 토픽 집계 시작 - 구간: {} ~ {}, 토픽: {}",
+                window.start(), window.end(), KafkaConfig.RESULT_TOPIC_NAME);
+        long startTime = System.currentTimeMillis();
+
+        CampaignDailyCounts counts = new CampaignDailyCounts();
+        SourceOffsetSet seenSources = new SourceOffsetSet();
+        long scanned = 0;
+        long counted = 0;
+        long duplicates = 0;
+        long malformed = 0;
+        int partitionCount;
+
+        try (Consumer<String, String> consumer = consumerFactory.createConsumer(
+                CONSUMER_GROUP_ID, null, null, consumerProperties(config))) {
+
+            List<TopicPartition> partitions = new ArrayList<>();
+            for (PartitionInfo info : consumer.partitionsFor(KafkaConfig.RESULT_TOPIC_NAME)) {
+                partitions.add(new TopicPartition(info.topic(), info.partition()));
+            }
+            partitionCount = partitions.size();
+
+            Map<TopicPartition, long[]> ranges = resolveRanges(consumer, partitions,
+                    startMillis - marginMillis, endMillis + marginMillis);
+            consumer.assign(ranges.keySet());
+            ranges.forEach((partition, range) -> consumer.seek(partition, range[0]));
+
+            int emptyPolls = 0;
+            while (!ranges.isEmpty()) {
+                ConsumerRecords<String, String> records = consumer.poll(Duration.ofMillis(config.getPollTimeoutMs()));
+                if (records.isEmpty()) {
+                    if (++emptyPolls >= config.getMaxEmptyPolls()) {
+                        throw new IllegalStateException("Kafka 결과 토픽 읽기가 진행되지 않습니다. 남은 파티션: "
+                                + ranges.keySet());
+                    }
+                    continue;
+                }
+                emptyPolls = 0;
+
+                for (ConsumerRecord<String, String> record : records) {
+                    long[] range = ranges.get(new TopicPartition(record.topic(), record.partition()));
+                    if (range == null || record.offset() >= range[1]) {
+                        continue;
+                    }
+                    scanned++;
+
+                    ParticipationResultEvent event;
+                    try {
+                        event = jsonMapper.readValue(record.value(), ParticipationResultEvent.class);
+                    } catch (JacksonException e) {
+                        if (malformed++ == 0) {
+                            log.warn("⚠️ 결과 이벤트 파싱 실패 - partition: {}, offset: {}",
+                                    record.partition(), record.offset(), e);
+                        }
+                        continue;
+                    }
+                    if (event.campaignId() == null
+                            || event.processedAt() < startMillis || event.processedAt() >= endMillis) {
+                        continue;
+                    }
+                    if (event.sourcePartition() != null && event.sourceOffset() != null
+                            && !seenSources.add(event.sourcePartition(), event.sourceOffset())) {
+                        duplicates++;
+                        continue;
+                    }
+                    LocalDate date = LocalDate.ofInstant(Instant.ofEpochMilli(event.processedAt()), zone);
+                    counts.add(event.campaignId(), date, "SUCCESS".equals(event.status()));
+                    counted++;
+                }
+
+                // 끝 오프셋에 도달한 파티션은 읽기 중단
+                ranges.entrySet().removeIf(entry -> consumer.position(entry.getKey()) >= entry.getValue()[1]);
+                consumer.pause(consumer.assignment().stream()
+                        .filter(partition -> !ranges.containsKey(partition))
+                        .toList());
+            }
+        }
+
+        List<CampaignAggregationService.DailyStats> rows = new ArrayList<>(counts.size());
+        TreeSet<LocalDate> affectedDates = new TreeSet<>();
+        counts.forEach((campaignId, date, successCount, failCount) -> {
+            rows.add(new CampaignAggregationService.DailyStats(campaignId, date, successCount, failCount));
+            affectedDates.add(date);
+        });
+        int verified = verifyAgainstSource(rows, window.start().toLocalDate(), window.end().toLocalDate());
+        int updated = aggregationService.replaceDailyStats(rows);
+        if (!affectedDates.isEmpty()) {
+            aggregationService.rollupWeeks(affectedDates.first(), affectedDates.last());
+        }
+
+        ExecutionContext jobContext = chunkContext.getStepContext().getStepExecution()
+                .getJobExecution().getExecutionContext();
+        jobContext.putInt("partitions", partitionCount);
+        jobContext.putLong("scannedRecords", scanned);
+        jobContext.putLong("countedRecords", counted);
+        jobContext.putLong("duplicateRecords", duplicates);
+        jobContext.putLong("malformedRecords", malformed);
+        jobContext.putInt("verifiedCampaignDays", verified);
+        jobContext.putString(IncrementalAggregationTasklet.AFFECTED_DATES, affectedDates.stream()
+                .map(LocalDate::toString)
+                .collect(Collectors.joining(",")));
+
+        long elapsed = Math.max(1, System.currentTimeMillis() - startTime);
+        log.info("✅ Kafka 결과 토픽 집계 완료 - 읽음: {}건, 집계: {}건, 중복: {}건, 파싱 실패: {}건, 반영: {}행, 소요: {}ms ({}건/초)",
+                scanned, counted, duplicates, malformed, updated, elapsed, scanned * 1000 / elapsed);
+
+        contribution.incrementWriteCount(updated);
+        contribution.setExitStatus(new ExitStatus("UPDATED_" + updated));
+        return RepeatStatus.FINISHED;
+    }
+
+    /**
+     * 재집계 결과를 DB 원천(분 롤업)의 (캠페인, 날짜) 합계와 대조
+     * - 결과 토픽 발행은 커밋 후 비동기(실패 시 로그만)라 유실되면 적게 셈 → 정확한 DB 기준 통계를 덮어쓰지 않도록 Step 실패
+     * - 양쪽 어느 한쪽에만 있는 (캠페인, 날짜)도 불일치
+     *
+     * @return 대조한 (캠페인, 날짜) 수
+     * @throws IllegalStateException 하나라도 어긋날 때 (campaign_stats는 변경하지 않음)
+     */
+    private int verifyAgainstSource(List<CampaignAggregationService.DailyStats> rows, LocalDate from, LocalDate to) {
+        Map<CampaignDay, long[]> expected = new HashMap<>();
+        for (LocalDate date = from; date.isBefore(to); date = date.plusDays(1)) {
+            for (CampaignAggregationService.DailyStats row : aggregationService.dailyStatsFromSource(date)) {
+                expected.put(new CampaignDay(row.campaignId(), row.statsDate()),
+                        new long[]{row.successCount(), row.failCount()});
+            }
+        }
+
+        List<String> mismatches = new ArrayList<>();
+        for (CampaignAggregationService.DailyStats row : rows) {
+            long[] source = expected.remove(new CampaignDay(row.campaignId(), row.statsDate()));
+            if (source == null || source[0] != row.successCount() || source[1] != row.failCount()) {
+                mismatches.add(String.format("%d/%s Kafka(성공 %d, 실패 %d) ≠ DB(%s)", row.campaignId(), row.statsDate(),
+                        row.successCount(), row.failCount(),
+                        source == null ? "없음" : "성공 " + source[0] + ", 실패 " + source[1]));
+            }
+        }
+        expected.forEach((key, source) -> mismatches.add(String.format("%d/%s Kafka(없음) ≠ DB(성공 %d, 실패 %d)",
+                key.campaignId(), key.date(), source[0], source[1])));
+
+        if (!mismatches.isEmpty()) {
+            throw new IllegalStateException(String.format(
+                    "Kafka 재집계 결과가 분 롤업과 다릅니다 (결과 이벤트 유실 가능) - 불일치 %d건, 예: %s - "
+                            + "campaign_stats를 덮어쓰지 않습니다. MySQL 집계(aggregateParticipation)를 사용하세요.",
+                    mismatches.size(), mismatches.subList(0, Math.min(5, mismatches.size()))));
+        }
+        log.info("  ✓ 분 롤업 대조 일치 - {}개 (캠페인, 날짜)", rows.size());
+        return rows.size();
+    }
+
+    private record CampaignDay(long campaignId, LocalDate date) {
+    }
+
+    /**
+     * 파티션별 읽기 구간 [시작 오프셋, 끝 오프셋) - 읽을 것이 없는 파티션은 제외
+     *
+     * @throws IllegalStateException 만료로 지워진 레코드가 있는 파티션에서 남은 가장 오래된 레코드가 구간 시작 이후이거나
+     *                               레코드가 모두 만료된 경우 (구간 앞부분 누락 가능)
+     */
+    private Map<TopicPartition, long[]> resolveRanges(Consumer<String, String> consumer,
+                                                      List<TopicPartition> partitions,
+                                                      long fromMillis, long toMillis) {
+        Map<TopicPartition, Long> endOffsets = consumer.endOffsets(partitions);
+        Map<TopicPartition, Long> beginningOffsets = consumer.beginningOffsets(partitions);
+        Map<TopicPartition, OffsetAndTimestamp> fromOffsets = consumer.offsetsForTimes(timestamps(partitions, fromMillis));
+        Map<TopicPartition, OffsetAndTimestamp> toOffsets = consumer.offsetsForTimes(timestamps(partitions, toMillis));
+
+        Map<TopicPartition, long[]> ranges = new HashMap<>();
+        for (TopicPartition partition : partitions) {
+            long end = endOffsets.getOrDefault(partition, 0L);
+            long beginning = beginningOffsets.getOrDefault(partition, 0L);
+            OffsetAndTimestamp from = fromOffsets.get(partition);
+            OffsetAndTimestamp to = toOffsets.get(partition);
+
+            // beginning > 0: 앞쪽 레코드가 보존 기간 만료로 지워짐 → 남은 첫 레코드가 구간 시작 이후면 앞부분 누락 가능
+            if (beginning > 0 && from != null && from.offset() == beginning && from.timestamp() > fromMillis) {
+                throw new IllegalStateException(String.format(
+                        "파티션 %s의 보존 데이터가 구간 시작(%s) 이후부터 존재합니다 (첫 레코드: %s) - "
+                                + "불완전한 결과로 통계를 덮어쓰지 않습니다. MySQL 집계(aggregateParticipation)를 사용하세요.",
+                        partition, Instant.ofEpochMilli(fromMillis), Instant.ofEpochMilli(from.timestamp())));
+            }
+            if (beginning == end && end > 0) {
+                throw new IllegalStateException(String.format(
+                        "파티션 %s의 레코드가 모두 만료되었습니다 (오프셋 %d) - 구간 데이터를 확인할 수 없습니다.",
+                        partition, end));
+            }
+
+            long startOffset = from != null ? from.offset() : end;
+            long endOffset = to != null ? Math.min(to.offset(), end) : end;
+            if (startOffset >= endOffset) {
+                continue;
+            }
+            ranges.put(partition, new long[]{startOffset, endOffset});
+            log.info("  ↪ {} 읽기 구간: [{}, {}) - {}건", partition, startOffset, endOffset, endOffset - startOffset);
+        }
+        return ranges;
+    }
+
+    private static Map<TopicPartition, Long> timestamps(List<TopicPartition> partitions, long millis) {
+        Map<TopicPartition, Long> timestamps = new HashMap<>();
+        partitions.forEach(partition -> timestamps.put(partition, millis));
+        return timestamps;
+    }
+
+    private static Properties consumerProperties(BatchProperties.KafkaAggregation config) {
+        Properties properties = new Properties();
+        properties.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, config.getMaxPollRecords());
+        properties.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        properties.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "none");
+        return properties;
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime, ZoneId zone) {
+        return dateTime.atZone(zone).toInstant().toEpochMilli();
+    }
+}
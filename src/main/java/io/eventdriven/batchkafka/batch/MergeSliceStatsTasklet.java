@@ -0,0 +1,62 @@
+package io.eventdriven.batchkafka.batch;
+
+import io.eventdriven.batchkafka.application.service.CampaignAggregationService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.StepContribution;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.infrastructure.repeat.RepeatStatus;
+import org.springframework.dao.DataAccessException;
+
+/**
+ * 집계 병합 Tasklet
+ * - 모든 조각 완료 후 campaign_stats_slice(시간) → campaign_stats(일) 합산 반영
+ * - 해당 주의 campaign_stats_week(주) 롤업 갱신
+ */
+@Slf4j
+class MergeSliceStatsTasklet implements Tasklet {
+
+    private final CampaignAggregationService campaignAggregationService;
+
+    MergeSliceStatsTasklet(CampaignAggregationService campaignAggregationService) {
+        this.campaignAggregationService = campaignAggregationService;
+    }
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
+        AggregationWindow window;
+        try {
+            window = AggregationWindow.from(chunkContext.getStepContext().getJobParameters());
+        } catch (IllegalArgumentException e) {
+            log.error("❌ 잘못된 파라미터", e);
+            contribution.setExitStatus(ExitStatus.FAILED
+                    .addExitDescription("파라미터 오류: " + e.getMessage()));
+            throw e;
+        }
+
+        try {
+            int updated = campaignAggregationService.mergeSlices(window.start(), window.end());
+            // 일 통계가 바뀐 주를 다시 롤업 (통계 날짜 = 구간 시작일)
+            campaignAggregationService.rollupWeeks(window.start().toLocalDate(), window.start().toLocalDate());
+
+            if (updated == 0) {
+                log.warn("⚠️ 집계 대상 데이터 없음 - 기간: {} ~ {}", window.start(), window.end());
+                contribution.setExitStatus(new ExitStatus("UPDATED_0")
+                        .addExitDescription("집계 대상 데이터 없음"));
+                return RepeatStatus.FINISHED;
+            }
+
+            log.info("✅ 전체 집계 완료 - {} 개 캠페인 업데이트 (조각 병합)", updated);
+            contribution.incrementWriteCount(updated);
+            contribution.setExitStatus(new ExitStatus("UPDATED_" + updated));
+            return RepeatStatus.FINISHED;
+
+        } catch (DataAccessException e) {
+            log.error("❌ DB 접근 오류 발생 - 병합 실패", e);
+            contribution.setExitStatus(ExitStatus.FAILED
+                    .addExitDescription("DB 오류: " + e.getMessage()));
+            throw e;
+        }
+    }
+}
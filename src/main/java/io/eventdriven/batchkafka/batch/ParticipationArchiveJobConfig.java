@@ -0,0 +1,56 @@
+package io.eventdriven.batchkafka.batch;
+
+import io.eventdriven.batchkafka.application.analysis.ParticipationArchiveStore;
+import io.eventdriven.batchkafka.config.BatchProperties;
+import io.eventdriven.batchkafka.domain.repository.ParticipationArchiveRepository;
+import org.springframework.batch.core.job.Job;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.Step;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+
+/**
+ * 종료 캠페인 참여 이력 아카이브 잡 설정
+ * - participation_history → 컬럼 압축 파일, 원본은 청크 단위 삭제
+ * - 스케줄러(매일) 또는 /api/admin/batch/archive로 실행
+ */
+@Configuration
+public class ParticipationArchiveJobConfig {
+
+    @Bean
+    public Tasklet participationArchiveTasklet(JdbcTemplate jdbcTemplate,
+                                               DataSource dataSource,
+                                               ParticipationArchiveStore archiveStore,
+                                               ParticipationArchiveRepository archiveRepository,
+                                               BatchProperties batchProperties,
+                                               PlatformTransactionManager transactionManager) {
+        return new ParticipationArchiveTasklet(jdbcTemplate, dataSource, archiveStore,
+                archiveRepository, batchProperties, transactionManager);
+    }
+
+    @Bean
+    public Step participationArchiveStep(JobRepository jobRepository,
+                                         PlatformTransactionManager transactionManager,
+                                         Tasklet participationArchiveTasklet) {
+        return new StepBuilder("participationArchive", jobRepository)
+                .tasklet(participationArchiveTasklet, transactionManager)
+                .build();
+    }
+
+    @Bean
+    public Job participationArchiveJob(JobRepository jobRepository,
+                                       Step participationArchiveStep,
+                                       BatchExecutionListener batchExecutionListener) {
+        return new JobBuilder("participationArchive", jobRepository)
+                .start(participationArchiveStep)
+                .listener(batchExecutionListener)
+                .build();
+    }
+}
@@ -0,0 +1,270 @@
+package io.eventdriven.batchkafka.batch;
+
+import io.eventdriven.batchkafka.application.analysis.ArrivalOrderColumns;
+import io.eventdriven.batchkafka.application.analysis.ParticipationArchiveCodec;
+import io.eventdriven.batchkafka.application.analysis.ParticipationArchiveStore;
+import io.eventdriven.batchkafka.config.BatchProperties;
+import io.eventdriven.batchkafka.domain.entity.ParticipationArchive;
+import io.eventdriven.batchkafka.domain.repository.ParticipationArchiveRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.StepContribution;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.infrastructure.item.ExecutionContext;
+import org.springframework.batch.infrastructure.repeat.RepeatStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 종료 캠페인 참여 이력 아카이브 Tasklet
+ *
+ * 1. 종료 후 일정 시간이 지났고 participation_history 행이 남은 캠페인 선택 (또는 campaignId 파라미터)
+ * 2. 도착 순서로 스트리밍하여 인코딩 (스캔한 최대 id 기록)
+ *    → 헤더 rowCount/successCount 를 같은 범위(id <= 최대 id)의 COUNT 와 대조
+ *    → 일치할 때만 파일 기록 + participation_archive 메타데이터 저장
+ * 3. 저장된 파일을 다시 읽어 메타데이터와 대조 (파일 크기/헤더/전체 행 디코딩) → 읽을 수 없으면 삭제하지 않고 실패
+ * 4. id <= maxHistoryId 인 원본 행만 청크 단위 DELETE (청크마다 별도 짧은 트랜잭션 → 긴 잠금/언두 없음)
+ *
+ * 스캔 이후 늦게 커밋된 행(auto-increment id 는 커밋 순서가 아님)이 범위 안에 끼면 대조가 어긋나므로
+ * 예외로 Step 을 실패시키고 아무것도 삭제하지 않음 → 다음 실행에서 다시 아카이브
+ * 범위 밖(id > maxHistoryId)으로 들어온 행은 아카이브에 없으므로 삭제하지 않고 남겨 둠
+ *
+ * 2번까지 끝난 캠페인은 재실행 시 3~4번만 이어서 수행 (멱등)
+ */
+@Slf4j
+class ParticipationArchiveTasklet implements Tasklet {
+
+    // 이미 아카이브된 캠페인은 삭제 범위(id <= max_history_id)에 행이 남은 경우만 대상
+    private static final String CANDIDATES_SQL = """
+            SELECT c.id
+            FROM campaign c
+                     LEFT JOIN participation_archive a ON a.campaign_id = c.id
+            WHERE c.status = 'CLOSED'
+              AND c.updated_at < ?
+              AND EXISTS (SELECT 1
+                          FROM participation_history p
+                          WHERE p.campaign_id = c.id
+                            AND (a.campaign_id IS NULL OR p.id <= a.max_history_id))
+            ORDER BY c.id
+            """;
+
+    // Kafka 메타데이터가 있는 행(도착 순서) → 없는 행(id 순)
+    private static final String ARCHIVE_SCAN_SQL = """
+            SELECT id, user_id, kafka_partition, kafka_offset, kafka_timestamp, processing_sequence, status, created_at
+            FROM participation_history
+            WHERE campaign_id = ?
+            ORDER BY (kafka_timestamp IS NULL OR kafka_partition IS NULL OR kafka_offset IS NULL),
+                     kafka_timestamp, kafka_partition, kafka_offset, id
+            """;
+
+    private static final String VERIFY_SQL = """
+            SELECT COUNT(*) AS row_count, COALESCE(SUM(status = 'SUCCESS'), 0) AS success_count
+            FROM participation_history
+            WHERE campaign_id = ?
+              AND id <= ?
+            """;
+
+    private static final String REMAINING_SQL = """
+            SELECT COUNT(*)
+            FROM participation_history
+            WHERE campaign_id = ?
+              AND id > ?
+            """;
+
+    private static final String DELETE_CHUNK_SQL = """
+            DELETE FROM participation_history
+            WHERE campaign_id = ?
+              AND id <= ?
+            ORDER BY id
+            LIMIT ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JdbcTemplate streamingJdbcTemplate;
+    private final ParticipationArchiveStore archiveStore;
+    private final ParticipationArchiveRepository archiveRepository;
+    private final BatchProperties batchProperties;
+    private final TransactionTemplate chunkTransaction;
+
+    ParticipationArchiveTasklet(JdbcTemplate jdbcTemplate,
+                                DataSource dataSource,
+                                ParticipationArchiveStore archiveStore,
+                                ParticipationArchiveRepository archiveRepository,
+                                BatchProperties batchProperties,
+                                PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        // MySQL Connector/J: 행 단위 스트리밍 (캠페인 전체를 결과셋으로 적재하지 않음)
+        this.streamingJdbcTemplate.setFetchSize(Integer.MIN_VALUE);
+        this.archiveStore = archiveStore;
+        this.archiveRepository = archiveRepository;
+        this.batchProperties = batchProperties;
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.chunkTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) throws IOException {
+        Map<String, Object> params = chunkContext.getStepContext().getJobParameters();
+        BatchProperties.Archive config = batchProperties.getArchive();
+
+        List<Long> campaignIds;
+        if (params.containsKey("campaignId")) {
+            campaignIds = List.of(Long.valueOf(String.valueOf(params.get("campaignId"))));
+        } else {
+            LocalDateTime closedBefore = LocalDateTime.now().minusMinutes(config.getMinClosedMinutes());
+            campaignIds = jdbcTemplate.queryForList(CANDIDATES_SQL, Long.class, Timestamp.valueOf(closedBefore));
+        }
+
+        log.info("📦 참여 이력 아카이브 시작 - 대상 캠페인: {}", campaignIds);
+
+        long archivedRows = 0;
+        long deletedRows = 0;
+        for (Long campaignId : campaignIds) {
+            Optional<ParticipationArchive> existing = archiveRepository.findById(campaignId);
+            ParticipationArchive archive;
+            if (existing.isEmpty()) {
+                if (!isClosed(campaignId)) {
+                    log.warn("⚠️ 종료되지 않은 캠페인은 아카이브하지 않습니다 - campaignId: {}", campaignId);
+                    continue;
+                }
+                archive = archive(campaignId);
+                archivedRows += archive.getRowCount();
+            } else {
+                archive = existing.get();
+                log.info("  ↪ 이미 아카이브됨 - 남은 원본 행 삭제만 이어서 수행 - campaignId: {}, maxHistoryId: {}",
+                        campaignId, archive.getMaxHistoryId());
+            }
+            archiveStore.verifyStored(archive);
+            deletedRows += deleteHistory(campaignId, archive.getMaxHistoryId(), config.getDeleteChunkSize());
+        }
+
+        ExecutionContext jobContext = chunkContext.getStepContext().getStepExecution()
+                .getJobExecution().getExecutionContext();
+        jobContext.putInt("campaigns", campaignIds.size());
+        jobContext.putLong("archivedRows", archivedRows);
+        jobContext.putLong("deletedRows", deletedRows);
+
+        log.info("✅ 참여 이력 아카이브 완료 - 캠페인: {}개, 아카이브: {}행, 원본 삭제: {}행",
+                campaignIds.size(), archivedRows, deletedRows);
+
+        contribution.incrementWriteCount(archivedRows);
+        contribution.setExitStatus(new ExitStatus("ARCHIVED_" + archivedRows));
+        return RepeatStatus.FINISHED;
+    }
+
+    private boolean isClosed(Long campaignId) {
+        Integer closed = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM campaign WHERE id = ? AND status = 'CLOSED'", Integer.class, campaignId);
+        return closed != null && closed > 0;
+    }
+
+    /**
+     * 캠페인 1개 스트리밍 인코딩 → 원본 대조 → 파일 기록 → 메타데이터 저장
+     *
+     * @return 저장한 아카이브 메타데이터
+     * @throws IllegalStateException 헤더와 원본 COUNT 가 어긋날 때 (파일/메타데이터 모두 남기지 않음)
+     */
+    private ParticipationArchive archive(Long campaignId) throws IOException {
+        long startTime = System.currentTimeMillis();
+        ParticipationArchiveCodec.Writer writer = new ParticipationArchiveCodec.Writer(campaignId);
+        long[] maxId = {0L};
+
+        streamingJdbcTemplate.query(ARCHIVE_SCAN_SQL, rs -> {
+            maxId[0] = Math.max(maxId[0], rs.getLong("id"));
+            long userId = rs.getLong("user_id");
+            long sequence = rs.getLong("processing_sequence");
+            if (rs.wasNull()) {
+                sequence = ArrivalOrderColumns.NO_SEQUENCE;
+            }
+            boolean success = "SUCCESS".equals(rs.getString("status"));
+            long createdAt = rs.getTimestamp("created_at").getTime();
+
+            long timestamp = rs.getLong("kafka_timestamp");
+            boolean hasTimestamp = !rs.wasNull();
+            int partition = rs.getInt("kafka_partition");
+            boolean hasPartition = !rs.wasNull();
+            long offset = rs.getLong("kafka_offset");
+            boolean hasOffset = !rs.wasNull();
+
+            if (hasTimestamp && hasPartition && hasOffset) {
+                writer.addKafkaRow(userId, partition, offset, timestamp, sequence, success, createdAt);
+            } else {
+                writer.addPlainRow(userId, sequence, success, createdAt);
+            }
+        }, campaignId);
+
+        ParticipationArchiveCodec.Header header = writer.header();
+        verify(campaignId, maxId[0], header);
+
+        Path file = archiveStore.write(writer);
+        long fileBytes = Files.size(file);
+
+        ParticipationArchive archive = new ParticipationArchive(campaignId, file.getFileName().toString(), maxId[0],
+                header.rowCount(), header.successCount(), header.failCount(), fileBytes);
+        chunkTransaction.executeWithoutResult(status -> archiveRepository.save(archive));
+
+        log.info("  ✓ 아카이브 기록 - campaignId: {}, 행: {}, 파일: {} ({} bytes, {}B/행), 소요: {}ms",
+                campaignId, header.rowCount(), file, fileBytes,
+                header.rowCount() > 0 ? String.format("%.2f", (double) fileBytes / header.rowCount()) : "0",
+                System.currentTimeMillis() - startTime);
+        return archive;
+    }
+
+    /**
+     * 헤더의 행 수/성공 수를 삭제 대상과 같은 범위(id <= maxHistoryId)의 원본 COUNT 와 대조
+     */
+    private void verify(Long campaignId, long maxHistoryId, ParticipationArchiveCodec.Header header) {
+        Map<String, Object> counts = jdbcTemplate.queryForMap(VERIFY_SQL, campaignId, maxHistoryId);
+        long rowCount = ((Number) counts.get("row_count")).longValue();
+        long successCount = ((Number) counts.get("success_count")).longValue();
+
+        if (rowCount != header.rowCount() || successCount != header.successCount()) {
+            throw new IllegalStateException(String.format(
+                    "아카이브 검증 실패 - campaignId: %d, maxHistoryId: %d, 헤더(행 %d, 성공 %d) ≠ 원본(행 %d, 성공 %d)",
+                    campaignId, maxHistoryId, header.rowCount(), header.successCount(), rowCount, successCount));
+        }
+    }
+
+    /**
+     * 아카이브 범위(id <= maxHistoryId) 원본 행 청크 삭제 (청크마다 REQUIRES_NEW 트랜잭션)
+     *
+     * @return 삭제한 행 수
+     */
+    private long deleteHistory(Long campaignId, long maxHistoryId, int chunkSize) {
+        long total = 0;
+        while (true) {
+            Integer deleted = chunkTransaction.execute(status ->
+                    jdbcTemplate.update(DELETE_CHUNK_SQL, campaignId, maxHistoryId, chunkSize));
+            int count = deleted != null ? deleted : 0;
+            total += count;
+            if (count < chunkSize) {
+                break;
+            }
+            if (total % (chunkSize * 20L) == 0) {
+                log.info("  … 원본 삭제 진행 - campaignId: {}, 삭제: {}행", campaignId, total);
+            }
+        }
+        log.info("  ✓ 원본 삭제 완료 - campaignId: {}, 삭제: {}행", campaignId, total);
+
+        Long remaining = jdbcTemplate.queryForObject(REMAINING_SQL, Long.class, campaignId, maxHistoryId);
+        if (remaining != null && remaining > 0) {
+            log.warn("⚠️ 아카이브 이후 추가된 원본 행은 삭제하지 않습니다 - campaignId: {}, 남은 행: {}",
+                    campaignId, remaining);
+        }
+        return total;
+    }
+}
@@ -0,0 +1,47 @@
+package io.eventdriven.batchkafka.batch;
+
+import io.eventdriven.batchkafka.config.BatchProperties;
+import org.springframework.batch.core.job.Job;
+import org.springframework.batch.core.step.Step;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 참여 이력 파티션 관리 잡 설정
+ * - 미래 일 파티션 선생성 + 보관 기간 만료 파티션 DROP
+ * - 스케줄러를 통해 매일 집계 배치 전에 실행
+ */
+@Configuration
+public class ParticipationHistoryPartitionJobConfig {
+
+    @Bean
+    public Tasklet participationHistoryPartitionTasklet(JdbcTemplate jdbcTemplate,
+                                                        BatchProperties batchProperties) {
+        return new ParticipationHistoryPartitionTasklet(jdbcTemplate, batchProperties);
+    }
+
+    @Bean
+    public Step participationHistoryPartitionStep(JobRepository jobRepository,
+                                                  PlatformTransactionManager transactionManager,
+                                                  Tasklet participationHistoryPartitionTasklet) {
+        return new StepBuilder("participationHistoryPartition", jobRepository)
+                .tasklet(participationHistoryPartitionTasklet, transactionManager)
+                .build();
+    }
+
+    @Bean
+    public Job participationHistoryPartitionJob(JobRepository jobRepository,
+                                                Step participationHistoryPartitionStep,
+                                                BatchExecutionListener batchExecutionListener) {
+        return new JobBuilder("participationHistoryPartition", jobRepository)
+                .start(participationHistoryPartitionStep)
+                .listener(batchExecutionListener)
+                .build();
+    }
+}
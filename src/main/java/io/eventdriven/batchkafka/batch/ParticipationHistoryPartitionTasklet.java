@@ -0,0 +1,251 @@
+package io.eventdriven.batchkafka.batch;
+
+import io.eventdriven.batchkafka.config.BatchProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.step.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.infrastructure.repeat.RepeatStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+
+/**
+ * participation_history 파티션 관리 Tasklet
+ *
+ * === 배경 ===
+ * 단일 InnoDB 테이블 → 기간 조회마다 전체 인덱스 범위 스캔, 보관 기간 정리는 대량 DELETE
+ *
+ * === 방식 ===
+ * - created_at 기준 일 단위 RANGE 파티션 (TO_DAYS) + 최상단 pmax (MAXVALUE)
+ * - 최초 실행: 외래키 제거, PK (id, created_at)로 변경, 파티션 테이블로 변환 (테이블 재작성 - 트래픽 없을 때)
+ * - 매 실행: pmax를 분할해 미래 N일 파티션 선생성, 보관 기간이 지난 일 파티션은 DROP (메타데이터 작업)
+ * - 매 실행(파티션 비활성화여도): 조회용 복합 인덱스가 없으면 온라인 DDL로 생성
+ *   (엔티티 @Index는 ddl-auto: update에서만 반영되고, 운영은 validate라 인덱스를 만들지 않음)
+ *
+ * 기간 조건(created_at)이 있는 집계/롤업 재구성/내보내기 쿼리는 파티션 프루닝 대상
+ */
+@Slf4j
+@RequiredArgsConstructor
+class ParticipationHistoryPartitionTasklet implements Tasklet {
+
+    private static final String TABLE = "participation_history";
+    private static final String MAX_PARTITION = "pmax";
+    private static final DateTimeFormatter PARTITION_NAME_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+
+    /**
+     * MySQL TO_DAYS('1970-01-01')
+     */
+    private static final long TO_DAYS_EPOCH_OFFSET = 719_528L;
+
+    /**
+     * 조회용 복합 인덱스 (ParticipationHistory 엔티티 @Index와 동일)
+     */
+    private static final Map<String, String> REQUIRED_INDEXES = Map.of(
+            "idx_participation_history_campaign_created", "campaign_id, created_at",
+            "idx_participation_history_campaign_status", "campaign_id, status"
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BatchProperties batchProperties;
+
+    private record PartitionInfo(String name, Long upperBoundDays) {
+
+        boolean isMax() {
+            return upperBoundDays == null;
+        }
+    }
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
+        ensureIndexes();
+
+        BatchProperties.Partition config = batchProperties.getPartition();
+        if (!config.isEnabled()) {
+            log.info("⏭️ 참여 이력 파티션 관리 비활성화 (batch.partition.enabled=false)");
+            contribution.setExitStatus(new ExitStatus("SKIPPED"));
+            return RepeatStatus.FINISHED;
+        }
+
+        LocalDate today = LocalDate.now();
+        LocalDate lastDay = today.plusDays(config.getFutureDays());
+        LocalDate retentionCutoff = today.minusDays(config.getRetentionDays());
+
+        List<PartitionInfo> partitions = readPartitions();
+        if (partitions.isEmpty()) {
+            convertToPartitioned(today, lastDay, retentionCutoff);
+            partitions = readPartitions();
+        }
+
+        int added = addFuturePartitions(partitions, lastDay);
+        int dropped = dropExpiredPartitions(partitions, retentionCutoff);
+
+        log.info("✅ 참여 이력 파티션 관리 완료 - 추가: {}개, 삭제: {}개 (보관 기준일: {}, 선생성: ~{})",
+                added, dropped, retentionCutoff, lastDay);
+
+        contribution.setExitStatus(new ExitStatus("ADDED_" + added + "_DROPPED_" + dropped));
+        return RepeatStatus.FINISHED;
+    }
+
+    /**
+     * 없는 인덱스만 생성 (ALGORITHM=INPLACE, LOCK=NONE → 생성 중에도 INSERT 가능)
+     */
+    private void ensureIndexes() {
+        List<String> existing = jdbcTemplate.queryForList("""
+                SELECT DISTINCT INDEX_NAME
+                FROM information_schema.STATISTICS
+                WHERE TABLE_SCHEMA = DATABASE()
+                  AND TABLE_NAME = ?
+                """, String.class, TABLE);
+
+        REQUIRED_INDEXES.forEach((name, columns) -> {
+            if (existing.contains(name)) {
+                return;
+            }
+            long startTime = System.currentTimeMillis();
+            jdbcTemplate.execute("ALTER TABLE " + TABLE + " ADD INDEX " + name + " (" + columns + ")"
+                    + ", ALGORITHM=INPLACE, LOCK=NONE");
+            log.info("  ✓ 인덱스 생성: {} ({}), 소요: {}ms", name, columns, System.currentTimeMillis() - startTime);
+        });
+    }
+
+    private List<PartitionInfo> readPartitions() {
+        return jdbcTemplate.query("""
+                SELECT PARTITION_NAME, PARTITION_DESCRIPTION
+                FROM information_schema.PARTITIONS
+                WHERE TABLE_SCHEMA = DATABASE()
+                  AND TABLE_NAME = ?
+                  AND PARTITION_NAME IS NOT NULL
+                ORDER BY PARTITION_ORDINAL_POSITION
+                """, (rs, rowNum) -> {
+            String description = rs.getString("PARTITION_DESCRIPTION");
+            Long upperBound = "MAXVALUE".equalsIgnoreCase(description) ? null : Long.parseLong(description);
+            return new PartitionInfo(rs.getString("PARTITION_NAME"), upperBound);
+        }, TABLE);
+    }
+
+    /**
+     * 비파티션 테이블 → 일 단위 RANGE 파티션 변환 (최초 1회)
+     * - 보관 기간 이전 행은 p_history 하나에 모아두고, 이후 보관 기준일이 지나면 통째로 DROP
+     */
+    private void convertToPartitioned(LocalDate today, LocalDate lastDay, LocalDate retentionCutoff) {
+        log.warn("⚠️ {} 파티션 변환 시작 - 테이블 재작성이 발생하므로 트래픽이 없을 때 실행해야 합니다.", TABLE);
+        long startTime = System.currentTimeMillis();
+
+        // 1. 파티션 테이블은 외래키 불가
+        List<String> foreignKeys = jdbcTemplate.queryForList("""
+                SELECT CONSTRAINT_NAME
+                FROM information_schema.REFERENTIAL_CONSTRAINTS
+                WHERE CONSTRAINT_SCHEMA = DATABASE()
+                  AND TABLE_NAME = ?
+                """, String.class, TABLE);
+        for (String foreignKey : foreignKeys) {
+            jdbcTemplate.execute("ALTER TABLE " + TABLE + " DROP FOREIGN KEY `" + foreignKey + "`");
+            log.info("  ✓ 외래키 제거: {}", foreignKey);
+        }
+
+        // 2. 모든 유니크 키(PK 포함)에 파티션 컬럼 필요
+        List<String> primaryKeyColumns = jdbcTemplate.queryForList("""
+                SELECT COLUMN_NAME
+                FROM information_schema.KEY_COLUMN_USAGE
+                WHERE TABLE_SCHEMA = DATABASE()
+                  AND TABLE_NAME = ?
+                  AND CONSTRAINT_NAME = 'PRIMARY'
+                """, String.class, TABLE);
+        if (!primaryKeyColumns.contains("created_at")) {
+            jdbcTemplate.execute("ALTER TABLE " + TABLE + " DROP PRIMARY KEY, ADD PRIMARY KEY (id, created_at)");
+            log.info("  ✓ PK 변경: (id) → (id, created_at)");
+        }
+
+        // 3. 첫 일 파티션: 가장 오래된 행과 보관 기준일 중 늦은 날 (없으면 오늘)
+        LocalDate oldest = jdbcTemplate.queryForObject(
+                "SELECT DATE(MIN(created_at)) FROM " + TABLE, LocalDate.class);
+        LocalDate firstDay = oldest == null ? today
+                : oldest.isAfter(retentionCutoff) ? oldest : retentionCutoff;
+
+        StringJoiner definitions = new StringJoiner(",\n");
+        definitions.add("PARTITION p_history VALUES LESS THAN (" + toDays(firstDay) + ")");
+        for (LocalDate day = firstDay; !day.isAfter(lastDay); day = day.plusDays(1)) {
+            definitions.add(dayPartitionDefinition(day));
+        }
+        definitions.add("PARTITION " + MAX_PARTITION + " VALUES LESS THAN MAXVALUE");
+
+        jdbcTemplate.execute("ALTER TABLE " + TABLE
+                + " PARTITION BY RANGE (TO_DAYS(created_at)) (\n" + definitions + "\n)");
+
+        log.info("  ✓ 파티션 변환 완료 - {} ~ {}, 소요: {}ms",
+                firstDay, lastDay, System.currentTimeMillis() - startTime);
+    }
+
+    /**
+     * pmax를 분할해 lastDay까지 일 파티션 선생성 (pmax는 비어 있으므로 메타데이터 수준 작업)
+     */
+    private int addFuturePartitions(List<PartitionInfo> partitions, LocalDate lastDay) {
+        long highestBound = partitions.stream()
+                .filter(partition -> !partition.isMax())
+                .mapToLong(PartitionInfo::upperBoundDays)
+                .max()
+                .orElse(toDays(LocalDate.now()));
+
+        List<String> definitions = new ArrayList<>();
+        for (LocalDate day = fromDays(highestBound); !day.isAfter(lastDay); day = day.plusDays(1)) {
+            definitions.add(dayPartitionDefinition(day));
+        }
+        if (definitions.isEmpty()) {
+            return 0;
+        }
+
+        boolean hasMax = partitions.stream().anyMatch(PartitionInfo::isMax);
+        if (hasMax) {
+            definitions.add("PARTITION " + MAX_PARTITION + " VALUES LESS THAN MAXVALUE");
+            jdbcTemplate.execute("ALTER TABLE " + TABLE + " REORGANIZE PARTITION " + MAX_PARTITION
+                    + " INTO (\n" + String.join(",\n", definitions) + "\n)");
+            return definitions.size() - 1;
+        }
+
+        jdbcTemplate.execute("ALTER TABLE " + TABLE + " ADD PARTITION (\n" + String.join(",\n", definitions) + "\n)");
+        return definitions.size();
+    }
+
+    /**
+     * 상한이 보관 기준일 이하인 파티션 DROP (행 단위 DELETE 없음)
+     */
+    private int dropExpiredPartitions(List<PartitionInfo> partitions, LocalDate retentionCutoff) {
+        long cutoffDays = toDays(retentionCutoff);
+
+        List<String> expired = partitions.stream()
+                .filter(partition -> !partition.isMax() && partition.upperBoundDays() <= cutoffDays)
+                .map(PartitionInfo::name)
+                .toList();
+        if (expired.isEmpty()) {
+            return 0;
+        }
+
+        jdbcTemplate.execute("ALTER TABLE " + TABLE + " DROP PARTITION " + String.join(", ", expired));
+        log.info("  🗑️ 보관 기간 만료 파티션 삭제: {}", expired);
+        return expired.size();
+    }
+
+    /**
+     * day 하루 [day, day + 1)를 담는 파티션 정의
+     */
+    private String dayPartitionDefinition(LocalDate day) {
+        return "PARTITION p" + day.format(PARTITION_NAME_FORMAT)
+                + " VALUES LESS THAN (" + toDays(day.plusDays(1)) + ")";
+    }
+
+    private static long toDays(LocalDate date) {
+        return date.toEpochDay() + TO_DAYS_EPOCH_OFFSET;
+    }
+
+    private static LocalDate fromDays(long days) {
+        return LocalDate.ofEpochDay(days - TO_DAYS_EPOCH_OFFSET);
+    }
+}
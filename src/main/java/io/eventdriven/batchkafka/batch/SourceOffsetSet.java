@@ -0,0 +1,38 @@
+package io.eventdriven.batchkafka.batch;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * (원본 파티션, 원본 오프셋) 집합 - 결과 이벤트 중복 제거용
+ * - 파티션 오프셋은 거의 연속이므로 65536개 오프셋 단위 비트맵 조각으로 보관 (오프셋당 1비트)
+ * - 하루 수천만 건도 수 MB 이내, 조각 키만 박싱
+ */
+class SourceOffsetSet {
+
+    private static final int CHUNK_BITS = 16;
+    private static final int CHUNK_MASK = (1 << CHUNK_BITS) - 1;
+    private static final int MAX_PARTITION = (1 << CHUNK_BITS) - 1;
+
+    private final Map<Long, long[]> chunks = new HashMap<>();
+
+    /**
+     * @return 처음 본 위치면 true (이미 있으면 false)
+     */
+    boolean add(int partition, long offset) {
+        if (partition < 0 || partition > MAX_PARTITION || offset < 0) {
+            throw new IllegalArgumentException("원본 위치 범위 초과 - partition: " + partition + ", offset: " + offset);
+        }
+        long chunkKey = ((long) partition << (Long.SIZE - 1 - CHUNK_BITS)) | (offset >>> CHUNK_BITS);
+        long[] bits = chunks.computeIfAbsent(chunkKey, key -> new long[(CHUNK_MASK + 1) / Long.SIZE]);
+
+        int bit = (int) (offset & CHUNK_MASK);
+        long mask = 1L << (bit & (Long.SIZE - 1));
+        int word = bit >>> 6;
+        if ((bits[word] & mask) != 0) {
+            return false;
+        }
+        bits[word] |= mask;
+        return true;
+    }
+}
@@ -0,0 +1,57 @@
+package io.eventdriven.batchkafka.batch;
+
+import io.eventdriven.batchkafka.application.analysis.WinnerListStore;
+import io.eventdriven.batchkafka.config.BatchProperties;
+import io.eventdriven.batchkafka.domain.repository.ParticipationArchiveRepository;
+import io.eventdriven.batchkafka.domain.repository.WinnerListRepository;
+import org.springframework.batch.core.job.Job;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.Step;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.infrastructure.support.transaction.ResourcelessTransactionManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 캠페인 당첨자 명단 생성 잡 설정
+ * - SUCCESS 행 외부 정렬 → 순위 csv + userId 인덱스 + SHA-256
+ * - /api/admin/batch/winners?campaignId=1로 실행
+ * - 스텝은 ResourcelessTransactionManager로 실행 (정렬/파일 기록 내내 DB 트랜잭션을 열어 두지 않음)
+ *   → 페이지 조회는 쿼리마다 짧게, winner_list 저장만 별도 트랜잭션
+ */
+@Configuration
+public class WinnerListJobConfig {
+
+    @Bean
+    public Tasklet winnerListTasklet(JdbcTemplate jdbcTemplate,
+                                     WinnerListStore winnerListStore,
+                                     WinnerListRepository winnerListRepository,
+                                     ParticipationArchiveRepository archiveRepository,
+                                     BatchProperties batchProperties,
+                                     PlatformTransactionManager transactionManager) {
+        return new WinnerListTasklet(jdbcTemplate, winnerListStore, winnerListRepository,
+                archiveRepository, batchProperties, transactionManager);
+    }
+
+    @Bean
+    public Step winnerListStep(JobRepository jobRepository,
+                               Tasklet winnerListTasklet) {
+        return new StepBuilder("winnerList", jobRepository)
+                .tasklet(winnerListTasklet, new ResourcelessTransactionManager())
+                .build();
+    }
+
+    @Bean
+    public Job winnerListJob(JobRepository jobRepository,
+                             Step winnerListStep,
+                             BatchExecutionListener batchExecutionListener) {
+        return new JobBuilder("winnerList", jobRepository)
+                .start(winnerListStep)
+                .listener(batchExecutionListener)
+                .build();
+    }
+}
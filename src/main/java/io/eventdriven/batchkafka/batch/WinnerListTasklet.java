@@ -0,0 +1,310 @@
+package io.eventdriven.batchkafka.batch;
+
+import io.eventdriven.batchkafka.application.analysis.WinnerListStore;
+import io.eventdriven.batchkafka.config.BatchProperties;
+import io.eventdriven.batchkafka.domain.entity.WinnerList;
+import io.eventdriven.batchkafka.domain.repository.ParticipationArchiveRepository;
+import io.eventdriven.batchkafka.domain.repository.WinnerListRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.StepContribution;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.infrastructure.item.ExecutionContext;
+import org.springframework.batch.infrastructure.repeat.RepeatStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Comparator;
+import java.util.Map;
+
+/**
+ * 캠페인 당첨자 명단 생성 Tasklet
+ *
+ * === 배경 ===
+ * 운영 환경 테이블에 캠페인 전체 SUCCESS 행 ORDER BY → 대용량 filesort + 긴 쿼리
+ *
+ * === 방식 ===
+ * 1. SUCCESS 행을 id 키셋 페이지로 읽어 외부 정렬기에 적재 (페이지마다 짧은 단일 쿼리)
+ * 2. 도착 순서 키로 정렬 - run 크기마다 메모리 정렬 후 스필 파일 기록, 마지막에 k-way 병합
+ *    (Kafka 메타데이터 행: 타임스탬프 → 파티션 → 오프셋, 메타데이터 없는 행: 뒤에 id 순 - 아카이브와 동일)
+ * 3. 병합 순서대로 순위를 매겨 csv 기록, (userId, 순위)는 두 번째 외부 정렬기로 보내 userId 인덱스 기록
+ * 4. 공유 저장소에서 두 파일을 다시 읽어 크기/SHA-256 확인 후 winner_list 메타데이터 저장
+ *    (재생성 시 덮어씀, 별도 짧은 트랜잭션)
+ *
+ * 힙 사용량은 run 크기로 고정 (당첨자 수와 무관)
+ * 스텝 자체는 트랜잭션 없이 실행 (WinnerListJobConfig) - 정렬 시간 동안 커넥션/트랜잭션을 점유하지 않음
+ */
+@Slf4j
+class WinnerListTasklet implements Tasklet {
+
+    private static final String PAGE_SQL = """
+            SELECT id, user_id, kafka_partition, kafka_offset, kafka_timestamp, created_at
+            FROM participation_history
+            WHERE campaign_id = ?
+              AND status = 'SUCCESS'
+              AND id > ?
+            ORDER BY id
+            LIMIT ?
+            """;
+
+    private static final String CSV_HEADER =
+            "rank,user_id,participation_id,kafka_partition,kafka_offset,kafka_timestamp,created_at\n";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final WinnerListStore winnerListStore;
+    private final WinnerListRepository winnerListRepository;
+    private final ParticipationArchiveRepository archiveRepository;
+    private final BatchProperties batchProperties;
+    private final TransactionTemplate saveTransaction;
+
+    WinnerListTasklet(JdbcTemplate jdbcTemplate,
+                      WinnerListStore winnerListStore,
+                      WinnerListRepository winnerListRepository,
+                      ParticipationArchiveRepository archiveRepository,
+                      BatchProperties batchProperties,
+                      PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.winnerListStore = winnerListStore;
+        this.winnerListRepository = winnerListRepository;
+        this.archiveRepository = archiveRepository;
+        this.batchProperties = batchProperties;
+        this.saveTransaction = new TransactionTemplate(transactionManager);
+        this.saveTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 정렬 대상 당첨 행 (Kafka 메타데이터가 없으면 hasKafka=false, 해당 필드 0)
+     */
+    private record WinnerRow(boolean hasKafka, long kafkaTimestamp, int kafkaPartition, long kafkaOffset,
+                             long id, long userId, long createdAtMillis) {
+    }
+
+    private record IndexEntry(long userId, long rank) {
+    }
+
+    private static final Comparator<WinnerRow> ARRIVAL_ORDER = (left, right) -> {
+        if (left.hasKafka() != right.hasKafka()) {
+            return left.hasKafka() ? -1 : 1;
+        }
+        if (left.hasKafka()) {
+            int compare = Long.compare(left.kafkaTimestamp(), right.kafkaTimestamp());
+            if (compare == 0) {
+                compare = Integer.compare(left.kafkaPartition(), right.kafkaPartition());
+            }
+            if (compare == 0) {
+                compare = Long.compare(left.kafkaOffset(), right.kafkaOffset());
+            }
+            if (compare != 0) {
+                return compare;
+            }
+        }
+        return Long.compare(left.id(), right.id());
+    };
+
+    private static final Comparator<IndexEntry> USER_ORDER = Comparator
+            .comparingLong(IndexEntry::userId)
+            .thenComparingLong(IndexEntry::rank);
+
+    private static final ExternalSorter.Codec<WinnerRow> ROW_CODEC = new ExternalSorter.Codec<>() {
+        @Override
+        public void write(DataOutputStream out, WinnerRow row) throws IOException {
+            out.writeBoolean(row.hasKafka());
+            out.writeLong(row.kafkaTimestamp());
+            out.writeInt(row.kafkaPartition());
+            out.writeLong(row.kafkaOffset());
+            out.writeLong(row.id());
+            out.writeLong(row.userId());
+            out.writeLong(row.createdAtMillis());
+        }
+
+        @Override
+        public WinnerRow read(DataInputStream in) throws IOException {
+            return new WinnerRow(in.readBoolean(), in.readLong(), in.readInt(), in.readLong(),
+                    in.readLong(), in.readLong(), in.readLong());
+        }
+    };
+
+    private static final ExternalSorter.Codec<IndexEntry> INDEX_CODEC = new ExternalSorter.Codec<>() {
+        @Override
+        public void write(DataOutputStream out, IndexEntry entry) throws IOException {
+            out.writeLong(entry.userId());
+            out.writeLong(entry.rank());
+        }
+
+        @Override
+        public IndexEntry read(DataInputStream in) throws IOException {
+            return new IndexEntry(in.readLong(), in.readLong());
+        }
+    };
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) throws IOException {
+        Map<String, Object> params = chunkContext.getStepContext().getJobParameters();
+        if (!params.containsKey("campaignId")) {
+            throw new IllegalArgumentException("campaignId 파라미터가 필요합니다.");
+        }
+        long campaignId = Long.parseLong(String.valueOf(params.get("campaignId")));
+        requireLiveHistory(campaignId);
+
+        BatchProperties.Winners config = batchProperties.getWinners();
+        long jobExecutionId = chunkContext.getStepContext().getStepExecution().getJobExecutionId();
+        Path workDirectory = winnerListStore.workDirectory(campaignId, jobExecutionId);
+        long startTime = System.currentTimeMillis();
+
+        log.info("🏆 당첨자 명단 생성 시작 - campaignId: {}, run 크기: {}", campaignId, config.getRunSize());
+
+        WinnerList winnerList;
+        int rowRuns;
+        int indexRuns;
+        try (ExternalSorter<WinnerRow> rowSorter = new ExternalSorter<>(
+                     workDirectory, "rows-", config.getRunSize(), ARRIVAL_ORDER, ROW_CODEC);
+             ExternalSorter<IndexEntry> indexSorter = new ExternalSorter<>(
+                     workDirectory, "index-", config.getRunSize(), USER_ORDER, INDEX_CODEC)) {
+
+            // 1~2. 키셋 페이지 스트리밍 → 외부 정렬 적재
+            readSuccessRows(campaignId, config.getPageSize(), rowSorter);
+            rowRuns = rowSorter.runCount();
+            long winners = rowSorter.size();
+            log.info("  ✓ 당첨 행 적재 - {}건, 스필 run: {}개, 소요: {}ms",
+                    winners, rowRuns, System.currentTimeMillis() - startTime);
+
+            // 3. 도착 순서 병합 → 순위 csv + userId 인덱스 적재
+            ZoneId zone = ZoneId.systemDefault();
+            WinnerListStore.StoredFile csv = winnerListStore.writeCsv(campaignId, out -> {
+                out.write(CSV_HEADER.getBytes(StandardCharsets.UTF_8));
+                long[] rank = {0};
+                rowSorter.forEachSorted(row -> {
+                    rank[0]++;
+                    out.write(csvLine(rank[0], row, zone).getBytes(StandardCharsets.UTF_8));
+                    indexSorter.add(new IndexEntry(row.userId(), rank[0]));
+                });
+            });
+            indexRuns = indexSorter.runCount();
+
+            WinnerListStore.StoredFile index = winnerListStore.writeIndex(campaignId, out -> {
+                out.writeInt(WinnerListStore.INDEX_MAGIC);
+                out.writeInt(WinnerListStore.INDEX_VERSION);
+                out.writeLong(campaignId);
+                out.writeLong(indexSorter.size());
+                indexSorter.forEachSorted(entry -> {
+                    out.writeLong(entry.userId());
+                    out.writeLong(entry.rank());
+                });
+            });
+
+            // 4. 저장소에서 다시 읽어 확인 → 메타데이터 (체크섬 포함)
+            winnerListStore.verifyStored(csv);
+            winnerListStore.verifyStored(index);
+            WinnerList generated = new WinnerList(campaignId, winners,
+                    csv.path(), csv.bytes(), csv.sha256(),
+                    index.path(), index.bytes(), index.sha256());
+            winnerList = saveTransaction.execute(status -> winnerListRepository.save(generated));
+        } finally {
+            deleteQuietly(workDirectory);
+        }
+
+        ExecutionContext jobContext = chunkContext.getStepContext().getStepExecution()
+                .getJobExecution().getExecutionContext();
+        jobContext.putLong("campaignId", campaignId);
+        jobContext.putLong("winners", winnerList.getWinnerCount());
+        jobContext.putInt("spillRuns", rowRuns + indexRuns);
+        jobContext.putString("csvSha256", winnerList.getCsvSha256());
+        jobContext.putString("indexSha256", winnerList.getIndexSha256());
+
+        log.info("✅ 당첨자 명단 생성 완료 - campaignId: {}, 당첨자: {}명, csv: {} ({} bytes, sha256 {}), "
+                        + "스필 run: {}개, 소요: {}ms",
+                campaignId, winnerList.getWinnerCount(), winnerList.getCsvPath(), winnerList.getCsvBytes(),
+                winnerList.getCsvSha256(), rowRuns + indexRuns, System.currentTimeMillis() - startTime);
+
+        contribution.incrementReadCount(winnerList.getWinnerCount());
+        contribution.incrementWriteCount(winnerList.getWinnerCount());
+        contribution.setExitStatus(new ExitStatus("WINNERS_" + winnerList.getWinnerCount()));
+        return RepeatStatus.FINISHED;
+    }
+
+    /**
+     * 캠페인 존재 + 원본 행이 남아 있는지 확인 (아카이브된 캠페인은 원본이 삭제됨)
+     */
+    private void requireLiveHistory(long campaignId) {
+        Integer campaigns = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM campaign WHERE id = ?", Integer.class, campaignId);
+        if (campaigns == null || campaigns == 0) {
+            throw new IllegalArgumentException("캠페인을 찾을 수 없습니다 - campaignId: " + campaignId);
+        }
+        if (archiveRepository.existsById(campaignId)) {
+            throw new IllegalStateException("아카이브된 캠페인은 원본 이력이 없어 당첨자 명단을 생성할 수 없습니다 - campaignId: "
+                    + campaignId);
+        }
+    }
+
+    private void readSuccessRows(long campaignId, int pageSize, ExternalSorter<WinnerRow> sorter) throws IOException {
+        long[] lastId = {0L};
+        try {
+            while (true) {
+                int[] pageRows = {0};
+                jdbcTemplate.query(PAGE_SQL, rs -> {
+                    long id = rs.getLong("id");
+                    long userId = rs.getLong("user_id");
+                    int partition = rs.getInt("kafka_partition");
+                    boolean hasPartition = !rs.wasNull();
+                    long offset = rs.getLong("kafka_offset");
+                    boolean hasOffset = !rs.wasNull();
+                    long timestamp = rs.getLong("kafka_timestamp");
+                    boolean hasTimestamp = !rs.wasNull();
+                    long createdAt = rs.getTimestamp("created_at").getTime();
+
+                    boolean hasKafka = hasPartition && hasOffset && hasTimestamp;
+                    try {
+                        sorter.add(hasKafka
+                                ? new WinnerRow(true, timestamp, partition, offset, id, userId, createdAt)
+                                : new WinnerRow(false, 0, 0, 0, id, userId, createdAt));
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    lastId[0] = id;
+                    pageRows[0]++;
+                }, campaignId, lastId[0], pageSize);
+
+                if (pageRows[0] < pageSize) {
+                    break;
+                }
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static String csvLine(long rank, WinnerRow row, ZoneId zone) {
+        LocalDateTime createdAt = LocalDateTime.ofInstant(Instant.ofEpochMilli(row.createdAtMillis()), zone);
+        return rank + "," + row.userId() + "," + row.id() + ","
+                + (row.hasKafka() ? row.kafkaPartition() + "," + row.kafkaOffset() + "," + row.kafkaTimestamp() : ",,")
+                + "," + createdAt + "\n";
+    }
+
+    private static void deleteQuietly(Path workDirectory) {
+        if (!Files.isDirectory(workDirectory)) {
+            return;
+        }
+        try (var files = Files.list(workDirectory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.deleteIfExists(file);
+            }
+            Files.deleteIfExists(workDirectory);
+        } catch (IOException e) {
+            log.warn("⚠️ 당첨자 명단 작업 디렉토리 정리 실패 - {}: {}", workDirectory, e.getMessage());
+        }
+    }
+}
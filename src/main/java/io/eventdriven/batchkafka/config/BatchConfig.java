@@ -3,6 +3,7 @@ package io.eventdriven.batchkafka.config;
 import org.springframework.batch.core.launch.JobLauncher;
 import org.springframework.batch.core.launch.support.TaskExecutorJobLauncher;
 import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
@@ -36,6 +37,45 @@ public class BatchConfig {
         return executor;
     }
 
+    /**
+     * 집계 배치 시간 조각 병렬 실행용 ThreadPoolTaskExecutor
+     * - batchTaskExecutor는 잡 실행 스레드가 점유하므로 조각 워커는 별도 풀에서 실행
+     *   (같은 풀을 쓰면 잡 스레드가 조각 완료를 기다리며 풀을 막을 수 있음)
+     * - 코어 수만큼 동시 실행, 나머지 조각은 큐에서 대기
+     */
+    @Bean(name = "aggregationSliceTaskExecutor")
+    public ThreadPoolTaskExecutor aggregationSliceTaskExecutor() {
+        int threads = Math.max(2, Runtime.getRuntime().availableProcessors());
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(1000);
+        executor.setThreadNamePrefix("agg-slice-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 집계 백필 날짜 병렬 실행용 ThreadPoolTaskExecutor
+     * - 스레드 수 = batch.backfill.parallelism (동시에 집계하는 날짜 수 상한)
+     * - 날짜별 집계 잡은 다시 aggregationSliceTaskExecutor에서 시간 조각을 병렬 처리
+     */
+    @Bean(name = "backfillTaskExecutor")
+    public ThreadPoolTaskExecutor backfillTaskExecutor(BatchProperties batchProperties) {
+        int threads = Math.max(1, batchProperties.getBackfill().getParallelism());
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(1000);
+        executor.setThreadNamePrefix("backfill-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        executor.initialize();
+        return executor;
+    }
+
     /**
      * 비동기 JobLauncher
      * - 배치 작업을 백그라운드에서 실행
@@ -47,7 +87,7 @@ public class BatchConfig {
     @Bean(name = "asyncJobLauncher")
     public JobLauncher asyncJobLauncher(
             JobRepository jobRepository,
-            ThreadPoolTaskExecutor batchTaskExecutor
+            @Qualifier("batchTaskExecutor") ThreadPoolTaskExecutor batchTaskExecutor
     ) throws Exception {
         TaskExecutorJobLauncher jobLauncher = new TaskExecutorJobLauncher();
         jobLauncher.setJobRepository(jobRepository);
@@ -17,6 +17,13 @@ public class BatchProperties {
 
     private Aggregation aggregation = new Aggregation();
     private Metadata metadata = new Metadata();
+    private Partition partition = new Partition();
+    private Archive archive = new Archive();
+    private Incremental incremental = new Incremental();
+    private KafkaAggregation kafkaAggregation = new KafkaAggregation();
+    private Backfill backfill = new Backfill();
+    private Winners winners = new Winners();
+    private SchedulerLock schedulerLock = new SchedulerLock();
 
     @Getter
     @Setter
@@ -25,6 +32,11 @@ public class BatchProperties {
          * 집계 가능한 최대 과거 기간 (년)
          */
         private int maxPastYears = 1;
+
+        /**
+         * 집계 배치 실행 제한 시간 (ms) - 실행 추이 조회 시 여유 계산 기준
+         */
+        private long timeoutMs = 60_000;
     }
 
     @Getter
@@ -34,5 +46,170 @@ public class BatchProperties {
          * 배치 메타데이터 보관 기간 (일)
          */
         private int retentionDays = 90;
+
+        /**
+         * 정리 시 한 트랜잭션에서 삭제할 JOB_EXECUTION 수
+         */
+        private int pageSize = 500;
+    }
+
+    @Getter
+    @Setter
+    public static class Partition {
+        /**
+         * participation_history 파티션 관리 활성화 여부
+         * - 최초 실행 시 비파티션 테이블을 일 단위 RANGE 파티션으로 변환 (테이블 재작성)
+         */
+        private boolean enabled = false;
+
+        /**
+         * 미리 만들어 둘 미래 파티션 수 (일)
+         */
+        private int futureDays = 7;
+
+        /**
+         * 참여 이력 보관 기간 (일) - 초과한 일 파티션은 DROP
+         */
+        private int retentionDays = 400;
+    }
+
+    @Getter
+    @Setter
+    public static class Archive {
+        /**
+         * 매일 종료 캠페인 아카이브 스케줄 활성화 여부 (수동 실행 API는 항상 가능)
+         * - 아카이브 후 원본 행을 삭제하므로 directory가 영구 공유 볼륨일 때만 활성화
+         */
+        private boolean enabled = false;
+
+        /**
+         * 컬럼 압축 아카이브 파일 디렉토리 (모든 노드가 같이 보는 영구 공유 볼륨)
+         */
+        private String directory = "./data/archive";
+
+        /**
+         * 아카이브 후 participation_history 삭제 청크 크기 (청크당 짧은 트랜잭션 1개)
+         */
+        private int deleteChunkSize = 5000;
+
+        /**
+         * 종료 후 아카이브까지 대기 시간 (분) - Kafka에 남은 요청 처리 여유
+         */
+        private int minClosedMinutes = 60;
+    }
+
+    @Getter
+    @Setter
+    public static class Incremental {
+        /**
+         * 증분 집계 스케줄 활성화 여부
+         */
+        private boolean enabled = false;
+
+        /**
+         * 증분 집계 실행 주기 (ms)
+         */
+        private long intervalMs = 60000;
+
+        /**
+         * 1회 최대 반영 행 수 (트랜잭션 길이 제한 - 밀린 양은 다음 실행에서 이어서)
+         */
+        private int maxRowsPerRun = 500_000;
+
+        /**
+         * 최근 N분 동안 반영한 id 구간을 매 실행 다시 세어 늦게 커밋된 행 보정
+         */
+        private int reconcileMinutes = 10;
+    }
+
+    @Getter
+    @Setter
+    public static class KafkaAggregation {
+        /**
+         * 결과 토픽 poll 대기 시간 (ms)
+         */
+        private long pollTimeoutMs = 1000;
+
+        /**
+         * poll 1회 최대 레코드 수 (순차 읽기이므로 실시간 Consumer보다 크게)
+         */
+        private int maxPollRecords = 5000;
+
+        /**
+         * 오프셋 탐색 여유 (초) - 레코드 타임스탬프(발행 시각)와 처리 시각의 차이 흡수
+         */
+        private int timestampMarginSeconds = 300;
+
+        /**
+         * 연속 빈 poll 허용 횟수 (초과 시 실패 처리)
+         */
+        private int maxEmptyPolls = 10;
+    }
+
+    @Getter
+    @Setter
+    public static class Backfill {
+        /**
+         * 동시에 집계할 날짜 수
+         */
+        private int parallelism = 4;
+
+        /**
+         * 일일 집계 시 누락 여부를 확인할 과거 일수 (중단/실패로 빠진 날짜 자동 보충)
+         */
+        private int lookbackDays = 7;
+
+        /**
+         * 백필 1회 최대 일수
+         */
+        private int maxDays = 366;
+    }
+
+    @Getter
+    @Setter
+    public static class Winners {
+        /**
+         * 당첨자 명단 파일(csv, idx) 디렉토리 (모든 노드가 같이 보는 영구 공유 볼륨)
+         */
+        private String directory = "./data/winners";
+
+        /**
+         * 외부 정렬 스필 파일 작업 디렉토리 (노드 로컬 - 잡 종료 시 삭제)
+         */
+        private String workDirectory = "./data/winners-work";
+
+        /**
+         * 외부 정렬 run 크기 - 메모리에서 정렬 후 스필 파일로 내리는 단위 (힙 사용량 상한)
+         */
+        private int runSize = 200_000;
+
+        /**
+         * participation_history 키셋 페이지 크기
+         */
+        private int pageSize = 5_000;
+    }
+
+    @Getter
+    @Setter
+    public static class SchedulerLock {
+        /**
+         * 스케줄 배치 분산 잠금 사용 여부 (false: 인스턴스마다 실행 - 단일 인스턴스 개발 환경)
+         */
+        private boolean enabled = true;
+
+        /**
+         * 잠금 임대 시간 (ms) - 보유 인스턴스가 죽으면 이 시간 후 다른 인스턴스가 획득 가능
+         */
+        private long leaseMs = 120_000;
+
+        /**
+         * 실행 중인 잡의 임대 연장 주기 (ms) - 임대 시간보다 충분히 짧게
+         */
+        private long renewIntervalMs = 30_000;
+
+        /**
+         * 획득 후 최소 보유 시간 (ms) - 인스턴스 간 스케줄 발화 시각 차이 흡수 (증분 집계 주기보다 짧게)
+         */
+        private long minHoldMs = 30_000;
     }
 }
@@ -59,6 +59,11 @@ public class KafkaConfig {
 
     public static final String TOPIC_NAME = "campaign-participation-topic";
 
+    /**
+     * 참여 처리 결과 토픽 (Consumer가 커밋 후 발행, Kafka 기반 재집계 원본)
+     */
+    public static final String RESULT_TOPIC_NAME = "campaign-participation-result-topic";
+
     /**
      * Kafka Admin 설정 - 주석 처리 (파티션 수동 관리로 변경)
      * kafka-clients 4.1.1의 AdminClient OAuth 버그로 인해 자동 파티션 관리 비활성화
@@ -23,4 +23,52 @@ public class RedisConfig {
         script.setResultType(Long.class);
         return script;
     }
+
+    /**
+     * 대기열 진입 Lua 스크립트
+     * 순번 발급 + Sorted Set 등록을 원자적으로 처리
+     */
+    @Bean
+    public DefaultRedisScript<Long> enterWaitingRoomScript() {
+        DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+        script.setLocation(new ClassPathResource("scripts/enter-waiting-room.lua"));
+        script.setResultType(Long.class);
+        return script;
+    }
+
+    /**
+     * 대기열 입장 처리 Lua 스크립트
+     * 대기열 앞에서 N명을 꺼내 입장 토큰 발급 (원자적 연산)
+     */
+    @Bean
+    public DefaultRedisScript<Long> admitWaitingUsersScript() {
+        DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+        script.setLocation(new ClassPathResource("scripts/admit-waiting-users.lua"));
+        script.setResultType(Long.class);
+        return script;
+    }
+
+    /**
+     * 입장 스케줄러 리더 임대 Lua 스크립트
+     * 임대 보유자 확인 + 획득/연장을 원자적으로 처리
+     */
+    @Bean
+    public DefaultRedisScript<Long> acquireAdmissionLeaseScript() {
+        DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+        script.setLocation(new ClassPathResource("scripts/acquire-admission-lease.lua"));
+        script.setResultType(Long.class);
+        return script;
+    }
+
+    /**
+     * 입장 토큰 검증 Lua 스크립트
+     * 토큰 비교 + 삭제를 원자적으로 처리 (1회용 토큰)
+     */
+    @Bean
+    public DefaultRedisScript<Long> consumeAdmissionTokenScript() {
+        DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+        script.setLocation(new ClassPathResource("scripts/consume-admission-token.lua"));
+        script.setResultType(Long.class);
+        return script;
+    }
 }
@@ -0,0 +1,45 @@
+package io.eventdriven.batchkafka.config;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 읽기 전용 복제본(Read Replica) DataSource 설정
+ * - application.yml의 replica-datasource.* 설정
+ * - DataSource 후처리 단계에서 바인딩되므로 @Component 대신 Binder로 직접 읽음
+ */
+@Getter
+@Setter
+public class ReplicaDataSourceProperties {
+
+    /**
+     * 복제본 라우팅 활성화 여부
+     * - false: 기존처럼 모든 쿼리가 Primary로
+     */
+    private boolean enabled = false;
+
+    private String url;
+
+    private String username;
+
+    private String password;
+
+    /**
+     * 복제본 전용 커넥션 풀 (Consumer 쓰기 풀과 분리)
+     */
+    private int maximumPoolSize = 10;
+
+    private int minimumIdle = 2;
+
+    private long connectionTimeoutMs = 3000;
+
+    /**
+     * 허용 복제 지연 (초) - 초과 시 Primary로 우회
+     */
+    private long maxLagSeconds = 5;
+
+    /**
+     * 복제 지연 확인 주기 (ms)
+     */
+    private long lagCheckIntervalMs = 5000;
+}
@@ -0,0 +1,100 @@
+package io.eventdriven.batchkafka.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 복제 지연 감지 읽기 DataSource
+ * - 복제본이 정상이고 지연이 허용치 이내면 복제본 커넥션
+ * - 지연 초과 / 복제 중단 / 연결 실패 시 Primary 커넥션 (읽기 결과 정합성 우선)
+ *
+ * 지연은 주기적으로 SHOW REPLICA STATUS의 Seconds_Behind_Source로 확인
+ * (복제본 계정에 REPLICATION CLIENT 권한 필요, 확인 불가 시 Primary로 우회)
+ */
+@Slf4j
+class ReplicaLagAwareDataSource extends DelegatingDataSource implements AutoCloseable {
+
+    private final DataSource primary;
+    private final long maxLagSeconds;
+    private final ScheduledExecutorService lagChecker;
+
+    private volatile boolean replicaAvailable = false;
+    private volatile long lastLagSeconds = -1;
+
+    ReplicaLagAwareDataSource(DataSource replica, DataSource primary, long maxLagSeconds, long checkIntervalMs) {
+        super(replica);
+        this.primary = primary;
+        this.maxLagSeconds = maxLagSeconds;
+
+        this.lagChecker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-lag-checker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        lagChecker.scheduleWithFixedDelay(this::checkLag, 0, checkIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (replicaAvailable) {
+            try {
+                return super.getConnection();
+            } catch (SQLException e) {
+                replicaAvailable = false;
+                log.warn("⚠️ 복제본 커넥션 획득 실패 - Primary로 우회", e);
+            }
+        }
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return getConnection();
+    }
+
+    private void checkLag() {
+        boolean available;
+        try (Connection connection = super.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SHOW REPLICA STATUS")) {
+
+            // 복제 설정이 없거나 SQL 스레드 중단 → 지연 값 NULL
+            long lag = rs.next() ? rs.getLong("Seconds_Behind_Source") : -1;
+            if (rs.wasNull()) {
+                lag = -1;
+            }
+            lastLagSeconds = lag;
+            available = lag >= 0 && lag <= maxLagSeconds;
+        } catch (Exception e) {
+            lastLagSeconds = -1;
+            available = false;
+        }
+
+        if (available != replicaAvailable) {
+            if (available) {
+                log.info("✅ 복제본 읽기 라우팅 재개 - 지연: {}초", lastLagSeconds);
+            } else {
+                log.warn("⚠️ 복제본 지연/장애 감지 - 읽기 쿼리를 Primary로 우회 (지연: {}초, 허용: {}초)",
+                        lastLagSeconds, maxLagSeconds);
+            }
+        }
+        replicaAvailable = available;
+    }
+
+    /**
+     * 지연 감지 스레드 종료 (복제본 풀은 replicaDataSource 빈이 닫음)
+     */
+    @Override
+    public void close() {
+        lagChecker.shutdownNow();
+    }
+}
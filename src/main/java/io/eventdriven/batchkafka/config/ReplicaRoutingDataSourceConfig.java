@@ -0,0 +1,147 @@
+package io.eventdriven.batchkafka.config;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableBeanFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * 읽기 복제본 라우팅 설정
+ *
+ * === 배경 ===
+ * 통계/순서 분석/배치 이력 조회가 Consumer 쓰기와 같은 Primary 커넥션 풀/디스크를 사용
+ * → 분석 쿼리가 선착순 처리량을 잠식
+ *
+ * === 방식 ===
+ * - Spring Boot가 만든 Primary DataSource는 그대로 두고 LazyConnectionDataSourceProxy로 감쌈
+ * - 읽기 전용 트랜잭션(@Transactional(readOnly = true), Spring Data 조회 메서드)은
+ *   커넥션이 readOnly로 표시되므로 복제본 풀로 라우팅
+ * - 복제본은 별도 Hikari 풀 빈(replicaDataSource) + 복제 지연 감지 (허용치 초과 시 Primary로 우회)
+ *   빈으로 등록해 종료 시 풀이 닫히고 Hikari 메트릭(hikaricp.*, pool=replica-pool)이 노출됨
+ * - 라우팅 프록시는 종료 시 지연 감지 스레드와 Primary 풀을 닫음 (프록시로 바뀐 dataSource 빈의 close)
+ * - replica-datasource.enabled=false면 아무것도 바꾸지 않음
+ */
+@Slf4j
+@Configuration
+public class ReplicaRoutingDataSourceConfig {
+
+    static final String REPLICA_DATA_SOURCE = "replicaDataSource";
+
+    private static final String PRIMARY_DATA_SOURCE = "dataSource";
+
+    @Bean
+    public static BeanPostProcessor replicaRoutingDataSourcePostProcessor() {
+        return new ReplicaRoutingPostProcessor();
+    }
+
+    /**
+     * 복제본 커넥션 풀 (Consumer 쓰기 풀과 분리)
+     * - defaultCandidate = false: 타입 주입 대상이 아니므로 Boot의 Primary DataSource 자동 설정은 그대로 동작
+     * - 종료 시 close는 빈 생명주기가 처리 (라우팅 프록시보다 나중에 닫힘)
+     */
+    @Bean(name = REPLICA_DATA_SOURCE, defaultCandidate = false)
+    @ConditionalOnProperty(prefix = "replica-datasource", name = "enabled", havingValue = "true")
+    public HikariDataSource replicaDataSource(Environment environment, ObjectProvider<MeterRegistry> meterRegistry) {
+        ReplicaDataSourceProperties properties = bind(environment);
+
+        HikariConfig config = new HikariConfig();
+        config.setPoolName("replica-pool");
+        config.setJdbcUrl(properties.getUrl());
+        config.setUsername(properties.getUsername());
+        config.setPassword(properties.getPassword());
+        config.setMaximumPoolSize(properties.getMaximumPoolSize());
+        config.setMinimumIdle(properties.getMinimumIdle());
+        config.setConnectionTimeout(properties.getConnectionTimeoutMs());
+        config.setReadOnly(true);
+        meterRegistry.ifAvailable(registry ->
+                config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry)));
+        return new HikariDataSource(config);
+    }
+
+    private static ReplicaDataSourceProperties bind(Environment environment) {
+        return Binder.get(environment)
+                .bind("replica-datasource", ReplicaDataSourceProperties.class)
+                .orElseGet(ReplicaDataSourceProperties::new);
+    }
+
+    static class ReplicaRoutingPostProcessor implements BeanPostProcessor, EnvironmentAware, BeanFactoryAware {
+
+        private ReplicaDataSourceProperties properties = new ReplicaDataSourceProperties();
+        private ConfigurableBeanFactory beanFactory;
+
+        @Override
+        public void setEnvironment(Environment environment) {
+            this.properties = bind(environment);
+        }
+
+        @Override
+        public void setBeanFactory(BeanFactory beanFactory) throws BeansException {
+            this.beanFactory = (ConfigurableBeanFactory) beanFactory;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+            if (!properties.isEnabled() || !PRIMARY_DATA_SOURCE.equals(beanName)
+                    || !(bean instanceof DataSource primary)) {
+                return bean;
+            }
+
+            DataSource replicaPool = beanFactory.getBean(REPLICA_DATA_SOURCE, DataSource.class);
+            // 종료 순서: 라우팅 프록시(dataSource) → 복제본 풀
+            beanFactory.registerDependentBean(REPLICA_DATA_SOURCE, PRIMARY_DATA_SOURCE);
+
+            ReplicaLagAwareDataSource replica = new ReplicaLagAwareDataSource(
+                    replicaPool,
+                    primary,
+                    properties.getMaxLagSeconds(),
+                    properties.getLagCheckIntervalMs()
+            );
+
+            log.info("📚 읽기 복제본 라우팅 활성화 - replica: {}, pool: {}, 허용 지연: {}초",
+                    properties.getUrl(), properties.getMaximumPoolSize(), properties.getMaxLagSeconds());
+            return new ReplicaRoutingDataSource(primary, replica);
+        }
+    }
+
+    /**
+     * readOnly 커넥션은 복제본, 나머지는 Primary
+     * - 실제 커넥션은 첫 SQL 시점에 획득 → 그 전에 readOnly 여부가 확정됨
+     * - dataSource 빈 자체가 이 프록시로 바뀌므로 종료 시 close(추론된 destroy 메서드)에서 Primary 풀까지 닫음
+     */
+    static class ReplicaRoutingDataSource extends LazyConnectionDataSourceProxy implements AutoCloseable {
+
+        private final DataSource primary;
+        private final ReplicaLagAwareDataSource replica;
+
+        ReplicaRoutingDataSource(DataSource primary, ReplicaLagAwareDataSource replica) {
+            super(primary);
+            setReadOnlyDataSource(replica);
+            this.primary = primary;
+            this.replica = replica;
+        }
+
+        @Override
+        public void close() throws Exception {
+            replica.close();
+            if (primary instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
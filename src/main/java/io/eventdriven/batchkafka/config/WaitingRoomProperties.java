@@ -0,0 +1,71 @@
+package io.eventdriven.batchkafka.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 가상 대기열(Waiting Room) 설정 프로퍼티
+ * - application.yml의 waiting-room.* 설정을 주입받음
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "waiting-room")
+public class WaitingRoomProperties {
+
+    /**
+     * 대기열 활성화 여부
+     * - true: 참여 API는 입장 토큰이 있는 요청만 허용
+     * - false: 기존처럼 모든 요청을 바로 Kafka로 발행 (부하 테스트용)
+     */
+    private boolean enabled = false;
+
+    /**
+     * 입장 스케줄러 실행 주기 (ms)
+     */
+    private long admissionIntervalMs = 200;
+
+    /**
+     * 입장 스케줄러 리더 임대 시간 (ms)
+     * - 임대를 가진 인스턴스 하나만 입장 처리, 주기마다 연장
+     * - 보유 인스턴스가 죽으면 이 시간 동안 입장이 멈춘 뒤 다른 인스턴스가 이어받음 → 주기보다 충분히 길게
+     */
+    private long admissionLeaseMs = 2000;
+
+    /**
+     * 시작 입장 속도 (건/초) - 이후 Consumer 적체량에 따라 증감
+     */
+    private int initialRatePerSecond = 300;
+
+    /**
+     * 최소 입장 속도 (건/초) - Consumer가 잠시 멈춰도 대기열이 정지하지 않도록
+     */
+    private int minRatePerSecond = 50;
+
+    /**
+     * 최대 입장 속도 (건/초) - 측정값이 튀어도 상한 유지
+     */
+    private int maxRatePerSecond = 5000;
+
+    /**
+     * 목표 Consumer 적체량 (건) - 전체 파티션 lag 합계가 이하면 입장 속도 증가, 초과하면 감속
+     */
+    private long targetBacklog = 1000;
+
+    /**
+     * 적체량이 목표 이하일 때 주기당 입장 속도 증가 비율 (0.05 = 5%)
+     */
+    private double increaseRatio = 0.05;
+
+    /**
+     * 적체량이 목표를 넘을 때 주기당 입장 속도에 곱하는 비율 (0.8 = 20% 감속)
+     */
+    private double decreaseRatio = 0.8;
+
+    /**
+     * 입장 토큰 유효 시간 (초)
+     */
+    private long tokenTtlSeconds = 60;
+}
@@ -0,0 +1,37 @@
+package io.eventdriven.batchkafka.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 증분 집계 고수위 표시 (집계 종류당 1행)
+ * - last_id: campaign_stats에 반영이 끝난 마지막 participation_history.id
+ * - 증분 반영과 같은 트랜잭션에서 갱신 → 같은 구간을 두 번 더하지 않음
+ * - 고수위 뒤로 늦게 커밋된 행은 aggregation_watermark_ledger로 보정
+ * - finalized_through: 일 집계가 덮어쓴 마지막 날짜 - 증분은 이 날짜 이하를 더하지 않음 (이중 집계 방지)
+ * - 자동 생성하지 않음 (증분 집계 초기화 API로 1회 명시적으로 생성)
+ */
+@Entity
+@Table(name = "aggregation_watermark")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AggregationWatermark {
+
+    @Id
+    @Column(length = 64)
+    private String name;
+
+    @Column(name = "last_id", nullable = false)
+    private Long lastId;
+
+    @Column(name = "finalized_through")
+    private LocalDate finalizedThrough;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,61 @@
+package io.eventdriven.batchkafka.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 증분 집계 반영 원장 (반영 구간 × 캠페인 × 날짜)
+ * - 증분 1회마다 (from_id, to_id] 구간에서 campaign_stats에 더한 건수를 기록
+ * - 보정 창(batch.incremental.reconcile-minutes) 안의 구간은 매 실행 다시 세어 차이만 campaign_stats에 반영
+ * - 보정 창을 벗어난 행은 삭제
+ */
+@Entity
+@Table(
+    name = "aggregation_watermark_ledger",
+    uniqueConstraints = {
+        @UniqueConstraint(
+            name = "uk_aggregation_watermark_ledger",
+            columnNames = {"name", "to_id", "campaign_id", "stats_date"}
+        )
+    },
+    indexes = {
+        @Index(name = "idx_aggregation_watermark_ledger_aggregated", columnList = "name, aggregated_at")
+    }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AggregationWatermarkLedger {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 64)
+    private String name;
+
+    @Column(name = "from_id", nullable = false)
+    private Long fromId;
+
+    @Column(name = "to_id", nullable = false)
+    private Long toId;
+
+    @Column(name = "campaign_id", nullable = false)
+    private Long campaignId;
+
+    @Column(name = "stats_date", nullable = false)
+    private LocalDate statsDate;
+
+    @Column(name = "success_count", nullable = false)
+    private Long successCount;
+
+    @Column(name = "fail_count", nullable = false)
+    private Long failCount;
+
+    @Column(name = "aggregated_at", nullable = false)
+    private LocalDateTime aggregatedAt;
+}
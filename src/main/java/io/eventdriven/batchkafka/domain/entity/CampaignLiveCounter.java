@@ -0,0 +1,33 @@
+package io.eventdriven.batchkafka.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 캠페인별 누적 참여 카운터 (캠페인당 1행)
+ * - Consumer가 배치마다 참여 이력과 같은 트랜잭션에서 증분 UPSERT
+ * - 실시간 현황 조회 시 participation_history COUNT 대신 PK 1건 조회
+ */
+@Entity
+@Table(name = "campaign_live_counters")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CampaignLiveCounter {
+
+    @Id
+    @Column(name = "campaign_id")
+    private Long campaignId;
+
+    @Column(name = "success_count", nullable = false)
+    private Long successCount;
+
+    @Column(name = "fail_count", nullable = false)
+    private Long failCount;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
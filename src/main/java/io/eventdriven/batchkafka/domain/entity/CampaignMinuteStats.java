@@ -0,0 +1,49 @@
+package io.eventdriven.batchkafka.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 분 단위 참여 롤업 (캠페인 × 분 × 상태)
+ * - Consumer가 배치마다 참여 이력과 같은 트랜잭션에서 증분 UPSERT
+ * - 하루 조회 시 캠페인당 최대 1,440 × 2행만 합산 (participation_history 스캔 없음)
+ */
+@Entity
+@Table(
+    name = "campaign_minute_stats",
+    uniqueConstraints = {
+        @UniqueConstraint(
+            name = "uk_campaign_minute_stats",
+            columnNames = {"campaign_id", "bucket_minute", "status"}
+        )
+    },
+    indexes = {
+        @Index(name = "idx_campaign_minute_stats_minute", columnList = "bucket_minute")
+    }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CampaignMinuteStats {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "campaign_id", nullable = false)
+    private Campaign campaign;
+
+    @Column(name = "bucket_minute", nullable = false)
+    private LocalDateTime bucketMinute;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ParticipationStatus status;
+
+    @Column(name = "cnt", nullable = false)
+    private Long count;
+}
@@ -0,0 +1,48 @@
+package io.eventdriven.batchkafka.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 집계 배치 시간 조각별 결과 (캠페인 × 1시간 조각, HOUR grain)
+ * - 병렬 워커 스텝이 조각마다 짧은 트랜잭션으로 기록
+ * - 병합 스텝이 조각들을 합산해 campaign_stats(일)에 반영, 이후 주 단위로 롤업
+ * - 병합 후에도 유지되어 시간 단위 통계 조회에 사용
+ */
+@Entity
+@Table(
+    name = "campaign_stats_slice",
+    uniqueConstraints = {
+        @UniqueConstraint(
+            name = "uk_campaign_stats_slice",
+            columnNames = {"slice_start", "campaign_id"}
+        )
+    },
+    indexes = {
+        @Index(name = "idx_campaign_stats_slice_campaign", columnList = "campaign_id, slice_start")
+    }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CampaignStatsSlice {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "campaign_id", nullable = false)
+    private Long campaignId;
+
+    @Column(name = "slice_start", nullable = false)
+    private LocalDateTime sliceStart;
+
+    @Column(name = "success_count", nullable = false)
+    private Long successCount;
+
+    @Column(name = "fail_count", nullable = false)
+    private Long failCount;
+}
@@ -0,0 +1,47 @@
+package io.eventdriven.batchkafka.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 주 단위 캠페인 통계 (WEEK grain, 월요일 시작)
+ * - 일 통계(campaign_stats)를 합산해 파생 (원본/분 롤업 재스캔 없음)
+ * - 통계 계층: 시간(campaign_stats_slice) → 일(campaign_stats) → 주(campaign_stats_week)
+ */
+@Entity
+@Table(
+    name = "campaign_stats_week",
+    uniqueConstraints = {
+        @UniqueConstraint(
+            name = "uk_campaign_stats_week",
+            columnNames = {"campaign_id", "week_start"}
+        )
+    },
+    indexes = {
+        @Index(name = "idx_campaign_stats_week_start", columnList = "week_start")
+    }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CampaignStatsWeek {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "campaign_id", nullable = false)
+    private Long campaignId;
+
+    @Column(name = "week_start", nullable = false)
+    private LocalDate weekStart;
+
+    @Column(name = "success_count", nullable = false)
+    private Long successCount;
+
+    @Column(name = "fail_count", nullable = false)
+    private Long failCount;
+}
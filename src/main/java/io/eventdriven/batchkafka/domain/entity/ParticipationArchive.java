@@ -0,0 +1,58 @@
+package io.eventdriven.batchkafka.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 종료 캠페인 참여 이력 아카이브 메타데이터 (캠페인당 1행)
+ * - 행이 있으면 해당 캠페인의 이력은 컬럼 압축 파일이 원본 (participation_history 행은 삭제 대상)
+ * - 삭제 대상은 id <= maxHistoryId 인 행뿐 (아카이브 이후 늦게 커밋된 행은 남겨 둠)
+ * - filePath는 batch.archive.directory 기준 파일 이름 (공유 볼륨의 노드별 마운트 경로와 무관)
+ */
+@Entity
+@Table(name = "participation_archive")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ParticipationArchive {
+
+    @Id
+    @Column(name = "campaign_id")
+    private Long campaignId;
+
+    @Column(name = "file_path", nullable = false, length = 512)
+    private String filePath;
+
+    @Column(name = "max_history_id", nullable = false)
+    private Long maxHistoryId;
+
+    @Column(name = "row_count", nullable = false)
+    private Long rowCount;
+
+    @Column(name = "success_count", nullable = false)
+    private Long successCount;
+
+    @Column(name = "fail_count", nullable = false)
+    private Long failCount;
+
+    @Column(name = "file_bytes", nullable = false)
+    private Long fileBytes;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+
+    public ParticipationArchive(Long campaignId, String filePath, long maxHistoryId, long rowCount,
+                                long successCount, long failCount, long fileBytes) {
+        this.campaignId = campaignId;
+        this.filePath = filePath;
+        this.maxHistoryId = maxHistoryId;
+        this.rowCount = rowCount;
+        this.successCount = successCount;
+        this.failCount = failCount;
+        this.fileBytes = fileBytes;
+        this.archivedAt = LocalDateTime.now();
+    }
+}
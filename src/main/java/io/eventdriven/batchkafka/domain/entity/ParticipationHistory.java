@@ -5,8 +5,21 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+/**
+ * 참여 이력 (Consumer가 처리한 요청 1건 = 1행)
+ * - 운영 환경에서는 created_at 기준 일 단위 RANGE 파티션 (ParticipationHistoryPartitionTasklet이 관리)
+ * - 파티션 테이블 제약: 외래키 불가, 모든 유니크 키(PK 포함)에 created_at 포함 → PK (id, created_at)
+ */
 @Entity
-@Table(name = "participation_history")
+@Table(
+    name = "participation_history",
+    indexes = {
+        // 캠페인 + 기간 조회 (내보내기, 최근 이력), 파티션 프루닝과 함께 사용
+        @Index(name = "idx_participation_history_campaign_created", columnList = "campaign_id, created_at"),
+        // 캠페인별 상태 건수 (카운터 재계산, 당첨자 조회)
+        @Index(name = "idx_participation_history_campaign_status", columnList = "campaign_id, status")
+    }
+)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class ParticipationHistory extends BaseTimeEntity {
@@ -16,7 +29,8 @@ public class ParticipationHistory extends BaseTimeEntity {
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "campaign_id", nullable = false)
+    @JoinColumn(name = "campaign_id", nullable = false,
+            foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private Campaign campaign;
 
     @Column(name = "user_id", nullable = false)
@@ -0,0 +1,33 @@
+package io.eventdriven.batchkafka.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 스케줄 배치 분산 잠금 (잠금 이름당 1행, 임대 만료 방식)
+ * - locked_until이 지나면 다른 인스턴스가 가져갈 수 있음 (보유 인스턴스가 죽으면 자동 해제)
+ * - 시각 비교는 모두 DB 시계(NOW(3)) 기준 → 앱 인스턴스 간 시계 차이 무관
+ */
+@Entity
+@Table(name = "scheduler_lock")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SchedulerLock {
+
+    @Id
+    @Column(name = "lock_name", length = 64)
+    private String lockName;
+
+    @Column(name = "owner", nullable = false, length = 255)
+    private String owner;
+
+    @Column(name = "locked_at", nullable = false, columnDefinition = "DATETIME(3)")
+    private LocalDateTime lockedAt;
+
+    @Column(name = "locked_until", nullable = false, columnDefinition = "DATETIME(3)")
+    private LocalDateTime lockedUntil;
+}
@@ -0,0 +1,64 @@
+package io.eventdriven.batchkafka.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 캠페인 당첨자 명단 파일 메타데이터 (캠페인당 1행, 재생성 시 덮어씀)
+ * - csv: 도착 순서 순위별 당첨자 목록
+ * - index: userId 정렬 (userId → 순위) 바이너리 인덱스
+ * - 체크섬: 각 파일의 SHA-256 (배포/전달 후 무결성 확인용)
+ * - 경로는 batch.winners.directory(공유 볼륨) 기준 파일 이름
+ */
+@Entity
+@Table(name = "winner_list")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class WinnerList {
+
+    @Id
+    @Column(name = "campaign_id")
+    private Long campaignId;
+
+    @Column(name = "winner_count", nullable = false)
+    private Long winnerCount;
+
+    @Column(name = "csv_path", nullable = false, length = 512)
+    private String csvPath;
+
+    @Column(name = "csv_bytes", nullable = false)
+    private Long csvBytes;
+
+    @Column(name = "csv_sha256", nullable = false, length = 64)
+    private String csvSha256;
+
+    @Column(name = "index_path", nullable = false, length = 512)
+    private String indexPath;
+
+    @Column(name = "index_bytes", nullable = false)
+    private Long indexBytes;
+
+    @Column(name = "index_sha256", nullable = false, length = 64)
+    private String indexSha256;
+
+    @Column(name = "generated_at", nullable = false)
+    private LocalDateTime generatedAt;
+
+    public WinnerList(Long campaignId, long winnerCount,
+                      String csvPath, long csvBytes, String csvSha256,
+                      String indexPath, long indexBytes, String indexSha256) {
+        this.campaignId = campaignId;
+        this.winnerCount = winnerCount;
+        this.csvPath = csvPath;
+        this.csvBytes = csvBytes;
+        this.csvSha256 = csvSha256;
+        this.indexPath = indexPath;
+        this.indexBytes = indexBytes;
+        this.indexSha256 = indexSha256;
+        this.generatedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,51 @@
+package io.eventdriven.batchkafka.domain.repository;
+
+import io.eventdriven.batchkafka.domain.entity.CampaignLiveCounter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface CampaignLiveCounterRepository extends JpaRepository<CampaignLiveCounter, Long> {
+
+    /**
+     * 배치 증분 반영 (캠페인당 1행 UPSERT)
+     * - 호출 측 트랜잭션(참여 이력 INSERT)과 함께 커밋/롤백
+     *
+     * @return 영향받은 행 수 (1: 신규, 2: 갱신)
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO campaign_live_counters (campaign_id, success_count, fail_count, updated_at)
+        VALUES (:campaignId, :success, :fail, NOW(6))
+        ON DUPLICATE KEY UPDATE
+          success_count = success_count + :success,
+          fail_count    = fail_count + :fail,
+          updated_at    = NOW(6)
+    """, nativeQuery = true)
+    int addCounts(@Param("campaignId") Long campaignId,
+                  @Param("success") long success,
+                  @Param("fail") long fail);
+
+    /**
+     * participation_history 기준 전체 재계산 (최초 도입/불일치 복구용 - 느림)
+     * - 재계산 중 Consumer가 처리한 건은 누락/중복될 수 있으므로 트래픽이 없을 때 실행
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+        INSERT INTO campaign_live_counters (campaign_id, success_count, fail_count, updated_at)
+        SELECT p.campaign_id,
+               SUM(CASE WHEN p.status = 'SUCCESS' THEN 1 ELSE 0 END),
+               SUM(CASE WHEN p.status = 'FAIL' THEN 1 ELSE 0 END),
+               NOW(6)
+        FROM participation_history p
+        GROUP BY p.campaign_id
+        ON DUPLICATE KEY UPDATE
+          success_count = VALUES(success_count),
+          fail_count    = VALUES(fail_count),
+          updated_at    = VALUES(updated_at)
+    """, nativeQuery = true)
+    int rebuildFromHistory();
+}
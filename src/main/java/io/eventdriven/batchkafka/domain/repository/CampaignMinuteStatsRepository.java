@@ -0,0 +1,27 @@
+package io.eventdriven.batchkafka.domain.repository;
+
+import io.eventdriven.batchkafka.domain.entity.CampaignMinuteStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface CampaignMinuteStatsRepository extends JpaRepository<CampaignMinuteStats, Long> {
+
+    /**
+     * 분 단위 롤업 증분 반영 (캠페인 × 분 × 상태 1행 UPSERT)
+     * - 호출 측 트랜잭션(참여 이력 INSERT)과 함께 커밋/롤백
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO campaign_minute_stats (campaign_id, bucket_minute, status, cnt)
+        VALUES (:campaignId, :bucketMinute, :status, :delta)
+        ON DUPLICATE KEY UPDATE cnt = cnt + :delta
+    """, nativeQuery = true)
+    int addCount(@Param("campaignId") Long campaignId,
+                 @Param("bucketMinute") LocalDateTime bucketMinute,
+                 @Param("status") String status,
+                 @Param("delta") long delta);
+}
@@ -0,0 +1,7 @@
+package io.eventdriven.batchkafka.domain.repository;
+
+import io.eventdriven.batchkafka.domain.entity.ParticipationArchive;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ParticipationArchiveRepository extends JpaRepository<ParticipationArchive, Long> {
+}
@@ -0,0 +1,7 @@
+package io.eventdriven.batchkafka.domain.repository;
+
+import io.eventdriven.batchkafka.domain.entity.WinnerList;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface WinnerListRepository extends JpaRepository<WinnerList, Long> {
+}
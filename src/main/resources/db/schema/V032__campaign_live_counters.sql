@@ -0,0 +1,9 @@
+-- 캠페인별 누적 참여 카운터 (CampaignLiveCounter)
+-- Consumer가 INSERT ... ON DUPLICATE KEY UPDATE로 증분 → campaign_id PK가 UPSERT 키
+CREATE TABLE IF NOT EXISTS campaign_live_counters (
+    campaign_id   BIGINT      NOT NULL,
+    success_count BIGINT      NOT NULL,
+    fail_count    BIGINT      NOT NULL,
+    updated_at    DATETIME(6) NOT NULL,
+    PRIMARY KEY (campaign_id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
@@ -0,0 +1,13 @@
+-- 분 단위 참여 롤업 (CampaignMinuteStats)
+-- Consumer가 (campaign_id, bucket_minute, status) 유니크 키로 INSERT ... ON DUPLICATE KEY UPDATE
+CREATE TABLE IF NOT EXISTS campaign_minute_stats (
+    id            BIGINT      NOT NULL AUTO_INCREMENT,
+    campaign_id   BIGINT      NOT NULL,
+    bucket_minute DATETIME(6) NOT NULL,
+    status        ENUM('SUCCESS', 'FAIL') NOT NULL,
+    cnt           BIGINT      NOT NULL,
+    PRIMARY KEY (id),
+    UNIQUE KEY uk_campaign_minute_stats (campaign_id, bucket_minute, status),
+    KEY idx_campaign_minute_stats_minute (bucket_minute),
+    CONSTRAINT fk_campaign_minute_stats_campaign FOREIGN KEY (campaign_id) REFERENCES campaign (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
@@ -0,0 +1,14 @@
+-- 종료 캠페인 참여 이력 아카이브 메타데이터 (ParticipationArchive, 캠페인당 1행)
+-- ParticipationArchiveTasklet이 파일 기록 후 저장, max_history_id 이하 원본 행만 삭제
+CREATE TABLE IF NOT EXISTS participation_archive (
+    campaign_id    BIGINT       NOT NULL,
+    file_path      VARCHAR(512) NOT NULL,
+    max_history_id BIGINT       NOT NULL,
+    row_count      BIGINT       NOT NULL,
+    success_count  BIGINT       NOT NULL,
+    fail_count     BIGINT       NOT NULL,
+    file_bytes     BIGINT       NOT NULL,
+    archived_at    DATETIME(6)  NOT NULL,
+    PRIMARY KEY (campaign_id),
+    CONSTRAINT fk_participation_archive_campaign FOREIGN KEY (campaign_id) REFERENCES campaign (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
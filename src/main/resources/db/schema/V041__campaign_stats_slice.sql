@@ -0,0 +1,13 @@
+-- 집계 배치 시간 조각별 결과 (CampaignStatsSlice, 캠페인 × 1시간)
+-- 워커 스텝이 조각 구간을 DELETE 후 INSERT, 병합 스텝이 campaign_stats로 합산
+CREATE TABLE IF NOT EXISTS campaign_stats_slice (
+    id            BIGINT      NOT NULL AUTO_INCREMENT,
+    campaign_id   BIGINT      NOT NULL,
+    slice_start   DATETIME(6) NOT NULL,
+    success_count BIGINT      NOT NULL,
+    fail_count    BIGINT      NOT NULL,
+    PRIMARY KEY (id),
+    UNIQUE KEY uk_campaign_stats_slice (slice_start, campaign_id),
+    KEY idx_campaign_stats_slice_campaign (campaign_id, slice_start),
+    CONSTRAINT fk_campaign_stats_slice_campaign FOREIGN KEY (campaign_id) REFERENCES campaign (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
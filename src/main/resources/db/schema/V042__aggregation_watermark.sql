@@ -0,0 +1,27 @@
+-- 증분 집계 고수위 (AggregationWatermark, 집계 종류당 1행)
+-- 초기화 API(POST /api/admin/batch/incremental/initialize)가 1회 생성, 증분 반영과 같은 트랜잭션에서 갱신
+-- finalized_through: 일 집계가 덮어써 확정한 마지막 날짜 (증분은 이 날짜 이하를 더하지 않음)
+CREATE TABLE IF NOT EXISTS aggregation_watermark (
+    name              VARCHAR(64) NOT NULL,
+    last_id           BIGINT      NOT NULL,
+    finalized_through DATE        NULL,
+    updated_at        DATETIME(6) NOT NULL,
+    PRIMARY KEY (name)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+-- 증분 집계 반영 원장 (AggregationWatermarkLedger, 반영 구간 × 캠페인 × 날짜)
+-- 보정 창 안의 구간을 다시 세어 늦게 커밋된 행을 보정, 창을 벗어난 행은 삭제
+CREATE TABLE IF NOT EXISTS aggregation_watermark_ledger (
+    id            BIGINT      NOT NULL AUTO_INCREMENT,
+    name          VARCHAR(64) NOT NULL,
+    from_id       BIGINT      NOT NULL,
+    to_id         BIGINT      NOT NULL,
+    campaign_id   BIGINT      NOT NULL,
+    stats_date    DATE        NOT NULL,
+    success_count BIGINT      NOT NULL,
+    fail_count    BIGINT      NOT NULL,
+    aggregated_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    UNIQUE KEY uk_aggregation_watermark_ledger (name, to_id, campaign_id, stats_date),
+    KEY idx_aggregation_watermark_ledger_aggregated (name, aggregated_at)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
@@ -0,0 +1,13 @@
+-- 주 단위 캠페인 통계 (CampaignStatsWeek, WEEK grain, 월요일 시작)
+-- 일 통계(campaign_stats) 합산으로 파생, (campaign_id, week_start) 유니크 키로 UPSERT
+CREATE TABLE IF NOT EXISTS campaign_stats_week (
+    id            BIGINT NOT NULL AUTO_INCREMENT,
+    campaign_id   BIGINT NOT NULL,
+    week_start    DATE   NOT NULL,
+    success_count BIGINT NOT NULL,
+    fail_count    BIGINT NOT NULL,
+    PRIMARY KEY (id),
+    UNIQUE KEY uk_campaign_stats_week (campaign_id, week_start),
+    KEY idx_campaign_stats_week_start (week_start),
+    CONSTRAINT fk_campaign_stats_week_campaign FOREIGN KEY (campaign_id) REFERENCES campaign (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
@@ -0,0 +1,15 @@
+-- 캠페인 당첨자 명단 파일 메타데이터 (WinnerList, 캠페인당 1행)
+-- WinnerListTasklet이 파일 기록 후 저장, 재생성 시 덮어씀
+CREATE TABLE IF NOT EXISTS winner_list (
+    campaign_id  BIGINT       NOT NULL,
+    winner_count BIGINT       NOT NULL,
+    csv_path     VARCHAR(512) NOT NULL,
+    csv_bytes    BIGINT       NOT NULL,
+    csv_sha256   VARCHAR(64)  NOT NULL,
+    index_path   VARCHAR(512) NOT NULL,
+    index_bytes  BIGINT       NOT NULL,
+    index_sha256 VARCHAR(64)  NOT NULL,
+    generated_at DATETIME(6)  NOT NULL,
+    PRIMARY KEY (campaign_id),
+    CONSTRAINT fk_winner_list_campaign FOREIGN KEY (campaign_id) REFERENCES campaign (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
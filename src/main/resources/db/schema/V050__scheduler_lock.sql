@@ -0,0 +1,9 @@
+-- 스케줄 배치 분산 잠금 (SchedulerLock, 잠금 이름당 1행)
+-- BatchSchedulerLock이 INSERT IGNORE / 만료 시 UPDATE로 획득, 시각은 DB 시계(NOW(3)) 기준
+CREATE TABLE IF NOT EXISTS scheduler_lock (
+    lock_name    VARCHAR(64)  NOT NULL,
+    owner        VARCHAR(255) NOT NULL,
+    locked_at    DATETIME(3)  NOT NULL,
+    locked_until DATETIME(3)  NOT NULL,
+    PRIMARY KEY (lock_name)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
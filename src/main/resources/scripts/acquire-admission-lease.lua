@@ -0,0 +1,22 @@
+-- 입장 스케줄러 리더 임대 획득/연장 Lua 스크립트 (원자적 연산)
+-- 여러 인스턴스 중 임대를 가진 하나만 입장 처리 → 입장 속도가 인스턴스 수에 비례해 커지지 않음
+--
+-- KEYS[1]: 임대 키 (waiting:admission:lease)
+-- ARGV[1]: 인스턴스 식별자 (host:uuid)
+-- ARGV[2]: 임대 시간 (ms)
+--
+-- 반환값:
+--   2: 신규 획득
+--   1: 보유 중인 임대 연장
+--   0: 다른 인스턴스가 보유 중
+
+local owner = redis.call('GET', KEYS[1])
+if owner == ARGV[1] then
+    redis.call('PEXPIRE', KEYS[1], ARGV[2])
+    return 1
+end
+if owner == false then
+    redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2])
+    return 2
+end
+return 0
@@ -0,0 +1,26 @@
+-- 대기열 입장 처리 Lua 스크립트 (원자적 연산)
+-- 대기열 앞에서부터 N명을 꺼내 입장 토큰을 발급
+--
+-- KEYS[1]: 대기열 Sorted Set (waiting:campaign:{id})
+-- KEYS[2]: 대기열이 있는 캠페인 Set (waiting:active-campaigns)
+-- ARGV[1]: campaignId
+-- ARGV[2]: 토큰 키 prefix (admission:token:campaign:{id}:user:)
+-- ARGV[3]: 토큰 TTL (ms)
+-- ARGV[4..]: 발급할 토큰 후보 (Java에서 생성, 필요한 만큼만 사용)
+--
+-- 반환값: 입장 처리된 사용자 수
+
+local count = #ARGV - 3
+local popped = redis.call('ZPOPMIN', KEYS[1], count)
+
+local admitted = 0
+for i = 1, #popped, 2 do
+    admitted = admitted + 1
+    redis.call('SET', ARGV[2] .. popped[i], ARGV[3 + admitted], 'PX', ARGV[3])
+end
+
+if redis.call('ZCARD', KEYS[1]) == 0 then
+    redis.call('SREM', KEYS[2], ARGV[1])
+end
+
+return admitted
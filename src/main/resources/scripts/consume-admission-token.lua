@@ -0,0 +1,16 @@
+-- 입장 토큰 검증 및 소모 Lua 스크립트 (원자적 연산)
+-- 토큰은 1회용: 일치하면 즉시 삭제하여 재사용 방지
+--
+-- KEYS[1]: 입장 토큰 키 (admission:token:campaign:{id}:user:{userId})
+-- ARGV[1]: 요청에 포함된 토큰
+--
+-- 반환값:
+--   1: 유효한 토큰 (소모 완료)
+--   0: 토큰 없음, 만료 또는 불일치
+
+local token = redis.call('GET', KEYS[1])
+if token == false or token ~= ARGV[1] then
+    return 0
+end
+redis.call('DEL', KEYS[1])
+return 1
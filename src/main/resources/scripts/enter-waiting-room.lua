@@ -0,0 +1,26 @@
+-- 대기열 진입 Lua 스크립트 (원자적 연산)
+--
+-- KEYS[1]: 대기열 Sorted Set (waiting:campaign:{id})
+-- KEYS[2]: 진입 순번 시퀀스 (waiting:seq:campaign:{id})
+-- KEYS[3]: 대기열이 있는 캠페인 Set (waiting:active-campaigns)
+-- KEYS[4]: 입장 토큰 키 (admission:token:campaign:{id}:user:{userId})
+-- ARGV[1]: userId
+-- ARGV[2]: campaignId
+--
+-- 반환값:
+--   0 이상: 대기 순번 (0부터 시작, 이미 대기 중이면 기존 순번)
+--   -1: 이미 입장 토큰을 발급받은 사용자
+
+if redis.call('EXISTS', KEYS[4]) == 1 then
+    return -1
+end
+
+local rank = redis.call('ZRANK', KEYS[1], ARGV[1])
+if rank then
+    return rank
+end
+
+local seq = redis.call('INCR', KEYS[2])
+redis.call('ZADD', KEYS[1], seq, ARGV[1])
+redis.call('SADD', KEYS[3], ARGV[2])
+return redis.call('ZRANK', KEYS[1], ARGV[1])
@@ -0,0 +1,51 @@
+package io.eventdriven.batchkafka.application.analysis;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FenwickTreeTest {
+
+    @Test
+    void prefixSumMatchesBruteForce() {
+        Random random = new Random(7);
+        FenwickTree fenwick = new FenwickTree(100);
+        long[] values = new long[100];
+
+        for (int step = 0; step < 2_000; step++) {
+            int index = random.nextInt(100);
+            long delta = random.nextInt(11) - 5;
+            fenwick.add(index, delta);
+            values[index] += delta;
+
+            int query = random.nextInt(100);
+            long expected = 0;
+            for (int i = 0; i <= query; i++) {
+                expected += values[i];
+            }
+            assertThat(fenwick.prefixSum(query)).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void prefixSumOutsideRangeIsClamped() {
+        FenwickTree fenwick = new FenwickTree(8);
+        fenwick.add(0, 2);
+        fenwick.add(7, 3);
+
+        assertThat(fenwick.prefixSum(-1)).isZero();
+        assertThat(fenwick.prefixSum(100)).isEqualTo(5);
+    }
+
+    @Test
+    void clearResetsAllSums() {
+        FenwickTree fenwick = new FenwickTree(8);
+        fenwick.add(3, 4);
+
+        fenwick.clear();
+
+        assertThat(fenwick.prefixSum(7)).isZero();
+    }
+}
@@ -0,0 +1,88 @@
+package io.eventdriven.batchkafka.application.analysis;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OnlineOrderTrackerTest {
+
+    @Test
+    void inOrderStreamHasNoInversions() {
+        OnlineOrderTracker tracker = new OnlineOrderTracker(100, new SimpleMeterRegistry());
+        for (long ts = 0; ts < 500; ts++) {
+            tracker.record(1_000_000L + ts);
+        }
+
+        assertThat(tracker.windowInversions()).isZero();
+        assertThat(tracker.windowAccuracy()).isEqualTo(1.0);
+        assertThat(tracker.maxDisplacement()).isZero();
+    }
+
+    @Test
+    void windowInversionsStayExactAfterEviction() {
+        Random random = new Random(11);
+        int windowSize = 50;
+        OnlineOrderTracker tracker = new OnlineOrderTracker(windowSize, new SimpleMeterRegistry());
+        List<Long> processed = new ArrayList<>();
+
+        for (int i = 0; i < 1_000; i++) {
+            long timestamp = 1_000_000L + i + random.nextInt(40) - 20; // 국소적으로 뒤섞인 도착 시각
+            tracker.record(timestamp);
+            processed.add(timestamp);
+
+            List<Long> window = processed.subList(Math.max(0, processed.size() - windowSize), processed.size());
+            assertThat(tracker.windowInversions()).isEqualTo(bruteForceInversions(window));
+        }
+
+        Map<String, Object> snapshot = tracker.snapshot();
+        assertThat(snapshot).containsEntry("windowComparisons", (long) windowSize * (windowSize - 1) / 2);
+        assertThat(snapshot).containsEntry("totalProcessed", 1_000L);
+    }
+
+    @Test
+    void windowInversionsStayExactAcrossRebase() {
+        int windowSize = 10;
+        OnlineOrderTracker tracker = new OnlineOrderTracker(windowSize, new SimpleMeterRegistry());
+        List<Long> processed = new ArrayList<>();
+
+        // 1초 간격으로 증가하되 짝수 번째는 1.5초 늦게 처리 → SPAN(약 65초)을 여러 번 넘으며 기준점 이동
+        for (int i = 0; i < 300; i++) {
+            long timestamp = 1_000_000L + i * 1_000L + (i % 2 == 0 ? 1_500L : 0L);
+            tracker.record(timestamp);
+            processed.add(timestamp);
+
+            List<Long> window = processed.subList(Math.max(0, processed.size() - windowSize), processed.size());
+            assertThat(tracker.windowInversions()).isEqualTo(bruteForceInversions(window));
+        }
+    }
+
+    @Test
+    void resetClearsWindowAndTotals() {
+        OnlineOrderTracker tracker = new OnlineOrderTracker(10, new SimpleMeterRegistry());
+        tracker.record(2_000L);
+        tracker.record(1_000L);
+
+        tracker.reset();
+
+        assertThat(tracker.windowInversions()).isZero();
+        assertThat(tracker.snapshot()).containsEntry("totalProcessed", 0L);
+    }
+
+    private static long bruteForceInversions(List<Long> timestamps) {
+        long inversions = 0;
+        for (int i = 0; i < timestamps.size(); i++) {
+            for (int j = i + 1; j < timestamps.size(); j++) {
+                if (timestamps.get(i) > timestamps.get(j)) {
+                    inversions++;
+                }
+            }
+        }
+        return inversions;
+    }
+}
@@ -0,0 +1,121 @@
+package io.eventdriven.batchkafka.application.analysis;
+
+import io.eventdriven.batchkafka.api.dto.response.OrderAnalysisReport;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class OrderAnalysisEngineTest {
+
+    private final OrderAnalysisEngine engine = new OrderAnalysisEngine();
+
+    @Test
+    void countInversionsMatchesBruteForce() {
+        Random random = new Random(42);
+        for (int round = 0; round < 200; round++) {
+            long[] values = new long[random.nextInt(300)];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = random.nextInt(50); // 동률 포함
+            }
+            long expected = bruteForceInversions(values);
+
+            assertThat(OrderAnalysisEngine.countInversions(values.clone())).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void identicalOrderHasNoInversionsAndTauOne() {
+        OrderAnalysisReport report = engine.analyze(1L, columns(new long[]{1, 2, 3, 4, 5}));
+
+        assertThat(report.getTotalPairs()).isEqualTo(10);
+        assertThat(report.getInversions()).isZero();
+        assertThat(report.getKendallTau()).isEqualTo(1.0);
+        assertThat(report.getMaxDisplacement()).isZero();
+        assertThat(report.getDisplacementHistogram()).containsEntry("0", 5L);
+    }
+
+    @Test
+    void reversedOrderHasAllPairsInvertedAndTauMinusOne() {
+        OrderAnalysisReport report = engine.analyze(1L, columns(new long[]{5, 4, 3, 2, 1}));
+
+        assertThat(report.getInversions()).isEqualTo(10);
+        assertThat(report.getKendallTau()).isCloseTo(-1.0, within(1e-12));
+        assertThat(report.getOrderAccuracy()).isEqualTo("0.0000%");
+    }
+
+    @Test
+    void tauBCorrectsForSequenceTies() {
+        // 쌍 3개 중 동률 1개, 일치 2개 → (2 - 0) / sqrt(3 × 2)
+        OrderAnalysisReport report = engine.analyze(1L, columns(new long[]{1, 1, 2}));
+
+        assertThat(report.getSequenceTiePairs()).isEqualTo(1);
+        assertThat(report.getInversions()).isZero();
+        assertThat(report.getKendallTau()).isCloseTo(2 / Math.sqrt(6), within(1e-12));
+    }
+
+    @Test
+    void displacementHistogramBucketsByPowersOfTen() {
+        // 처리 순위: 30→2, 10→0, 20→1 / 변위: 2, 1, 1
+        OrderAnalysisReport report = engine.analyze(1L, columns(new long[]{30, 10, 20}));
+
+        assertThat(report.getMaxDisplacement()).isEqualTo(2);
+        assertThat(report.getMeanDisplacement()).isCloseTo(4.0 / 3, within(1e-12));
+        assertThat(report.getDisplacementHistogram())
+                .containsEntry("0", 0L)
+                .containsEntry("1", 2L)
+                .containsEntry("2-9", 1L)
+                .containsEntry("10-99", 0L);
+    }
+
+    @Test
+    void recordsWithoutSequenceAreSkipped() {
+        ArrivalOrderColumns columns = new ArrivalOrderColumns();
+        columns.add(1L, 0, 0L, 100L, 2L, ArrivalOrderColumns.STATUS_SUCCESS);
+        columns.add(2L, 0, 1L, 101L, ArrivalOrderColumns.NO_SEQUENCE, ArrivalOrderColumns.STATUS_FAIL);
+        columns.add(3L, 0, 2L, 102L, 1L, ArrivalOrderColumns.STATUS_SUCCESS);
+
+        OrderAnalysisReport report = engine.analyze(1L, columns);
+
+        assertThat(report.getTotalRecords()).isEqualTo(2);
+        assertThat(report.getInversions()).isEqualTo(1);
+    }
+
+    @Test
+    void partitionInversionsFollowOffsetOrderNotArrivalOrder() {
+        // CreateTime: 오프셋 1이 오프셋 0보다 먼저 도착한 것으로 보이지만 처리는 오프셋 순
+        ArrivalOrderColumns columns = new ArrivalOrderColumns();
+        columns.add(1L, 0, 1L, 100L, 20L, ArrivalOrderColumns.STATUS_SUCCESS);
+        columns.add(2L, 0, 0L, 101L, 10L, ArrivalOrderColumns.STATUS_SUCCESS);
+        columns.add(3L, 1, 0L, 102L, 40L, ArrivalOrderColumns.STATUS_SUCCESS);
+        columns.add(4L, 1, 1L, 103L, 30L, ArrivalOrderColumns.STATUS_SUCCESS);
+
+        OrderAnalysisReport report = engine.analyze(1L, columns);
+
+        assertThat(report.getPartitions()).hasSize(2);
+        assertThat(report.getPartitions().get(0).getInversions()).isZero();
+        assertThat(report.getPartitions().get(1).getInversions()).isEqualTo(1);
+    }
+
+    private static ArrivalOrderColumns columns(long[] sequences) {
+        ArrivalOrderColumns columns = new ArrivalOrderColumns();
+        for (int i = 0; i < sequences.length; i++) {
+            columns.add(i, 0, i, 1_000L + i, sequences[i], ArrivalOrderColumns.STATUS_SUCCESS);
+        }
+        return columns;
+    }
+
+    private static long bruteForceInversions(long[] values) {
+        long inversions = 0;
+        for (int i = 0; i < values.length; i++) {
+            for (int j = i + 1; j < values.length; j++) {
+                if (values[i] > values[j]) {
+                    inversions++;
+                }
+            }
+        }
+        return inversions;
+    }
+}
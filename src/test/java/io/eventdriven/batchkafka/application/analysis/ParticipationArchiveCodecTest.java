@@ -0,0 +1,125 @@
+package io.eventdriven.batchkafka.application.analysis;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ParticipationArchiveCodecTest {
+
+    @Test
+    void roundTripRestoresHeaderArrivalOrderAndRows() throws IOException {
+        Random random = new Random(7);
+        ParticipationArchiveCodec.Writer writer = new ParticipationArchiveCodec.Writer(42L);
+
+        List<long[]> kafkaRows = new ArrayList<>();
+        List<long[]> allRows = new ArrayList<>();
+        long[] nextOffset = new long[5];
+        long timestamp = 1_700_000_000_000L;
+        for (int i = 0; i < 1_000; i++) {
+            int partition = random.nextInt(5) * 3; // 사전 코드와 다른 값
+            long offset = nextOffset[partition / 3] += 1 + random.nextInt(3);
+            timestamp += random.nextInt(20) - 5; // 역행하는 타임스탬프 포함
+            long userId = random.nextInt(1_000_000);
+            long sequence = random.nextInt(10) == 0 ? ArrivalOrderColumns.NO_SEQUENCE : i + random.nextInt(7) - 3;
+            boolean success = random.nextBoolean();
+            long createdAt = timestamp + random.nextInt(100);
+
+            writer.addKafkaRow(userId, partition, offset, timestamp, sequence, success, createdAt);
+            kafkaRows.add(new long[]{userId, partition, offset, timestamp, sequence, success ? 1 : 0});
+            allRows.add(new long[]{userId, success ? 1 : 0, createdAt});
+        }
+        for (int i = 0; i < 100; i++) {
+            long userId = random.nextInt(1_000_000);
+            boolean success = random.nextBoolean();
+            long createdAt = timestamp + i;
+
+            writer.addPlainRow(userId, ArrivalOrderColumns.NO_SEQUENCE, success, createdAt);
+            allRows.add(new long[]{userId, success ? 1 : 0, createdAt});
+        }
+
+        ByteBuffer buffer = encode(writer);
+
+        long expectedSuccess = allRows.stream().filter(row -> row[1] == 1).count();
+        ParticipationArchiveCodec.Header header = ParticipationArchiveCodec.readHeader(buffer);
+        assertThat(header).isEqualTo(writer.header());
+        assertThat(header.campaignId()).isEqualTo(42L);
+        assertThat(header.rowCount()).isEqualTo(1_100);
+        assertThat(header.kafkaRowCount()).isEqualTo(1_000);
+        assertThat(header.successCount()).isEqualTo(expectedSuccess);
+        assertThat(header.failCount()).isEqualTo(1_100 - expectedSuccess);
+
+        ArrivalOrderColumns columns = ParticipationArchiveCodec.readArrivalOrder(buffer);
+        assertThat(columns.size()).isEqualTo(kafkaRows.size());
+        for (int i = 0; i < kafkaRows.size(); i++) {
+            long[] expected = kafkaRows.get(i);
+            assertThat(columns.userId(i)).isEqualTo(expected[0]);
+            assertThat((long) columns.partition(i)).isEqualTo(expected[1]);
+            assertThat(columns.offset(i)).isEqualTo(expected[2]);
+            assertThat(columns.timestamp(i)).isEqualTo(expected[3]);
+            assertThat(columns.sequence(i)).isEqualTo(expected[4]);
+            assertThat(columns.isSuccess(i)).isEqualTo(expected[5] == 1);
+        }
+
+        List<long[]> scanned = new ArrayList<>();
+        ParticipationArchiveCodec.scan(buffer, (userId, success, createdAtMillis) ->
+                scanned.add(new long[]{userId, success ? 1 : 0, createdAtMillis}));
+        assertThat(scanned).hasSize(allRows.size());
+        for (int i = 0; i < allRows.size(); i++) {
+            assertThat(scanned.get(i)).isEqualTo(allRows.get(i));
+        }
+    }
+
+    @Test
+    void emptyArchiveRoundTrips() throws IOException {
+        ParticipationArchiveCodec.Writer writer = new ParticipationArchiveCodec.Writer(1L);
+
+        ByteBuffer buffer = encode(writer);
+
+        assertThat(ParticipationArchiveCodec.readHeader(buffer).rowCount()).isZero();
+        assertThat(ParticipationArchiveCodec.readArrivalOrder(buffer).size()).isZero();
+    }
+
+    @Test
+    void singlePartitionUsesZeroWidthCodes() throws IOException {
+        ParticipationArchiveCodec.Writer writer = new ParticipationArchiveCodec.Writer(1L);
+        writer.addKafkaRow(10L, 7, 100L, 1_000L, 1L, true, 1_000L);
+        writer.addKafkaRow(11L, 7, 101L, 1_001L, 2L, false, 1_001L);
+
+        ArrivalOrderColumns columns = ParticipationArchiveCodec.readArrivalOrder(encode(writer));
+
+        assertThat(columns.partition(0)).isEqualTo(7);
+        assertThat(columns.partition(1)).isEqualTo(7);
+        assertThat(columns.offset(1)).isEqualTo(101L);
+    }
+
+    @Test
+    void kafkaRowAfterPlainRowIsRejected() {
+        ParticipationArchiveCodec.Writer writer = new ParticipationArchiveCodec.Writer(1L);
+        writer.addPlainRow(1L, ArrivalOrderColumns.NO_SEQUENCE, true, 1_000L);
+
+        assertThatThrownBy(() -> writer.addKafkaRow(2L, 0, 0L, 1_000L, 1L, true, 1_000L))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void foreignBufferIsRejected() {
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+
+        assertThatThrownBy(() -> ParticipationArchiveCodec.readHeader(buffer))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private static ByteBuffer encode(ParticipationArchiveCodec.Writer writer) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writer.writeTo(out);
+        return ByteBuffer.wrap(out.toByteArray());
+    }
+}
@@ -0,0 +1,99 @@
+package io.eventdriven.batchkafka.batch;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ExternalSorterTest {
+
+    private static final ExternalSorter.Codec<Long> LONG_CODEC = new ExternalSorter.Codec<>() {
+        @Override
+        public void write(DataOutputStream out, Long value) throws IOException {
+            out.writeLong(value);
+        }
+
+        @Override
+        public Long read(DataInputStream in) throws IOException {
+            return in.readLong();
+        }
+    };
+
+    @TempDir
+    Path spillDirectory;
+
+    @Test
+    void sortsInMemoryWithoutSpilling() throws IOException {
+        try (ExternalSorter<Long> sorter = new ExternalSorter<>(
+                spillDirectory, "t-", 100, Comparator.naturalOrder(), LONG_CODEC)) {
+            for (long value : new long[]{5, 3, 9, 1, 3}) {
+                sorter.add(value);
+            }
+
+            assertThat(sorter.runCount()).isZero();
+            assertThat(sorted(sorter)).containsExactly(1L, 3L, 3L, 5L, 9L);
+        }
+    }
+
+    @Test
+    void mergesSpilledRunsInOrder() throws IOException {
+        Random random = new Random(11);
+        List<Long> expected = new ArrayList<>();
+        try (ExternalSorter<Long> sorter = new ExternalSorter<>(
+                spillDirectory, "t-", 64, Comparator.naturalOrder(), LONG_CODEC)) {
+            for (int i = 0; i < 1_000; i++) {
+                long value = random.nextInt(500) - 250; // 동률/음수 포함
+                sorter.add(value);
+                expected.add(value);
+            }
+            expected.sort(Comparator.naturalOrder());
+
+            List<Long> actual = sorted(sorter);
+
+            assertThat(sorter.size()).isEqualTo(1_000L);
+            assertThat(sorter.runCount()).isEqualTo(16); // 15개 가득 찬 run + 남은 40건
+            assertThat(actual).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void followsTheGivenComparator() throws IOException {
+        try (ExternalSorter<Long> sorter = new ExternalSorter<>(
+                spillDirectory, "t-", 2, Comparator.<Long>reverseOrder(), LONG_CODEC)) {
+            for (long value = 1; value <= 7; value++) {
+                sorter.add(value);
+            }
+
+            assertThat(sorted(sorter)).containsExactly(7L, 6L, 5L, 4L, 3L, 2L, 1L);
+        }
+    }
+
+    @Test
+    void closeDeletesSpillFiles() throws IOException {
+        ExternalSorter<Long> sorter = new ExternalSorter<>(
+                spillDirectory, "t-", 2, Comparator.naturalOrder(), LONG_CODEC);
+        for (long value = 0; value < 10; value++) {
+            sorter.add(value);
+        }
+        assertThat(sorter.runCount()).isEqualTo(5);
+
+        sorter.close();
+
+        assertThat(spillDirectory).isEmptyDirectory();
+    }
+
+    private static List<Long> sorted(ExternalSorter<Long> sorter) throws IOException {
+        List<Long> values = new ArrayList<>();
+        sorter.forEachSorted(values::add);
+        return values;
+    }
+}
@@ -0,0 +1,39 @@
+package io.eventdriven.batchkafka.batch;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SourceOffsetSetTest {
+
+    @Test
+    void secondAddOfSamePositionIsRejected() {
+        SourceOffsetSet set = new SourceOffsetSet();
+
+        assertThat(set.add(0, 10L)).isTrue();
+        assertThat(set.add(0, 10L)).isFalse();
+        assertThat(set.add(1, 10L)).isTrue();
+        assertThat(set.add(0, 11L)).isTrue();
+    }
+
+    @Test
+    void positionsAcrossChunkBoundariesAreDistinct() {
+        SourceOffsetSet set = new SourceOffsetSet();
+
+        assertThat(set.add(3, 65_535L)).isTrue();
+        assertThat(set.add(3, 65_536L)).isTrue();
+        assertThat(set.add(3, 1L << 40)).isTrue();
+        assertThat(set.add(3, (1L << 40) + 65_536L)).isTrue();
+        assertThat(set.add(3, 65_536L)).isFalse();
+        assertThat(set.add(3, 1L << 40)).isFalse();
+    }
+
+    @Test
+    void outOfRangePositionIsRejected() {
+        SourceOffsetSet set = new SourceOffsetSet();
+
+        assertThatThrownBy(() -> set.add(-1, 0L)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> set.add(0, -1L)).isInstanceOf(IllegalArgumentException.class);
+    }
+}